@@ -707,6 +707,34 @@ public class CoreOptions implements Serializable {
                             "Ratio of the deleted rows in a data file to be forced compacted for "
                                     + "append-only table.");
 
+    public static final ConfigOption<Boolean> COMPACTION_ADAPTIVE_SCHEDULING =
+            key("compaction.adaptive-scheduling")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to schedule the compactions of all buckets in a write task by their "
+                                    + "compaction debt instead of submission order, for primary key table. "
+                                    + "The debt of a bucket is its number of sorted runs relative to "
+                                    + "'num-sorted-run.stop-trigger'.");
+
+    public static final ConfigOption<Integer> COMPACTION_ADAPTIVE_SCHEDULING_MAX_CONCURRENT_TASKS =
+            key("compaction.adaptive-scheduling.max-concurrent-tasks")
+                    .intType()
+                    .defaultValue(1)
+                    .withDescription(
+                            "The maximum number of compactions running at the same time in a write task "
+                                    + "when 'compaction.adaptive-scheduling' is enabled.");
+
+    public static final ConfigOption<MemorySize> COMPACTION_ADAPTIVE_SCHEDULING_MAX_INPUT_SIZE =
+            key("compaction.adaptive-scheduling.max-input-size")
+                    .memoryType()
+                    .noDefaultValue()
+                    .withDescription(
+                            "The maximum total input size of compactions running at the same time in a "
+                                    + "write task when 'compaction.adaptive-scheduling' is enabled. A "
+                                    + "compaction always runs if no other compaction is running. "
+                                    + "No limit by default.");
+
     public static final ConfigOption<ChangelogProducer> CHANGELOG_PRODUCER =
             key("changelog-producer")
                     .enumType(ChangelogProducer.class)
@@ -1117,6 +1145,60 @@ public class CoreOptions implements Serializable {
                     .withDescription(
                             "Define the default false positive probability for lookup cache bloom filters.");
 
+    public static final ConfigOption<String> LOOKUP_CACHE_PERSIST_DIR =
+            key("lookup.cache-persist-dir")
+                    .stringType()
+                    .noDefaultValue()
+                    .withDescription(
+                            "A stable local directory to keep lookup files across restarts. Lookup "
+                                    + "files are named by their data files and validated against them "
+                                    + "when restoring, so only files created since the last run need to be "
+                                    + "built from the DFS again. Lookup files are kept by the full name of "
+                                    + "the table with its branch, and each writer or lookup of a bucket "
+                                    + "owns a sub directory by a file lock, so the directory can be shared "
+                                    + "by jobs and subtasks on the same host.");
+
+    public static final ConfigOption<Boolean> LOOKUP_KEY_BLOOM_FILTER_ENABLED =
+            key("lookup.key-bloom-filter.enabled")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to persist a bloom filter of primary keys for each data file "
+                                    + "when writing it, stored as an extra file of the data file. Lookup "
+                                    + "compaction and table query use it to skip files which do not "
+                                    + "contain the key without creating local lookup files. The false "
+                                    + "positive probability is defined by '"
+                                    + LOOKUP_CACHE_BLOOM_FILTER_FPP.key()
+                                    + "'.");
+
+    public static final ConfigOption<MemorySize> LOOKUP_KEY_BLOOM_FILTER_CACHE_MAX_MEMORY_SIZE =
+            key("lookup.key-bloom-filter.cache-max-memory-size")
+                    .memoryType()
+                    .defaultValue(MemorySize.parse("64 mb"))
+                    .withDescription(
+                            "Max memory size for caching key bloom filters of data files in lookup "
+                                    + "compaction and table query, least recently used filters are "
+                                    + "evicted and read again when needed.");
+
+    public static final ConfigOption<Boolean> LOOKUP_LOCAL_FILE_MMAP_ENABLED =
+            key("lookup.local-file.mmap.enabled")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to read local lookup files by memory mapping. Uncompressed "
+                                    + "blocks of sort files and uncompressed hash files are then read "
+                                    + "from the OS page cache directly instead of being copied into the "
+                                    + "lookup cache memory. Files larger than 2 GB are not mapped.");
+
+    public static final ConfigOption<Boolean> LOOKUP_LOCAL_FILE_BLOCK_HASH_INDEX_ENABLED =
+            key("lookup.local-file.block-hash-index.enabled")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to append a hash index to each data block of sort lookup files, "
+                                    + "so that a point lookup jumps to the record in the block instead "
+                                    + "of doing a binary search. It costs about 3 bytes per record.");
+
     public static final ConfigOption<Integer> READ_BATCH_SIZE =
             key("read.batch-size")
                     .intType()
@@ -1556,6 +1638,17 @@ public class CoreOptions implements Serializable {
                                     + "Mainly to resolve data skew on primary keys. "
                                     + "We recommend starting with 64 mb when trying out this feature.");
 
+    public static final ConfigOption<Boolean> LOCAL_MERGE_EVICT_COLD_KEYS =
+            key("local-merge-evict-cold-keys")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "When the local merge buffer is full, evict the keys which are merged less "
+                                    + "and keep the hot keys in buffer, instead of flushing the whole buffer. "
+                                    + "The buffer is still flushed completely before checkpoints, "
+                                    + "and watermarks are held until then. Only takes effect when "
+                                    + "the non-primary-key fields are all fixed-length.");
+
     public static final ConfigOption<Duration> CROSS_PARTITION_UPSERT_INDEX_TTL =
             key("cross-partition-upsert.index-ttl")
                     .durationType()
@@ -1572,6 +1665,17 @@ public class CoreOptions implements Serializable {
                     .withDescription(
                             "The parallelism for bootstrap in a single task for cross partition upsert.");
 
+    public static final ConfigOption<Boolean> CROSS_PARTITION_UPSERT_INCREMENTAL_BOOTSTRAP =
+            key("cross-partition-upsert.incremental-bootstrap")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to persist the key index read by the bootstrap of cross partition upsert "
+                                    + "in the index directory of the table, so that the next bootstrap only reads "
+                                    + "the buckets changed since then and takes the keys of other buckets from "
+                                    + "the persisted index. Orphan files cleaning keeps the latest persisted index "
+                                    + "of each assigner only while this is enabled.");
+
     public static final ConfigOption<Integer> ZORDER_VAR_LENGTH_CONTRIBUTION =
             key("zorder.var-length-contribution")
                     .intType()
@@ -2262,6 +2366,14 @@ public class CoreOptions implements Serializable {
         return options.get(LOOKUP_LOCAL_FILE_TYPE);
     }
 
+    public boolean lookupLocalFileMmapEnabled() {
+        return options.get(LOOKUP_LOCAL_FILE_MMAP_ENABLED);
+    }
+
+    public boolean lookupLocalFileBlockHashIndexEnabled() {
+        return options.get(LOOKUP_LOCAL_FILE_BLOCK_HASH_INDEX_ENABLED);
+    }
+
     public MemorySize lookupCacheMaxMemory() {
         return options.get(LOOKUP_CACHE_MAX_MEMORY_SIZE);
     }
@@ -2270,6 +2382,23 @@ public class CoreOptions implements Serializable {
         return options.get(LOOKUP_CACHE_HIGH_PRIO_POOL_RATIO);
     }
 
+    @Nullable
+    public String lookupCachePersistDir() {
+        return options.get(LOOKUP_CACHE_PERSIST_DIR);
+    }
+
+    public boolean lookupKeyBloomFilterEnabled() {
+        return options.get(LOOKUP_KEY_BLOOM_FILTER_ENABLED);
+    }
+
+    public MemorySize lookupKeyBloomFilterCacheMaxMemorySize() {
+        return options.get(LOOKUP_KEY_BLOOM_FILTER_CACHE_MAX_MEMORY_SIZE);
+    }
+
+    public double lookupBloomFilterFpp() {
+        return options.get(LOOKUP_CACHE_BLOOM_FILTER_FPP);
+    }
+
     public long targetFileSize(boolean hasPrimaryKey) {
         return options.getOptional(TARGET_FILE_SIZE)
                 .orElse(hasPrimaryKey ? VALUE_128_MB : VALUE_256_MB)
@@ -2300,6 +2429,19 @@ public class CoreOptions implements Serializable {
         return Math.max(numSortedRunCompactionTrigger(), stopTrigger);
     }
 
+    public boolean compactionAdaptiveScheduling() {
+        return options.get(COMPACTION_ADAPTIVE_SCHEDULING);
+    }
+
+    public int compactionAdaptiveSchedulingMaxConcurrentTasks() {
+        return options.get(COMPACTION_ADAPTIVE_SCHEDULING_MAX_CONCURRENT_TASKS);
+    }
+
+    public long compactionAdaptiveSchedulingMaxInputSize() {
+        MemorySize maxInputSize = options.get(COMPACTION_ADAPTIVE_SCHEDULING_MAX_INPUT_SIZE);
+        return maxInputSize == null ? Long.MAX_VALUE : maxInputSize.getBytes();
+    }
+
     public int numLevels() {
         // By default, this ensures that the compaction does not fall to level 0, but at least to
         // level 1
@@ -2726,6 +2868,10 @@ public class CoreOptions implements Serializable {
         return options.get(LOCAL_MERGE_BUFFER_SIZE).getBytes();
     }
 
+    public boolean localMergeEvictColdKeys() {
+        return options.get(LOCAL_MERGE_EVICT_COLD_KEYS);
+    }
+
     public Duration crossPartitionUpsertIndexTtl() {
         return options.get(CROSS_PARTITION_UPSERT_INDEX_TTL);
     }
@@ -2734,6 +2880,10 @@ public class CoreOptions implements Serializable {
         return options.get(CROSS_PARTITION_UPSERT_BOOTSTRAP_PARALLELISM);
     }
 
+    public boolean crossPartitionUpsertIncrementalBootstrap() {
+        return options.get(CROSS_PARTITION_UPSERT_INCREMENTAL_BOOTSTRAP);
+    }
+
     public int varTypeSize() {
         return options.get(ZORDER_VAR_LENGTH_CONTRIBUTION);
     }
@@ -3286,7 +3436,10 @@ public class CoreOptions implements Serializable {
         MIN_HEAP("min-heap", "Use min-heap for multiway sorting."),
         LOSER_TREE(
                 "loser-tree",
-                "Use loser-tree for multiway sorting. Compared with heapsort, loser-tree has fewer comparisons and is more efficient.");
+                "Use loser-tree for multiway sorting. Compared with heapsort, loser-tree has fewer comparisons and is more efficient."),
+        AUTO(
+                "auto",
+                "Choose the sort engine for each multiway sorting by the number of sorted runs: min-heap for two runs and loser-tree for more runs.");
 
         private final String value;
         private final String description;
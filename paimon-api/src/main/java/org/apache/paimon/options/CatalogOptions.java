@@ -129,6 +129,16 @@ public class CatalogOptions {
                     .noDefaultValue()
                     .withDescription("Controls the maximum memory to cache manifest content.");
 
+    public static final ConfigOption<MemorySize> CACHE_MANIFEST_ENTRY_MEMORY =
+            key("cache.manifest.entry-memory")
+                    .memoryType()
+                    .defaultValue(MemorySize.ZERO)
+                    .withDescription(
+                            "Controls the cache memory to cache deserialized manifest entries, which are indexed by "
+                                    + "partition and bucket so that scans only visit matching partitions. "
+                                    + "0 means disabled. This costs more memory than caching manifest files, "
+                                    + "but saves the deserialization of entries when planning.");
+
     public static final ConfigOption<Integer> CACHE_SNAPSHOT_MAX_NUM_PER_TABLE =
             key("cache.snapshot.max-num-per-table")
                     .intType()
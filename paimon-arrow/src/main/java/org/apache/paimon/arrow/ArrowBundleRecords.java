@@ -20,7 +20,8 @@ package org.apache.paimon.arrow;
 
 import org.apache.paimon.arrow.reader.ArrowBatchReader;
 import org.apache.paimon.data.InternalRow;
-import org.apache.paimon.io.BundleRecords;
+import org.apache.paimon.data.columnar.VectorizedColumnBatch;
+import org.apache.paimon.io.ColumnarBundleRecords;
 import org.apache.paimon.types.RowType;
 
 import org.apache.arrow.vector.VectorSchemaRoot;
@@ -28,7 +29,7 @@ import org.apache.arrow.vector.VectorSchemaRoot;
 import java.util.Iterator;
 
 /** Batch records for vector schema root. */
-public class ArrowBundleRecords implements BundleRecords {
+public class ArrowBundleRecords implements ColumnarBundleRecords {
 
     private final VectorSchemaRoot vectorSchemaRoot;
     private final RowType rowType;
@@ -50,6 +51,11 @@ public class ArrowBundleRecords implements BundleRecords {
         return vectorSchemaRoot.getRowCount();
     }
 
+    @Override
+    public VectorizedColumnBatch batch() {
+        return new ArrowBatchReader(rowType, caseSensitive).toBatch(vectorSchemaRoot);
+    }
+
     @Override
     public Iterator<InternalRow> iterator() {
         ArrowBatchReader arrowBatchReader = new ArrowBatchReader(rowType, caseSensitive);
@@ -18,6 +18,7 @@
 
 package org.apache.paimon.arrow.converter;
 
+import org.apache.paimon.arrow.writable.ArrowWritableColumnVector;
 import org.apache.paimon.arrow.writer.ArrowFieldWriter;
 import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.data.columnar.ColumnVector;
@@ -28,6 +29,7 @@ import org.apache.paimon.reader.FileRecordIterator;
 import org.apache.paimon.reader.VectorizedRecordIterator;
 import org.apache.paimon.utils.IntArrayList;
 
+import org.apache.arrow.vector.FieldVector;
 import org.apache.arrow.vector.VectorSchemaRoot;
 
 import javax.annotation.Nullable;
@@ -49,8 +51,20 @@ public class ArrowVectorizedBatchConverter extends ArrowBatchConverter {
     @Override
     public void doWrite(int maxBatchRows) {
         int batchRows = Math.min(maxBatchRows, totalNumRows - startIndex);
+        // the whole batch is written at once, arrow backed columns can hand over their buffers
+        boolean wholeBatch = pickedInColumn == null && startIndex == 0 && batchRows == totalNumRows;
         ColumnVector[] columns = batch.columns;
         for (int i = 0; i < columns.length; i++) {
+            FieldVector fieldVector = root.getVector(i);
+            if (columns[i] instanceof ArrowWritableColumnVector) {
+                ArrowWritableColumnVector<?> column = (ArrowWritableColumnVector<?>) columns[i];
+                if (wholeBatch && column.canTransferTo(fieldVector)) {
+                    column.transferTo(fieldVector, batchRows);
+                    continue;
+                }
+                // decode the next batches into buffers which can be transferred to this root
+                column.allocateFrom(fieldVector.getAllocator());
+            }
             fieldWriters[i].write(columns[i], pickedInColumn, startIndex, batchRows);
         }
         root.setRowCount(batchRows);
@@ -56,6 +56,32 @@ public class ArrowBatchReader {
     }
 
     public Iterable<InternalRow> readBatch(VectorSchemaRoot vsr) {
+        VectorizedColumnBatch batch = toBatch(vsr);
+        int rowCount = batch.getNumRows();
+        final ColumnarRow columnarRow = new ColumnarRow(batch);
+        return () ->
+                new Iterator<InternalRow>() {
+                    private int position = 0;
+
+                    @Override
+                    public boolean hasNext() {
+                        return position < rowCount;
+                    }
+
+                    @Override
+                    public InternalRow next() {
+                        columnarRow.setRowId(position);
+                        position++;
+                        return columnarRow;
+                    }
+                };
+    }
+
+    /**
+     * Converts the {@link VectorSchemaRoot} to a {@link VectorizedColumnBatch} of the read row
+     * type, the vectors are wrapped without copying. The returned batch is reused.
+     */
+    public VectorizedColumnBatch toBatch(VectorSchemaRoot vsr) {
         int[] mapping = new int[projectedRowType.getFieldCount()];
         Schema arrowSchema = vsr.getSchema();
         List<DataField> dataFields = projectedRowType.getFields();
@@ -74,24 +100,7 @@ public class ArrowBatchReader {
             batch.columns[i] = convertors[i].convertVector(vsr.getVector(mapping[i]));
         }
 
-        int rowCount = vsr.getRowCount();
         batch.setNumRows(vsr.getRowCount());
-        final ColumnarRow columnarRow = new ColumnarRow(batch);
-        return () ->
-                new Iterator<InternalRow>() {
-                    private int position = 0;
-
-                    @Override
-                    public boolean hasNext() {
-                        return position < rowCount;
-                    }
-
-                    @Override
-                    public InternalRow next() {
-                        columnarRow.setRowId(position);
-                        position++;
-                        return columnarRow;
-                    }
-                };
+        return batch;
     }
 }
@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.arrow.writable;
+
+import org.apache.paimon.data.columnar.heap.HeapIntVector;
+import org.apache.paimon.data.columnar.writable.WritableBooleanVector;
+
+import org.apache.arrow.vector.BitVector;
+import org.apache.arrow.vector.BitVectorHelper;
+
+/** Arrow backed {@link WritableBooleanVector}. */
+public class ArrowWritableBooleanVector extends ArrowWritableColumnVector<BitVector>
+        implements WritableBooleanVector {
+
+    private static final long serialVersionUID = 1L;
+
+    public ArrowWritableBooleanVector(BitVector vector, int capacity) {
+        super(vector, capacity);
+    }
+
+    @Override
+    public HeapIntVector reserveDictionaryIds(int capacity) {
+        throw new RuntimeException("ArrowWritableBooleanVector has no dictionary.");
+    }
+
+    @Override
+    public HeapIntVector getDictionaryIds() {
+        throw new RuntimeException("ArrowWritableBooleanVector has no dictionary.");
+    }
+
+    @Override
+    public boolean getBoolean(int i) {
+        return BitVectorHelper.get(vector.getDataBuffer(), i) == 1;
+    }
+
+    @Override
+    public void setBoolean(int i, boolean value) {
+        BitVectorHelper.setValidityBit(vector.getDataBuffer(), i, value ? 1 : 0);
+    }
+
+    @Override
+    public void setBooleans(int rowId, int count, boolean value) {
+        for (int i = 0; i < count; ++i) {
+            setBoolean(i + rowId, value);
+        }
+    }
+
+    @Override
+    public void setBooleans(int rowId, int count, byte src, int srcIndex) {
+        assert (count + srcIndex <= 8);
+        for (int i = 0; i < count; i++) {
+            setBoolean(i + rowId, (byte) (src >>> (i + srcIndex) & 1) == 1);
+        }
+    }
+
+    @Override
+    public void setBooleans(int rowId, byte src) {
+        setBooleans(rowId, 8, src, 0);
+    }
+
+    @Override
+    public void fill(boolean value) {
+        setBooleans(0, capacity, value);
+    }
+
+    @Override
+    protected void decodeDictionary(int rowCount) {
+        throw new RuntimeException("ArrowWritableBooleanVector has no dictionary.");
+    }
+}
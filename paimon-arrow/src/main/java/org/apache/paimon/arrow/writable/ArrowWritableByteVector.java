@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.arrow.writable;
+
+import org.apache.paimon.data.columnar.writable.WritableByteVector;
+
+import org.apache.arrow.vector.TinyIntVector;
+
+/** Arrow backed {@link WritableByteVector}. */
+public class ArrowWritableByteVector extends ArrowWritableColumnVector<TinyIntVector>
+        implements WritableByteVector {
+
+    private static final long serialVersionUID = 1L;
+
+    public ArrowWritableByteVector(TinyIntVector vector, int capacity) {
+        super(vector, capacity);
+    }
+
+    @Override
+    public byte getByte(int i) {
+        if (dictionary == null) {
+            return vector.getDataBuffer().getByte((long) i * 1);
+        } else {
+            return (byte) dictionary.decodeToInt(dictionaryIds.vector[i]);
+        }
+    }
+
+    @Override
+    public void setByte(int i, byte value) {
+        vector.getDataBuffer().setByte((long) i * 1, value);
+    }
+
+    @Override
+    public void fill(byte value) {
+        for (int i = 0; i < capacity; i++) {
+            setByte(i, value);
+        }
+    }
+
+    @Override
+    protected void decodeDictionary(int rowCount) {
+        for (int i = 0; i < rowCount; i++) {
+            if (!isNullAt(i)) {
+                setByte(i, (byte) dictionary.decodeToInt(dictionaryIds.vector[i]));
+            }
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.arrow.writable;
+
+import org.apache.paimon.data.columnar.Dictionary;
+import org.apache.paimon.data.columnar.DictionaryColumnVector;
+import org.apache.paimon.data.columnar.writable.WritableBytesVector;
+
+import org.apache.arrow.memory.ArrowBuf;
+import org.apache.arrow.vector.BaseVariableWidthVector;
+
+/**
+ * Arrow backed {@link WritableBytesVector}, the vector can be a {@code VarCharVector} or a {@code
+ * VarBinaryVector}.
+ */
+public class ArrowWritableBytesVector extends ArrowWritableColumnVector<BaseVariableWidthVector>
+        implements WritableBytesVector, DictionaryColumnVector {
+
+    private static final long serialVersionUID = 1L;
+
+    public ArrowWritableBytesVector(BaseVariableWidthVector vector, int capacity) {
+        super(vector, capacity);
+    }
+
+    @Override
+    public Bytes getBytes(int i) {
+        if (dictionary == null) {
+            ArrowBuf offsets = vector.getOffsetBuffer();
+            int start = offsets.getInt((long) i * BaseVariableWidthVector.OFFSET_WIDTH);
+            int end = offsets.getInt((long) (i + 1) * BaseVariableWidthVector.OFFSET_WIDTH);
+            byte[] bytes = new byte[end - start];
+            vector.getDataBuffer().getBytes(start, bytes);
+            return new Bytes(bytes, 0, bytes.length);
+        } else {
+            byte[] bytes = dictionary.decodeToBinary(dictionaryIds.vector[i]);
+            return new Bytes(bytes, 0, bytes.length);
+        }
+    }
+
+    @Override
+    public void putByteArray(int rowId, byte[] value, int offset, int length) {
+        vector.setSafe(rowId, value, offset, length);
+    }
+
+    @Override
+    public void fill(byte[] value) {
+        for (int i = 0; i < capacity; i++) {
+            vector.setSafe(i, value);
+        }
+    }
+
+    @Override
+    protected void decodeDictionary(int rowCount) {
+        for (int i = 0; i < rowCount; i++) {
+            if (!isNullAt(i)) {
+                vector.setSafe(i, dictionary.decodeToBinary(dictionaryIds.vector[i]));
+            }
+        }
+    }
+
+    @Override
+    public boolean isDictionaryEncoded() {
+        return dictionary != null;
+    }
+
+    @Override
+    public Dictionary getDictionary() {
+        return dictionary;
+    }
+
+    @Override
+    public int getDictionaryId(int i) {
+        return dictionaryIds.vector[i];
+    }
+}
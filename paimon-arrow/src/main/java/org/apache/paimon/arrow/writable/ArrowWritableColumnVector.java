@@ -0,0 +1,220 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.arrow.writable;
+
+import org.apache.paimon.data.columnar.heap.HeapIntVector;
+import org.apache.paimon.data.columnar.writable.AbstractWritableVector;
+
+import org.apache.arrow.memory.ArrowBuf;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.vector.BitVectorHelper;
+import org.apache.arrow.vector.FieldVector;
+
+import javax.annotation.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * A writable column vector whose values are stored in the buffers of an Arrow {@link FieldVector},
+ * so that a format reader decodes directly into Arrow memory and the batch can be handed over by
+ * {@link #transferTo} without copying values.
+ *
+ * <p>Nulls and dictionary ids are tracked on heap like the heap vectors, the Arrow validity buffer
+ * and dictionary-encoded values are only materialized on transfer.
+ *
+ * <p>The vector owns the allocator of its Arrow vector and closes it with the vector. A consumer
+ * can make later batches allocate from its own allocator by {@link #allocateFrom}, the reader must
+ * then be closed before that allocator.
+ */
+public abstract class ArrowWritableColumnVector<T extends FieldVector>
+        extends AbstractWritableVector implements AutoCloseable {
+
+    private static final long serialVersionUID = 1L;
+
+    protected T vector;
+
+    /** Allocator of the consumer which the buffers are allocated from after the next reset. */
+    @Nullable private BufferAllocator nextAllocator;
+
+    protected boolean[] isNull;
+
+    /** Reusable column for ids of dictionary. */
+    protected HeapIntVector dictionaryIds;
+
+    public ArrowWritableColumnVector(T vector, int capacity) {
+        super(capacity);
+        this.vector = vector;
+        this.isNull = new boolean[capacity];
+        allocate();
+    }
+
+    public T getArrowVector() {
+        return vector;
+    }
+
+    private void allocate() {
+        if (vector.getValueCapacity() < capacity) {
+            vector.clear();
+            vector.setInitialCapacity(capacity);
+            vector.allocateNew();
+        } else {
+            vector.reset();
+        }
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        if (isNull.length != capacity) {
+            isNull = new boolean[capacity];
+        } else {
+            Arrays.fill(isNull, false);
+        }
+        if (dictionaryIds != null) {
+            dictionaryIds.reset();
+        }
+        if (nextAllocator != null) {
+            switchAllocator(nextAllocator);
+            nextAllocator = null;
+        }
+        // the buffers have been released if the previous batch was transferred
+        allocate();
+    }
+
+    @Override
+    public void setNullAt(int i) {
+        isNull[i] = true;
+        noNulls = false;
+    }
+
+    @Override
+    public void setNulls(int i, int count) {
+        for (int j = 0; j < count; j++) {
+            isNull[i + j] = true;
+        }
+        if (count > 0) {
+            noNulls = false;
+        }
+    }
+
+    @Override
+    public void fillWithNulls() {
+        this.noNulls = false;
+        Arrays.fill(isNull, true);
+    }
+
+    @Override
+    public boolean isNullAt(int i) {
+        return isAllNull || (!noNulls && isNull[i]);
+    }
+
+    @Override
+    public HeapIntVector reserveDictionaryIds(int capacity) {
+        if (dictionaryIds == null) {
+            dictionaryIds = new HeapIntVector(capacity);
+        } else {
+            if (capacity > dictionaryIds.vector.length) {
+                int current = dictionaryIds.vector.length;
+                while (current < capacity) {
+                    current <<= 1;
+                }
+                dictionaryIds = new HeapIntVector(current);
+            } else {
+                dictionaryIds.reset();
+            }
+        }
+        return dictionaryIds;
+    }
+
+    @Override
+    public HeapIntVector getDictionaryIds() {
+        return dictionaryIds;
+    }
+
+    @Override
+    protected void reserveInternal(int newCapacity) {
+        if (isNull.length < newCapacity) {
+            isNull = Arrays.copyOf(isNull, newCapacity);
+        }
+        while (vector.getValueCapacity() < newCapacity) {
+            vector.reAlloc();
+        }
+    }
+
+    /** Whether the buffers of this vector can be transferred to the target vector. */
+    public boolean canTransferTo(FieldVector target) {
+        return target.getMinorType() == vector.getMinorType()
+                && target.getAllocator().getRoot() == vector.getAllocator().getRoot();
+    }
+
+    /**
+     * Allocates the buffers of the following batches from a child of the given allocator, so that
+     * they can be transferred to vectors of that allocator. The current batch keeps its buffers
+     * until the next {@link #reset()}.
+     */
+    public void allocateFrom(BufferAllocator allocator) {
+        if (vector.getAllocator().getRoot() != allocator.getRoot()) {
+            nextAllocator = allocator;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void switchAllocator(BufferAllocator allocator) {
+        BufferAllocator child =
+                allocator.newChildAllocator(vector.getName(), 0, allocator.getLimit());
+        T newVector = (T) vector.getField().createVector(child);
+        close();
+        vector = newVector;
+    }
+
+    /**
+     * Hands over the first {@code rowCount} values to the target vector without copying. This
+     * vector is empty afterwards and allocates new buffers on the next {@link #reset()}.
+     */
+    public void transferTo(FieldVector target, int rowCount) {
+        if (dictionary != null) {
+            decodeDictionary(rowCount);
+            dictionary = null;
+        }
+        writeValidity(rowCount);
+        vector.setValueCount(rowCount);
+        vector.makeTransferPair(target).transfer();
+    }
+
+    private void writeValidity(int rowCount) {
+        ArrowBuf validity = vector.getValidityBuffer();
+        if (noNulls) {
+            validity.setOne(0L, (long) BitVectorHelper.getValidityBufferSize(rowCount));
+        } else {
+            for (int i = 0; i < rowCount; i++) {
+                BitVectorHelper.setValidityBit(validity, i, isNullAt(i) ? 0 : 1);
+            }
+        }
+    }
+
+    /** Decodes the dictionary ids of the non-null rows into the Arrow buffers. */
+    protected abstract void decodeDictionary(int rowCount);
+
+    @Override
+    public void close() {
+        BufferAllocator allocator = vector.getAllocator();
+        vector.close();
+        allocator.close();
+    }
+}
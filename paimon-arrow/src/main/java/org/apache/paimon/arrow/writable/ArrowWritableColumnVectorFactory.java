@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.arrow.writable;
+
+import org.apache.paimon.arrow.ArrowUtils;
+import org.apache.paimon.data.columnar.writable.WritableColumnVector;
+import org.apache.paimon.data.columnar.writable.WritableColumnVectorFactory;
+import org.apache.paimon.types.DataField;
+import org.apache.paimon.types.DataType;
+
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.BaseFixedWidthVector;
+import org.apache.arrow.vector.BaseVariableWidthVector;
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.BitVector;
+import org.apache.arrow.vector.FieldVector;
+import org.apache.arrow.vector.Float4Vector;
+import org.apache.arrow.vector.Float8Vector;
+import org.apache.arrow.vector.SmallIntVector;
+import org.apache.arrow.vector.TinyIntVector;
+
+import javax.annotation.Nullable;
+
+/**
+ * A {@link WritableColumnVectorFactory} creating {@link ArrowWritableColumnVector}s, enabled for
+ * Parquet by {@code 'parquet.read.vector-factory' = 'arrow'}.
+ *
+ * <p>Every vector starts with its own root allocator, as the reader decodes before an Arrow
+ * consumer is known. {@link org.apache.paimon.arrow.converter.ArrowVectorizedBatchConverter} copies
+ * the first batch and makes the vectors allocate from the allocator of its {@code
+ * VectorSchemaRoot}, the following batches are handed over without copying.
+ */
+public class ArrowWritableColumnVectorFactory implements WritableColumnVectorFactory {
+
+    public static final String IDENTIFIER = "arrow";
+
+    @Override
+    public String identifier() {
+        return IDENTIFIER;
+    }
+
+    @Nullable
+    @Override
+    public WritableColumnVector create(DataType type, int capacity) {
+        switch (type.getTypeRoot()) {
+            case BOOLEAN:
+                return new ArrowWritableBooleanVector((BitVector) createVector(type), capacity);
+            case TINYINT:
+                return new ArrowWritableByteVector((TinyIntVector) createVector(type), capacity);
+            case SMALLINT:
+                return new ArrowWritableShortVector((SmallIntVector) createVector(type), capacity);
+            case INTEGER:
+            case DATE:
+                return new ArrowWritableIntVector(
+                        (BaseFixedWidthVector) createVector(type), capacity);
+            case BIGINT:
+                return new ArrowWritableLongVector((BigIntVector) createVector(type), capacity);
+            case FLOAT:
+                return new ArrowWritableFloatVector((Float4Vector) createVector(type), capacity);
+            case DOUBLE:
+                return new ArrowWritableDoubleVector((Float8Vector) createVector(type), capacity);
+            case CHAR:
+            case VARCHAR:
+            case BINARY:
+            case VARBINARY:
+                return new ArrowWritableBytesVector(
+                        (BaseVariableWidthVector) createVector(type), capacity);
+            default:
+                return null;
+        }
+    }
+
+    private static FieldVector createVector(DataType type) {
+        BufferAllocator allocator = new RootAllocator();
+        return ArrowUtils.createVector(new DataField(0, "f0", type), allocator, true);
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.arrow.writable;
+
+import org.apache.paimon.data.columnar.writable.WritableDoubleVector;
+
+import org.apache.arrow.vector.Float8Vector;
+
+/** Arrow backed {@link WritableDoubleVector}. */
+public class ArrowWritableDoubleVector extends ArrowWritableColumnVector<Float8Vector>
+        implements WritableDoubleVector {
+
+    private static final long serialVersionUID = 1L;
+
+    public ArrowWritableDoubleVector(Float8Vector vector, int capacity) {
+        super(vector, capacity);
+    }
+
+    @Override
+    public double getDouble(int i) {
+        if (dictionary == null) {
+            return vector.getDataBuffer().getDouble((long) i * 8);
+        } else {
+            return dictionary.decodeToDouble(dictionaryIds.vector[i]);
+        }
+    }
+
+    @Override
+    public void setDouble(int i, double value) {
+        vector.getDataBuffer().setDouble((long) i * 8, value);
+    }
+
+    @Override
+    public void setDoublesFromBinary(int rowId, int count, byte[] src, int srcIndex) {
+        // Parquet plain encoding and Arrow buffers are both little endian
+        vector.getDataBuffer().setBytes((long) rowId * 8, src, srcIndex, (long) count * 8);
+    }
+
+    @Override
+    public void fill(double value) {
+        for (int i = 0; i < capacity; i++) {
+            setDouble(i, value);
+        }
+    }
+
+    @Override
+    protected void decodeDictionary(int rowCount) {
+        for (int i = 0; i < rowCount; i++) {
+            if (!isNullAt(i)) {
+                setDouble(i, dictionary.decodeToDouble(dictionaryIds.vector[i]));
+            }
+        }
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.arrow.writable;
+
+import org.apache.paimon.data.columnar.writable.WritableFloatVector;
+
+import org.apache.arrow.vector.Float4Vector;
+
+/** Arrow backed {@link WritableFloatVector}. */
+public class ArrowWritableFloatVector extends ArrowWritableColumnVector<Float4Vector>
+        implements WritableFloatVector {
+
+    private static final long serialVersionUID = 1L;
+
+    public ArrowWritableFloatVector(Float4Vector vector, int capacity) {
+        super(vector, capacity);
+    }
+
+    @Override
+    public float getFloat(int i) {
+        if (dictionary == null) {
+            return vector.getDataBuffer().getFloat((long) i * 4);
+        } else {
+            return dictionary.decodeToFloat(dictionaryIds.vector[i]);
+        }
+    }
+
+    @Override
+    public void setFloat(int i, float value) {
+        vector.getDataBuffer().setFloat((long) i * 4, value);
+    }
+
+    @Override
+    public void setFloatsFromBinary(int rowId, int count, byte[] src, int srcIndex) {
+        // Parquet plain encoding and Arrow buffers are both little endian
+        vector.getDataBuffer().setBytes((long) rowId * 4, src, srcIndex, (long) count * 4);
+    }
+
+    @Override
+    public void fill(float value) {
+        for (int i = 0; i < capacity; i++) {
+            setFloat(i, value);
+        }
+    }
+
+    @Override
+    protected void decodeDictionary(int rowCount) {
+        for (int i = 0; i < rowCount; i++) {
+            if (!isNullAt(i)) {
+                setFloat(i, dictionary.decodeToFloat(dictionaryIds.vector[i]));
+            }
+        }
+    }
+}
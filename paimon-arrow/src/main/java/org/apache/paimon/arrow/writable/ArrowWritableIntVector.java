@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.arrow.writable;
+
+import org.apache.paimon.data.columnar.writable.WritableIntVector;
+
+import org.apache.arrow.memory.ArrowBuf;
+import org.apache.arrow.vector.BaseFixedWidthVector;
+
+/**
+ * Arrow backed {@link WritableIntVector}, the vector can be any 4 bytes wide Arrow vector, such as
+ * {@code IntVector} or {@code DateDayVector}.
+ */
+public class ArrowWritableIntVector extends ArrowWritableColumnVector<BaseFixedWidthVector>
+        implements WritableIntVector {
+
+    private static final long serialVersionUID = 1L;
+
+    public ArrowWritableIntVector(BaseFixedWidthVector vector, int capacity) {
+        super(vector, capacity);
+    }
+
+    @Override
+    public int getInt(int i) {
+        if (dictionary == null) {
+            return vector.getDataBuffer().getInt((long) i * 4);
+        } else {
+            return dictionary.decodeToInt(dictionaryIds.vector[i]);
+        }
+    }
+
+    @Override
+    public void setInt(int i, int value) {
+        vector.getDataBuffer().setInt((long) i * 4, value);
+    }
+
+    @Override
+    public void setIntsFromBinary(int rowId, int count, byte[] src, int srcIndex) {
+        // Parquet plain encoding and Arrow buffers are both little endian
+        vector.getDataBuffer().setBytes((long) rowId * 4, src, srcIndex, (long) count * 4);
+    }
+
+    @Override
+    public void setInts(int rowId, int count, int value) {
+        ArrowBuf data = vector.getDataBuffer();
+        for (int i = 0; i < count; ++i) {
+            data.setInt((long) (i + rowId) * 4, value);
+        }
+    }
+
+    @Override
+    public void setInts(int rowId, int count, int[] src, int srcIndex) {
+        ArrowBuf data = vector.getDataBuffer();
+        for (int i = 0; i < count; ++i) {
+            data.setInt((long) (i + rowId) * 4, src[srcIndex + i]);
+        }
+    }
+
+    @Override
+    public void fill(int value) {
+        setInts(0, capacity, value);
+    }
+
+    @Override
+    public void appendInt(int v) {
+        reserve(elementsAppended + 1);
+        setInt(elementsAppended, v);
+        elementsAppended++;
+    }
+
+    @Override
+    public void appendInts(int count, int v) {
+        reserve(elementsAppended + count);
+        setInts(elementsAppended, count, v);
+        elementsAppended += count;
+    }
+
+    @Override
+    protected void decodeDictionary(int rowCount) {
+        for (int i = 0; i < rowCount; i++) {
+            if (!isNullAt(i)) {
+                setInt(i, dictionary.decodeToInt(dictionaryIds.vector[i]));
+            }
+        }
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.arrow.writable;
+
+import org.apache.paimon.data.columnar.writable.WritableShortVector;
+
+import org.apache.arrow.vector.SmallIntVector;
+
+/** Arrow backed {@link WritableShortVector}. */
+public class ArrowWritableShortVector extends ArrowWritableColumnVector<SmallIntVector>
+        implements WritableShortVector {
+
+    private static final long serialVersionUID = 1L;
+
+    public ArrowWritableShortVector(SmallIntVector vector, int capacity) {
+        super(vector, capacity);
+    }
+
+    @Override
+    public short getShort(int i) {
+        if (dictionary == null) {
+            return vector.getDataBuffer().getShort((long) i * 2);
+        } else {
+            return (short) dictionary.decodeToInt(dictionaryIds.vector[i]);
+        }
+    }
+
+    @Override
+    public void setShort(int i, short value) {
+        vector.getDataBuffer().setShort((long) i * 2, value);
+    }
+
+    @Override
+    public void fill(short value) {
+        for (int i = 0; i < capacity; i++) {
+            setShort(i, value);
+        }
+    }
+
+    @Override
+    protected void decodeDictionary(int rowCount) {
+        for (int i = 0; i < rowCount; i++) {
+            if (!isNullAt(i)) {
+                setShort(i, (short) dictionary.decodeToInt(dictionaryIds.vector[i]));
+            }
+        }
+    }
+}
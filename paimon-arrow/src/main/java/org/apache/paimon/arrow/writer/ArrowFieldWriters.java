@@ -30,6 +30,8 @@ import org.apache.paimon.data.columnar.ByteColumnVector;
 import org.apache.paimon.data.columnar.BytesColumnVector;
 import org.apache.paimon.data.columnar.ColumnVector;
 import org.apache.paimon.data.columnar.DecimalColumnVector;
+import org.apache.paimon.data.columnar.Dictionary;
+import org.apache.paimon.data.columnar.DictionaryColumnVector;
 import org.apache.paimon.data.columnar.DoubleColumnVector;
 import org.apache.paimon.data.columnar.FloatColumnVector;
 import org.apache.paimon.data.columnar.IntColumnVector;
@@ -81,6 +83,17 @@ public class ArrowFieldWriters {
                 int startIndex,
                 int batchRows) {
             VarCharVector varCharVector = (VarCharVector) fieldVector;
+            if (columnVector instanceof DictionaryColumnVector
+                    && ((DictionaryColumnVector) columnVector).isDictionaryEncoded()) {
+                writeDictionaryIds(
+                        varCharVector,
+                        (DictionaryColumnVector) columnVector,
+                        pickedInColumn,
+                        startIndex,
+                        batchRows);
+                return;
+            }
+
             for (int i = 0; i < batchRows; i++) {
                 int row = getRowNumber(startIndex, i, pickedInColumn);
                 if (columnVector.isNullAt(row)) {
@@ -92,6 +105,28 @@ public class ArrowFieldWriters {
             }
         }
 
+        /**
+         * Writes values by their dictionary ids, each distinct value is decoded once by the shared
+         * dictionary and copied directly without materializing {@link BytesColumnVector.Bytes}.
+         */
+        private void writeDictionaryIds(
+                VarCharVector varCharVector,
+                DictionaryColumnVector columnVector,
+                @Nullable int[] pickedInColumn,
+                int startIndex,
+                int batchRows) {
+            Dictionary dictionary = columnVector.getDictionary();
+            for (int i = 0; i < batchRows; i++) {
+                int row = getRowNumber(startIndex, i, pickedInColumn);
+                if (columnVector.isNullAt(row)) {
+                    varCharVector.setNull(i);
+                } else {
+                    varCharVector.setSafe(
+                            i, dictionary.decodeToBinary(columnVector.getDictionaryId(row)));
+                }
+            }
+        }
+
         @Override
         protected void doWrite(int rowIndex, DataGetters getters, int pos) {
             ((VarCharVector) fieldVector).setSafe(rowIndex, getters.getString(pos).toBytes());
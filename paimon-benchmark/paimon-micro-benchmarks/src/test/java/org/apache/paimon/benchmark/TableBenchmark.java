@@ -56,17 +56,26 @@ public class TableBenchmark {
 
     protected Table createTable(Options tableOptions, String tableName, List<String> primaryKeys)
             throws Exception {
+        List<DataField> fields = new ArrayList<>();
+        fields.add(new DataField(0, "k", new IntType()));
+        for (int i = 1; i <= VALUE_COUNT; i++) {
+            fields.add(new DataField(i, "f" + i, DataTypes.STRING()));
+        }
+        return createTable(tableOptions, tableName, fields, primaryKeys);
+    }
+
+    protected Table createTable(
+            Options tableOptions,
+            String tableName,
+            List<DataField> fields,
+            List<String> primaryKeys)
+            throws Exception {
         Options catalogOptions = new Options();
         catalogOptions.set(CatalogOptions.WAREHOUSE, tempFile.toUri().toString());
         Catalog catalog = CatalogFactory.createCatalog(CatalogContext.create(catalogOptions));
         String database = "default";
         catalog.createDatabase(database, true);
 
-        List<DataField> fields = new ArrayList<>();
-        fields.add(new DataField(0, "k", new IntType()));
-        for (int i = 1; i <= VALUE_COUNT; i++) {
-            fields.add(new DataField(i, "f" + i, DataTypes.STRING()));
-        }
         tableOptions.set(CoreOptions.SNAPSHOT_NUM_RETAINED_MAX, 10);
         Schema schema =
                 new Schema(fields, Collections.emptyList(), primaryKeys, tableOptions.toMap(), "");
@@ -19,7 +19,14 @@
 package org.apache.paimon.benchmark;
 
 import org.apache.paimon.CoreOptions;
+import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.data.columnar.ColumnVector;
+import org.apache.paimon.data.columnar.VectorizedColumnBatch;
+import org.apache.paimon.data.columnar.heap.HeapBytesVector;
+import org.apache.paimon.data.columnar.heap.HeapIntVector;
 import org.apache.paimon.disk.IOManagerImpl;
+import org.apache.paimon.io.VectorizedBundleRecords;
 import org.apache.paimon.options.Options;
 import org.apache.paimon.table.Table;
 import org.apache.paimon.table.sink.BatchTableCommit;
@@ -28,6 +35,7 @@ import org.apache.paimon.table.sink.BatchWriteBuilder;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.Collections;
 import java.util.concurrent.atomic.AtomicInteger;
 
 /** Benchmark for table writer. */
@@ -120,6 +128,104 @@ public class TableWriterBenchmark extends TableBenchmark {
          */
     }
 
+    @Test
+    public void testOrcRowVsBundle() throws Exception {
+        Options options = new Options();
+        options.set(CoreOptions.FILE_FORMAT, CoreOptions.FILE_FORMAT_ORC);
+        innerTestRowVsBundle("orc", options);
+    }
+
+    @Test
+    public void testParquetRowVsBundle() throws Exception {
+        Options options = new Options();
+        options.set(CoreOptions.FILE_FORMAT, CoreOptions.FILE_FORMAT_PARQUET);
+        innerTestRowVsBundle("parquet", options);
+    }
+
+    /** Compares writing rows one by one with writing the same rows as columnar bundles. */
+    public void innerTestRowVsBundle(String name, Options options) throws Exception {
+        options.set(CoreOptions.BUCKET, -1);
+        Table table = createTable(options, "T", Collections.emptyList());
+        int batchSize = 1024;
+        int batchCount = 3000;
+        InternalRow[] rows = new InternalRow[batchSize];
+        for (int i = 0; i < batchSize; i++) {
+            rows[i] = newRandomRow();
+        }
+        VectorizedColumnBatch batch = toBatch(rows);
+
+        Benchmark benchmark =
+                new Benchmark(name, (long) batchSize * batchCount)
+                        .setNumWarmupIters(1)
+                        .setOutputPerIteration(true);
+        benchmark.addCase(
+                "row_write",
+                3,
+                () ->
+                        writeAndTruncate(
+                                table,
+                                write -> {
+                                    for (int i = 0; i < batchCount; i++) {
+                                        for (InternalRow row : rows) {
+                                            write.write(row);
+                                        }
+                                    }
+                                }));
+        benchmark.addCase(
+                "bundle_write",
+                3,
+                () ->
+                        writeAndTruncate(
+                                table,
+                                write -> {
+                                    for (int i = 0; i < batchCount; i++) {
+                                        write.writeBundle(
+                                                BinaryRow.EMPTY_ROW,
+                                                0,
+                                                new VectorizedBundleRecords(batch));
+                                    }
+                                }));
+        benchmark.run();
+    }
+
+    private VectorizedColumnBatch toBatch(InternalRow[] rows) {
+        int fieldCount = rows[0].getFieldCount();
+        ColumnVector[] vectors = new ColumnVector[fieldCount];
+        HeapIntVector keys = new HeapIntVector(rows.length);
+        for (int i = 0; i < rows.length; i++) {
+            keys.setInt(i, rows[i].getInt(0));
+        }
+        vectors[0] = keys;
+        for (int f = 1; f < fieldCount; f++) {
+            HeapBytesVector values = new HeapBytesVector(rows.length);
+            for (int i = 0; i < rows.length; i++) {
+                byte[] bytes = rows[i].getString(f).toBytes();
+                values.putByteArray(i, bytes, 0, bytes.length);
+            }
+            vectors[f] = values;
+        }
+        VectorizedColumnBatch batch = new VectorizedColumnBatch(vectors);
+        batch.setNumRows(rows.length);
+        return batch;
+    }
+
+    private void writeAndTruncate(Table table, WriteAction action) {
+        BatchWriteBuilder writeBuilder = table.newBatchWriteBuilder();
+        try (BatchTableWrite write = writeBuilder.newWrite();
+                BatchTableCommit commit = writeBuilder.newCommit()) {
+            write.withIOManager(new IOManagerImpl(tempFile.toString()));
+            action.write(write);
+            commit.commit(write.prepareCommit());
+            writeBuilder.newCommit().truncateTable();
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private interface WriteAction {
+        void write(BatchTableWrite write) throws Exception;
+    }
+
     public void innerTest(String name, Options options) throws Exception {
         options.set(CoreOptions.BUCKET, 1);
         Table table = createTable(options, "T");
@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.benchmark.compact;
+
+import org.apache.paimon.KeyValue;
+import org.apache.paimon.benchmark.Benchmark;
+import org.apache.paimon.data.BinaryString;
+import org.apache.paimon.data.GenericArray;
+import org.apache.paimon.data.GenericRow;
+import org.apache.paimon.mergetree.compact.MergeFunction;
+import org.apache.paimon.mergetree.compact.aggregate.AggregateMergeFunction;
+import org.apache.paimon.options.Options;
+import org.apache.paimon.types.DataType;
+import org.apache.paimon.types.DataTypes;
+import org.apache.paimon.types.RowKind;
+import org.apache.paimon.utils.HllSketchUtil;
+import org.apache.paimon.utils.RoaringBitmap32;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.function.IntFunction;
+
+/**
+ * Benchmark for measure the performance for {@link AggregateMergeFunction} merging many updates of
+ * a hot key.
+ */
+public class AggregateMergeFunctionBenchmark {
+
+    private final int updatesPerKey = 10000;
+
+    @Test
+    public void testRoaringBitmap() {
+        innerTest(
+                "rbm32",
+                DataTypes.VARBINARY(Integer.MAX_VALUE),
+                i -> RoaringBitmap32.bitmapOf(i).serialize());
+    }
+
+    @Test
+    public void testHllSketch() {
+        innerTest(
+                "hll_sketch",
+                DataTypes.VARBINARY(Integer.MAX_VALUE),
+                i -> HllSketchUtil.sketchOf(i));
+    }
+
+    @Test
+    public void testCollect() {
+        innerTest(
+                "collect", DataTypes.ARRAY(DataTypes.INT()), i -> new GenericArray(new int[] {i}));
+    }
+
+    @Test
+    public void testListagg() {
+        innerTest("listagg", DataTypes.STRING(), i -> BinaryString.fromString(String.valueOf(i)));
+    }
+
+    private void innerTest(String aggFunc, DataType fieldType, IntFunction<Object> valueGenerator) {
+        Options options = new Options();
+        options.set("fields.v.aggregate-function", aggFunc);
+        MergeFunction<KeyValue> func =
+                AggregateMergeFunction.factory(
+                                options,
+                                Arrays.asList("k", "v"),
+                                Arrays.asList(DataTypes.INT(), fieldType),
+                                Collections.singletonList("k"))
+                        .create();
+
+        KeyValue[] kvs = new KeyValue[updatesPerKey];
+        for (int i = 0; i < updatesPerKey; i++) {
+            kvs[i] =
+                    new KeyValue()
+                            .replace(
+                                    GenericRow.of(1),
+                                    i,
+                                    RowKind.INSERT,
+                                    GenericRow.of(1, valueGenerator.apply(i)));
+        }
+
+        int keyCount = 100;
+        Benchmark benchmark =
+                new Benchmark("aggregate-benchmark", (long) keyCount * updatesPerKey)
+                        .setNumWarmupIters(1)
+                        .setOutputPerIteration(true);
+        benchmark.addCase(
+                aggFunc,
+                5,
+                () -> {
+                    for (int key = 0; key < keyCount; key++) {
+                        func.reset();
+                        for (KeyValue kv : kvs) {
+                            func.add(kv);
+                        }
+                        func.getResult();
+                    }
+                });
+        benchmark.run();
+    }
+}
@@ -39,6 +39,33 @@ public class PartialUpdateMergeFunctionBenchmark {
 
     private final int rowCount = 40000000;
 
+    @Test
+    public void testUpdate() {
+        // without sequence groups the fields are merged by a generated merger
+        MergeFunctionFactory<KeyValue> factory =
+                PartialUpdateMergeFunction.factory(
+                        new Options(), getRowType(6), ImmutableList.of("f0"));
+
+        MergeFunction<KeyValue> func = factory.create();
+
+        Benchmark benchmark =
+                new Benchmark("partial-update-benchmark", rowCount)
+                        .setNumWarmupIters(1)
+                        .setOutputPerIteration(true);
+
+        benchmark.addCase(
+                "update",
+                5,
+                () -> {
+                    func.reset();
+                    for (int i = 0; i < rowCount; i++) {
+                        add(func, i, RowKind.INSERT, 1, i, 1, null, 1, 1);
+                    }
+                });
+
+        benchmark.run();
+    }
+
     @Test
     public void testUpdateWithSequenceGroup() {
         Options options = new Options();
@@ -0,0 +1,239 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.benchmark.mergetree;
+
+import org.apache.paimon.CoreOptions;
+import org.apache.paimon.CoreOptions.MergeEngine;
+import org.apache.paimon.KeyValue;
+import org.apache.paimon.KeyValueFileStore;
+import org.apache.paimon.benchmark.TableBenchmark;
+import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.data.BinaryString;
+import org.apache.paimon.data.GenericRow;
+import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.data.serializer.InternalRowSerializer;
+import org.apache.paimon.format.FileFormat;
+import org.apache.paimon.io.DataFileMeta;
+import org.apache.paimon.io.KeyValueFileWriterFactory;
+import org.apache.paimon.io.RollingFileWriter;
+import org.apache.paimon.manifest.FileSource;
+import org.apache.paimon.mergetree.compact.MergeFunctionFactory;
+import org.apache.paimon.options.Options;
+import org.apache.paimon.table.FileStoreTable;
+import org.apache.paimon.table.PrimaryKeyTableUtils;
+import org.apache.paimon.table.PrimaryKeyTableUtils.PrimaryKeyFieldsExtractor;
+import org.apache.paimon.types.DataField;
+import org.apache.paimon.types.DataType;
+import org.apache.paimon.types.DataTypes;
+import org.apache.paimon.types.RowKind;
+import org.apache.paimon.types.RowType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Abstract benchmark class for the write path of merge tree. Benchmarks are parameterized by the
+ * key type and the number of value fields, odd value fields are BIGINT and even ones are STRING.
+ */
+abstract class AbstractMergeTreeBenchmark extends TableBenchmark {
+
+    protected static final MergeEngine[] MERGE_ENGINES = {
+        MergeEngine.DEDUPLICATE, MergeEngine.PARTIAL_UPDATE, MergeEngine.AGGREGATE
+    };
+
+    private static final String[] KEY_TYPES = {"int", "string"};
+    private static final int[] VALUE_WIDTHS = {2, 20};
+
+    protected final boolean stringKey;
+    protected final int valueWidth;
+
+    private final Random random = new Random();
+
+    protected AbstractMergeTreeBenchmark(List<Object> shape) {
+        this.stringKey = "string".equals(shape.get(0));
+        this.valueWidth = (Integer) shape.get(1);
+    }
+
+    protected static List<List<Object>> getShapeList() {
+        List<List<Object>> shapes = new ArrayList<>();
+        for (String keyType : KEY_TYPES) {
+            for (int valueWidth : VALUE_WIDTHS) {
+                shapes.add(Arrays.asList(keyType, valueWidth));
+            }
+        }
+        return shapes;
+    }
+
+    protected String shapeName() {
+        return String.format("%s-key-%s-values", stringKey ? "string" : "int", valueWidth);
+    }
+
+    protected FileStoreTable createTable(MergeEngine mergeEngine, Options options)
+            throws Exception {
+        List<DataField> fields = new ArrayList<>();
+        fields.add(new DataField(0, "k", stringKey ? DataTypes.STRING() : DataTypes.INT()));
+        for (int i = 1; i <= valueWidth; i++) {
+            DataType type = i % 2 == 1 ? DataTypes.BIGINT() : DataTypes.STRING();
+            fields.add(new DataField(i, "v" + i, type));
+            if (mergeEngine == MergeEngine.AGGREGATE && i % 2 == 1) {
+                options.set("fields.v" + i + ".aggregate-function", "sum");
+            }
+        }
+        options.set(CoreOptions.MERGE_ENGINE, mergeEngine);
+        return (FileStoreTable)
+                createTable(
+                        options,
+                        "T_" + mergeEngine.name() + "_" + random.nextInt(Integer.MAX_VALUE),
+                        fields,
+                        Collections.singletonList("k"));
+    }
+
+    protected static KeyValueFileStore store(FileStoreTable table) {
+        return (KeyValueFileStore) table.store();
+    }
+
+    protected static RowType keyType(FileStoreTable table) {
+        return new RowType(PrimaryKeyFieldsExtractor.EXTRACTOR.keyFields(table.schema()));
+    }
+
+    protected static MergeFunctionFactory<KeyValue> mergeFunctionFactory(FileStoreTable table) {
+        return PrimaryKeyTableUtils.createMergeFunctionFactory(
+                table.schema(), PrimaryKeyFieldsExtractor.EXTRACTOR);
+    }
+
+    protected static KeyValueFileWriterFactory newWriterFactory(
+            FileStoreTable table, CoreOptions options) {
+        KeyValueFileStore store = store(table);
+        return KeyValueFileWriterFactory.builder(
+                        table.fileIO(),
+                        table.schema().id(),
+                        keyType(table),
+                        table.rowType(),
+                        FileFormat.fileFormat(options),
+                        format -> store.pathFactory(),
+                        options.targetFileSize(true))
+                .build(BinaryRow.EMPTY_ROW, 0, options);
+    }
+
+    protected static List<DataFileMeta> writeRun(
+            KeyValueFileWriterFactory writerFactory, KeyValue[] run) throws Exception {
+        RollingFileWriter<KeyValue, DataFileMeta> writer =
+                writerFactory.createRollingMergeTreeFileWriter(0, FileSource.APPEND);
+        try {
+            for (KeyValue kv : run) {
+                writer.write(kv);
+            }
+        } finally {
+            writer.close();
+        }
+        return writer.result();
+    }
+
+    /** Generates records with random keys from {@code [0, keySpace)}, keys may repeat. */
+    protected KeyValue[] newRandomRecords(int count, int keySpace) {
+        KeyValue[] records = new KeyValue[count];
+        for (int i = 0; i < count; i++) {
+            int key = random.nextInt(keySpace);
+            records[i] = new KeyValue().replace(newKey(key), i, RowKind.INSERT, newValue(key));
+        }
+        return records;
+    }
+
+    /**
+     * Generates sorted runs in binary format, keys of each run are unique and randomly chosen from
+     * {@code [0, keySpace)}. Later runs have larger sequence numbers.
+     */
+    protected List<KeyValue[]> newSortedRuns(
+            int runCount,
+            int recordsPerRun,
+            int keySpace,
+            RowType keyType,
+            RowType valueType,
+            Comparator<InternalRow> keyComparator) {
+        return newSortedRuns(
+                runCount, recordsPerRun, keySpace, 0, keyType, valueType, keyComparator);
+    }
+
+    /**
+     * Generates sorted runs like {@link #newSortedRuns(int, int, int, RowType, RowType,
+     * Comparator)}, but keys of run {@code r} are chosen from {@code [r * runOffset, r * runOffset
+     * + keySpace)}, so that the overlap of runs can be controlled.
+     */
+    protected List<KeyValue[]> newSortedRuns(
+            int runCount,
+            int recordsPerRun,
+            int keySpace,
+            int runOffset,
+            RowType keyType,
+            RowType valueType,
+            Comparator<InternalRow> keyComparator) {
+        InternalRowSerializer keySerializer = new InternalRowSerializer(keyType);
+        InternalRowSerializer valueSerializer = new InternalRowSerializer(valueType);
+        List<KeyValue[]> runs = new ArrayList<>(runCount);
+        long sequenceNumber = 0;
+        for (int r = 0; r < runCount; r++) {
+            int[] keys =
+                    random.ints(r * runOffset, r * runOffset + keySpace)
+                            .distinct()
+                            .limit(recordsPerRun)
+                            .toArray();
+            List<BinaryRow> keyRows = new ArrayList<>(keys.length);
+            for (int key : keys) {
+                keyRows.add(keySerializer.toBinaryRow(newKey(key)).copy());
+            }
+            keyRows.sort(keyComparator);
+
+            KeyValue[] run = new KeyValue[keyRows.size()];
+            for (int i = 0; i < run.length; i++) {
+                BinaryRow key = keyRows.get(i);
+                int k = stringKey ? Integer.parseInt(key.getString(0).toString()) : key.getInt(0);
+                run[i] =
+                        new KeyValue()
+                                .replace(
+                                        key,
+                                        sequenceNumber++,
+                                        RowKind.INSERT,
+                                        valueSerializer.toBinaryRow(newValue(k)).copy());
+            }
+            runs.add(run);
+        }
+        return runs;
+    }
+
+    private InternalRow newKey(int key) {
+        return GenericRow.of(stringKey ? BinaryString.fromString(String.valueOf(key)) : key);
+    }
+
+    private InternalRow newValue(int key) {
+        GenericRow value = new GenericRow(1 + valueWidth);
+        value.setField(0, stringKey ? BinaryString.fromString(String.valueOf(key)) : key);
+        for (int i = 1; i <= valueWidth; i++) {
+            value.setField(
+                    i,
+                    i % 2 == 1
+                            ? (Object) random.nextLong()
+                            : BinaryString.fromString(Long.toHexString(random.nextLong())));
+        }
+        return value;
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.benchmark.mergetree;
+
+import org.apache.paimon.CoreOptions;
+import org.apache.paimon.CoreOptions.MergeEngine;
+import org.apache.paimon.KeyValue;
+import org.apache.paimon.benchmark.Benchmark;
+import org.apache.paimon.io.DataFileMeta;
+import org.apache.paimon.io.KeyValueDataFileWriter;
+import org.apache.paimon.io.KeyValueFileWriterFactory;
+import org.apache.paimon.options.Options;
+import org.apache.paimon.table.FileStoreTable;
+import org.apache.paimon.testutils.junit.parameterized.ParameterizedTestExtension;
+import org.apache.paimon.testutils.junit.parameterized.Parameters;
+
+import org.junit.jupiter.api.TestTemplate;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.List;
+
+/** Benchmark for writing a sorted run by {@link KeyValueDataFileWriter} with each stats mode. */
+@ExtendWith(ParameterizedTestExtension.class)
+public class KeyValueFileWriterBenchmark extends AbstractMergeTreeBenchmark {
+
+    private static final String[] STATS_MODES = {"none", "counts", "truncate(16)", "full"};
+
+    private final int rowCount = 300_000;
+
+    public KeyValueFileWriterBenchmark(List<Object> shape) {
+        super(shape);
+    }
+
+    @Parameters(name = "shape-{0}")
+    public static List<List<Object>> getShapes() {
+        return getShapeList();
+    }
+
+    @TestTemplate
+    public void testParquet() throws Exception {
+        innerTest(CoreOptions.FILE_FORMAT_PARQUET);
+    }
+
+    @TestTemplate
+    public void testOrc() throws Exception {
+        innerTest(CoreOptions.FILE_FORMAT_ORC);
+    }
+
+    private void innerTest(String format) throws Exception {
+        Options options = new Options();
+        options.set(CoreOptions.FILE_FORMAT, format);
+        FileStoreTable table = createTable(MergeEngine.DEDUPLICATE, options);
+        KeyValue[] run =
+                newSortedRuns(
+                                1,
+                                rowCount,
+                                rowCount * 2,
+                                keyType(table),
+                                table.rowType(),
+                                store(table).newKeyComparator())
+                        .get(0);
+
+        Benchmark benchmark =
+                new Benchmark(format + "-writer-" + shapeName(), rowCount)
+                        .setNumWarmupIters(1)
+                        .setOutputPerIteration(true);
+        for (String statsMode : STATS_MODES) {
+            Options writeOptions = Options.fromMap(table.options());
+            writeOptions.set(CoreOptions.METADATA_STATS_MODE, statsMode);
+            KeyValueFileWriterFactory writerFactory =
+                    newWriterFactory(table, new CoreOptions(writeOptions));
+            benchmark.addCase(
+                    "stats_" + statsMode,
+                    5,
+                    () -> {
+                        try {
+                            for (DataFileMeta file : writeRun(writerFactory, run)) {
+                                writerFactory.deleteFile(file);
+                            }
+                        } catch (Exception e) {
+                            throw new RuntimeException(e);
+                        }
+                    });
+        }
+        benchmark.run();
+    }
+}
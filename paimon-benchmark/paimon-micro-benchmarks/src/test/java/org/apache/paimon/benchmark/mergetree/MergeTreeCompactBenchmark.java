@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.benchmark.mergetree;
+
+import org.apache.paimon.CoreOptions;
+import org.apache.paimon.CoreOptions.MergeEngine;
+import org.apache.paimon.KeyValue;
+import org.apache.paimon.benchmark.Benchmark;
+import org.apache.paimon.compact.CompactResult;
+import org.apache.paimon.compact.CompactUnit;
+import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.deletionvectors.DeletionVector;
+import org.apache.paimon.io.DataFileMeta;
+import org.apache.paimon.io.KeyValueFileWriterFactory;
+import org.apache.paimon.mergetree.MergeSorter;
+import org.apache.paimon.mergetree.compact.MergeTreeCompactRewriter;
+import org.apache.paimon.mergetree.compact.MergeTreeCompactTask;
+import org.apache.paimon.options.Options;
+import org.apache.paimon.table.FileStoreTable;
+import org.apache.paimon.testutils.junit.parameterized.ParameterizedTestExtension;
+import org.apache.paimon.testutils.junit.parameterized.Parameters;
+import org.apache.paimon.types.RowType;
+
+import org.junit.jupiter.api.TestTemplate;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Benchmark for {@link MergeTreeCompactTask} rewriting overlapping level 0 files into the max level
+ * with the merge function of each merge engine.
+ */
+@ExtendWith(ParameterizedTestExtension.class)
+public class MergeTreeCompactBenchmark extends AbstractMergeTreeBenchmark {
+
+    private final int runCount = 5;
+    private final int rowCount = 500_000;
+
+    public MergeTreeCompactBenchmark(List<Object> shape) {
+        super(shape);
+    }
+
+    @Parameters(name = "shape-{0}")
+    public static List<List<Object>> getShapes() {
+        return getShapeList();
+    }
+
+    @TestTemplate
+    public void testFullCompaction() throws Exception {
+        Benchmark benchmark =
+                new Benchmark("merge-tree-compact-" + shapeName(), rowCount)
+                        .setNumWarmupIters(1)
+                        .setOutputPerIteration(true);
+        for (MergeEngine mergeEngine : MERGE_ENGINES) {
+            FileStoreTable table = createTable(mergeEngine, new Options());
+            CoreOptions options = CoreOptions.fromMap(table.options());
+            RowType keyType = keyType(table);
+            Comparator<InternalRow> keyComparator = store(table).newKeyComparator();
+            KeyValueFileWriterFactory writerFactory = newWriterFactory(table, options);
+
+            List<DataFileMeta> files = new ArrayList<>();
+            for (KeyValue[] run :
+                    newSortedRuns(
+                            runCount,
+                            rowCount / runCount,
+                            rowCount / 2,
+                            keyType,
+                            table.rowType(),
+                            keyComparator)) {
+                files.addAll(writeRun(writerFactory, run));
+            }
+
+            MergeTreeCompactRewriter rewriter =
+                    new MergeTreeCompactRewriter(
+                            store(table)
+                                    .newReaderFactoryBuilder()
+                                    .build(BinaryRow.EMPTY_ROW, 0, DeletionVector.emptyFactory()),
+                            writerFactory,
+                            keyComparator,
+                            null,
+                            mergeFunctionFactory(table),
+                            new MergeSorter(options, keyType, table.rowType(), null));
+            int maxLevel = options.numLevels() - 1;
+            benchmark.addCase(
+                    mergeEngine.toString(),
+                    5,
+                    () -> {
+                        try {
+                            CompactResult result =
+                                    new MergeTreeCompactTask(
+                                                    keyComparator,
+                                                    options.compactionFileSize(true),
+                                                    rewriter,
+                                                    CompactUnit.fromFiles(maxLevel, files, false),
+                                                    true,
+                                                    maxLevel,
+                                                    null,
+                                                    () -> null,
+                                                    null,
+                                                    false)
+                                            .call();
+                            // input files are kept for the next iteration
+                            for (DataFileMeta file : result.after()) {
+                                writerFactory.deleteFile(file);
+                            }
+                        } catch (Exception e) {
+                            throw new RuntimeException(e);
+                        }
+                    });
+        }
+        benchmark.run();
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.benchmark.mergetree;
+
+import org.apache.paimon.CoreOptions.MergeEngine;
+import org.apache.paimon.CoreOptions.SortEngine;
+import org.apache.paimon.KeyValue;
+import org.apache.paimon.benchmark.Benchmark;
+import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.mergetree.compact.MergeFunction;
+import org.apache.paimon.mergetree.compact.ReducerMergeFunctionWrapper;
+import org.apache.paimon.mergetree.compact.SortMergeReader;
+import org.apache.paimon.mergetree.compact.SortMergeReaderWithConcat;
+import org.apache.paimon.mergetree.compact.SortMergeReaderWithLoserTree;
+import org.apache.paimon.mergetree.compact.SortMergeReaderWithMinHeap;
+import org.apache.paimon.options.Options;
+import org.apache.paimon.reader.RecordReader;
+import org.apache.paimon.table.FileStoreTable;
+import org.apache.paimon.testutils.junit.parameterized.ParameterizedTestExtension;
+import org.apache.paimon.testutils.junit.parameterized.Parameters;
+
+import org.junit.jupiter.api.TestTemplate;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import javax.annotation.Nullable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Benchmark for merging sorted runs by {@link SortMergeReaderWithLoserTree}, {@link
+ * SortMergeReaderWithMinHeap} and {@link SortEngine#AUTO}, across the number of runs and their
+ * overlap. It compares the two engines used by {@link SortEngine#AUTO} around its threshold, a
+ * single run is read by {@link SortMergeReaderWithConcat} whatever the engine is.
+ */
+@ExtendWith(ParameterizedTestExtension.class)
+public class SortMergeReaderBenchmark extends AbstractMergeTreeBenchmark {
+
+    private static final int[] RUN_COUNTS = {1, 2, 3, 4, 6, 8, 16, 64};
+
+    private final int rowCount = 256_000;
+
+    public SortMergeReaderBenchmark(List<Object> shape) {
+        super(shape);
+    }
+
+    @Parameters(name = "shape-{0}")
+    public static List<List<Object>> getShapes() {
+        return getShapeList();
+    }
+
+    /** Keys of all runs are randomly interleaved. */
+    @TestTemplate
+    public void testFullOverlap() throws Exception {
+        innerTest("full-overlap", runCount -> rowCount, runCount -> 0);
+    }
+
+    /** Each run overlaps with half of the previous run and half of the next run. */
+    @TestTemplate
+    public void testNeighbourOverlap() throws Exception {
+        innerTest(
+                "neighbour-overlap",
+                runCount -> 2 * rowCount / runCount,
+                runCount -> rowCount / runCount);
+    }
+
+    private void innerTest(String name, IntUnaryOperator keySpace, IntUnaryOperator runOffset)
+            throws Exception {
+        FileStoreTable table = createTable(MergeEngine.DEDUPLICATE, new Options());
+        Comparator<InternalRow> keyComparator = store(table).newKeyComparator();
+        MergeFunction<KeyValue> mergeFunction = mergeFunctionFactory(table).create();
+
+        for (int runCount : RUN_COUNTS) {
+            List<KeyValue[]> runs =
+                    newSortedRuns(
+                            runCount,
+                            rowCount / runCount,
+                            keySpace.applyAsInt(runCount),
+                            runOffset.applyAsInt(runCount),
+                            keyType(table),
+                            table.rowType(),
+                            keyComparator);
+
+            Benchmark benchmark =
+                    new Benchmark(
+                                    String.format(
+                                            "sort-merge-reader-%s-%s-%s-runs",
+                                            shapeName(), name, runCount),
+                                    rowCount)
+                            .setNumWarmupIters(1)
+                            .setOutputPerIteration(true);
+            for (SortEngine sortEngine : SortEngine.values()) {
+                benchmark.addCase(
+                        sortEngine.toString(),
+                        3,
+                        () -> merge(runs, keyComparator, mergeFunction, sortEngine));
+            }
+            benchmark.run();
+        }
+    }
+
+    private static void merge(
+            List<KeyValue[]> runs,
+            Comparator<InternalRow> keyComparator,
+            MergeFunction<KeyValue> mergeFunction,
+            SortEngine sortEngine) {
+        List<RecordReader<KeyValue>> readers = new ArrayList<>(runs.size());
+        for (KeyValue[] run : runs) {
+            readers.add(new KeyValueArrayReader(run));
+        }
+        try (RecordReader<KeyValue> reader =
+                SortMergeReader.createSortMergeReader(
+                        readers,
+                        keyComparator,
+                        null,
+                        new ReducerMergeFunctionWrapper(mergeFunction),
+                        sortEngine)) {
+            reader.forEachRemaining(kv -> {});
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /** A {@link RecordReader} returning a sorted run in batches, as file readers do. */
+    private static class KeyValueArrayReader implements RecordReader<KeyValue> {
+
+        private static final int BATCH_SIZE = 1024;
+
+        private final KeyValue[] records;
+
+        private int position;
+
+        KeyValueArrayReader(KeyValue[] records) {
+            this.records = records;
+        }
+
+        @Nullable
+        @Override
+        public RecordIterator<KeyValue> readBatch() {
+            if (position >= records.length) {
+                return null;
+            }
+
+            int end = Math.min(position + BATCH_SIZE, records.length);
+            int start = position;
+            position = end;
+            return new RecordIterator<KeyValue>() {
+
+                private int next = start;
+
+                @Nullable
+                @Override
+                public KeyValue next() {
+                    return next < end ? records[next++] : null;
+                }
+
+                @Override
+                public void releaseBatch() {}
+            };
+        }
+
+        @Override
+        public void close() {}
+    }
+}
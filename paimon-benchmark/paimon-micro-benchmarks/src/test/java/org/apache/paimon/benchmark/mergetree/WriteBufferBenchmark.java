@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.benchmark.mergetree;
+
+import org.apache.paimon.CoreOptions.MergeEngine;
+import org.apache.paimon.KeyValue;
+import org.apache.paimon.benchmark.Benchmark;
+import org.apache.paimon.compression.CompressOptions;
+import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.memory.HeapMemorySegmentPool;
+import org.apache.paimon.memory.MemorySegmentPool;
+import org.apache.paimon.mergetree.SortBufferWriteBuffer;
+import org.apache.paimon.mergetree.compact.MergeFunction;
+import org.apache.paimon.options.MemorySize;
+import org.apache.paimon.options.Options;
+import org.apache.paimon.table.FileStoreTable;
+import org.apache.paimon.testutils.junit.parameterized.ParameterizedTestExtension;
+import org.apache.paimon.testutils.junit.parameterized.Parameters;
+
+import org.junit.jupiter.api.TestTemplate;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Benchmark for putting records into {@link SortBufferWriteBuffer} and flushing them through the
+ * merge function of each merge engine.
+ */
+@ExtendWith(ParameterizedTestExtension.class)
+public class WriteBufferBenchmark extends AbstractMergeTreeBenchmark {
+
+    private static final long MEMORY_SIZE = 256 * 1024 * 1024L;
+
+    private final int rowCount = 200_000;
+
+    public WriteBufferBenchmark(List<Object> shape) {
+        super(shape);
+    }
+
+    @Parameters(name = "shape-{0}")
+    public static List<List<Object>> getShapes() {
+        return getShapeList();
+    }
+
+    @TestTemplate
+    public void testPutAndFlush() throws Exception {
+        // a quarter of distinct keys, so that the merge function has work to do
+        KeyValue[] records = newRandomRecords(rowCount, rowCount / 4);
+        MemorySegmentPool pool =
+                new HeapMemorySegmentPool(MEMORY_SIZE, MemorySegmentPool.DEFAULT_PAGE_SIZE);
+
+        Benchmark benchmark =
+                new Benchmark("write-buffer-" + shapeName(), rowCount)
+                        .setNumWarmupIters(1)
+                        .setOutputPerIteration(true);
+        for (MergeEngine mergeEngine : MERGE_ENGINES) {
+            FileStoreTable table = createTable(mergeEngine, new Options());
+            SortBufferWriteBuffer buffer =
+                    new SortBufferWriteBuffer(
+                            keyType(table),
+                            table.rowType(),
+                            null,
+                            pool,
+                            false,
+                            MemorySize.MAX_VALUE,
+                            128,
+                            CompressOptions.defaultOptions(),
+                            null);
+            Comparator<InternalRow> keyComparator = store(table).newKeyComparator();
+            MergeFunction<KeyValue> mergeFunction = mergeFunctionFactory(table).create();
+
+            if (mergeEngine == MergeEngine.DEDUPLICATE) {
+                // putting does not depend on the merge engine
+                benchmark.addCase(
+                        "put",
+                        5,
+                        () -> {
+                            put(buffer, records);
+                            buffer.clear();
+                        });
+            }
+            benchmark.addCase(
+                    "put_flush_" + mergeEngine,
+                    5,
+                    () -> {
+                        put(buffer, records);
+                        try {
+                            buffer.forEach(keyComparator, mergeFunction, null, kv -> {});
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                        buffer.clear();
+                    });
+        }
+        benchmark.run();
+    }
+
+    private static void put(SortBufferWriteBuffer buffer, KeyValue[] records) {
+        try {
+            for (KeyValue kv : records) {
+                if (!buffer.put(kv.sequenceNumber(), kv.valueKind(), kv.key(), kv.value())) {
+                    throw new IllegalStateException("Memory of write buffer is not enough.");
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
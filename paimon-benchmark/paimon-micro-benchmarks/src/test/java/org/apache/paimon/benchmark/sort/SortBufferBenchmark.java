@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.benchmark.sort;
+
+import org.apache.paimon.benchmark.Benchmark;
+import org.apache.paimon.codegen.CodeGenUtils;
+import org.apache.paimon.data.BinaryString;
+import org.apache.paimon.data.GenericRow;
+import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.data.serializer.InternalRowSerializer;
+import org.apache.paimon.memory.HeapMemorySegmentPool;
+import org.apache.paimon.memory.MemorySegmentPool;
+import org.apache.paimon.sort.BinaryInMemorySortBuffer;
+import org.apache.paimon.sort.IndexedSorter;
+import org.apache.paimon.sort.QuickSort;
+import org.apache.paimon.sort.RadixSort;
+import org.apache.paimon.types.DataType;
+import org.apache.paimon.types.DataTypes;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+/**
+ * Benchmark for sorting {@link BinaryInMemorySortBuffer} by {@link QuickSort} and {@link
+ * RadixSort}.
+ */
+public class SortBufferBenchmark {
+
+    private static final int MEMORY_SIZE = 256 * 1024 * 1024;
+
+    private final int rowCount = 1_000_000;
+
+    @Test
+    public void testIntKey() {
+        Random random = new Random();
+        innerTest(
+                "int-key",
+                Arrays.asList(DataTypes.INT(), DataTypes.BIGINT()),
+                new int[] {0},
+                () -> GenericRow.of(random.nextInt(), random.nextLong()));
+    }
+
+    @Test
+    public void testLongKey() {
+        Random random = new Random();
+        innerTest(
+                "long-key",
+                Arrays.asList(DataTypes.BIGINT(), DataTypes.BIGINT()),
+                new int[] {0},
+                () -> GenericRow.of(random.nextLong(), random.nextLong()));
+    }
+
+    @Test
+    public void testCompositeKey() {
+        Random random = new Random();
+        innerTest(
+                "composite-key",
+                Arrays.asList(DataTypes.INT(), DataTypes.BIGINT(), DataTypes.BIGINT()),
+                new int[] {0, 1},
+                () -> GenericRow.of(random.nextInt(1000), random.nextLong(), random.nextLong()));
+    }
+
+    @Test
+    public void testStringKey() {
+        Random random = new Random();
+        innerTest(
+                "string-key",
+                Arrays.asList(DataTypes.STRING(), DataTypes.BIGINT()),
+                new int[] {0},
+                () ->
+                        GenericRow.of(
+                                BinaryString.fromString("key-" + random.nextInt(rowCount)),
+                                random.nextLong()));
+    }
+
+    private void innerTest(
+            String name, List<DataType> types, int[] sortFields, Supplier<InternalRow> rows) {
+        InternalRow[] data = new InternalRow[rowCount];
+        for (int i = 0; i < rowCount; i++) {
+            data[i] = rows.get();
+        }
+
+        MemorySegmentPool pool =
+                new HeapMemorySegmentPool(MEMORY_SIZE, MemorySegmentPool.DEFAULT_PAGE_SIZE);
+        BinaryInMemorySortBuffer buffer =
+                BinaryInMemorySortBuffer.createBuffer(
+                        CodeGenUtils.newNormalizedKeyComputer(types, sortFields),
+                        new InternalRowSerializer(types.toArray(new DataType[0])),
+                        CodeGenUtils.newRecordComparator(types, sortFields, true),
+                        pool);
+
+        Benchmark benchmark =
+                new Benchmark("sort-buffer-" + name, rowCount)
+                        .setNumWarmupIters(1)
+                        .setOutputPerIteration(true);
+        benchmark.addCase("quick-sort", 5, () -> sort(buffer, data, new QuickSort()));
+        benchmark.addCase("radix-sort", 5, () -> sort(buffer, data, new RadixSort()));
+        benchmark.run();
+    }
+
+    private static void sort(
+            BinaryInMemorySortBuffer buffer, InternalRow[] data, IndexedSorter sorter) {
+        buffer.clear();
+        try {
+            for (InternalRow row : data) {
+                buffer.write(row);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        sorter.sort(buffer);
+    }
+}
@@ -59,6 +59,15 @@ public class CodeGeneratorImpl implements CodeGenerator {
                 .generateRecordEqualiser("RecordEqualiser");
     }
 
+    @Override
+    public GeneratedClass<RowMerger> generateRowMerger(
+            List<DataType> fieldTypes, List<RowMerger.FieldMergeKind> mergeKinds) {
+        return new RowMergerCodeGenerator(
+                        fieldTypes.toArray(new DataType[0]),
+                        mergeKinds.toArray(new RowMerger.FieldMergeKind[0]))
+                .generateRowMerger("RowMerger");
+    }
+
     private SortSpec getAscendingSortSpec(int[] sortFields, boolean isAscendingOrder) {
         SortSpec.SortSpecBuilder builder = SortSpec.builder();
         for (int sortField : sortFields) {
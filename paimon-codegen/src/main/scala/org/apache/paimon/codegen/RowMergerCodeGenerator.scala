@@ -0,0 +1,203 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.codegen
+
+import org.apache.paimon.codegen.GenerateUtils._
+import org.apache.paimon.codegen.RowMerger.FieldMergeKind
+import org.apache.paimon.codegen.RowMerger.FieldMergeKind._
+import org.apache.paimon.data.BinaryRowWriter
+import org.apache.paimon.types.DataType
+import org.apache.paimon.types.DataTypeRoot._
+
+/**
+ * CodeGenerator for [[RowMerger]]. Each field has an unboxed accumulator member, the input is read
+ * with the typed getters of [[org.apache.paimon.data.InternalRow]] and the result is written by a
+ * reused [[BinaryRowWriter]].
+ */
+class RowMergerCodeGenerator(fieldTypes: Array[DataType], mergeKinds: Array[FieldMergeKind]) {
+
+  private val ROW_MERGER = className[RowMerger]
+  private val BINARY_ROW_WRITER = className[BinaryRowWriter]
+  private val INPUT = "in"
+  private val OUT = "out"
+  private val OUT_WRITER = "outWriter"
+
+  def generateRowMerger(name: String): GeneratedClass[RowMerger] = {
+    val ctx = new CodeGeneratorContext
+    val className = newName(name)
+
+    ctx.addReusableMember(
+      s"private final $BINARY_ROW $OUT = new $BINARY_ROW(${fieldTypes.length});")
+    ctx.addReusableMember(
+      s"private final $BINARY_ROW_WRITER $OUT_WRITER = new $BINARY_ROW_WRITER($OUT);")
+
+    val resetCodes = new Array[String](fieldTypes.length)
+    val mergeCodes = new Array[String](fieldTypes.length)
+    val writeCodes = new Array[String](fieldTypes.length)
+    for (i <- fieldTypes.indices) {
+      val fieldType = fieldTypes(i)
+      val accTerm = s"acc$i"
+      val accNullTerm = s"accNull$i"
+      val initializedTerm = s"initialized$i"
+      ctx.addReusableMember(s"private ${primitiveTypeTermForType(fieldType)} $accTerm;")
+      ctx.addReusableMember(s"private boolean $accNullTerm = true;")
+      ctx.addReusableMember(s"private boolean $initializedTerm = false;")
+
+      // release references to the inputs on reset
+      val releaseCode =
+        if (isPrimitiveTerm(fieldType)) "" else s"$accTerm = null;"
+      resetCodes(i) = s"""
+                         |$accNullTerm = true;
+                         |$initializedTerm = false;
+                         |$releaseCode
+         """.stripMargin
+      mergeCodes(i) =
+        generateMergeCode(i, fieldType, mergeKinds(i), accTerm, accNullTerm, initializedTerm)
+      writeCodes(i) = s"""
+                         |if ($accNullTerm) {
+                         |  ${binaryWriterWriteNull(i, OUT_WRITER, fieldType)};
+                         |} else {
+                         |  ${binaryWriterWriteField(ctx, i, accTerm, OUT_WRITER, fieldType)};
+                         |}
+         """.stripMargin
+    }
+
+    val classCode =
+      s"""
+        public final class $className implements $ROW_MERGER {
+          ${ctx.reuseMemberCode()}
+
+          public $className(Object[] references) throws Exception {
+            ${ctx.reuseInitCode()}
+          }
+
+          @Override
+          public void reset() {
+            ${resetCodes.mkString("\n")}
+          }
+
+          @Override
+          public void merge($ROW_DATA $INPUT) {
+            ${mergeCodes.mkString("\n")}
+          }
+
+          @Override
+          public $BINARY_ROW getResult() {
+            $OUT_WRITER.reset();
+            ${writeCodes.mkString("\n")}
+            $OUT_WRITER.complete();
+            return $OUT;
+          }
+        }
+      """.stripMargin
+
+    new GeneratedClass(className, classCode, ctx.references.toArray)
+  }
+
+  private def generateMergeCode(
+      index: Int,
+      fieldType: DataType,
+      mergeKind: FieldMergeKind,
+      accTerm: String,
+      accNullTerm: String,
+      initializedTerm: String): String = {
+    val readCode = rowFieldReadAccess(index, INPUT, fieldType)
+    val isNullCode = s"$INPUT.isNullAt($index)"
+    val setCode =
+      s"""
+         |$accNullTerm = false;
+         |$accTerm = $readCode;
+       """.stripMargin
+    mergeKind match {
+      case LAST_VALUE =>
+        s"""
+           |if ($isNullCode) {
+           |  $accNullTerm = true;
+           |} else {
+           |  $setCode
+           |}
+         """.stripMargin
+      case LAST_NON_NULL_VALUE =>
+        s"""
+           |if (!$isNullCode) {
+           |  $setCode
+           |}
+         """.stripMargin
+      case FIRST_VALUE =>
+        s"""
+           |if (!$initializedTerm) {
+           |  $initializedTerm = true;
+           |  if ($isNullCode) {
+           |    $accNullTerm = true;
+           |  } else {
+           |    $setCode
+           |  }
+           |}
+         """.stripMargin
+      case FIRST_NON_NULL_VALUE =>
+        s"""
+           |if (!$initializedTerm && !$isNullCode) {
+           |  $initializedTerm = true;
+           |  $setCode
+           |}
+         """.stripMargin
+      case SUM =>
+        checkNumeric(fieldType, mergeKind, allowDateTime = false)
+        val typeTerm = primitiveTypeTermForType(fieldType)
+        s"""
+           |if (!$isNullCode) {
+           |  if ($accNullTerm) {
+           |    $setCode
+           |  } else {
+           |    $accTerm = ($typeTerm) ($accTerm + $readCode);
+           |  }
+           |}
+         """.stripMargin
+      case MIN | MAX =>
+        checkNumeric(fieldType, mergeKind, allowDateTime = true)
+        val typeTerm = primitiveTypeTermForType(fieldType)
+        val compareTerm = boxedTypeTermForType(fieldType)
+        val inputTerm = s"input$index"
+        // same tie breaking as the min and max field aggregators
+        val keepAcc =
+          if (mergeKind == MIN) s"$compareTerm.compare($accTerm, $inputTerm) < 0"
+          else s"$compareTerm.compare($accTerm, $inputTerm) >= 0"
+        s"""
+           |if (!$isNullCode) {
+           |  $typeTerm $inputTerm = $readCode;
+           |  if ($accNullTerm || !($keepAcc)) {
+           |    $accNullTerm = false;
+           |    $accTerm = $inputTerm;
+           |  }
+           |}
+         """.stripMargin
+    }
+  }
+
+  private def isPrimitiveTerm(t: DataType): Boolean =
+    primitiveTypeTermForType(t) != boxedTypeTermForType(t)
+
+  private def checkNumeric(t: DataType, mergeKind: FieldMergeKind, allowDateTime: Boolean): Unit =
+    t.getTypeRoot match {
+      case TINYINT | SMALLINT | INTEGER | BIGINT | FLOAT | DOUBLE =>
+      case DATE | TIME_WITHOUT_TIME_ZONE if allowDateTime =>
+      case _ =>
+        throw new CodeGenException(s"Merge kind $mergeKind does not support type $t.")
+    }
+}
@@ -139,6 +139,9 @@ class SortCodeGenerator(val input: RowType, val sortSpec: SortSpec) {
       s"""
       public class $className implements ${baseClass.getCanonicalName} {
 
+        private static final int[] KEY_BYTE_ORDER =
+          $SORT_UTIL.normalizedKeyByteOrder($numKeyBytes);
+
         public $className(Object[] references) {
           // useless
         }
@@ -174,6 +177,11 @@ class SortCodeGenerator(val input: RowType, val sortSpec: SortSpec) {
           return $invertNormalizedKey;
         }
 
+        @Override
+        public int[] keyByteOrder() {
+          return KEY_BYTE_ORDER;
+        }
+
       }
     """.stripMargin
 
@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.codegen;
+
+import org.apache.paimon.codegen.RowMerger.FieldMergeKind;
+import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.data.BinaryString;
+import org.apache.paimon.data.GenericRow;
+import org.apache.paimon.data.serializer.InternalRowSerializer;
+import org.apache.paimon.types.DataType;
+import org.apache.paimon.types.DataTypes;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/** Test for {@link RowMergerCodeGenerator}. */
+public class RowMergerCodeGeneratorTest {
+
+    private static final DataType[] FIELD_TYPES = {
+        DataTypes.INT(),
+        DataTypes.STRING(),
+        DataTypes.STRING(),
+        DataTypes.BIGINT(),
+        DataTypes.STRING(),
+        DataTypes.STRING(),
+        DataTypes.TINYINT(),
+        DataTypes.DOUBLE(),
+        DataTypes.DATE()
+    };
+
+    @Test
+    public void testMerge() {
+        RowMerger merger =
+                newMerger(
+                        FIELD_TYPES,
+                        new FieldMergeKind[] {
+                            FieldMergeKind.LAST_VALUE,
+                            FieldMergeKind.LAST_NON_NULL_VALUE,
+                            FieldMergeKind.FIRST_VALUE,
+                            FieldMergeKind.SUM,
+                            FieldMergeKind.FIRST_NON_NULL_VALUE,
+                            FieldMergeKind.LAST_VALUE,
+                            FieldMergeKind.SUM,
+                            FieldMergeKind.MIN,
+                            FieldMergeKind.MAX
+                        });
+
+        merger.reset();
+        merger.merge(GenericRow.of(1, str("a"), null, 1L, null, str("x"), (byte) 100, 3.0, 5));
+        merger.merge(GenericRow.of(2, null, str("b"), null, str("c"), null, (byte) 100, 1.0, 3));
+        merger.merge(GenericRow.of(3, str("d"), str("e"), 2L, str("f"), null, null, null, 7));
+        assertThat(merger.getResult())
+                .isEqualTo(row(3, str("d"), null, 3L, str("c"), null, (byte) -56, 1.0, 7));
+
+        // reset starts a new key
+        merger.reset();
+        merger.merge(GenericRow.of(4, null, str("g"), null, null, str("y"), null, null, null));
+        assertThat(merger.getResult())
+                .isEqualTo(row(4, null, str("g"), null, null, str("y"), null, null, null));
+    }
+
+    @Test
+    public void testUnsupportedType() {
+        assertThatThrownBy(
+                        () ->
+                                newMerger(
+                                        new DataType[] {DataTypes.STRING()},
+                                        new FieldMergeKind[] {FieldMergeKind.SUM}))
+                .isInstanceOf(CodeGenException.class);
+    }
+
+    private static RowMerger newMerger(DataType[] fieldTypes, FieldMergeKind[] mergeKinds) {
+        return new RowMergerCodeGenerator(fieldTypes, mergeKinds)
+                .generateRowMerger("RowMerger")
+                .newInstance(Thread.currentThread().getContextClassLoader());
+    }
+
+    private static BinaryString str(String s) {
+        return BinaryString.fromString(s);
+    }
+
+    private static BinaryRow row(Object... fields) {
+        return new InternalRowSerializer(FIELD_TYPES).toBinaryRow(GenericRow.of(fields));
+    }
+}
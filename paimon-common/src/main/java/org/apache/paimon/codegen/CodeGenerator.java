@@ -52,4 +52,15 @@ public interface CodeGenerator {
     /** Generate a {@link RecordEqualiser} with fields. */
     GeneratedClass<RecordEqualiser> generateRecordEqualiser(
             List<DataType> fieldTypes, int[] fields);
+
+    /**
+     * Generate a {@link RowMerger}.
+     *
+     * @param fieldTypes the field types of the merged rows.
+     * @param mergeKinds how each field is merged, {@link RowMerger.FieldMergeKind#SUM}, {@link
+     *     RowMerger.FieldMergeKind#MIN} and {@link RowMerger.FieldMergeKind#MAX} only support
+     *     numeric, date and time types.
+     */
+    GeneratedClass<RowMerger> generateRowMerger(
+            List<DataType> fieldTypes, List<RowMerger.FieldMergeKind> mergeKinds);
 }
@@ -21,6 +21,8 @@ package org.apache.paimon.codegen;
 import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.memory.MemorySegment;
 
+import javax.annotation.Nullable;
+
 /**
  * Normalized key computer for {@code SortBuffer}. For performance, subclasses are usually
  * implemented through CodeGenerator.
@@ -44,4 +46,14 @@ public interface NormalizedKeyComputer {
 
     /** Flag whether normalized key comparisons should be inverted key. */
     boolean invertKey();
+
+    /**
+     * Offsets of the normalized key bytes from the most significant to the least significant, the
+     * key bytes compare as unsigned bytes in this order. Returns null if the normalized key can not
+     * be compared byte by byte, then radix sort is not applicable.
+     */
+    @Nullable
+    default int[] keyByteOrder() {
+        return null;
+    }
 }
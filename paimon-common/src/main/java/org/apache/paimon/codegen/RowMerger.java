@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.codegen;
+
+import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.data.InternalRow;
+
+/**
+ * Merges rows of the same key field by field, keeping the accumulators unboxed and writing the
+ * result into a reused {@link BinaryRow}.
+ */
+public interface RowMerger {
+
+    /** Resets the accumulators to a clean start state. */
+    void reset();
+
+    /** Merges the fields of the row into the accumulators. */
+    void merge(InternalRow row);
+
+    /** Returns the merged row, the returned row is reused by the next call. */
+    BinaryRow getResult();
+
+    /** How a field is merged, null input fields are treated like the matching field aggregator. */
+    enum FieldMergeKind {
+        LAST_VALUE,
+        LAST_NON_NULL_VALUE,
+        FIRST_VALUE,
+        FIRST_NON_NULL_VALUE,
+        SUM,
+        MIN,
+        MAX
+    }
+}
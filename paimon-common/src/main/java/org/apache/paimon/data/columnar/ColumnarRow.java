@@ -62,6 +62,10 @@ public final class ColumnarRow implements InternalRow, DataSetters, Serializable
         return vectorizedColumnBatch;
     }
 
+    public int getRowId() {
+        return rowId;
+    }
+
     public void setRowId(int rowId) {
         this.rowId = rowId;
     }
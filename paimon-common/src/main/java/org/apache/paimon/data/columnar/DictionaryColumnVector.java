@@ -0,0 +1,40 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.data.columnar;
+
+/**
+ * A {@link ColumnVector} whose values may be kept as ids into a shared {@link Dictionary} instead
+ * of being materialized per row.
+ *
+ * <p>When {@link #isDictionaryEncoded()} returns true, two non-null rows with the same id have the
+ * same value, so callers can evaluate predicates, comparisons or conversions once per distinct id.
+ * The same {@link Dictionary} instance may be shared by successive batches of a reader, its
+ * identity can be used to cache such per-id results.
+ */
+public interface DictionaryColumnVector extends ColumnVector {
+
+    /** Whether the values of this vector are currently encoded as dictionary ids. */
+    boolean isDictionaryEncoded();
+
+    /** Returns the dictionary of this vector, only valid if {@link #isDictionaryEncoded()}. */
+    Dictionary getDictionary();
+
+    /** Returns the dictionary id of the row, only valid if {@link #isDictionaryEncoded()}. */
+    int getDictionaryId(int i);
+}
@@ -18,6 +18,8 @@
 
 package org.apache.paimon.data.columnar.heap;
 
+import org.apache.paimon.data.columnar.Dictionary;
+import org.apache.paimon.data.columnar.DictionaryColumnVector;
 import org.apache.paimon.data.columnar.writable.WritableBytesVector;
 
 import java.util.Arrays;
@@ -35,7 +37,8 @@ import java.util.Arrays;
  * first. You can mix "by value" and "by reference" in the same column vector, though that use is
  * probably not typical.
  */
-public class HeapBytesVector extends AbstractHeapVector implements WritableBytesVector {
+public class HeapBytesVector extends AbstractHeapVector
+        implements WritableBytesVector, DictionaryColumnVector {
 
     private static final long serialVersionUID = -8529155738773478597L;
 
@@ -133,4 +136,19 @@ public class HeapBytesVector extends AbstractHeapVector implements WritableBytes
             return new Bytes(bytes, 0, bytes.length);
         }
     }
+
+    @Override
+    public boolean isDictionaryEncoded() {
+        return dictionary != null;
+    }
+
+    @Override
+    public Dictionary getDictionary() {
+        return dictionary;
+    }
+
+    @Override
+    public int getDictionaryId(int i) {
+        return dictionaryIds.vector[i];
+    }
 }
@@ -0,0 +1,39 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.data.columnar.writable;
+
+import org.apache.paimon.factories.Factory;
+import org.apache.paimon.types.DataType;
+
+import javax.annotation.Nullable;
+
+/**
+ * Factory of {@link WritableColumnVector}s which format readers decode values into. It allows a
+ * reader to decode directly into memory owned by another representation, for example Arrow buffers,
+ * instead of heap vectors.
+ */
+public interface WritableColumnVectorFactory extends Factory {
+
+    /**
+     * Creates a vector for a top-level column of the given type, returns null if the type is not
+     * supported and the reader should use its default vector.
+     */
+    @Nullable
+    WritableColumnVector create(DataType type, int capacity);
+}
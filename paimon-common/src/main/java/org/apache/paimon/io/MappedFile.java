@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.io;
+
+import org.apache.paimon.memory.MemorySegment;
+import org.apache.paimon.memory.MemorySlice;
+import org.apache.paimon.memory.MemoryUtils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A read-only local file mapped into memory. Reads are served from the OS page cache without
+ * copying the bytes into heap arrays.
+ *
+ * <p>The mapping is released when the file is closed, it stays valid even if the file is deleted in
+ * the meantime. The segment and slices of the file must not be accessed after closing.
+ */
+public class MappedFile implements Closeable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MappedFile.class);
+
+    private final MappedByteBuffer buffer;
+    private final MemorySegment segment;
+
+    private boolean closed;
+
+    private MappedFile(MappedByteBuffer buffer) {
+        this.buffer = buffer;
+        this.segment = MemorySegment.wrapOffHeapMemory(buffer);
+    }
+
+    /** Whether a file of the length can be mapped as a single {@link MemorySegment}. */
+    public static boolean canMap(long length) {
+        return length > 0 && length <= Integer.MAX_VALUE;
+    }
+
+    public static MappedFile map(File file, long length) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, length);
+            return new MappedFile(buffer);
+        }
+    }
+
+    public MemorySegment segment() {
+        return segment;
+    }
+
+    public MemorySlice slice(long offset, int length) {
+        return new MemorySlice(segment, (int) offset, length);
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            MemoryUtils.freeDirectBuffer(buffer);
+        } catch (RuntimeException e) {
+            // the mapping is still released when the buffer is garbage collected
+            LOG.warn("Failed to unmap the mapped file, it will be released by GC.", e);
+        }
+    }
+}
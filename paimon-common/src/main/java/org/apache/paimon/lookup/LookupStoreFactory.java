@@ -29,6 +29,8 @@ import org.apache.paimon.utils.BloomFilter;
 
 import javax.annotation.Nullable;
 
+import java.io.DataInput;
+import java.io.DataOutput;
 import java.io.File;
 import java.io.IOException;
 import java.util.Comparator;
@@ -50,6 +52,11 @@ public interface LookupStoreFactory {
 
     LookupStoreReader createReader(File file, Context context) throws IOException;
 
+    /** Serializes the context of a written file, so the file can be reopened after a restart. */
+    void serializeContext(Context context, DataOutput out) throws IOException;
+
+    Context deserializeContext(DataInput in) throws IOException;
+
     static Function<Long, BloomFilter.Builder> bfGenerator(Options options) {
         Function<Long, BloomFilter.Builder> bfGenerator = rowCount -> null;
         if (options.get(CoreOptions.LOOKUP_CACHE_BLOOM_FILTER_ENABLED)) {
@@ -71,13 +78,19 @@ public interface LookupStoreFactory {
         switch (options.lookupLocalFileType()) {
             case SORT:
                 return new SortLookupStoreFactory(
-                        keyComparator, cacheManager, options.cachePageSize(), compression);
+                        keyComparator,
+                        cacheManager,
+                        options.cachePageSize(),
+                        compression,
+                        options.lookupLocalFileMmapEnabled(),
+                        options.lookupLocalFileBlockHashIndexEnabled());
             case HASH:
                 return new HashLookupStoreFactory(
                         cacheManager,
                         options.cachePageSize(),
                         options.toConfiguration().get(CoreOptions.LOOKUP_HASH_LOAD_FACTOR),
-                        compression);
+                        compression,
+                        options.lookupLocalFileMmapEnabled());
             default:
                 throw new IllegalArgumentException(
                         "Unsupported lookup local file type: " + options.lookupLocalFileType());
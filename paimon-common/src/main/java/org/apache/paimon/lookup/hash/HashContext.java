@@ -20,6 +20,10 @@ package org.apache.paimon.lookup.hash;
 
 import org.apache.paimon.lookup.LookupStoreFactory.Context;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
 /** Context for {@link HashLookupStoreFactory}. */
 public class HashContext implements Context {
 
@@ -67,6 +71,76 @@ public class HashContext implements Context {
         this.compressPages = compressPages;
     }
 
+    public void serialize(DataOutput out) throws IOException {
+        out.writeBoolean(bloomFilterEnabled);
+        out.writeLong(bloomFilterExpectedEntries);
+        out.writeInt(bloomFilterBytes);
+        writeInts(out, keyCounts);
+        writeInts(out, slotSizes);
+        writeInts(out, slots);
+        writeInts(out, indexOffsets);
+        writeLongs(out, dataOffsets);
+        out.writeLong(uncompressBytes);
+        out.writeBoolean(compressPages != null);
+        if (compressPages != null) {
+            writeLongs(out, compressPages);
+        }
+    }
+
+    public static HashContext deserialize(DataInput in) throws IOException {
+        boolean bloomFilterEnabled = in.readBoolean();
+        long bloomFilterExpectedEntries = in.readLong();
+        int bloomFilterBytes = in.readInt();
+        int[] keyCounts = readInts(in);
+        int[] slotSizes = readInts(in);
+        int[] slots = readInts(in);
+        int[] indexOffsets = readInts(in);
+        long[] dataOffsets = readLongs(in);
+        long uncompressBytes = in.readLong();
+        long[] compressPages = in.readBoolean() ? readLongs(in) : null;
+        return new HashContext(
+                bloomFilterEnabled,
+                bloomFilterExpectedEntries,
+                bloomFilterBytes,
+                keyCounts,
+                slotSizes,
+                slots,
+                indexOffsets,
+                dataOffsets,
+                uncompressBytes,
+                compressPages);
+    }
+
+    private static void writeInts(DataOutput out, int[] values) throws IOException {
+        out.writeInt(values.length);
+        for (int value : values) {
+            out.writeInt(value);
+        }
+    }
+
+    private static void writeLongs(DataOutput out, long[] values) throws IOException {
+        out.writeInt(values.length);
+        for (long value : values) {
+            out.writeLong(value);
+        }
+    }
+
+    private static int[] readInts(DataInput in) throws IOException {
+        int[] values = new int[in.readInt()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = in.readInt();
+        }
+        return values;
+    }
+
+    private static long[] readLongs(DataInput in) throws IOException {
+        long[] values = new long[in.readInt()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = in.readLong();
+        }
+        return values;
+    }
+
     public HashContext copy(long uncompressBytes, long[] compressPages) {
         return new HashContext(
                 bloomFilterEnabled,
@@ -26,6 +26,8 @@ import org.apache.paimon.utils.BloomFilter;
 
 import javax.annotation.Nullable;
 
+import java.io.DataInput;
+import java.io.DataOutput;
 import java.io.File;
 import java.io.IOException;
 
@@ -36,22 +38,43 @@ public class HashLookupStoreFactory implements LookupStoreFactory {
     private final int cachePageSize;
     private final double loadFactor;
     @Nullable private final BlockCompressionFactory compressionFactory;
+    private final boolean mmap;
 
     public HashLookupStoreFactory(
             CacheManager cacheManager,
             int cachePageSize,
             double loadFactor,
             CompressOptions compression) {
+        this(cacheManager, cachePageSize, loadFactor, compression, false);
+    }
+
+    public HashLookupStoreFactory(
+            CacheManager cacheManager,
+            int cachePageSize,
+            double loadFactor,
+            CompressOptions compression,
+            boolean mmap) {
         this.cacheManager = cacheManager;
         this.cachePageSize = cachePageSize;
         this.loadFactor = loadFactor;
         this.compressionFactory = BlockCompressionFactory.create(compression);
+        this.mmap = mmap;
     }
 
     @Override
     public HashLookupStoreReader createReader(File file, Context context) throws IOException {
         return new HashLookupStoreReader(
-                file, (HashContext) context, cacheManager, cachePageSize, compressionFactory);
+                file, (HashContext) context, cacheManager, cachePageSize, compressionFactory, mmap);
+    }
+
+    @Override
+    public void serializeContext(Context context, DataOutput out) throws IOException {
+        ((HashContext) context).serialize(out);
+    }
+
+    @Override
+    public HashContext deserializeContext(DataInput in) throws IOException {
+        return HashContext.deserialize(in);
     }
 
     @Override
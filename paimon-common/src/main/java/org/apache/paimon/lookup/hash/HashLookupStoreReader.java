@@ -19,10 +19,13 @@
 package org.apache.paimon.lookup.hash;
 
 import org.apache.paimon.compression.BlockCompressionFactory;
+import org.apache.paimon.io.MappedFile;
 import org.apache.paimon.io.PageFileInput;
 import org.apache.paimon.io.cache.CacheManager;
 import org.apache.paimon.io.cache.FileBasedRandomInputView;
 import org.apache.paimon.lookup.LookupStoreReader;
+import org.apache.paimon.memory.MemorySlice;
+import org.apache.paimon.memory.MemorySliceInput;
 import org.apache.paimon.utils.FileBasedBloomFilter;
 import org.apache.paimon.utils.MurmurHashUtils;
 import org.apache.paimon.utils.VarLengthIntUtils;
@@ -62,6 +65,9 @@ public class HashLookupStoreReader
     private final long[] dataOffsets;
     // File input view
     private FileBasedRandomInputView inputView;
+    // Mapped file, reads the uncompressed file without the cache if present
+    @Nullable private final MappedFile mappedFile;
+    @Nullable private final MemorySliceInput mappedInput;
     // Buffers
     private final byte[] slotBuffer;
 
@@ -72,7 +78,8 @@ public class HashLookupStoreReader
             HashContext context,
             CacheManager cacheManager,
             int cachePageSize,
-            @Nullable BlockCompressionFactory compressionFactory)
+            @Nullable BlockCompressionFactory compressionFactory,
+            boolean mmap)
             throws IOException {
         // File path
         if (!file.exists()) {
@@ -100,6 +107,14 @@ public class HashLookupStoreReader
                         context.uncompressBytes,
                         context.compressPages);
         inputView = new FileBasedRandomInputView(fileInput, cacheManager);
+        long fileLength = file.length();
+        if (mmap && compressionFactory == null && MappedFile.canMap(fileLength)) {
+            mappedFile = MappedFile.map(file, fileLength);
+            mappedInput = MemorySlice.wrap(mappedFile.segment()).toInput();
+        } else {
+            mappedFile = null;
+            mappedInput = null;
+        }
 
         if (context.bloomFilterEnabled) {
             bloomFilter =
@@ -132,8 +147,13 @@ public class HashLookupStoreReader
 
         for (int probe = 0; probe < numSlots; probe++) {
             long slot = (hashPositive + probe) % numSlots;
-            inputView.setReadPosition(indexOffset + slot * slotSize);
-            inputView.readFully(slotBuffer, 0, slotSize);
+            long slotOffset = indexOffset + slot * slotSize;
+            if (mappedFile != null) {
+                mappedFile.segment().get((int) slotOffset, slotBuffer, 0, slotSize);
+            } else {
+                inputView.setReadPosition(slotOffset);
+                inputView.readFully(slotBuffer, 0, slotSize);
+            }
 
             long offset = VarLengthIntUtils.decodeLong(slotBuffer, keyLength);
             if (offset == 0) {
@@ -156,6 +176,12 @@ public class HashLookupStoreReader
     }
 
     private byte[] getValue(long offset) throws IOException {
+        if (mappedInput != null) {
+            mappedInput.setPosition((int) offset);
+            int size = mappedInput.readVarLenInt();
+            return mappedInput.readSlice(size).copyBytes();
+        }
+
         inputView.setReadPosition(offset);
 
         // Get size of data
@@ -174,6 +200,9 @@ public class HashLookupStoreReader
         }
         inputView.close();
         inputView = null;
+        if (mappedFile != null) {
+            mappedFile.close();
+        }
     }
 
     @Override
@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.lookup.sort;
+
+import org.apache.paimon.memory.MemorySlice;
+import org.apache.paimon.memory.MemorySliceOutput;
+import org.apache.paimon.utils.IntArrayList;
+
+import java.util.Arrays;
+
+/**
+ * A hash index appended to a data block, it maps the hash of a key to the record of the key in the
+ * block, so a point lookup can jump to the record instead of doing a binary search.
+ *
+ * <p>A block with hash index is laid out as: the block without index, one 2-bytes bucket for every
+ * slot, the number of buckets (int) and the {@link #MARKER} byte. A bucket holds the index of the
+ * record, {@link #EMPTY} if no key is hashed into it, or {@link #COLLISION} if several keys are
+ * hashed into it, in which case the lookup falls back to binary search.
+ */
+public class BlockHashIndex {
+
+    /** Last byte of a block with hash index, differs from all {@link BlockAlignedType}s. */
+    public static final byte MARKER = (byte) 0x7F;
+
+    public static final int EMPTY = 0xFFFF;
+    public static final int COLLISION = 0xFFFE;
+
+    /** Blocks with more records can not be indexed by 2-bytes buckets. */
+    public static final int MAX_RECORDS = COLLISION;
+
+    private static final double LOAD_FACTOR = 0.75;
+
+    private final MemorySlice buckets;
+    private final int numBuckets;
+
+    private BlockHashIndex(MemorySlice buckets, int numBuckets) {
+        this.buckets = buckets;
+        this.numBuckets = numBuckets;
+    }
+
+    /** Returns the index of the record, {@link #EMPTY} or {@link #COLLISION}. */
+    public int get(int keyHash) {
+        return buckets.readShort(bucket(keyHash, numBuckets) * 2) & 0xFFFF;
+    }
+
+    public static int indexMemory(int records) {
+        return numBuckets(records) * 2 + 5;
+    }
+
+    /** Appends the hash index of the records to a finished block. */
+    public static void write(IntArrayList keyHashes, MemorySliceOutput block) {
+        int numBuckets = numBuckets(keyHashes.size());
+        int[] buckets = new int[numBuckets];
+        Arrays.fill(buckets, EMPTY);
+        for (int i = 0; i < keyHashes.size(); i++) {
+            int bucket = bucket(keyHashes.get(i), numBuckets);
+            buckets[bucket] = buckets[bucket] == EMPTY ? i : COLLISION;
+        }
+
+        for (int bucket : buckets) {
+            block.writeShort(bucket);
+        }
+        block.writeInt(numBuckets);
+        block.writeByte(MARKER);
+    }
+
+    /** Reads the hash index of a block ending with {@link #MARKER}. */
+    public static BlockHashIndex read(MemorySlice block) {
+        int numBuckets = block.readInt(block.length() - 5);
+        int bucketsOffset = block.length() - 5 - numBuckets * 2;
+        return new BlockHashIndex(block.slice(bucketsOffset, numBuckets * 2), numBuckets);
+    }
+
+    /** Length of a block ending with {@link #MARKER} without its hash index. */
+    public static int indexedBlockLength(MemorySlice block) {
+        return block.length() - 5 - block.readInt(block.length() - 5) * 2;
+    }
+
+    private static int numBuckets(int records) {
+        return Math.max(1, (int) (records / LOAD_FACTOR));
+    }
+
+    private static int bucket(int keyHash, int numBuckets) {
+        return (keyHash & Integer.MAX_VALUE) % numBuckets;
+    }
+}
@@ -21,6 +21,8 @@ package org.apache.paimon.lookup.sort;
 import org.apache.paimon.memory.MemorySlice;
 import org.apache.paimon.memory.MemorySliceInput;
 
+import javax.annotation.Nullable;
+
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.Map;
@@ -35,14 +37,24 @@ public abstract class BlockIterator implements Iterator<Map.Entry<MemorySlice, M
 
     private final int recordCount;
     private final Comparator<MemorySlice> comparator;
+    @Nullable private final BlockHashIndex hashIndex;
 
     private BlockEntry polled;
 
     public BlockIterator(
             MemorySliceInput data, int recordCount, Comparator<MemorySlice> comparator) {
+        this(data, recordCount, comparator, null);
+    }
+
+    public BlockIterator(
+            MemorySliceInput data,
+            int recordCount,
+            Comparator<MemorySlice> comparator,
+            @Nullable BlockHashIndex hashIndex) {
         this.data = data;
         this.recordCount = recordCount;
         this.comparator = comparator;
+        this.hashIndex = hashIndex;
     }
 
     @Override
@@ -95,6 +107,29 @@ public abstract class BlockIterator implements Iterator<Map.Entry<MemorySlice, M
         return false;
     }
 
+    /**
+     * Seeks to the record of exactly the target key for a point lookup, uses the hash index of the
+     * block if present to avoid the binary search. Unlike {@link #seekTo(MemorySlice)}, the
+     * position is undefined if the key is not found.
+     */
+    public boolean seekToKey(MemorySlice targetKey, int keyHash) {
+        if (hashIndex != null) {
+            int record = hashIndex.get(keyHash);
+            if (record == BlockHashIndex.EMPTY) {
+                return false;
+            } else if (record != BlockHashIndex.COLLISION) {
+                seekTo(record);
+                BlockEntry entry = readEntry();
+                if (comparator.compare(entry.getKey(), targetKey) == 0) {
+                    polled = entry;
+                    return true;
+                }
+                return false;
+            }
+        }
+        return seekTo(targetKey);
+    }
+
     public abstract void seekTo(int record);
 
     private BlockEntry readEntry() {
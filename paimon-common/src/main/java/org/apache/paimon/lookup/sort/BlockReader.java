@@ -20,6 +20,8 @@ package org.apache.paimon.lookup.sort;
 
 import org.apache.paimon.memory.MemorySlice;
 
+import javax.annotation.Nullable;
+
 import java.util.Comparator;
 
 import static org.apache.paimon.lookup.sort.BlockAlignedType.ALIGNED;
@@ -39,17 +41,25 @@ public class BlockReader {
     }
 
     public BlockIterator iterator() {
+        MemorySlice block = this.block;
+        BlockHashIndex hashIndex = null;
+        if (block.readByte(block.length() - 1) == BlockHashIndex.MARKER) {
+            hashIndex = BlockHashIndex.read(block);
+            block = block.slice(0, BlockHashIndex.indexedBlockLength(block));
+        }
+
         BlockAlignedType alignedType =
                 BlockAlignedType.fromByte(block.readByte(block.length() - 1));
         int intValue = block.readInt(block.length() - 5);
         if (alignedType == ALIGNED) {
-            return new AlignedIterator(block.slice(0, block.length() - 5), intValue, comparator);
+            return new AlignedIterator(
+                    block.slice(0, block.length() - 5), intValue, comparator, hashIndex);
         } else {
             int indexLength = intValue * 4;
             int indexOffset = block.length() - 5 - indexLength;
             MemorySlice data = block.slice(0, indexOffset);
             MemorySlice index = block.slice(indexOffset, indexLength);
-            return new UnalignedIterator(data, index, comparator);
+            return new UnalignedIterator(data, index, comparator, hashIndex);
         }
     }
 
@@ -58,8 +68,11 @@ public class BlockReader {
         private final int recordSize;
 
         public AlignedIterator(
-                MemorySlice data, int recordSize, Comparator<MemorySlice> comparator) {
-            super(data.toInput(), data.length() / recordSize, comparator);
+                MemorySlice data,
+                int recordSize,
+                Comparator<MemorySlice> comparator,
+                @Nullable BlockHashIndex hashIndex) {
+            super(data.toInput(), data.length() / recordSize, comparator, hashIndex);
             this.recordSize = recordSize;
         }
 
@@ -74,8 +87,11 @@ public class BlockReader {
         private final MemorySlice index;
 
         public UnalignedIterator(
-                MemorySlice data, MemorySlice index, Comparator<MemorySlice> comparator) {
-            super(data.toInput(), index.length() / 4, comparator);
+                MemorySlice data,
+                MemorySlice index,
+                Comparator<MemorySlice> comparator,
+                @Nullable BlockHashIndex hashIndex) {
+            super(data.toInput(), index.length() / 4, comparator, hashIndex);
             this.index = index;
         }
 
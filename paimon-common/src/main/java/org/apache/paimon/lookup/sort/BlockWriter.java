@@ -21,6 +21,9 @@ package org.apache.paimon.lookup.sort;
 import org.apache.paimon.memory.MemorySlice;
 import org.apache.paimon.memory.MemorySliceOutput;
 import org.apache.paimon.utils.IntArrayList;
+import org.apache.paimon.utils.MurmurHashUtils;
+
+import javax.annotation.Nullable;
 
 import java.io.IOException;
 
@@ -32,19 +35,32 @@ public class BlockWriter {
 
     private final IntArrayList positions;
     private final MemorySliceOutput block;
+    @Nullable private final IntArrayList keyHashes;
 
     private int alignedSize;
     private boolean aligned;
 
     public BlockWriter(int blockSize) {
+        this(blockSize, false);
+    }
+
+    /**
+     * @param blockSize The expected size of the block.
+     * @param hashIndex Whether append a {@link BlockHashIndex} to the block.
+     */
+    public BlockWriter(int blockSize, boolean hashIndex) {
         this.positions = new IntArrayList(32);
         this.block = new MemorySliceOutput(blockSize + 128);
+        this.keyHashes = hashIndex ? new IntArrayList(32) : null;
         this.alignedSize = 0;
         this.aligned = true;
     }
 
     public void reset() {
         this.positions.clear();
+        if (keyHashes != null) {
+            keyHashes.clear();
+        }
         this.block.reset();
         this.alignedSize = 0;
         this.aligned = true;
@@ -59,6 +75,9 @@ public class BlockWriter {
         int endPosition = block.size();
 
         positions.add(startPosition);
+        if (keyHashes != null) {
+            keyHashes.add(MurmurHashUtils.hashBytes(key));
+        }
         if (aligned) {
             int currentSize = endPosition - startPosition;
             if (alignedSize == 0) {
@@ -78,6 +97,9 @@ public class BlockWriter {
         if (!aligned) {
             memory += positions.size() * 4;
         }
+        if (writeHashIndex()) {
+            memory += BlockHashIndex.indexMemory(positions.size());
+        }
         return memory;
     }
 
@@ -97,6 +119,15 @@ public class BlockWriter {
             block.writeInt(positions.size());
         }
         block.writeByte(aligned ? ALIGNED.toByte() : UNALIGNED.toByte());
+        if (writeHashIndex()) {
+            BlockHashIndex.write(keyHashes, block);
+        }
         return block.toSlice();
     }
+
+    private boolean writeHashIndex() {
+        return keyHashes != null
+                && !positions.isEmpty()
+                && positions.size() <= BlockHashIndex.MAX_RECORDS;
+    }
 }
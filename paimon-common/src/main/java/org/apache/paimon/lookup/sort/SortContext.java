@@ -20,6 +20,10 @@ package org.apache.paimon.lookup.sort;
 
 import org.apache.paimon.lookup.LookupStoreFactory.Context;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
 /** A {@link Context} for sort store. */
 public class SortContext implements Context {
 
@@ -32,4 +36,12 @@ public class SortContext implements Context {
     public long fileSize() {
         return fileSize;
     }
+
+    public void serialize(DataOutput out) throws IOException {
+        out.writeLong(fileSize);
+    }
+
+    public static SortContext deserialize(DataInput in) throws IOException {
+        return new SortContext(in.readLong());
+    }
 }
@@ -27,6 +27,8 @@ import org.apache.paimon.utils.BloomFilter;
 
 import javax.annotation.Nullable;
 
+import java.io.DataInput;
+import java.io.DataOutput;
 import java.io.File;
 import java.io.IOException;
 import java.util.Comparator;
@@ -38,27 +40,52 @@ public class SortLookupStoreFactory implements LookupStoreFactory {
     private final CacheManager cacheManager;
     private final int blockSize;
     @Nullable private final BlockCompressionFactory compressionFactory;
+    private final boolean mmap;
+    private final boolean blockHashIndex;
 
     public SortLookupStoreFactory(
             Comparator<MemorySlice> comparator,
             CacheManager cacheManager,
             int blockSize,
             CompressOptions compression) {
+        this(comparator, cacheManager, blockSize, compression, false, false);
+    }
+
+    public SortLookupStoreFactory(
+            Comparator<MemorySlice> comparator,
+            CacheManager cacheManager,
+            int blockSize,
+            CompressOptions compression,
+            boolean mmap,
+            boolean blockHashIndex) {
         this.comparator = comparator;
         this.cacheManager = cacheManager;
         this.blockSize = blockSize;
         this.compressionFactory = BlockCompressionFactory.create(compression);
+        this.mmap = mmap;
+        this.blockHashIndex = blockHashIndex;
     }
 
     @Override
     public SortLookupStoreReader createReader(File file, Context context) throws IOException {
         return new SortLookupStoreReader(
-                comparator, file, blockSize, (SortContext) context, cacheManager);
+                comparator, file, blockSize, (SortContext) context, cacheManager, mmap);
+    }
+
+    @Override
+    public void serializeContext(Context context, DataOutput out) throws IOException {
+        ((SortContext) context).serialize(out);
+    }
+
+    @Override
+    public SortContext deserializeContext(DataInput in) throws IOException {
+        return SortContext.deserialize(in);
     }
 
     @Override
     public SortLookupStoreWriter createWriter(File file, @Nullable BloomFilter.Builder bloomFilter)
             throws IOException {
-        return new SortLookupStoreWriter(file, blockSize, bloomFilter, compressionFactory);
+        return new SortLookupStoreWriter(
+                file, blockSize, bloomFilter, compressionFactory, blockHashIndex);
     }
 }
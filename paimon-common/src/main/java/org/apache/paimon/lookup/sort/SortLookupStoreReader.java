@@ -19,7 +19,9 @@
 package org.apache.paimon.lookup.sort;
 
 import org.apache.paimon.compression.BlockCompressionFactory;
+import org.apache.paimon.compression.BlockCompressionType;
 import org.apache.paimon.compression.BlockDecompressor;
+import org.apache.paimon.io.MappedFile;
 import org.apache.paimon.io.PageFileInput;
 import org.apache.paimon.io.cache.CacheManager;
 import org.apache.paimon.lookup.LookupStoreReader;
@@ -49,6 +51,7 @@ public class SortLookupStoreReader implements LookupStoreReader {
     @Nullable private FileBasedBloomFilter bloomFilter;
     private final BlockCache blockCache;
     private final PageFileInput fileInput;
+    @Nullable private final MappedFile mappedFile;
 
     public SortLookupStoreReader(
             Comparator<MemorySlice> comparator,
@@ -57,12 +60,29 @@ public class SortLookupStoreReader implements LookupStoreReader {
             SortContext context,
             CacheManager cacheManager)
             throws IOException {
+        this(comparator, file, blockSize, context, cacheManager, false);
+    }
+
+    /**
+     * @param mmap Whether to map the file into memory, uncompressed blocks are then read from the
+     *     mapped memory directly instead of being copied into the {@link BlockCache}.
+     */
+    public SortLookupStoreReader(
+            Comparator<MemorySlice> comparator,
+            File file,
+            int blockSize,
+            SortContext context,
+            CacheManager cacheManager,
+            boolean mmap)
+            throws IOException {
         this.comparator = comparator;
         this.filePath = file.getAbsolutePath();
         this.fileSize = context.fileSize();
 
         this.fileInput = PageFileInput.create(file, blockSize, null, fileSize, null);
         this.blockCache = new BlockCache(fileInput.file(), cacheManager);
+        this.mappedFile =
+                mmap && MappedFile.canMap(fileSize) ? MappedFile.map(file, fileSize) : null;
         Footer footer = readFooter();
         this.indexBlockIterator = readBlock(footer.getIndexBlockHandle(), true).iterator();
         BloomFilterHandle handle = footer.getBloomFilterHandle();
@@ -78,6 +98,13 @@ public class SortLookupStoreReader implements LookupStoreReader {
     }
 
     private Footer readFooter() throws IOException {
+        if (mappedFile != null) {
+            return Footer.readFooter(
+                    mappedFile
+                            .slice(fileSize - Footer.ENCODED_LENGTH, Footer.ENCODED_LENGTH)
+                            .toInput());
+        }
+
         MemorySegment footerData =
                 blockCache.getBlock(
                         fileSize - Footer.ENCODED_LENGTH, Footer.ENCODED_LENGTH, b -> b, true);
@@ -87,7 +114,8 @@ public class SortLookupStoreReader implements LookupStoreReader {
     @Nullable
     @Override
     public byte[] lookup(byte[] key) throws IOException {
-        if (bloomFilter != null && !bloomFilter.testHash(MurmurHashUtils.hashBytes(key))) {
+        int keyHash = MurmurHashUtils.hashBytes(key);
+        if (bloomFilter != null && !bloomFilter.testHash(keyHash)) {
             return null;
         }
 
@@ -99,7 +127,7 @@ public class SortLookupStoreReader implements LookupStoreReader {
         if (indexBlockIterator.hasNext()) {
             // seek the current iterator to the key
             BlockIterator current = getNextBlock();
-            if (current.seekTo(keySlice)) {
+            if (current.seekToKey(keySlice, keyHash)) {
                 return current.next().getValue().copyBytes();
             }
         }
@@ -120,6 +148,21 @@ public class SortLookupStoreReader implements LookupStoreReader {
      * @return The reader of the target block.
      */
     private BlockReader readBlock(BlockHandle blockHandle, boolean index) {
+        if (mappedFile != null) {
+            BlockTrailer blockTrailer =
+                    BlockTrailer.readBlockTrailer(
+                            mappedFile
+                                    .slice(
+                                            blockHandle.offset() + blockHandle.size(),
+                                            BlockTrailer.ENCODED_LENGTH)
+                                    .toInput());
+            if (blockTrailer.getCompressionType() == BlockCompressionType.NONE) {
+                // the local file is trusted, skip the crc check which would run on every read
+                return new BlockReader(
+                        mappedFile.slice(blockHandle.offset(), blockHandle.size()), comparator);
+            }
+        }
+
         // read block trailer
         MemorySegment trailerData =
                 blockCache.getBlock(
@@ -176,5 +219,8 @@ public class SortLookupStoreReader implements LookupStoreReader {
         }
         blockCache.close();
         fileInput.close();
+        if (mappedFile != null) {
+            mappedFile.close();
+        }
     }
 }
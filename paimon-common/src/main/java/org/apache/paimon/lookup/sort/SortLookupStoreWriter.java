@@ -71,11 +71,12 @@ public class SortLookupStoreWriter implements LookupStoreWriter {
             File file,
             int blockSize,
             @Nullable BloomFilter.Builder bloomFilter,
-            @Nullable BlockCompressionFactory compressionFactory)
+            @Nullable BlockCompressionFactory compressionFactory,
+            boolean blockHashIndex)
             throws IOException {
         this.fileOutputStream = new BufferedOutputStream(Files.newOutputStream(file.toPath()));
         this.blockSize = blockSize;
-        this.dataBlockWriter = new BlockWriter((int) (blockSize * 1.1));
+        this.dataBlockWriter = new BlockWriter((int) (blockSize * 1.1), blockHashIndex);
         int expectedNumberOfBlocks = 1024;
         this.indexBlockWriter =
                 new BlockWriter(BlockHandle.MAX_ENCODED_LENGTH * expectedNumberOfBlocks);
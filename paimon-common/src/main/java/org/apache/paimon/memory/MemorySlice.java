@@ -57,6 +57,10 @@ public final class MemorySlice implements Comparable<MemorySlice> {
         return segment.get(offset + position);
     }
 
+    public short readShort(int position) {
+        return segment.getShort(offset + position);
+    }
+
     public int readInt(int position) {
         return segment.getInt(offset + position);
     }
@@ -45,6 +45,12 @@ public class MemorySliceOutput {
         segment.put(size++, (byte) value);
     }
 
+    public void writeShort(int value) {
+        ensureSize(size + 2);
+        segment.putShort(size, (short) value);
+        size += 2;
+    }
+
     public void writeInt(int value) {
         ensureSize(size + 4);
         segment.putInt(size, value);
@@ -20,7 +20,10 @@ package org.apache.paimon.memory;
 
 import org.apache.paimon.utils.Preconditions;
 
+import javax.annotation.Nullable;
+
 import java.lang.reflect.Field;
+import java.lang.reflect.Method;
 import java.nio.Buffer;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
@@ -38,6 +41,9 @@ public class MemoryUtils {
     private static final long BUFFER_ADDRESS_FIELD_OFFSET =
             getClassFieldOffset(Buffer.class, "address");
 
+    /** The "invokeCleaner" method of "unsafe", null before Java 9. */
+    @Nullable private static final Method INVOKE_CLEANER_METHOD = getInvokeCleanerMethod();
+
     @SuppressWarnings("restriction")
     private static sun.misc.Unsafe getUnsafe() {
         try {
@@ -60,6 +66,15 @@ public class MemoryUtils {
         }
     }
 
+    @Nullable
+    private static Method getInvokeCleanerMethod() {
+        try {
+            return UNSAFE.getClass().getMethod("invokeCleaner", ByteBuffer.class);
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
     private static long getClassFieldOffset(
             @SuppressWarnings("SameParameterValue") Class<?> cl, String fieldName) {
         try {
@@ -123,6 +138,32 @@ public class MemoryUtils {
         return offHeapAddress;
     }
 
+    /**
+     * Releases the native memory of a direct or mapped {@link ByteBuffer} immediately instead of
+     * waiting for it to be garbage collected. The buffer and all its views must not be accessed
+     * afterwards, otherwise the JVM may crash.
+     *
+     * @param buffer the direct {@link ByteBuffer} itself, not a duplicate or slice of it
+     */
+    public static void freeDirectBuffer(ByteBuffer buffer) {
+        Preconditions.checkArgument(buffer.isDirect(), "Can't free a non-direct ByteBuffer.");
+        try {
+            if (INVOKE_CLEANER_METHOD != null) {
+                INVOKE_CLEANER_METHOD.invoke(UNSAFE, buffer);
+            } else {
+                // Java 8, see sun.nio.ch.DirectBuffer#cleaner
+                Method cleanerMethod = buffer.getClass().getMethod("cleaner");
+                cleanerMethod.setAccessible(true);
+                Object cleaner = cleanerMethod.invoke(buffer);
+                if (cleaner != null) {
+                    cleaner.getClass().getMethod("clean").invoke(cleaner);
+                }
+            }
+        } catch (Exception e) {
+            throw new RuntimeException("Could not free direct byte buffer.", e);
+        }
+    }
+
     /** Should not be instantiated. */
     private MemoryUtils() {}
 }
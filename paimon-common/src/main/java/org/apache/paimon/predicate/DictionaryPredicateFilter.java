@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.predicate;
+
+import org.apache.paimon.data.BinaryString;
+import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.data.columnar.ColumnVector;
+import org.apache.paimon.data.columnar.ColumnarRow;
+import org.apache.paimon.data.columnar.Dictionary;
+import org.apache.paimon.data.columnar.DictionaryColumnVector;
+import org.apache.paimon.types.DataTypeFamily;
+import org.apache.paimon.utils.Filter;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * A {@link Filter} evaluating a {@link Predicate} on rows. For {@link ColumnarRow}s, leaf
+ * predicates on dictionary-encoded string columns (see {@link DictionaryColumnVector}) are
+ * evaluated once per dictionary id and the results are cached until the dictionary changes, other
+ * rows fall back to {@link Predicate#test(InternalRow)}.
+ *
+ * <p>This class is stateful and not thread-safe, create one per reader.
+ */
+public class DictionaryPredicateFilter implements Filter<InternalRow> {
+
+    private final Filter<InternalRow> filter;
+
+    public DictionaryPredicateFilter(Predicate predicate) {
+        this.filter = predicate.visit(new FilterBuilder());
+    }
+
+    @Override
+    public boolean test(InternalRow row) {
+        return filter.test(row);
+    }
+
+    private static class FilterBuilder implements PredicateVisitor<Filter<InternalRow>> {
+
+        @Override
+        public Filter<InternalRow> visit(LeafPredicate predicate) {
+            if (predicate.type().is(DataTypeFamily.CHARACTER_STRING)) {
+                return new DictionaryLeafFilter(predicate);
+            }
+            return predicate::test;
+        }
+
+        @Override
+        public Filter<InternalRow> visit(CompoundPredicate predicate) {
+            List<Filter<InternalRow>> children =
+                    predicate.children().stream()
+                            .map(child -> child.visit(this))
+                            .collect(Collectors.toList());
+            if (predicate.function() instanceof And) {
+                return row -> {
+                    for (Filter<InternalRow> child : children) {
+                        if (!child.test(row)) {
+                            return false;
+                        }
+                    }
+                    return true;
+                };
+            } else if (predicate.function() instanceof Or) {
+                return row -> {
+                    for (Filter<InternalRow> child : children) {
+                        if (child.test(row)) {
+                            return true;
+                        }
+                    }
+                    return false;
+                };
+            }
+            return predicate::test;
+        }
+    }
+
+    /** Evaluates a {@link LeafPredicate} per dictionary id when possible. */
+    private static class DictionaryLeafFilter implements Filter<InternalRow> {
+
+        private static final byte UNKNOWN = 0;
+        private static final byte TRUE = 1;
+        private static final byte FALSE = 2;
+
+        private final LeafPredicate predicate;
+
+        private Dictionary dictionary;
+        private byte[] results = new byte[0];
+
+        private DictionaryLeafFilter(LeafPredicate predicate) {
+            this.predicate = predicate;
+        }
+
+        @Override
+        public boolean test(InternalRow row) {
+            if (row instanceof ColumnarRow) {
+                ColumnarRow columnarRow = (ColumnarRow) row;
+                ColumnVector vector = columnarRow.batch().columns[predicate.index()];
+                int rowId = columnarRow.getRowId();
+                if (vector instanceof DictionaryColumnVector) {
+                    DictionaryColumnVector dictVector = (DictionaryColumnVector) vector;
+                    if (dictVector.isDictionaryEncoded() && !dictVector.isNullAt(rowId)) {
+                        return test(dictVector.getDictionary(), dictVector.getDictionaryId(rowId));
+                    }
+                }
+            }
+            return predicate.test(row);
+        }
+
+        private boolean test(Dictionary dictionary, int id) {
+            if (this.dictionary != dictionary) {
+                this.dictionary = dictionary;
+                Arrays.fill(results, UNKNOWN);
+            }
+            if (id >= results.length) {
+                results = Arrays.copyOf(results, Math.max(id + 1, results.length * 2));
+            }
+
+            byte result = results[id];
+            if (result == UNKNOWN) {
+                BinaryString value = BinaryString.fromBytes(dictionary.decodeToBinary(id));
+                boolean test =
+                        predicate.function().test(predicate.type(), value, predicate.literals());
+                result = test ? TRUE : FALSE;
+                results[id] = result;
+            }
+            return result == TRUE;
+        }
+    }
+}
@@ -35,6 +35,24 @@ public class HllSketchUtil {
         return result.toCompactByteArray();
     }
 
+    /** A union of serialized HllSketches which is only serialized on {@link #getResult()}. */
+    public static class UnionAccumulator {
+
+        private final Union union;
+
+        public UnionAccumulator(byte[] sketchBytes) {
+            this.union = Union.heapify(sketchBytes);
+        }
+
+        public void update(byte[] sketchBytes) {
+            union.update(HllSketch.heapify(sketchBytes));
+        }
+
+        public byte[] getResult() {
+            return union.getResult(TgtHllType.HLL_4).toCompactByteArray();
+        }
+    }
+
     @VisibleForTesting
     public static byte[] sketchOf(int... values) {
         HllSketch hllSketch = new HllSketch();
@@ -34,6 +34,25 @@ public class SortUtil {
     private static final boolean LITTLE_ENDIAN = ByteOrder.nativeOrder() == ByteOrder.LITTLE_ENDIAN;
     private static final int LONG_BYTES = 8;
 
+    /**
+     * Returns the offsets of normalized key bytes from the most significant to the least
+     * significant. Normalized keys are put in big endian, and on little endian machines every chunk
+     * of 8, 4, 2 or 1 bytes is reversed so that chunks can be compared as unsigned numbers.
+     */
+    public static int[] normalizedKeyByteOrder(int numKeyBytes) {
+        int[] order = new int[numKeyBytes];
+        int offset = 0;
+        for (int chunk = LONG_BYTES; chunk > 0; chunk >>= 1) {
+            while (numKeyBytes - offset >= chunk) {
+                for (int i = 0; i < chunk; i++) {
+                    order[offset + i] = LITTLE_ENDIAN ? offset + chunk - 1 - i : offset + i;
+                }
+                offset += chunk;
+            }
+        }
+        return order;
+    }
+
     public static void minNormalizedKey(MemorySegment target, int offset, int numBytes) {
         // write min value.
         for (int i = 0; i < numBytes; i++) {
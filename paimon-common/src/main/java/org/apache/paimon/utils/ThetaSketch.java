@@ -35,6 +35,20 @@ public class ThetaSketch {
         return union.getResult().toByteArray();
     }
 
+    /** A union of serialized ThetaSketches which is only serialized on {@link #getResult()}. */
+    public static class UnionAccumulator {
+
+        private final Union union = Sketches.setOperationBuilder().buildUnion();
+
+        public void update(byte[] sketchBytes) {
+            union.union(Memory.wrap(sketchBytes));
+        }
+
+        public byte[] getResult() {
+            return union.getResult().toByteArray();
+        }
+    }
+
     @VisibleForTesting
     public static byte[] sketchOf(int... values) {
         UpdateSketch updateSketch = UpdateSketch.builder().build();
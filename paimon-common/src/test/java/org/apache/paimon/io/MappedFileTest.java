@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.io;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assumptions.assumeThat;
+
+/** Test for {@link MappedFile}. */
+public class MappedFileTest {
+
+    @TempDir Path tempDir;
+
+    @Test
+    public void testReadAndClose() throws IOException {
+        byte[] bytes = new byte[10_000];
+        ThreadLocalRandom.current().nextBytes(bytes);
+        File file = new File(tempDir.toFile(), "mapped");
+        Files.write(file.toPath(), bytes);
+
+        MappedFile mappedFile = MappedFile.map(file, bytes.length);
+        assertThat(mappedFile.slice(100, 200).copyBytes())
+                .isEqualTo(Arrays.copyOfRange(bytes, 100, 300));
+        assertThat(isMapped(file)).isTrue();
+
+        mappedFile.close();
+        assertThat(isMapped(file)).isFalse();
+        // closing again is a no-op
+        mappedFile.close();
+    }
+
+    private static boolean isMapped(File file) throws IOException {
+        Path maps = Paths.get("/proc/self/maps");
+        assumeThat(Files.exists(maps)).isTrue();
+        return new String(Files.readAllBytes(maps), StandardCharsets.UTF_8)
+                .contains(file.getAbsolutePath());
+    }
+}
@@ -321,6 +321,35 @@ public class HashLookupStoreFactoryTest {
         }
     }
 
+    @TestTemplate
+    public void testMmap() throws IOException {
+        int len = 1000;
+        Object[] keys = new Object[len];
+        Object[] values = new Object[len];
+        for (int i = 0; i < len; i++) {
+            keys[i] = i * 2;
+            values[i] = generateStringData(100);
+        }
+
+        // Write
+        Context context = writeStore(file, keys, values);
+
+        // Read
+        factory =
+                new HashLookupStoreFactory(
+                        new CacheManager(MemorySize.ofMebiBytes(1)),
+                        pageSize,
+                        0.75d,
+                        compress,
+                        true);
+        HashLookupStoreReader reader = factory.createReader(file, context);
+        for (int i = 0; i < keys.length; i++) {
+            assertThat(reader.lookup(toBytes(keys[i]))).isEqualTo(toBytes(values[i]));
+            assertThat(reader.lookup(toBytes(i * 2 + 1))).isNull();
+        }
+        reader.close();
+    }
+
     @TestTemplate
     public void testIterate() throws IOException {
         Integer[] keys = generateIntKeys(100);
@@ -168,6 +168,38 @@ public class SortLookupStoreFactoryTest {
         reader.close();
     }
 
+    @TestTemplate
+    public void testMmapAndBlockHashIndex() throws IOException {
+        int count = 100_000;
+        CacheManager cacheManager = new CacheManager(MemorySize.ofMebiBytes(1));
+        SortLookupStoreFactory factory =
+                new SortLookupStoreFactory(
+                        Comparator.naturalOrder(), cacheManager, 1024, compress, true, true);
+
+        SortLookupStoreWriter writer =
+                factory.createWriter(file, createBloomFiler(bloomFilterEnabled));
+        for (int i = 0; i < count; i += 2) {
+            byte[] bytes = toBytes(i);
+            writer.put(bytes, bytes);
+        }
+        Context context = writer.close();
+
+        SortLookupStoreReader reader = factory.createReader(file, context);
+        for (int i = 0; i < count; i++) {
+            byte[] value = reader.lookup(toBytes(i));
+            if (i % 2 == 0) {
+                assertThat(fromBytes(value)).isEqualTo(i);
+            } else {
+                assertThat(value).isNull();
+            }
+        }
+        assertThat(reader.lookup(toBytes(count + 1000))).isNull();
+
+        reader.close();
+        assertThat(cacheManager.dataCache().asMap()).isEmpty();
+        assertThat(cacheManager.indexCache().asMap()).isEmpty();
+    }
+
     private BloomFilter.Builder createBloomFiler(boolean enabled) {
         if (!enabled) {
             return null;
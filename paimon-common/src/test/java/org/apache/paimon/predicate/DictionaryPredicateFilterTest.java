@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.predicate;
+
+import org.apache.paimon.data.BinaryString;
+import org.apache.paimon.data.GenericRow;
+import org.apache.paimon.data.Timestamp;
+import org.apache.paimon.data.columnar.ColumnVector;
+import org.apache.paimon.data.columnar.ColumnarRow;
+import org.apache.paimon.data.columnar.Dictionary;
+import org.apache.paimon.data.columnar.VectorizedColumnBatch;
+import org.apache.paimon.data.columnar.heap.HeapBytesVector;
+import org.apache.paimon.data.columnar.heap.HeapIntVector;
+import org.apache.paimon.types.DataTypes;
+import org.apache.paimon.types.RowType;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Test for {@link DictionaryPredicateFilter}. */
+public class DictionaryPredicateFilterTest {
+
+    private final PredicateBuilder builder =
+            new PredicateBuilder(RowType.of(DataTypes.STRING(), DataTypes.INT()));
+
+    @Test
+    public void testDictionaryEncodedColumn() {
+        AtomicInteger decoded = new AtomicInteger();
+        Dictionary dictionary = new TestDictionary(decoded, "a", "b", "c");
+        VectorizedColumnBatch batch = batch(dictionary, new int[] {0, 1, 2, 0, 1, 2, 0}, 7);
+
+        Predicate in =
+                builder.in(
+                        0,
+                        Arrays.asList(BinaryString.fromString("a"), BinaryString.fromString("c")));
+        Predicate predicate = PredicateBuilder.and(in, builder.greaterThan(1, 2));
+        DictionaryPredicateFilter filter = new DictionaryPredicateFilter(predicate);
+
+        boolean[] results = new boolean[7];
+        ColumnarRow row = new ColumnarRow(batch);
+        for (int i = 0; i < 7; i++) {
+            row.setRowId(i);
+            results[i] = filter.test(row);
+        }
+        assertThat(results).containsExactly(false, false, false, true, false, true, true);
+        // the IN is expanded to 'a' OR 'c', each leaf decodes every distinct id it sees once:
+        // 3 ids for 'a', 2 ids for 'c'
+        assertThat(decoded.get()).isEqualTo(5);
+        for (int i = 0; i < 7; i++) {
+            row.setRowId(i);
+            assertThat(results[i]).isEqualTo(predicate.test(row));
+        }
+
+        // a new dictionary invalidates cached results
+        DictionaryPredicateFilter inFilter = new DictionaryPredicateFilter(in);
+        row = new ColumnarRow(batch, 1);
+        assertThat(inFilter.test(row)).isFalse();
+        row = new ColumnarRow(batch(new TestDictionary(decoded, "c", "a"), new int[] {1}, 1), 0);
+        assertThat(inFilter.test(row)).isTrue();
+    }
+
+    @Test
+    public void testNullsAndFallback() {
+        VectorizedColumnBatch batch =
+                batch(new TestDictionary(new AtomicInteger(), "a"), new int[] {0, 0}, 2);
+        ((HeapBytesVector) batch.columns[0]).setNullAt(1);
+
+        DictionaryPredicateFilter isNull = new DictionaryPredicateFilter(builder.isNull(0));
+        DictionaryPredicateFilter equal =
+                new DictionaryPredicateFilter(builder.equal(0, BinaryString.fromString("a")));
+        ColumnarRow row = new ColumnarRow(batch, 0);
+        assertThat(isNull.test(row)).isFalse();
+        assertThat(equal.test(row)).isTrue();
+        row.setRowId(1);
+        assertThat(isNull.test(row)).isTrue();
+        assertThat(equal.test(row)).isFalse();
+
+        // rows which are not columnar are evaluated directly
+        assertThat(equal.test(GenericRow.of(BinaryString.fromString("a"), 1))).isTrue();
+        assertThat(equal.test(GenericRow.of(BinaryString.fromString("b"), 1))).isFalse();
+    }
+
+    private static VectorizedColumnBatch batch(Dictionary dictionary, int[] ids, int numRows) {
+        HeapBytesVector strings = new HeapBytesVector(numRows);
+        HeapIntVector dictionaryIds = strings.reserveDictionaryIds(numRows);
+        for (int i = 0; i < ids.length; i++) {
+            dictionaryIds.setInt(i, ids[i]);
+        }
+        strings.setDictionary(dictionary);
+
+        HeapIntVector ints = new HeapIntVector(numRows);
+        for (int i = 0; i < numRows; i++) {
+            ints.setInt(i, i);
+        }
+        VectorizedColumnBatch batch = new VectorizedColumnBatch(new ColumnVector[] {strings, ints});
+        batch.setNumRows(numRows);
+        return batch;
+    }
+
+    private static class TestDictionary implements Dictionary {
+
+        private final AtomicInteger decoded;
+        private final String[] values;
+
+        private TestDictionary(AtomicInteger decoded, String... values) {
+            this.decoded = decoded;
+            this.values = values;
+        }
+
+        @Override
+        public byte[] decodeToBinary(int id) {
+            decoded.incrementAndGet();
+            return values[id].getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public int decodeToInt(int id) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public long decodeToLong(int id) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public float decodeToFloat(int id) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public double decodeToDouble(int id) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Timestamp decodeToTimestamp(int id) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
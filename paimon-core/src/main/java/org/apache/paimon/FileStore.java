@@ -21,6 +21,7 @@ package org.apache.paimon;
 import org.apache.paimon.fs.Path;
 import org.apache.paimon.index.IndexFileHandler;
 import org.apache.paimon.manifest.IndexManifestFile;
+import org.apache.paimon.manifest.ManifestEntryCache;
 import org.apache.paimon.manifest.ManifestFile;
 import org.apache.paimon.manifest.ManifestList;
 import org.apache.paimon.operation.ChangelogDeletion;
@@ -120,5 +121,7 @@ public interface FileStore<T> {
 
     void setManifestCache(SegmentsCache<Path> manifestCache);
 
+    void setManifestEntryCache(ManifestEntryCache manifestEntryCache);
+
     void setSnapshotCache(Cache<Path, Snapshot> cache);
 }
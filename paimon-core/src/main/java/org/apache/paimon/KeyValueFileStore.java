@@ -201,7 +201,8 @@ public class KeyValueFileStore extends AbstractFileStore<KeyValue> {
                 deletionVectorsMaintainerFactory,
                 options,
                 keyValueFieldsExtractor,
-                tableName);
+                tableName,
+                catalogEnvironment.identifier());
     }
 
     @Override
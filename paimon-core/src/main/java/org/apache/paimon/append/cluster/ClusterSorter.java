@@ -0,0 +1,153 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.append.cluster;
+
+import org.apache.paimon.CoreOptions;
+import org.apache.paimon.CoreOptions.OrderType;
+import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.data.GenericRow;
+import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.data.JoinedRow;
+import org.apache.paimon.disk.IOManager;
+import org.apache.paimon.sort.BinaryExternalSortBuffer;
+import org.apache.paimon.sort.hilbert.HilbertIndexer;
+import org.apache.paimon.sort.zorder.ZIndexer;
+import org.apache.paimon.types.DataField;
+import org.apache.paimon.types.DataTypes;
+import org.apache.paimon.types.RowType;
+import org.apache.paimon.utils.MutableObjectIterator;
+import org.apache.paimon.utils.OffsetRow;
+
+import javax.annotation.Nullable;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.apache.paimon.utils.Preconditions.checkArgument;
+
+/**
+ * Sorts rows of an append table by its clustering columns, with the strategy configured by {@link
+ * CoreOptions#CLUSTERING_STRATEGY}. For z-order and hilbert, the curve index is computed into an
+ * extra leading bytes column which is used as the sort key and removed from the sorted output.
+ */
+public class ClusterSorter implements Closeable {
+
+    private static final String KEY_FIELD_NAME = "_CLUSTER_KEY";
+
+    private final BinaryExternalSortBuffer buffer;
+    private final int arity;
+    @Nullable private final Function<InternalRow, byte[]> indexer;
+
+    public ClusterSorter(RowType rowType, CoreOptions options, IOManager ioManager) {
+        List<String> columns = options.clusteringColumns();
+        checkArgument(!columns.isEmpty(), "Clustering columns must be specified.");
+        OrderType orderType = options.clusteringStrategy(columns.size());
+        this.arity = rowType.getFieldCount();
+
+        RowType sortType;
+        int[] keyFields;
+        switch (orderType) {
+            case ORDER:
+                sortType = rowType;
+                keyFields = rowType.getFieldIndices(columns);
+                this.indexer = null;
+                break;
+            case ZORDER:
+                ZIndexer zIndexer = new ZIndexer(rowType, columns, options.varTypeSize());
+                zIndexer.open();
+                sortType = withKeyField(rowType);
+                keyFields = new int[] {0};
+                this.indexer = zIndexer::index;
+                break;
+            case HILBERT:
+                HilbertIndexer hilbertIndexer = new HilbertIndexer(rowType, columns);
+                hilbertIndexer.open();
+                sortType = withKeyField(rowType);
+                keyFields = new int[] {0};
+                this.indexer = hilbertIndexer::index;
+                break;
+            default:
+                throw new UnsupportedOperationException("Unsupported order type: " + orderType);
+        }
+
+        this.buffer =
+                BinaryExternalSortBuffer.create(
+                        ioManager,
+                        sortType,
+                        keyFields,
+                        options.writeBufferSize(),
+                        options.pageSize(),
+                        options.localSortMaxNumFileHandles(),
+                        options.spillCompressOptions(),
+                        options.writeBufferSpillDiskSize(),
+                        true);
+    }
+
+    private static RowType withKeyField(RowType rowType) {
+        List<DataField> fields = new ArrayList<>(rowType.getFieldCount() + 1);
+        fields.add(new DataField(-1, KEY_FIELD_NAME, DataTypes.BYTES()));
+        fields.addAll(rowType.getFields());
+        return new RowType(fields);
+    }
+
+    public void write(InternalRow row) throws IOException {
+        InternalRow record =
+                indexer == null
+                        ? row
+                        : JoinedRow.join(GenericRow.of((Object) indexer.apply(row)), row);
+        if (!buffer.write(record)) {
+            throw new IOException(
+                    "Cannot sort records for clustering, the spill disk size limit is exceeded.");
+        }
+    }
+
+    /** Returns the written rows in clustering order, the returned iterator reuses its row. */
+    public MutableObjectIterator<InternalRow> sortedIterator() throws IOException {
+        MutableObjectIterator<BinaryRow> sorted = buffer.sortedIterator();
+        int sortArity = indexer == null ? arity : arity + 1;
+        OffsetRow offsetRow = indexer == null ? null : new OffsetRow(arity, 1);
+        return new MutableObjectIterator<InternalRow>() {
+
+            private BinaryRow reuse = new BinaryRow(sortArity);
+
+            @Override
+            public InternalRow next(InternalRow ignored) throws IOException {
+                return next();
+            }
+
+            @Override
+            public InternalRow next() throws IOException {
+                BinaryRow row = sorted.next(reuse);
+                if (row == null) {
+                    return null;
+                }
+                reuse = row;
+                return offsetRow == null ? row : offsetRow.replace(row);
+            }
+        };
+    }
+
+    @Override
+    public void close() {
+        buffer.clear();
+    }
+}
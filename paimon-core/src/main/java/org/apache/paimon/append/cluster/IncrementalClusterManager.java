@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.append.cluster;
+
+import org.apache.paimon.CoreOptions;
+import org.apache.paimon.compact.CompactUnit;
+import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.io.DataFileMeta;
+import org.apache.paimon.manifest.ManifestEntry;
+import org.apache.paimon.mergetree.LevelSortedRun;
+import org.apache.paimon.mergetree.SortedRun;
+import org.apache.paimon.mergetree.compact.UniversalCompaction;
+import org.apache.paimon.table.BucketMode;
+import org.apache.paimon.table.FileStoreTable;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import static org.apache.paimon.utils.Preconditions.checkArgument;
+
+/**
+ * Plans incremental clustering for an unaware-bucket append table.
+ *
+ * <p>Files of a partition are organized like the levels of an LSM tree: newly written files stay in
+ * level 0, each of them being its own sorted run, and every upper level holds one run of files
+ * sorted by the clustering columns. {@link UniversalCompaction} picks which runs to merge, so only
+ * newly written files and the runs that have become comparable in size are re-sorted, instead of
+ * re-sorting the whole partition every time.
+ */
+public class IncrementalClusterManager {
+
+    private final FileStoreTable table;
+    private final int numLevels;
+    private final UniversalCompaction strategy;
+
+    public IncrementalClusterManager(FileStoreTable table) {
+        CoreOptions options = table.coreOptions();
+        checkArgument(
+                table.primaryKeys().isEmpty() && table.bucketMode() == BucketMode.BUCKET_UNAWARE,
+                "Incremental clustering only supports append table with unaware bucket.");
+        checkArgument(
+                !options.clusteringColumns().isEmpty(),
+                "Incremental clustering requires '%s' to be set.",
+                CoreOptions.CLUSTERING_COLUMNS.key());
+        checkArgument(
+                !options.deletionVectorsEnabled(),
+                "Incremental clustering does not support deletion vectors.");
+        this.table = table;
+        this.numLevels = options.numLevels();
+        this.strategy =
+                new UniversalCompaction(
+                        options.maxSizeAmplificationPercent(),
+                        options.sortedRunSizeRatio(),
+                        options.numSortedRunCompactionTrigger());
+    }
+
+    /**
+     * Plans clustering tasks for all partitions of the latest snapshot. If {@code fullCluster} is
+     * true, every partition which is not fully clustered yet is re-sorted into the max level.
+     */
+    public List<IncrementalClusterTask> plan(boolean fullCluster) {
+        Map<BinaryRow, List<DataFileMeta>> partitionFiles = new LinkedHashMap<>();
+        for (ManifestEntry entry : table.store().newScan().plan().files()) {
+            partitionFiles
+                    .computeIfAbsent(entry.partition(), k -> new ArrayList<>())
+                    .add(entry.file());
+        }
+
+        List<IncrementalClusterTask> tasks = new ArrayList<>();
+        for (Map.Entry<BinaryRow, List<DataFileMeta>> entry : partitionFiles.entrySet()) {
+            pick(entry.getValue(), fullCluster)
+                    .ifPresent(
+                            unit ->
+                                    tasks.add(
+                                            new IncrementalClusterTask(
+                                                    entry.getKey(),
+                                                    unit.files(),
+                                                    unit.outputLevel())));
+        }
+        return tasks;
+    }
+
+    private Optional<CompactUnit> pick(List<DataFileMeta> files, boolean fullCluster) {
+        int maxLevel = numLevels - 1;
+        if (fullCluster) {
+            boolean clustered = files.size() == 1 && files.get(0).level() == maxLevel;
+            return clustered
+                    ? Optional.empty()
+                    : Optional.of(CompactUnit.fromFiles(maxLevel, files, false));
+        }
+        return strategy.pick(numLevels, toSortedRuns(files, maxLevel))
+                .filter(unit -> !alreadyClustered(unit));
+    }
+
+    private static boolean alreadyClustered(CompactUnit unit) {
+        return unit.files().size() == 1 && unit.files().get(0).level() == unit.outputLevel();
+    }
+
+    private static List<LevelSortedRun> toSortedRuns(List<DataFileMeta> files, int maxLevel) {
+        List<DataFileMeta> level0 = new ArrayList<>();
+        TreeMap<Integer, List<DataFileMeta>> upperLevels = new TreeMap<>();
+        for (DataFileMeta file : files) {
+            // files written with more levels before are treated as clustered into the max level
+            int level = Math.min(file.level(), maxLevel);
+            if (level == 0) {
+                level0.add(file);
+            } else {
+                upperLevels.computeIfAbsent(level, k -> new ArrayList<>()).add(file);
+            }
+        }
+
+        List<LevelSortedRun> runs = new ArrayList<>();
+        // newest files first, as universal compaction merges runs from the newest one
+        level0.sort(Comparator.comparingLong(DataFileMeta::maxSequenceNumber).reversed());
+        for (DataFileMeta file : level0) {
+            runs.add(new LevelSortedRun(0, SortedRun.fromSingle(file)));
+        }
+        upperLevels.forEach(
+                (level, levelFiles) ->
+                        runs.add(new LevelSortedRun(level, SortedRun.fromSorted(levelFiles))));
+        return runs;
+    }
+}
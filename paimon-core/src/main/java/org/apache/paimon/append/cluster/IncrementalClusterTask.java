@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.append.cluster;
+
+import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.io.CompactIncrement;
+import org.apache.paimon.io.DataFileMeta;
+import org.apache.paimon.io.DataIncrement;
+import org.apache.paimon.io.IndexIncrement;
+import org.apache.paimon.operation.BaseAppendFileStoreWrite;
+import org.apache.paimon.table.FileStoreTable;
+import org.apache.paimon.table.sink.CommitMessage;
+import org.apache.paimon.table.sink.CommitMessageImpl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import static org.apache.paimon.table.BucketMode.UNAWARE_BUCKET;
+import static org.apache.paimon.utils.Preconditions.checkArgument;
+
+/** Clustering task generated by {@link IncrementalClusterManager}. */
+public class IncrementalClusterTask {
+
+    private final BinaryRow partition;
+    private final List<DataFileMeta> clusterBefore;
+    private final int outputLevel;
+
+    public IncrementalClusterTask(
+            BinaryRow partition, List<DataFileMeta> clusterBefore, int outputLevel) {
+        checkArgument(!clusterBefore.isEmpty(), "Clustering task needs at least one file.");
+        this.partition = partition;
+        this.clusterBefore = new ArrayList<>(clusterBefore);
+        this.outputLevel = outputLevel;
+    }
+
+    public BinaryRow partition() {
+        return partition;
+    }
+
+    public List<DataFileMeta> clusterBefore() {
+        return clusterBefore;
+    }
+
+    public int outputLevel() {
+        return outputLevel;
+    }
+
+    public CommitMessage doCluster(FileStoreTable table, BaseAppendFileStoreWrite write)
+            throws Exception {
+        List<DataFileMeta> clusterAfter =
+                write.clusterRewrite(partition, UNAWARE_BUCKET, clusterBefore, outputLevel);
+        return new CommitMessageImpl(
+                partition,
+                // bucket 0 is bucket for unaware-bucket table
+                UNAWARE_BUCKET,
+                table.coreOptions().bucket(),
+                DataIncrement.emptyIncrement(),
+                new CompactIncrement(clusterBefore, clusterAfter, Collections.emptyList()),
+                new IndexIncrement(Collections.emptyList()));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        IncrementalClusterTask that = (IncrementalClusterTask) o;
+        return outputLevel == that.outputLevel
+                && Objects.equals(partition, that.partition)
+                && Objects.equals(clusterBefore, that.clusterBefore);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(partition, clusterBefore, outputLevel);
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "IncrementalClusterTask {partition = %s, clusterBefore = %s, outputLevel = %s}",
+                partition, clusterBefore, outputLevel);
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.append.cluster;
+
+import org.apache.paimon.disk.IOManager;
+import org.apache.paimon.operation.BaseAppendFileStoreWrite;
+import org.apache.paimon.table.FileStoreTable;
+import org.apache.paimon.table.sink.CommitMessage;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import static org.apache.paimon.utils.ThreadPoolUtils.createCachedThreadPool;
+
+/**
+ * Runs {@link IncrementalClusterTask}s planned by {@link IncrementalClusterManager} on a local
+ * thread pool, independent of any compute engine. The returned {@link CommitMessage}s should be
+ * committed by the caller.
+ */
+public class LocalIncrementalClusterService implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(LocalIncrementalClusterService.class);
+
+    private final FileStoreTable table;
+    private final IOManager ioManager;
+    private final IncrementalClusterManager manager;
+    private final ThreadPoolExecutor executor;
+    private final String commitUser;
+
+    public LocalIncrementalClusterService(
+            FileStoreTable table, IOManager ioManager, int parallelism) {
+        this.table = table;
+        this.ioManager = ioManager;
+        this.manager = new IncrementalClusterManager(table);
+        this.executor = createCachedThreadPool(parallelism, "INCREMENTAL_CLUSTER");
+        this.commitUser = UUID.randomUUID().toString();
+    }
+
+    public List<CommitMessage> cluster(boolean fullCluster) throws Exception {
+        List<IncrementalClusterTask> tasks = manager.plan(fullCluster);
+        LOG.info("Running {} incremental clustering tasks for table {}.", tasks.size(), table);
+
+        List<Future<CommitMessage>> futures = new ArrayList<>(tasks.size());
+        for (IncrementalClusterTask task : tasks) {
+            futures.add(executor.submit(() -> run(task)));
+        }
+
+        List<CommitMessage> messages = new ArrayList<>(tasks.size());
+        try {
+            for (Future<CommitMessage> future : futures) {
+                messages.add(future.get());
+            }
+        } catch (ExecutionException e) {
+            futures.forEach(f -> f.cancel(true));
+            throw new RuntimeException("Failed to run incremental clustering.", e.getCause());
+        }
+        return messages;
+    }
+
+    private CommitMessage run(IncrementalClusterTask task) throws Exception {
+        // rewrites are independent, every task uses its own write to avoid sharing readers
+        BaseAppendFileStoreWrite write =
+                (BaseAppendFileStoreWrite) table.store().newWrite(commitUser);
+        write.withIOManager(ioManager);
+        try {
+            return task.doCluster(table, write);
+        } finally {
+            write.close();
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+}
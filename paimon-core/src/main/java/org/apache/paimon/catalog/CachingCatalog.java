@@ -20,6 +20,7 @@ package org.apache.paimon.catalog;
 
 import org.apache.paimon.annotation.VisibleForTesting;
 import org.apache.paimon.fs.Path;
+import org.apache.paimon.manifest.ManifestEntryCache;
 import org.apache.paimon.options.MemorySize;
 import org.apache.paimon.options.Options;
 import org.apache.paimon.partition.Partition;
@@ -46,6 +47,7 @@ import java.util.Optional;
 import static org.apache.paimon.options.CatalogOptions.CACHE_ENABLED;
 import static org.apache.paimon.options.CatalogOptions.CACHE_EXPIRE_AFTER_ACCESS;
 import static org.apache.paimon.options.CatalogOptions.CACHE_EXPIRE_AFTER_WRITE;
+import static org.apache.paimon.options.CatalogOptions.CACHE_MANIFEST_ENTRY_MEMORY;
 import static org.apache.paimon.options.CatalogOptions.CACHE_MANIFEST_MAX_MEMORY;
 import static org.apache.paimon.options.CatalogOptions.CACHE_MANIFEST_SMALL_FILE_MEMORY;
 import static org.apache.paimon.options.CatalogOptions.CACHE_MANIFEST_SMALL_FILE_THRESHOLD;
@@ -66,6 +68,7 @@ public class CachingCatalog extends DelegateCatalog {
     protected Cache<String, Database> databaseCache;
     protected Cache<Identifier, Table> tableCache;
     @Nullable protected final SegmentsCache<Path> manifestCache;
+    @Nullable protected final ManifestEntryCache manifestEntryCache;
 
     // partition cache will affect data latency
     @Nullable protected Cache<Identifier, List<Partition>> partitionCache;
@@ -95,6 +98,8 @@ public class CachingCatalog extends DelegateCatalog {
 
         this.snapshotMaxNumPerTable = options.get(CACHE_SNAPSHOT_MAX_NUM_PER_TABLE);
         this.manifestCache = SegmentsCache.create(manifestMaxMemory, manifestCacheThreshold);
+        this.manifestEntryCache =
+                ManifestEntryCache.create(options.get(CACHE_MANIFEST_ENTRY_MEMORY));
 
         this.cachedPartitionMaxNum = options.get(CACHE_PARTITION_MAX_NUM);
         init(Ticker.systemTicker());
@@ -266,6 +271,9 @@ public class CachingCatalog extends DelegateCatalog {
             if (manifestCache != null) {
                 storeTable.setManifestCache(manifestCache);
             }
+            if (manifestEntryCache != null) {
+                storeTable.setManifestEntryCache(manifestEntryCache);
+            }
         }
 
         tableCache.put(identifier, table);
@@ -338,6 +346,12 @@ public class CachingCatalog extends DelegateCatalog {
             manifestCacheSize = manifestCache.estimatedSize();
             manifestCacheBytes = manifestCache.totalCacheBytes();
         }
+        long manifestEntryCacheSize = 0L;
+        long manifestEntryCacheBytes = 0L;
+        if (manifestEntryCache != null) {
+            manifestEntryCacheSize = manifestEntryCache.estimatedSize();
+            manifestEntryCacheBytes = manifestEntryCache.totalCacheBytes();
+        }
         long partitionCacheSize = 0L;
         if (partitionCache != null) {
             for (Map.Entry<Identifier, List<Partition>> entry : partitionCache.asMap().entrySet()) {
@@ -349,6 +363,8 @@ public class CachingCatalog extends DelegateCatalog {
                 tableCacheSize,
                 manifestCacheSize,
                 manifestCacheBytes,
+                manifestEntryCacheSize,
+                manifestEntryCacheBytes,
                 partitionCacheSize);
     }
 
@@ -359,6 +375,8 @@ public class CachingCatalog extends DelegateCatalog {
         private final long tableCacheSize;
         private final long manifestCacheSize;
         private final long manifestCacheBytes;
+        private final long manifestEntryCacheSize;
+        private final long manifestEntryCacheBytes;
         private final long partitionCacheSize;
 
         public CacheSizes(
@@ -366,11 +384,15 @@ public class CachingCatalog extends DelegateCatalog {
                 long tableCacheSize,
                 long manifestCacheSize,
                 long manifestCacheBytes,
+                long manifestEntryCacheSize,
+                long manifestEntryCacheBytes,
                 long partitionCacheSize) {
             this.databaseCacheSize = databaseCacheSize;
             this.tableCacheSize = tableCacheSize;
             this.manifestCacheSize = manifestCacheSize;
             this.manifestCacheBytes = manifestCacheBytes;
+            this.manifestEntryCacheSize = manifestEntryCacheSize;
+            this.manifestEntryCacheBytes = manifestEntryCacheBytes;
             this.partitionCacheSize = partitionCacheSize;
         }
 
@@ -390,6 +412,14 @@ public class CachingCatalog extends DelegateCatalog {
             return manifestCacheBytes;
         }
 
+        public long manifestEntryCacheSize() {
+            return manifestEntryCacheSize;
+        }
+
+        public long manifestEntryCacheBytes() {
+            return manifestEntryCacheBytes;
+        }
+
         public long partitionCacheSize() {
             return partitionCacheSize;
         }
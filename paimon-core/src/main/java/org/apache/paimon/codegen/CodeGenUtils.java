@@ -98,6 +98,15 @@ public class CodeGenUtils {
                 () -> getCodeGenerator().generateRecordEqualiser(fieldTypes, fields));
     }
 
+    public static RowMerger newRowMerger(
+            List<DataType> fieldTypes, List<RowMerger.FieldMergeKind> mergeKinds) {
+        return generate(
+                RowMerger.class,
+                fieldTypes,
+                mergeKinds.stream().mapToInt(Enum::ordinal).toArray(),
+                () -> getCodeGenerator().generateRowMerger(fieldTypes, mergeKinds));
+    }
+
     private static <T> T generate(
             Class<?> classType,
             List<DataType> fields,
@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.compact;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Schedules compaction tasks of all buckets in a write task. Instead of running tasks in the order
+ * they are submitted, the pending task with the highest debt runs first, so buckets close to
+ * stopping writes or with the most sorted runs to read are compacted before the others.
+ *
+ * <p>At most {@code maxConcurrentTasks} tasks run at the same time, and a task only starts when the
+ * input size of running tasks does not exceed {@code maxInputSize}, except when no task is running.
+ */
+public class CompactScheduler {
+
+    private final ExecutorService executor;
+    private final int maxConcurrentTasks;
+    private final long maxInputSize;
+
+    private final List<ScheduledTask> pendingTasks;
+    private int runningTasks;
+    private long runningInputSize;
+
+    public CompactScheduler(ExecutorService executor, int maxConcurrentTasks, long maxInputSize) {
+        this.executor = executor;
+        this.maxConcurrentTasks = maxConcurrentTasks;
+        this.maxInputSize = maxInputSize;
+        this.pendingTasks = new ArrayList<>();
+    }
+
+    public ScheduledTask submit(Callable<CompactResult> task, long inputSize, double debt) {
+        ScheduledTask scheduled = new ScheduledTask(task, inputSize, debt);
+        synchronized (this) {
+            pendingTasks.add(scheduled);
+        }
+        dispatch();
+        return scheduled;
+    }
+
+    public synchronized int queueLength() {
+        return pendingTasks.size();
+    }
+
+    private void dispatch() {
+        List<ScheduledTask> tasks = new ArrayList<>();
+        synchronized (this) {
+            pendingTasks.removeIf(FutureTask::isCancelled);
+            while (!pendingTasks.isEmpty() && runningTasks < maxConcurrentTasks) {
+                ScheduledTask next = pendingTasks.get(0);
+                for (ScheduledTask task : pendingTasks) {
+                    if (task.debt > next.debt) {
+                        next = task;
+                    }
+                }
+                if (runningTasks > 0 && runningInputSize + next.inputSize > maxInputSize) {
+                    break;
+                }
+
+                pendingTasks.remove(next);
+                runningTasks++;
+                runningInputSize += next.inputSize;
+                tasks.add(next);
+            }
+        }
+
+        Iterator<ScheduledTask> iterator = tasks.iterator();
+        while (iterator.hasNext()) {
+            ScheduledTask task = iterator.next();
+            try {
+                executor.execute(() -> run(task));
+            } catch (RejectedExecutionException e) {
+                // the executor is closed, no task can run any more
+                release(task);
+                task.cancel(false);
+                iterator.forEachRemaining(
+                        remaining -> {
+                            release(remaining);
+                            remaining.cancel(false);
+                        });
+            }
+        }
+    }
+
+    private void run(ScheduledTask task) {
+        try {
+            task.run();
+        } finally {
+            release(task);
+            dispatch();
+        }
+    }
+
+    private synchronized void release(ScheduledTask task) {
+        runningTasks--;
+        runningInputSize -= task.inputSize;
+    }
+
+    /** A compaction task waiting or running in the {@link CompactScheduler}. */
+    public static class ScheduledTask extends FutureTask<CompactResult> {
+
+        private final long inputSize;
+        private volatile double debt;
+
+        private ScheduledTask(Callable<CompactResult> task, long inputSize, double debt) {
+            super(task);
+            this.inputSize = inputSize;
+            this.debt = debt;
+        }
+
+        /** Updates the debt of the bucket, it takes effect if the task is still waiting. */
+        public void updateDebt(double debt) {
+            this.debt = debt;
+        }
+    }
+}
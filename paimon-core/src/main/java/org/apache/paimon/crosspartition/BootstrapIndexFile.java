@@ -0,0 +1,407 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.crosspartition;
+
+import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.fs.FileIO;
+import org.apache.paimon.fs.FileStatus;
+import org.apache.paimon.fs.Path;
+import org.apache.paimon.fs.SeekableInputStream;
+import org.apache.paimon.utils.Pair;
+import org.apache.paimon.utils.SerializationUtils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Key index read by {@link IndexBootstrap} of one assigner, persisted in the index directory of the
+ * table so that the next bootstrap only needs to read the buckets changed since then.
+ *
+ * <p>A file consists of sections, each section holds the keys of a bucket together with a
+ * fingerprint of the files which the keys were read from. The layout is: version, sections, records
+ * of (section id, key), an end mark and a magic number. The magic number is written last, so a file
+ * without it is incomplete and will be ignored.
+ *
+ * <p>Files are named by the number of assigners, the assigner id and the snapshot the keys were
+ * read from. They are not referenced by snapshots, the bootstrap deletes the files it no longer
+ * needs. Orphan files cleaning only keeps the {@link #latestFileNames latest complete file} of each
+ * assigner while incremental bootstrap is enabled, other files are removed like any other orphan
+ * file once they are old enough.
+ */
+public class BootstrapIndexFile {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BootstrapIndexFile.class);
+
+    public static final String BOOTSTRAP_INDEX_PREFIX = "bootstrap-index-";
+
+    private static final int VERSION = 1;
+    private static final int END_MARK = -1;
+    private static final long MAGIC = 0x5041494D424F4F54L;
+
+    private final FileIO fileIO;
+    private final Path indexDir;
+    private final int numAssigners;
+    private final int assignId;
+
+    public BootstrapIndexFile(FileIO fileIO, Path indexDir, int numAssigners, int assignId) {
+        this.fileIO = fileIO;
+        this.indexDir = indexDir;
+        this.numAssigners = numAssigners;
+        this.assignId = assignId;
+    }
+
+    /**
+     * Returns the latest complete file of this assigner, or null if there is none. Other files of
+     * this assigner are deleted, and the first assigner also deletes the files written with a
+     * different number of assigners.
+     */
+    @Nullable
+    public Reader latest() throws IOException {
+        List<FileName> files = new ArrayList<>();
+        for (FileName file : list(fileIO, indexDir)) {
+            if (file.numAssigners == numAssigners && file.assignId == assignId) {
+                files.add(file);
+            } else if (file.numAssigners != numAssigners && assignId == 0) {
+                fileIO.deleteQuietly(file.status.getPath());
+            }
+        }
+        files.sort(Comparator.comparingLong((FileName file) -> file.snapshotId).reversed());
+
+        Reader reader = null;
+        for (FileName file : files) {
+            if (reader == null) {
+                reader = open(file);
+            }
+            if (reader == null || !reader.path.equals(file.status.getPath())) {
+                fileIO.deleteQuietly(file.status.getPath());
+            }
+        }
+        return reader;
+    }
+
+    /**
+     * Returns the names of the latest complete file of each assigner in the directory, which may be
+     * read by the next bootstrap of the assigner.
+     */
+    public static Set<String> latestFileNames(FileIO fileIO, Path indexDir) throws IOException {
+        Map<Pair<Integer, Integer>, List<FileName>> filesByAssigner = new HashMap<>();
+        for (FileName file : list(fileIO, indexDir)) {
+            filesByAssigner
+                    .computeIfAbsent(
+                            Pair.of(file.numAssigners, file.assignId), k -> new ArrayList<>())
+                    .add(file);
+        }
+
+        Set<String> names = new HashSet<>();
+        for (List<FileName> files : filesByAssigner.values()) {
+            files.sort(Comparator.comparingLong((FileName file) -> file.snapshotId).reversed());
+            for (FileName file : files) {
+                if (isComplete(fileIO, file.status)) {
+                    names.add(file.status.getPath().getName());
+                    break;
+                }
+            }
+        }
+        return names;
+    }
+
+    private static boolean isComplete(FileIO fileIO, FileStatus status) throws IOException {
+        long length = status.getLen();
+        if (length < Long.BYTES) {
+            return false;
+        }
+
+        try (SeekableInputStream in = fileIO.newInputStream(status.getPath())) {
+            in.seek(length - Long.BYTES);
+            return new DataInputStream(in).readLong() == MAGIC;
+        }
+    }
+
+    @Nullable
+    private Reader open(FileName file) throws IOException {
+        Path path = file.status.getPath();
+        long length = file.status.getLen();
+        SeekableInputStream in = fileIO.newInputStream(path);
+        try {
+            if (length >= Long.BYTES) {
+                in.seek(length - Long.BYTES);
+                if (new DataInputStream(in).readLong() == MAGIC) {
+                    in.seek(0);
+                    return new Reader(path, file.snapshotId, in);
+                }
+            }
+            LOG.warn("Ignore incomplete bootstrap index file {}.", path);
+        } catch (IOException e) {
+            LOG.warn("Ignore unreadable bootstrap index file {}.", path, e);
+        }
+
+        in.close();
+        return null;
+    }
+
+    /** Creates a writer of a new file for the keys read from the given snapshot. */
+    public Writer newWriter(long snapshotId, List<Section> sections) throws IOException {
+        Path path =
+                new Path(
+                        indexDir,
+                        BOOTSTRAP_INDEX_PREFIX
+                                + numAssigners
+                                + "-"
+                                + assignId
+                                + "-"
+                                + snapshotId
+                                + "-"
+                                + UUID.randomUUID());
+        return new Writer(path, sections);
+    }
+
+    /** Lists the bootstrap index files in the directory, files with invalid names are skipped. */
+    private static List<FileName> list(FileIO fileIO, Path indexDir) throws IOException {
+        List<FileName> files = new ArrayList<>();
+        if (!fileIO.exists(indexDir)) {
+            return files;
+        }
+
+        for (FileStatus status : fileIO.listStatus(indexDir)) {
+            String name = status.getPath().getName();
+            if (!name.startsWith(BOOTSTRAP_INDEX_PREFIX)) {
+                continue;
+            }
+
+            FileName file = parse(status);
+            if (file == null) {
+                LOG.warn("Ignore bootstrap index file {} with an invalid name.", status.getPath());
+            } else {
+                files.add(file);
+            }
+        }
+        return files;
+    }
+
+    @Nullable
+    private static FileName parse(FileStatus status) {
+        String name = status.getPath().getName();
+        String[] parts = name.substring(BOOTSTRAP_INDEX_PREFIX.length()).split("-", 4);
+        if (parts.length != 4) {
+            return null;
+        }
+
+        try {
+            return new FileName(
+                    status,
+                    Integer.parseInt(parts[0]),
+                    Integer.parseInt(parts[1]),
+                    Long.parseLong(parts[2]));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /** A bootstrap index file with the fields parsed from its name. */
+    private static class FileName {
+
+        private final FileStatus status;
+        private final int numAssigners;
+        private final int assignId;
+        private final long snapshotId;
+
+        private FileName(FileStatus status, int numAssigners, int assignId, long snapshotId) {
+            this.status = status;
+            this.numAssigners = numAssigners;
+            this.assignId = assignId;
+            this.snapshotId = snapshotId;
+        }
+    }
+
+    /** Keys of a bucket and the fingerprint of the files they were read from. */
+    public static class Section {
+
+        private final BinaryRow partition;
+        private final int bucket;
+        private final String fingerprint;
+
+        public Section(BinaryRow partition, int bucket, String fingerprint) {
+            this.partition = partition;
+            this.bucket = bucket;
+            this.fingerprint = fingerprint;
+        }
+
+        public BinaryRow partition() {
+            return partition;
+        }
+
+        public int bucket() {
+            return bucket;
+        }
+
+        public String fingerprint() {
+            return fingerprint;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            Section section = (Section) o;
+            return bucket == section.bucket
+                    && Objects.equals(partition, section.partition)
+                    && Objects.equals(fingerprint, section.fingerprint);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(partition, bucket, fingerprint);
+        }
+    }
+
+    /** Reader of a complete bootstrap index file. */
+    public class Reader implements Closeable {
+
+        private final Path path;
+        private final long snapshotId;
+        private final SeekableInputStream stream;
+        private final DataInputStream in;
+        private final List<Section> sections;
+
+        private Reader(Path path, long snapshotId, SeekableInputStream stream) throws IOException {
+            this.path = path;
+            this.snapshotId = snapshotId;
+            this.stream = stream;
+            this.in = new DataInputStream(new BufferedInputStream(stream));
+
+            int version = in.readInt();
+            if (version != VERSION) {
+                throw new IOException(
+                        "Unsupported version " + version + " of bootstrap index file " + path);
+            }
+            int count = in.readInt();
+            this.sections = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                byte[] partition = new byte[in.readInt()];
+                in.readFully(partition);
+                sections.add(
+                        new Section(
+                                SerializationUtils.deserializeBinaryRow(partition),
+                                in.readInt(),
+                                in.readUTF()));
+            }
+        }
+
+        public long snapshotId() {
+            return snapshotId;
+        }
+
+        public List<Section> sections() {
+            return sections;
+        }
+
+        /** Returns the section id of the next key, or -1 if there are no more keys. */
+        public int nextSection() throws IOException {
+            return in.readInt();
+        }
+
+        /** Reads the key after {@link #nextSection}. */
+        public byte[] readKey() throws IOException {
+            byte[] key = new byte[in.readInt()];
+            in.readFully(key);
+            return key;
+        }
+
+        /** Deletes this file, it should be called after a newer file is finished. */
+        public void delete() {
+            fileIO.deleteQuietly(path);
+        }
+
+        @Override
+        public void close() throws IOException {
+            stream.close();
+        }
+    }
+
+    /** Writer of a new bootstrap index file. */
+    public class Writer implements Closeable {
+
+        private final Path path;
+        private final DataOutputStream out;
+
+        private boolean finished;
+
+        private Writer(Path path, List<Section> sections) throws IOException {
+            this.path = path;
+            this.out =
+                    new DataOutputStream(
+                            new BufferedOutputStream(fileIO.newOutputStream(path, false)));
+
+            out.writeInt(VERSION);
+            out.writeInt(sections.size());
+            for (Section section : sections) {
+                byte[] partition = SerializationUtils.serializeBinaryRow(section.partition);
+                out.writeInt(partition.length);
+                out.write(partition);
+                out.writeInt(section.bucket);
+                out.writeUTF(section.fingerprint);
+            }
+        }
+
+        public void write(int section, byte[] key) throws IOException {
+            out.writeInt(section);
+            out.writeInt(key.length);
+            out.write(key);
+        }
+
+        /** Completes the file, it can be read by the next bootstrap after this returns. */
+        public void finish() throws IOException {
+            out.writeInt(END_MARK);
+            out.writeLong(MAGIC);
+            out.close();
+            finished = true;
+        }
+
+        /** Closes the writer, an unfinished file is deleted. */
+        @Override
+        public void close() throws IOException {
+            if (!finished) {
+                out.close();
+                fileIO.deleteQuietly(path);
+            }
+        }
+    }
+}
@@ -20,30 +20,49 @@ package org.apache.paimon.crosspartition;
 
 import org.apache.paimon.CoreOptions;
 import org.apache.paimon.annotation.VisibleForTesting;
+import org.apache.paimon.crosspartition.BootstrapIndexFile.Section;
 import org.apache.paimon.data.GenericRow;
 import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.data.JoinedRow;
+import org.apache.paimon.data.serializer.RowCompactedSerializer;
 import org.apache.paimon.io.DataFileMeta;
 import org.apache.paimon.reader.RecordReader;
 import org.apache.paimon.schema.TableSchema;
 import org.apache.paimon.table.FileStoreTable;
 import org.apache.paimon.table.source.DataSplit;
 import org.apache.paimon.table.source.DataTableScan;
+import org.apache.paimon.table.source.DeletionFile;
 import org.apache.paimon.table.source.ReadBuilder;
 import org.apache.paimon.table.source.Split;
 import org.apache.paimon.types.DataField;
 import org.apache.paimon.types.DataTypes;
 import org.apache.paimon.types.RowType;
+import org.apache.paimon.utils.FunctionWithIOException;
 import org.apache.paimon.utils.RowDataToObjectArrayConverter;
+import org.apache.paimon.utils.StringUtils;
 import org.apache.paimon.utils.TypeUtils;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+
 import java.io.IOException;
 import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -56,6 +75,8 @@ public class IndexBootstrap implements Serializable {
 
     private static final long serialVersionUID = 1L;
 
+    private static final Logger LOG = LoggerFactory.getLogger(IndexBootstrap.class);
+
     public static final String BUCKET_FIELD = "_BUCKET";
 
     private final FileStoreTable table;
@@ -110,21 +131,165 @@ public class IndexBootstrap implements Serializable {
                                 TypeUtils.project(rowType, table.partitionKeys()),
                                 RowType.of(DataTypes.INT())));
 
-        return parallelExecute(
-                TypeUtils.project(rowType, keyProjection),
-                s -> readBuilder.newRead().createReader(s),
-                splits,
-                options.pageSize(),
-                options.crossPartitionUpsertBootstrapParallelism(),
+        RowType keyType = TypeUtils.project(rowType, keyProjection);
+        FunctionWithIOException<Split, RecordReader<InternalRow>> readerFactory =
+                s -> readBuilder.newRead().createReader(s);
+        Function<Split, InternalRow> partBucket =
                 split -> {
                     DataSplit dataSplit = ((DataSplit) split);
                     int bucket = dataSplit.bucket();
                     return partBucketConverter.toGenericRow(
                             new JoinedRow(dataSplit.partition(), GenericRow.of(bucket)));
-                },
+                };
+        if (options.crossPartitionUpsertIncrementalBootstrap()) {
+            return incrementalBootstrap(
+                    numAssigners, assignId, keyType, readerFactory, splits, partBucket, options);
+        }
+
+        return parallelExecute(
+                keyType,
+                readerFactory,
+                splits,
+                options.pageSize(),
+                options.crossPartitionUpsertBootstrapParallelism(),
+                partBucket,
                 (row, extra) -> new JoinedRow().replace(row, extra));
     }
 
+    /**
+     * Takes the keys of unchanged splits from the latest {@link BootstrapIndexFile} of this
+     * assigner, reads the other splits in parallel, and writes all the keys to a new file once they
+     * are read completely.
+     */
+    private RecordReader<InternalRow> incrementalBootstrap(
+            int numAssigners,
+            int assignId,
+            RowType keyType,
+            FunctionWithIOException<Split, RecordReader<InternalRow>> readerFactory,
+            List<Split> splits,
+            Function<Split, InternalRow> partBucket,
+            CoreOptions options)
+            throws IOException {
+        BootstrapIndexFile indexFile =
+                new BootstrapIndexFile(
+                        table.fileIO(),
+                        table.store().pathFactory().indexPath(),
+                        numAssigners,
+                        assignId);
+        BootstrapIndexFile.Reader previous = indexFile.latest();
+        Map<Section, Integer> previousIds = new HashMap<>();
+        int[] reusedIds = new int[0];
+        if (previous != null) {
+            List<Section> previousSections = previous.sections();
+            for (int i = 0; i < previousSections.size(); i++) {
+                previousIds.put(previousSections.get(i), i);
+            }
+            reusedIds = new int[previousSections.size()];
+            Arrays.fill(reusedIds, -1);
+        }
+
+        List<Section> sections = new ArrayList<>();
+        List<InternalRow> partBuckets = new ArrayList<>();
+        List<Split> changedSplits = new ArrayList<>();
+        Map<Split, Integer> changedIds = new IdentityHashMap<>();
+        for (Split split : splits) {
+            DataSplit dataSplit = (DataSplit) split;
+            Section section =
+                    new Section(dataSplit.partition(), dataSplit.bucket(), fingerprint(dataSplit));
+            int id = sections.size();
+            sections.add(section);
+            partBuckets.add(partBucket.apply(split));
+            Integer previousId = previousIds.get(section);
+            if (previousId != null) {
+                reusedIds[previousId] = id;
+            } else {
+                changedSplits.add(split);
+                changedIds.put(split, id);
+            }
+        }
+
+        int reused = sections.size() - changedSplits.size();
+        boolean unchanged =
+                previous != null && reused == previousIds.size() && reused == sections.size();
+        LOG.info(
+                "Incremental bootstrap of assigner {}/{}: {} of {} splits are taken from the index of snapshot {}.",
+                assignId,
+                numAssigners,
+                reused,
+                sections.size(),
+                previous == null ? null : previous.snapshotId());
+
+        BootstrapIndexFile.Writer writer = null;
+        if (!unchanged && !splits.isEmpty()) {
+            writer = indexFile.newWriter(((DataSplit) splits.get(0)).snapshotId(), sections);
+        }
+
+        RowCompactedSerializer keySerializer = new RowCompactedSerializer(keyType);
+        BootstrapIndexFile.Writer finalWriter = writer;
+        RecordReader<InternalRow> changedReader =
+                parallelExecute(
+                        keyType,
+                        readerFactory,
+                        changedSplits,
+                        options.pageSize(),
+                        options.crossPartitionUpsertBootstrapParallelism(),
+                        changedIds::get,
+                        (row, id) -> {
+                            try {
+                                finalWriter.write(id, keySerializer.serializeToBytes(row));
+                            } catch (IOException e) {
+                                throw new UncheckedIOException(e);
+                            }
+                            return new JoinedRow().replace(row, partBuckets.get(id));
+                        });
+        return new IncrementalBootstrapReader(
+                previous,
+                reused > 0 ? reusedIds : null,
+                !unchanged,
+                writer,
+                changedReader,
+                keySerializer,
+                partBuckets);
+    }
+
+    /**
+     * Fingerprint of the files of a split, a split with the same fingerprint contains the same
+     * keys.
+     */
+    private static String fingerprint(DataSplit split) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("MD5");
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException(e);
+        }
+
+        List<String> names = new ArrayList<>();
+        for (DataFileMeta file : split.dataFiles()) {
+            names.add(file.fileName());
+        }
+        split.deletionFiles()
+                .ifPresent(
+                        files -> {
+                            for (DeletionFile file : files) {
+                                if (file != null) {
+                                    names.add(
+                                            file.path()
+                                                    + ":"
+                                                    + file.offset()
+                                                    + ":"
+                                                    + file.length());
+                                }
+                            }
+                        });
+        Collections.sort(names);
+        for (String name : names) {
+            digest.update(name.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) '\n');
+        }
+        return StringUtils.byteToHexString(digest.digest());
+    }
+
     @VisibleForTesting
     static boolean filterSplit(Split split, long indexTtl, long currentTime) {
         List<DataFileMeta> files = ((DataSplit) split).dataFiles();
@@ -153,4 +318,101 @@ public class IndexBootstrap implements Serializable {
                         DataTypes.INT().notNull()));
         return new RowType(bootstrapFields);
     }
+
+    /**
+     * Reader of incremental bootstrap, returns the reused keys of the previous index file first,
+     * then the keys of changed splits.
+     */
+    private static class IncrementalBootstrapReader implements RecordReader<InternalRow> {
+
+        @Nullable private BootstrapIndexFile.Reader previous;
+        @Nullable private final int[] reusedIds;
+        private final boolean deletePrevious;
+        @Nullable private final BootstrapIndexFile.Writer writer;
+        private final RecordReader<InternalRow> changedReader;
+        private final RowCompactedSerializer keySerializer;
+        private final List<InternalRow> partBuckets;
+
+        private boolean previousRead;
+
+        private IncrementalBootstrapReader(
+                @Nullable BootstrapIndexFile.Reader previous,
+                @Nullable int[] reusedIds,
+                boolean deletePrevious,
+                @Nullable BootstrapIndexFile.Writer writer,
+                RecordReader<InternalRow> changedReader,
+                RowCompactedSerializer keySerializer,
+                List<InternalRow> partBuckets) {
+            this.previous = previous;
+            this.reusedIds = reusedIds;
+            this.deletePrevious = deletePrevious;
+            this.writer = writer;
+            this.changedReader = changedReader;
+            this.keySerializer = keySerializer;
+            this.partBuckets = partBuckets;
+            this.previousRead = reusedIds == null;
+        }
+
+        @Nullable
+        @Override
+        public RecordIterator<InternalRow> readBatch() throws IOException {
+            if (!previousRead) {
+                previousRead = true;
+                return new RecordIterator<InternalRow>() {
+                    @Nullable
+                    @Override
+                    public InternalRow next() throws IOException {
+                        int section;
+                        while ((section = previous.nextSection()) >= 0) {
+                            byte[] key = previous.readKey();
+                            int id = reusedIds[section];
+                            if (id >= 0) {
+                                if (writer != null) {
+                                    writer.write(id, key);
+                                }
+                                return new JoinedRow()
+                                        .replace(
+                                                keySerializer.deserialize(key),
+                                                partBuckets.get(id));
+                            }
+                        }
+                        return null;
+                    }
+
+                    @Override
+                    public void releaseBatch() {}
+                };
+            }
+
+            RecordIterator<InternalRow> batch = changedReader.readBatch();
+            if (batch == null) {
+                finish();
+            }
+            return batch;
+        }
+
+        private void finish() throws IOException {
+            if (writer != null) {
+                writer.finish();
+            }
+            if (previous != null) {
+                previous.close();
+                if (deletePrevious) {
+                    previous.delete();
+                }
+                previous = null;
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            changedReader.close();
+            if (previous != null) {
+                previous.close();
+            }
+            if (writer != null) {
+                writer.close();
+            }
+        }
+    }
 }
@@ -0,0 +1,141 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.disk;
+
+import org.apache.paimon.memory.Buffer;
+import org.apache.paimon.memory.MemorySegment;
+import org.apache.paimon.utils.FileIOUtils;
+
+import javax.annotation.Nullable;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * A {@link BufferFileWriter} which copies blocks into write buffers and writes them in background
+ * threads. Blocks of one writer are written in order, and the caller only waits when all write
+ * buffers are in flight, or when closing the writer.
+ */
+public class AsyncBufferFileWriter extends AbstractFileIOChannel implements BufferFileWriter {
+
+    /** One buffer is being written while the caller fills the other. */
+    private static final int NUM_WRITE_BUFFERS = 2;
+
+    private final ExecutorService executor;
+    @Nullable private final SpillStats stats;
+    private final BlockingQueue<MemorySegment> freeBuffers;
+    private final ByteBuffer header = ByteBuffer.allocateDirect(4);
+
+    private CompletableFuture<Void> pending = CompletableFuture.completedFuture(null);
+    private volatile IOException failure;
+    private int numBuffers;
+    private long size;
+
+    protected AsyncBufferFileWriter(
+            ID channelID, ExecutorService executor, @Nullable SpillStats stats) throws IOException {
+        super(channelID, true);
+        this.executor = executor;
+        this.stats = stats;
+        this.freeBuffers = new ArrayBlockingQueue<>(NUM_WRITE_BUFFERS);
+    }
+
+    @Override
+    public void writeBlock(Buffer buffer) throws IOException {
+        checkFailure();
+        int length = buffer.getSize();
+        MemorySegment segment = nextFreeBuffer(buffer.getMaxCapacity());
+        buffer.getMemorySegment().copyTo(0, segment, 0, length);
+        size += header.capacity() + length;
+        pending = pending.thenRunAsync(() -> write(segment, length), executor);
+    }
+
+    private MemorySegment nextFreeBuffer(int capacity) throws IOException {
+        MemorySegment segment = freeBuffers.poll();
+        if (segment == null && numBuffers < NUM_WRITE_BUFFERS) {
+            numBuffers++;
+            return MemorySegment.wrap(new byte[capacity]);
+        }
+
+        if (segment == null) {
+            long start = System.nanoTime();
+            try {
+                segment = freeBuffers.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for a write buffer.");
+            }
+            recordWait(start);
+            checkFailure();
+        }
+        return segment.size() < capacity ? MemorySegment.wrap(new byte[capacity]) : segment;
+    }
+
+    private void write(MemorySegment segment, int length) {
+        try {
+            if (failure == null) {
+                header.clear();
+                header.putInt(length);
+                header.flip();
+                FileIOUtils.writeCompletely(fileChannel, header);
+                FileIOUtils.writeCompletely(fileChannel, segment.wrap(0, length).slice());
+                if (stats != null) {
+                    stats.addSpilledBytes(header.capacity() + length);
+                }
+            }
+        } catch (Throwable t) {
+            failure = t instanceof IOException ? (IOException) t : new IOException(t);
+        } finally {
+            freeBuffers.add(segment);
+        }
+    }
+
+    private void recordWait(long start) {
+        if (stats != null) {
+            stats.addSpillWaitNanos(System.nanoTime() - start);
+        }
+    }
+
+    private void checkFailure() throws IOException {
+        if (failure != null) {
+            throw new IOException("Failed to write to " + id.getPath(), failure);
+        }
+    }
+
+    /** Returns the size of the file once all submitted blocks are written. */
+    @Override
+    public long getSize() {
+        return size;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (fileChannel.isOpen()) {
+            long start = System.nanoTime();
+            pending.join();
+            recordWait(start);
+            super.close();
+            checkFailure();
+        }
+    }
+}
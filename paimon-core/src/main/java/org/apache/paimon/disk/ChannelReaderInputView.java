@@ -57,8 +57,20 @@ public class ChannelReaderInputView extends AbstractPagedInputView {
             int compressionBlockSize,
             int numBlocks)
             throws IOException {
+        this(
+                ioManager.createBufferFileReader(id),
+                compressionCodecFactory,
+                compressionBlockSize,
+                numBlocks);
+    }
+
+    public ChannelReaderInputView(
+            BufferFileReader reader,
+            BlockCompressionFactory compressionCodecFactory,
+            int compressionBlockSize,
+            int numBlocks) {
         this.numBlocksRemaining = numBlocks;
-        this.reader = ioManager.createBufferFileReader(id);
+        this.reader = reader;
         uncompressedBuffer = MemorySegment.wrap(new byte[compressionBlockSize]);
         decompressor = compressionCodecFactory.getDecompressor();
         compressedBuffer =
@@ -162,7 +162,9 @@ public class ExternalBuffer implements RowBuffer {
 
         ChannelWriterOutputView channelWriterOutputView =
                 new ChannelWriterOutputView(
-                        ioManager.createBufferFileWriter(channel), compactionFactory, segmentSize);
+                        ioManager.createAsyncBufferFileWriter(channel),
+                        compactionFactory,
+                        segmentSize);
         int numRecordBuffers = inMemoryBuffer.getNumRecordBuffers();
         ArrayList<MemorySegment> segments = inMemoryBuffer.getRecordBufferSegments();
         try {
@@ -308,8 +310,7 @@ public class ExternalBuffer implements RowBuffer {
             // new reader.
             this.channelReader =
                     new ChannelReaderInputView(
-                            channel.getChannel(),
-                            ioManager,
+                            ioManager.createReadAheadBufferFileReader(channel.getChannel()),
                             compactionFactory,
                             segmentSize,
                             channel.getBlockCount());
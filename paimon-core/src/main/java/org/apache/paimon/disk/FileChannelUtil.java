@@ -35,8 +35,7 @@ public class FileChannelUtil {
             throws IOException {
         ChannelReaderInputView in =
                 new ChannelReaderInputView(
-                        channel.getChannel(),
-                        ioManager,
+                        ioManager.createReadAheadBufferFileReader(channel.getChannel()),
                         compressionCodecFactory,
                         compressionBlockSize,
                         channel.getBlockCount());
@@ -50,7 +49,7 @@ public class FileChannelUtil {
             BlockCompressionFactory compressionCodecFactory,
             int compressionBlockSize)
             throws IOException {
-        BufferFileWriter bufferWriter = ioManager.createBufferFileWriter(channel);
+        BufferFileWriter bufferWriter = ioManager.createAsyncBufferFileWriter(channel);
         return new ChannelWriterOutputView(
                 bufferWriter, compressionCodecFactory, compressionBlockSize);
     }
@@ -22,6 +22,8 @@ import org.apache.paimon.annotation.Public;
 import org.apache.paimon.disk.FileIOChannel.Enumerator;
 import org.apache.paimon.disk.FileIOChannel.ID;
 
+import javax.annotation.Nullable;
+
 import java.io.IOException;
 
 /**
@@ -44,6 +46,28 @@ public interface IOManager extends AutoCloseable {
 
     BufferFileReader createBufferFileReader(ID channelID) throws IOException;
 
+    /**
+     * Creates a writer which writes blocks in background threads. Used for spilling, so that the
+     * caller can serialize and compress the next blocks while the previous ones are written.
+     */
+    default BufferFileWriter createAsyncBufferFileWriter(ID channelID) throws IOException {
+        return createBufferFileWriter(channelID);
+    }
+
+    /**
+     * Creates a reader which reads the next block in background threads while the current one is
+     * consumed. Used for reading spilled files.
+     */
+    default BufferFileReader createReadAheadBufferFileReader(ID channelID) throws IOException {
+        return createBufferFileReader(channelID);
+    }
+
+    /** Statistics of spilling and merging, null if not collected. */
+    @Nullable
+    default SpillStats spillStats() {
+        return null;
+    }
+
     static IOManager create(String tempDir) {
         return create(new String[] {tempDir});
     }
@@ -21,6 +21,7 @@ package org.apache.paimon.disk;
 import org.apache.paimon.disk.FileIOChannel.Enumerator;
 import org.apache.paimon.disk.FileIOChannel.ID;
 import org.apache.paimon.utils.Preconditions;
+import org.apache.paimon.utils.ThreadPoolUtils;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -30,6 +31,7 @@ import javax.annotation.Nonnull;
 import java.io.File;
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
 import java.util.stream.Collectors;
 
 /** The facade for the provided I/O manager services. */
@@ -41,7 +43,11 @@ public class IOManagerImpl implements IOManager {
 
     private final String[] tempDirs;
 
+    private final SpillStats spillStats;
+
     private volatile FileChannelManager lazyChannelManager;
+    private volatile ExecutorService lazyWriteExecutor;
+    private volatile ExecutorService lazyReadExecutor;
 
     // -------------------------------------------------------------------------
     //               Constructors / Destructors
@@ -55,6 +61,7 @@ public class IOManagerImpl implements IOManager {
     public IOManagerImpl(String... tempDirs) {
         Preconditions.checkNotNull(tempDirs);
         this.tempDirs = tempDirs;
+        this.spillStats = new SpillStats();
     }
 
     private FileChannelManager fileChannelManager() {
@@ -69,9 +76,42 @@ public class IOManagerImpl implements IOManager {
         return lazyChannelManager;
     }
 
+    private ExecutorService writeExecutor() {
+        if (lazyWriteExecutor == null) {
+            synchronized (this) {
+                if (lazyWriteExecutor == null) {
+                    // one writer thread per directory, like the channels are spread
+                    lazyWriteExecutor =
+                            ThreadPoolUtils.createCachedThreadPool(
+                                    Math.max(1, tempDirs.length), "paimon-io-writer");
+                }
+            }
+        }
+        return lazyWriteExecutor;
+    }
+
+    private ExecutorService readExecutor() {
+        if (lazyReadExecutor == null) {
+            synchronized (this) {
+                if (lazyReadExecutor == null) {
+                    lazyReadExecutor =
+                            ThreadPoolUtils.createCachedThreadPool(
+                                    Math.max(1, tempDirs.length), "paimon-io-reader");
+                }
+            }
+        }
+        return lazyReadExecutor;
+    }
+
     /** Removes all temporary files. */
     @Override
     public void close() throws Exception {
+        if (lazyWriteExecutor != null) {
+            lazyWriteExecutor.shutdownNow();
+        }
+        if (lazyReadExecutor != null) {
+            lazyReadExecutor.shutdownNow();
+        }
         if (lazyChannelManager != null) {
             lazyChannelManager.close();
         }
@@ -150,6 +190,23 @@ public class IOManagerImpl implements IOManager {
         return new BufferFileReaderImpl(channelID);
     }
 
+    @Override
+    public BufferFileWriter createAsyncBufferFileWriter(FileIOChannel.ID channelID)
+            throws IOException {
+        return new AsyncBufferFileWriter(channelID, writeExecutor(), spillStats);
+    }
+
+    @Override
+    public BufferFileReader createReadAheadBufferFileReader(FileIOChannel.ID channelID)
+            throws IOException {
+        return new ReadAheadBufferFileReader(channelID, readExecutor());
+    }
+
+    @Override
+    public SpillStats spillStats() {
+        return spillStats;
+    }
+
     public static String[] splitPaths(@Nonnull String separatedPaths) {
         return separatedPaths.length() > 0
                 ? separatedPaths.split(",|" + File.pathSeparator)
@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.disk;
+
+import org.apache.paimon.memory.Buffer;
+import org.apache.paimon.memory.MemorySegment;
+
+import javax.annotation.Nullable;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+
+import static org.apache.paimon.utils.Preconditions.checkArgument;
+
+/**
+ * A {@link BufferFileReader} which reads the next block in a background thread while the caller
+ * consumes the current one.
+ */
+public class ReadAheadBufferFileReader extends AbstractFileIOChannel implements BufferFileReader {
+
+    private final BufferFileChannelReader reader;
+    private final ExecutorService executor;
+
+    @Nullable private Buffer prefetched;
+    @Nullable private CompletableFuture<Boolean> prefetch;
+
+    private boolean hasReachedEndOfFile;
+
+    protected ReadAheadBufferFileReader(ID channelID, ExecutorService executor) throws IOException {
+        super(channelID, false);
+        this.reader = new BufferFileChannelReader(fileChannel);
+        this.executor = executor;
+    }
+
+    @Override
+    public void readInto(Buffer buffer) throws IOException {
+        if (prefetch == null) {
+            hasReachedEndOfFile = reader.readBufferFromFileChannel(buffer);
+        } else {
+            checkArgument(buffer.getSize() == 0, "Buffer not empty");
+            hasReachedEndOfFile = waitPrefetch();
+            int size = prefetched.getSize();
+            checkArgument(size <= buffer.getMaxCapacity(), "Buffer is too small for data");
+            prefetched.getMemorySegment().copyTo(0, buffer.getMemorySegment(), 0, size);
+            buffer.setSize(size);
+        }
+
+        if (hasReachedEndOfFile) {
+            return;
+        }
+
+        if (prefetched == null || prefetched.getMaxCapacity() < buffer.getMaxCapacity()) {
+            prefetched = Buffer.create(MemorySegment.wrap(new byte[buffer.getMaxCapacity()]));
+        }
+        Buffer target = prefetched;
+        target.setSize(0);
+        prefetch =
+                CompletableFuture.supplyAsync(
+                        () -> {
+                            try {
+                                return reader.readBufferFromFileChannel(target);
+                            } catch (IOException e) {
+                                throw new UncheckedIOException(e);
+                            }
+                        },
+                        executor);
+    }
+
+    private boolean waitPrefetch() throws IOException {
+        CompletableFuture<Boolean> future = prefetch;
+        prefetch = null;
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while reading ahead " + id.getPath());
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) cause).getCause();
+            }
+            throw new IOException("Failed to read ahead " + id.getPath(), cause);
+        }
+    }
+
+    @Override
+    public boolean hasReachedEndOfFile() {
+        return hasReachedEndOfFile;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (prefetch != null) {
+            // do not close the file channel under a running read
+            prefetch.handle((eof, t) -> null).join();
+            prefetch = null;
+        }
+        super.close();
+    }
+}
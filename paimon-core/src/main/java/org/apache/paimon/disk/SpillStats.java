@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.disk;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/** Statistics of the data spilled to and merged from the disk through an {@link IOManager}. */
+public class SpillStats {
+
+    private final LongAdder spilledBytes = new LongAdder();
+    private final LongAdder spillWaitNanos = new LongAdder();
+
+    private volatile int lastMergeFanIn;
+
+    public void addSpilledBytes(long bytes) {
+        spilledBytes.add(bytes);
+    }
+
+    public void addSpillWaitNanos(long nanos) {
+        spillWaitNanos.add(nanos);
+    }
+
+    public void recordMerge(int fanIn) {
+        lastMergeFanIn = fanIn;
+    }
+
+    /** Total bytes written to spill files. */
+    public long spilledBytes() {
+        return spilledBytes.sum();
+    }
+
+    /** Total time the spilling threads waited for the background writes. */
+    public long spillWaitTimeMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(spillWaitNanos.sum());
+    }
+
+    /** Number of spill files merged by the last merge. */
+    public int lastMergeFanIn() {
+        return lastMergeFanIn;
+    }
+}
@@ -20,6 +20,7 @@ package org.apache.paimon.iceberg;
 
 import org.apache.paimon.CoreOptions;
 import org.apache.paimon.Snapshot;
+import org.apache.paimon.annotation.VisibleForTesting;
 import org.apache.paimon.data.BinaryRow;
 import org.apache.paimon.data.GenericArray;
 import org.apache.paimon.data.GenericRow;
@@ -63,6 +64,7 @@ import org.apache.paimon.table.source.snapshot.SnapshotReader;
 import org.apache.paimon.types.DataType;
 import org.apache.paimon.types.RowType;
 import org.apache.paimon.utils.DataFilePathFactories;
+import org.apache.paimon.utils.ExecutorThreadFactory;
 import org.apache.paimon.utils.FileStorePathFactory;
 import org.apache.paimon.utils.ManifestReadThreadPool;
 import org.apache.paimon.utils.Pair;
@@ -86,8 +88,14 @@ import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -122,6 +130,13 @@ public class IcebergCommitCallback implements CommitCallback, TagCallback {
     private final IndexFileHandler indexFileHandler;
     private final boolean needAddDvToIceberg;
 
+    private final boolean asyncCompaction;
+    @Nullable private ExecutorService compactExecutor;
+
+    @Nullable
+    private Future<Pair<List<IcebergManifestFileMeta>, List<IcebergManifestFileMeta>>>
+            compactFuture;
+
     // -------------------------------------------------------------------------------------
     // Public interface
     // -------------------------------------------------------------------------------------
@@ -161,6 +176,8 @@ public class IcebergCommitCallback implements CommitCallback, TagCallback {
 
         this.indexFileHandler = table.store().newIndexFileHandler();
         this.needAddDvToIceberg = needAddDvToIceberg();
+        this.asyncCompaction =
+                table.coreOptions().toConfiguration().get(IcebergOptions.COMPACT_ASYNC);
     }
 
     public static Path catalogTableMetadataPath(FileStoreTable table) {
@@ -218,7 +235,21 @@ public class IcebergCommitCallback implements CommitCallback, TagCallback {
     }
 
     @Override
-    public void close() throws Exception {}
+    public void close() throws Exception {
+        if (compactExecutor == null) {
+            return;
+        }
+
+        compactExecutor.shutdownNow();
+        if (compactFuture != null && compactFuture.isDone() && !compactFuture.isCancelled()) {
+            try {
+                // the result is not used by any snapshot
+                deleteManifestFiles(compactFuture.get().getRight());
+            } catch (ExecutionException ignored) {
+            }
+        }
+        compactFuture = null;
+    }
 
     @Override
     public void call(
@@ -288,6 +319,28 @@ public class IcebergCommitCallback implements CommitCallback, TagCallback {
                                 .collect(Collectors.toList()),
                         snapshot,
                         baseMetadataPath);
+                return;
+            }
+
+            Long baseSnapshotId = catchUpBaseSnapshotId(snapshotId);
+            if (baseSnapshotId != null) {
+                // Some snapshots have no Iceberg metadata, for example they are committed when
+                // Iceberg compatibility is disabled. Apply their changes to the latest metadata
+                // instead of scanning the whole table.
+                createMetadataWithBase(
+                        (removedFiles, addedFiles) -> {
+                            boolean isAddOnly = true;
+                            for (long id = baseSnapshotId + 1; id < snapshotId; id++) {
+                                isAddOnly &= collectFileChanges(id, removedFiles, addedFiles);
+                            }
+                            return fileChangesCollector.collect(removedFiles, addedFiles)
+                                    && isAddOnly;
+                        },
+                        needAddDvToIceberg
+                                ? indexFileHandler.scan(snapshot, DELETION_VECTORS_INDEX)
+                                : Collections.emptyList(),
+                        snapshot,
+                        pathFactory.toMetadataPath(baseSnapshotId));
             } else {
                 createMetadataWithoutBase(snapshotId);
             }
@@ -296,6 +349,33 @@ public class IcebergCommitCallback implements CommitCallback, TagCallback {
         }
     }
 
+    /**
+     * Returns the latest snapshot before the given one which has Iceberg metadata, if the changes
+     * of all snapshots between them can still be read.
+     */
+    @Nullable
+    private Long catchUpBaseSnapshotId(long snapshotId) throws IOException {
+        Optional<Long> baseSnapshotId;
+        try (Stream<Path> paths =
+                pathFactory.getAllMetadataPathBefore(table.fileIO(), snapshotId)) {
+            baseSnapshotId =
+                    paths.map(path -> path.getName().split("\\.")[0].substring(1))
+                            .map(Long::parseLong)
+                            .max(Long::compare);
+        }
+        if (!baseSnapshotId.isPresent()) {
+            return null;
+        }
+
+        SnapshotManager snapshotManager = table.snapshotManager();
+        for (long id = baseSnapshotId.get() + 1; id < snapshotId; id++) {
+            if (!snapshotManager.snapshotExists(id)) {
+                return null;
+            }
+        }
+        return baseSnapshotId.get();
+    }
+
     // -------------------------------------------------------------------------------------
     // Create metadata afresh
     // -------------------------------------------------------------------------------------
@@ -565,7 +645,12 @@ public class IcebergCommitCallback implements CommitCallback, TagCallback {
         }
 
         // compact data manifest file if needed
-        newDataManifestFileMetas = compactMetadataIfNeeded(newDataManifestFileMetas, snapshotId);
+        if (asyncCompaction) {
+            newDataManifestFileMetas = applyCompactedMetadata(newDataManifestFileMetas);
+        } else {
+            newDataManifestFileMetas =
+                    compactMetadataIfNeeded(newDataManifestFileMetas, snapshotId);
+        }
 
         String manifestListFileName =
                 manifestList.writeWithoutRolling(
@@ -656,6 +741,10 @@ public class IcebergCommitCallback implements CommitCallback, TagCallback {
                             "Unsupported metadata committer: " + metadataCommitter.identifier());
             }
         }
+
+        if (asyncCompaction) {
+            compactMetadataAsync(newDataManifestFileMetas, snapshotId);
+        }
     }
 
     private interface FileChangesCollector {
@@ -854,7 +943,20 @@ public class IcebergCommitCallback implements CommitCallback, TagCallback {
 
     private List<IcebergManifestFileMeta> compactMetadataIfNeeded(
             List<IcebergManifestFileMeta> toCompact, long currentSnapshotId) throws IOException {
-        List<IcebergManifestFileMeta> result = new ArrayList<>();
+        List<IcebergManifestFileMeta> candidates = pickCompactCandidates(toCompact);
+        if (candidates.isEmpty()) {
+            return toCompact;
+        }
+
+        List<IcebergManifestFileMeta> result = new ArrayList<>(toCompact);
+        result.removeAll(candidates);
+        result.addAll(compactManifests(candidates, currentSnapshotId, false));
+        return result;
+    }
+
+    /** Returns the small manifest files to compact, or an empty list if no compaction is needed. */
+    private List<IcebergManifestFileMeta> pickCompactCandidates(
+            List<IcebergManifestFileMeta> toCompact) {
         long targetSizeInBytes = table.coreOptions().manifestTargetSize().getBytes();
 
         List<IcebergManifestFileMeta> candidates = new ArrayList<>();
@@ -863,27 +965,34 @@ public class IcebergCommitCallback implements CommitCallback, TagCallback {
             if (meta.manifestLength() < targetSizeInBytes * 2 / 3) {
                 candidates.add(meta);
                 totalSizeInBytes += meta.manifestLength();
-            } else {
-                result.add(meta);
             }
         }
 
         Options options = new Options(table.options());
         if (candidates.size() < options.get(IcebergOptions.COMPACT_MIN_FILE_NUM)) {
-            return toCompact;
+            return Collections.emptyList();
         }
         if (candidates.size() < options.get(IcebergOptions.COMPACT_MAX_FILE_NUM)
                 && totalSizeInBytes < targetSizeInBytes) {
-            return toCompact;
+            return Collections.emptyList();
         }
+        return candidates;
+    }
 
+    /**
+     * Rewrites the given manifest files into larger ones. If {@code async} is true, the result is
+     * used by a later snapshot than {@code currentSnapshotId}, so all entries added before are
+     * existing ones, and the given files are all recorded in the current snapshot.
+     */
+    private List<IcebergManifestFileMeta> compactManifests(
+            List<IcebergManifestFileMeta> candidates, long currentSnapshotId, boolean async) {
         Function<IcebergManifestFileMeta, List<IcebergManifestEntry>> processor =
                 meta -> {
                     List<IcebergManifestEntry> entries = new ArrayList<>();
                     for (IcebergManifestEntry entry :
                             IcebergManifestFile.create(table, pathFactory)
                                     .read(new Path(meta.manifestPath()).getName())) {
-                        if (entry.fileSequenceNumber() == currentSnapshotId
+                        if ((!async && entry.fileSequenceNumber() == currentSnapshotId)
                                 || entry.status() == IcebergManifestEntry.Status.EXISTING) {
                             entries.add(entry);
                         } else {
@@ -906,7 +1015,7 @@ public class IcebergCommitCallback implements CommitCallback, TagCallback {
                                             entry.file()));
                         }
                     }
-                    if (meta.sequenceNumber() == currentSnapshotId) {
+                    if (!async && meta.sequenceNumber() == currentSnapshotId) {
                         // this file is created for this snapshot, so it is not recorded in any
                         // iceberg metas, we need to clean it
                         table.fileIO().deleteQuietly(new Path(meta.manifestPath()));
@@ -915,10 +1024,85 @@ public class IcebergCommitCallback implements CommitCallback, TagCallback {
                 };
         Iterable<IcebergManifestEntry> newEntries =
                 ManifestReadThreadPool.sequentialBatchedExecute(processor, candidates, null);
-        result.addAll(manifestFile.rollingWrite(newEntries.iterator(), currentSnapshotId));
+        return IcebergManifestFile.create(table, pathFactory)
+                .rollingWrite(newEntries.iterator(), currentSnapshotId);
+    }
+
+    /**
+     * Starts compacting the data manifest files of the given snapshot in background, if no
+     * compaction is running. The result is used by a later snapshot.
+     */
+    private void compactMetadataAsync(
+            List<IcebergManifestFileMeta> dataManifestFileMetas, long snapshotId) {
+        if (compactFuture != null) {
+            return;
+        }
+
+        List<IcebergManifestFileMeta> candidates = pickCompactCandidates(dataManifestFileMetas);
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        if (compactExecutor == null) {
+            compactExecutor =
+                    Executors.newSingleThreadExecutor(
+                            new ExecutorThreadFactory(
+                                    Thread.currentThread().getName() + "-iceberg-compaction"));
+        }
+        compactFuture =
+                compactExecutor.submit(
+                        () -> Pair.of(candidates, compactManifests(candidates, snapshotId, true)));
+    }
+
+    /** Waits for the running background compaction, so that its result is used by next commit. */
+    @VisibleForTesting
+    void awaitAsyncCompaction() throws Exception {
+        if (compactFuture != null) {
+            compactFuture.get();
+        }
+    }
+
+    /**
+     * Replaces the compacted manifest files with the result of the finished background compaction,
+     * if they are all still used.
+     */
+    private List<IcebergManifestFileMeta> applyCompactedMetadata(
+            List<IcebergManifestFileMeta> dataManifestFileMetas) {
+        if (compactFuture == null || !compactFuture.isDone()) {
+            return dataManifestFileMetas;
+        }
+
+        Pair<List<IcebergManifestFileMeta>, List<IcebergManifestFileMeta>> compacted;
+        try {
+            compacted = compactFuture.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } catch (ExecutionException | CancellationException e) {
+            LOG.warn("Failed to compact Iceberg manifest files in background.", e);
+            return dataManifestFileMetas;
+        } finally {
+            compactFuture = null;
+        }
+
+        if (!new HashSet<>(dataManifestFileMetas).containsAll(compacted.getLeft())) {
+            // some compacted files are rewritten by later snapshots
+            deleteManifestFiles(compacted.getRight());
+            return dataManifestFileMetas;
+        }
+
+        List<IcebergManifestFileMeta> result = new ArrayList<>(dataManifestFileMetas);
+        result.removeAll(compacted.getLeft());
+        result.addAll(compacted.getRight());
         return result;
     }
 
+    private void deleteManifestFiles(List<IcebergManifestFileMeta> metas) {
+        for (IcebergManifestFileMeta meta : metas) {
+            table.fileIO().deleteQuietly(new Path(meta.manifestPath()));
+        }
+    }
+
     // -------------------------------------------------------------------------------------
     // Expire
     // -------------------------------------------------------------------------------------
@@ -74,6 +74,14 @@ public class IcebergOptions {
                             "If number of small Iceberg manifest metadata files exceeds this limit, "
                                     + "always trigger manifest metadata compaction regardless of their total size.");
 
+    public static final ConfigOption<Boolean> COMPACT_ASYNC =
+            key("metadata.iceberg.compaction.async.enabled")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to compact Iceberg manifest metadata files in background instead of in commits. "
+                                    + "The result of a background compaction is used by the next commit after it finishes.");
+
     public static final ConfigOption<Boolean> METADATA_DELETE_AFTER_COMMIT =
             key("metadata.iceberg.delete-after-commit.enabled")
                     .booleanType()
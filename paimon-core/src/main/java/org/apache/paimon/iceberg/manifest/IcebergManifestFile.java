@@ -40,7 +40,6 @@ import org.apache.paimon.table.FileStoreTable;
 import org.apache.paimon.types.DataType;
 import org.apache.paimon.types.RowType;
 import org.apache.paimon.utils.CloseableIterator;
-import org.apache.paimon.utils.FileUtils;
 import org.apache.paimon.utils.Filter;
 import org.apache.paimon.utils.ObjectsFile;
 import org.apache.paimon.utils.PathFactory;
@@ -134,12 +133,6 @@ public class IcebergManifestFile extends ObjectsFile<IcebergManifestEntry> {
         }
     }
 
-    private CloseableIterator<InternalRow> createIterator(Path file, @Nullable Long fileSize)
-            throws IOException {
-        return FileUtils.createFormatReader(fileIO, readerFactory, file, fileSize)
-                .toCloseableIterator();
-    }
-
     private static List<IcebergManifestEntry> readFromIterator(
             IcebergManifestFileMeta meta,
             CloseableIterator<InternalRow> inputIterator,
@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.io;
+
+import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.data.serializer.RowCompactedSerializer;
+import org.apache.paimon.fs.FileIO;
+import org.apache.paimon.fs.Path;
+import org.apache.paimon.memory.MemorySegment;
+import org.apache.paimon.options.MemorySize;
+import org.apache.paimon.types.RowType;
+import org.apache.paimon.utils.BloomFilter;
+import org.apache.paimon.utils.IntArrayList;
+import org.apache.paimon.utils.MurmurHashUtils;
+
+import org.apache.paimon.shade.caffeine2.com.github.benmanes.caffeine.cache.Cache;
+import org.apache.paimon.shade.caffeine2.com.github.benmanes.caffeine.cache.Caffeine;
+
+import javax.annotation.Nullable;
+
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import static org.apache.paimon.io.DataFilePathFactory.KEY_BLOOM_FILTER_SUFFIX;
+
+/**
+ * Bloom filter of the keys of a data file, persisted as an extra file of the data file. Keys are
+ * hashed by their compacted bytes, the same as local lookup files, so lookups can test the filter
+ * with the key bytes they already have before creating a local lookup file for the data file.
+ */
+public class KeyBloomFilterFile {
+
+    private static final byte VERSION = 1;
+
+    private KeyBloomFilterFile() {}
+
+    public static int hash(byte[] keyBytes) {
+        return MurmurHashUtils.hashBytes(keyBytes);
+    }
+
+    /**
+     * Creates a cache of key bloom filters by data file name, weighed by the memory size of the
+     * filters.
+     */
+    public static Cache<String, BloomFilter> createCache(MemorySize maxMemorySize) {
+        return Caffeine.newBuilder()
+                .maximumWeight(maxMemorySize.getBytes())
+                .weigher((String file, BloomFilter filter) -> filter.getMemorySegment().size())
+                .executor(Runnable::run)
+                .build();
+    }
+
+    /** Reads the key bloom filter of the data file, returns null if it has none. */
+    @Nullable
+    public static BloomFilter read(
+            FileIO fileIO, DataFilePathFactory pathFactory, DataFileMeta file) throws IOException {
+        for (String extraFile : file.extraFiles()) {
+            if (extraFile.endsWith(KEY_BLOOM_FILTER_SUFFIX)) {
+                return read(fileIO, pathFactory.toAlignedPath(extraFile, file));
+            }
+        }
+        return null;
+    }
+
+    private static BloomFilter read(FileIO fileIO, Path path) throws IOException {
+        try (DataInputStream in = new DataInputStream(fileIO.newInputStream(path))) {
+            byte version = in.readByte();
+            if (version != VERSION) {
+                throw new IOException(
+                        "Unsupported key bloom filter version " + version + " of file " + path);
+            }
+            long expectedEntries = in.readLong();
+            byte[] bytes = new byte[in.readInt()];
+            in.readFully(bytes);
+            BloomFilter filter = new BloomFilter(expectedEntries, bytes.length);
+            filter.setMemorySegment(MemorySegment.wrap(bytes), 0);
+            return filter;
+        }
+    }
+
+    /** Collects key hashes of a data file and writes the bloom filter when closed. */
+    public static class Writer implements Closeable {
+
+        private final FileIO fileIO;
+        private final Path path;
+        private final RowCompactedSerializer keySerializer;
+        private final double fpp;
+        private final IntArrayList hashes;
+
+        @Nullable private String resultFileName;
+
+        public Writer(FileIO fileIO, Path path, RowType keyType, double fpp) {
+            this.fileIO = fileIO;
+            this.path = path;
+            this.keySerializer = new RowCompactedSerializer(keyType);
+            this.fpp = fpp;
+            this.hashes = new IntArrayList(1024);
+        }
+
+        public void write(InternalRow key) {
+            hashes.add(hash(keySerializer.serializeToBytes(key)));
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (hashes.isEmpty() || resultFileName != null) {
+                return;
+            }
+
+            // the filter is sized by the number of keys, which is only known after writing
+            BloomFilter.Builder builder = BloomFilter.builder(hashes.size(), fpp);
+            for (int i = 0; i < hashes.size(); i++) {
+                builder.addHash(hashes.get(i));
+            }
+            byte[] bytes = builder.getBuffer().getArray();
+            try (DataOutputStream out = new DataOutputStream(fileIO.newOutputStream(path, true))) {
+                out.writeByte(VERSION);
+                out.writeLong(builder.expectedEntries());
+                out.writeInt(bytes.length);
+                out.write(bytes);
+            }
+            hashes.clear();
+            resultFileName = path.getName();
+        }
+
+        /** Returns the written file name, null if there are no keys. */
+        @Nullable
+        public String result() {
+            return resultFileName;
+        }
+    }
+}
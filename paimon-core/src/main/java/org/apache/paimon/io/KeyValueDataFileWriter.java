@@ -39,11 +39,12 @@ import org.slf4j.LoggerFactory;
 import javax.annotation.Nullable;
 
 import java.io.IOException;
-import java.util.Collections;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Function;
 
 import static org.apache.paimon.io.DataFilePathFactory.dataFileToFileIndexPath;
+import static org.apache.paimon.io.DataFilePathFactory.dataFileToKeyBloomFilterPath;
 
 /**
  * A {@link StatsCollectingSingleFileWriter} to write data files containing {@link KeyValue}s. Also
@@ -68,6 +69,7 @@ public abstract class KeyValueDataFileWriter
     private final RowHelper keyKeeper;
     private final FileSource fileSource;
     @Nullable private final DataFileIndexWriter dataFileIndexWriter;
+    @Nullable private final KeyBloomFilterFile.Writer keyBloomFilterWriter;
 
     private BinaryRow minKey = null;
     private long minSeqNumber = Long.MAX_VALUE;
@@ -87,6 +89,7 @@ public abstract class KeyValueDataFileWriter
             CoreOptions options,
             FileSource fileSource,
             FileIndexOptions fileIndexOptions,
+            boolean writeKeyBloomFilter,
             boolean isExternalPath) {
         super(fileIO, context, path, converter, writeRowType, options.asyncFileWrite());
 
@@ -103,6 +106,14 @@ public abstract class KeyValueDataFileWriter
         this.dataFileIndexWriter =
                 DataFileIndexWriter.create(
                         fileIO, dataFileToFileIndexPath(path), valueType, fileIndexOptions);
+        this.keyBloomFilterWriter =
+                writeKeyBloomFilter
+                        ? new KeyBloomFilterFile.Writer(
+                                fileIO,
+                                dataFileToKeyBloomFilterPath(path),
+                                keyType,
+                                options.lookupBloomFilterFpp())
+                        : null;
     }
 
     @Override
@@ -112,6 +123,9 @@ public abstract class KeyValueDataFileWriter
         if (dataFileIndexWriter != null) {
             dataFileIndexWriter.write(kv.value());
         }
+        if (keyBloomFilterWriter != null) {
+            keyBloomFilterWriter.write(kv.key());
+        }
 
         keyKeeper.copyInto(kv.key());
         if (minKey == null) {
@@ -158,6 +172,14 @@ public abstract class KeyValueDataFileWriter
                         ? DataFileIndexWriter.EMPTY_RESULT
                         : dataFileIndexWriter.result();
 
+        List<String> extraFiles = new ArrayList<>();
+        if (indexResult.independentIndexFile() != null) {
+            extraFiles.add(indexResult.independentIndexFile());
+        }
+        if (keyBloomFilterWriter != null && keyBloomFilterWriter.result() != null) {
+            extraFiles.add(keyBloomFilterWriter.result());
+        }
+
         String externalPath = isExternalPath ? path.toString() : null;
         return new DataFileMeta(
                 path.getName(),
@@ -171,9 +193,7 @@ public abstract class KeyValueDataFileWriter
                 maxSeqNumber,
                 schemaId,
                 level,
-                indexResult.independentIndexFile() == null
-                        ? Collections.emptyList()
-                        : Collections.singletonList(indexResult.independentIndexFile()),
+                extraFiles,
                 deleteRecordCount,
                 indexResult.embeddedIndexBytes(),
                 fileSource,
@@ -188,6 +208,9 @@ public abstract class KeyValueDataFileWriter
         if (dataFileIndexWriter != null) {
             dataFileIndexWriter.close();
         }
+        if (keyBloomFilterWriter != null) {
+            keyBloomFilterWriter.close();
+        }
         super.close();
     }
 }
@@ -47,6 +47,7 @@ public class KeyValueDataFileWriterImpl extends KeyValueDataFileWriter {
             CoreOptions options,
             FileSource fileSource,
             FileIndexOptions fileIndexOptions,
+            boolean writeKeyBloomFilter,
             boolean isExternalPath) {
         super(
                 fileIO,
@@ -61,6 +62,7 @@ public class KeyValueDataFileWriterImpl extends KeyValueDataFileWriter {
                 options,
                 fileSource,
                 fileIndexOptions,
+                writeKeyBloomFilter,
                 isExternalPath);
     }
 
@@ -40,6 +40,7 @@ import org.apache.paimon.schema.TableSchema;
 import org.apache.paimon.types.DataField;
 import org.apache.paimon.types.RowType;
 import org.apache.paimon.utils.AsyncRecordReader;
+import org.apache.paimon.utils.BloomFilter;
 import org.apache.paimon.utils.FileStorePathFactory;
 import org.apache.paimon.utils.FormatReaderMapping;
 
@@ -103,6 +104,12 @@ public class KeyValueFileReaderFactory implements FileReaderFactory<KeyValue> {
         return createRecordReader(file, true, null);
     }
 
+    /** Reads the persisted key bloom filter of the file, returns null if it has none. */
+    @Nullable
+    public BloomFilter readKeyBloomFilter(DataFileMeta file) throws IOException {
+        return KeyBloomFilterFile.read(fileIO, pathFactory, file);
+    }
+
     private FileRecordReader<KeyValue> createRecordReader(
             DataFileMeta file, boolean reuseFormat, @Nullable Integer orcPoolSize)
             throws IOException {
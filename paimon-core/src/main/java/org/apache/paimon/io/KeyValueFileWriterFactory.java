@@ -122,6 +122,8 @@ public class KeyValueFileWriterFactory {
 
     private KeyValueDataFileWriter createDataFileWriter(
             Path path, WriteFormatKey key, FileSource fileSource, boolean isExternalPath) {
+        // only data files are looked up, changelog files never need the key bloom filter
+        boolean writeKeyBloomFilter = options.lookupKeyBloomFilterEnabled() && !key.isChangelog;
         return formatContext.thinModeEnabled
                 ? new KeyValueThinDataFileWriterImpl(
                         fileIO,
@@ -135,6 +137,7 @@ public class KeyValueFileWriterFactory {
                         options,
                         fileSource,
                         fileIndexOptions,
+                        writeKeyBloomFilter,
                         isExternalPath)
                 : new KeyValueDataFileWriterImpl(
                         fileIO,
@@ -148,14 +151,19 @@ public class KeyValueFileWriterFactory {
                         options,
                         fileSource,
                         fileIndexOptions,
+                        writeKeyBloomFilter,
                         isExternalPath);
     }
 
     public void deleteFile(DataFileMeta file) {
         // this path factory is only for path generation, so we don't care about the true or false
         // in WriteFormatKey
-        fileIO.deleteQuietly(
-                formatContext.pathFactory(new WriteFormatKey(file.level(), false)).toPath(file));
+        DataFilePathFactory pathFactory =
+                formatContext.pathFactory(new WriteFormatKey(file.level(), false));
+        fileIO.deleteQuietly(pathFactory.toPath(file));
+        for (String extraFile : file.extraFiles()) {
+            fileIO.deleteQuietly(pathFactory.toAlignedPath(extraFile, file));
+        }
     }
 
     public FileIO getFileIO() {
@@ -55,6 +55,7 @@ public class KeyValueThinDataFileWriterImpl extends KeyValueDataFileWriter {
             CoreOptions options,
             FileSource fileSource,
             FileIndexOptions fileIndexOptions,
+            boolean writeKeyBloomFilter,
             boolean isExternalPath) {
         super(
                 fileIO,
@@ -69,6 +70,7 @@ public class KeyValueThinDataFileWriterImpl extends KeyValueDataFileWriter {
                 options,
                 fileSource,
                 fileIndexOptions,
+                writeKeyBloomFilter,
                 isExternalPath);
         Map<Integer, Integer> idToIndex = new HashMap<>(valueType.getFieldCount());
         for (int i = 0; i < valueType.getFieldCount(); i++) {
@@ -231,7 +231,7 @@ public interface FileEntry {
             @Nullable Integer manifestReadParallelism) {
         return readDeletedEntries(
                 m ->
-                        manifestFile.read(
+                        manifestFile.readSimpleEntries(
                                 m.fileName(), m.fileSize(), deletedFilter(), Filter.alwaysTrue()),
                 manifestFiles,
                 manifestReadParallelism);
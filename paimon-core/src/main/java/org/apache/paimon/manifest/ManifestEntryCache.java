@@ -0,0 +1,214 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.manifest;
+
+import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.fs.Path;
+import org.apache.paimon.io.DataFileMeta;
+import org.apache.paimon.options.MemorySize;
+import org.apache.paimon.partition.PartitionPredicate;
+import org.apache.paimon.partition.PartitionPredicate.MultiplePartitionPredicate;
+import org.apache.paimon.stats.SimpleStats;
+import org.apache.paimon.utils.Filter;
+
+import org.apache.paimon.shade.caffeine2.com.github.benmanes.caffeine.cache.Cache;
+import org.apache.paimon.shade.caffeine2.com.github.benmanes.caffeine.cache.Caffeine;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Cache deserialized {@link ManifestEntry}s of manifest files, grouped by partition and bucket.
+ *
+ * <p>Compared to caching the raw bytes of manifest files, reading from this cache needs no
+ * deserialization, and the partition filter is evaluated once per partition instead of once per
+ * entry.
+ */
+@ThreadSafe
+public class ManifestEntryCache {
+
+    private static final int OBJECT_MEMORY_SIZE = 1000;
+    private static final int ENTRY_MEMORY_SIZE = 300;
+
+    private final Cache<Path, ManifestEntries> cache;
+    private final MemorySize maxMemorySize;
+
+    public ManifestEntryCache(MemorySize maxMemorySize) {
+        this.cache =
+                Caffeine.newBuilder()
+                        .softValues()
+                        .weigher(this::weigh)
+                        .maximumWeight(maxMemorySize.getBytes())
+                        .executor(Runnable::run)
+                        .build();
+        this.maxMemorySize = maxMemorySize;
+    }
+
+    public MemorySize maxMemorySize() {
+        return maxMemorySize;
+    }
+
+    @Nullable
+    public ManifestEntries getIfPresent(Path path) {
+        return cache.getIfPresent(path);
+    }
+
+    public void put(Path path, ManifestEntries entries) {
+        if (entries.memorySize() <= maxMemorySize.getBytes()) {
+            cache.put(path, entries);
+        }
+    }
+
+    private int weigh(Path path, ManifestEntries entries) {
+        return (int) Math.min(Integer.MAX_VALUE, OBJECT_MEMORY_SIZE + entries.memorySize());
+    }
+
+    public long estimatedSize() {
+        return cache.estimatedSize();
+    }
+
+    public long totalCacheBytes() {
+        return cache.asMap().entrySet().stream()
+                .mapToLong(entry -> weigh(entry.getKey(), entry.getValue()))
+                .sum();
+    }
+
+    @Nullable
+    public static ManifestEntryCache create(MemorySize maxMemorySize) {
+        if (maxMemorySize.getBytes() == 0) {
+            return null;
+        }
+
+        return new ManifestEntryCache(maxMemorySize);
+    }
+
+    /** Estimate the heap memory occupied by a deserialized {@link ManifestEntry}. */
+    public static long estimateMemorySize(ManifestEntry entry) {
+        DataFileMeta file = entry.file();
+        long size = ENTRY_MEMORY_SIZE;
+        size += entry.partition().getSizeInBytes();
+        size += 2L * file.fileName().length();
+        size += file.minKey().getSizeInBytes() + file.maxKey().getSizeInBytes();
+        size += estimateMemorySize(file.keyStats()) + estimateMemorySize(file.valueStats());
+        for (String extraFile : file.extraFiles()) {
+            size += 2L * extraFile.length();
+        }
+        if (file.embeddedIndex() != null) {
+            size += file.embeddedIndex().length;
+        }
+        if (file.valueStatsCols() != null) {
+            for (String col : file.valueStatsCols()) {
+                size += 2L * col.length();
+            }
+        }
+        return size;
+    }
+
+    private static long estimateMemorySize(SimpleStats stats) {
+        return stats.minValues().getSizeInBytes()
+                + stats.maxValues().getSizeInBytes()
+                + stats.nullCounts().getSizeInBytes();
+    }
+
+    /** All {@link ManifestEntry}s of a manifest file, indexed by partition and bucket. */
+    public static class ManifestEntries {
+
+        private final Map<BinaryRow, Map<Integer, List<ManifestEntry>>> index;
+        private final int entryCount;
+        private final long memorySize;
+
+        public ManifestEntries(List<ManifestEntry> entries) {
+            this.index = new LinkedHashMap<>();
+            long memorySize = 0;
+            for (ManifestEntry entry : entries) {
+                index.computeIfAbsent(entry.partition(), k -> new LinkedHashMap<>())
+                        .computeIfAbsent(entry.bucket(), k -> new ArrayList<>())
+                        .add(entry);
+                memorySize += estimateMemorySize(entry);
+            }
+            this.entryCount = entries.size();
+            this.memorySize = memorySize;
+        }
+
+        public int partitionCount() {
+            return index.size();
+        }
+
+        public int entryCount() {
+            return entryCount;
+        }
+
+        public long memorySize() {
+            return memorySize;
+        }
+
+        /**
+         * Collect entries matching all the filters. Only partitions accepted by {@code
+         * partitionFilter} and buckets accepted by {@code bucketFilter} are visited.
+         */
+        public List<ManifestEntry> filter(
+                @Nullable PartitionPredicate partitionFilter,
+                @Nullable Filter<Integer> bucketFilter,
+                Filter<ManifestEntry> entryFilter) {
+            List<ManifestEntry> result = new ArrayList<>();
+            if (partitionFilter instanceof MultiplePartitionPredicate
+                    && ((MultiplePartitionPredicate) partitionFilter).partitions().size()
+                            < index.size()) {
+                // look up the required partitions directly
+                for (BinaryRow partition :
+                        ((MultiplePartitionPredicate) partitionFilter).partitions()) {
+                    Map<Integer, List<ManifestEntry>> buckets = index.get(partition);
+                    if (buckets != null) {
+                        collect(buckets, bucketFilter, entryFilter, result);
+                    }
+                }
+                return result;
+            }
+
+            for (Map.Entry<BinaryRow, Map<Integer, List<ManifestEntry>>> partition :
+                    index.entrySet()) {
+                if (partitionFilter == null || partitionFilter.test(partition.getKey())) {
+                    collect(partition.getValue(), bucketFilter, entryFilter, result);
+                }
+            }
+            return result;
+        }
+
+        private static void collect(
+                Map<Integer, List<ManifestEntry>> buckets,
+                @Nullable Filter<Integer> bucketFilter,
+                Filter<ManifestEntry> entryFilter,
+                List<ManifestEntry> result) {
+            for (Map.Entry<Integer, List<ManifestEntry>> bucket : buckets.entrySet()) {
+                if (bucketFilter == null || bucketFilter.test(bucket.getKey())) {
+                    for (ManifestEntry entry : bucket.getValue()) {
+                        if (entryFilter.test(entry)) {
+                            result.add(entry);
+                        }
+                    }
+                }
+            }
+        }
+    }
+}
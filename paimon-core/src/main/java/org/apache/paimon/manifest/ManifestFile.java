@@ -19,6 +19,8 @@
 package org.apache.paimon.manifest;
 
 import org.apache.paimon.annotation.VisibleForTesting;
+import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.format.FileFormat;
 import org.apache.paimon.format.FormatReaderFactory;
 import org.apache.paimon.format.FormatWriterFactory;
@@ -27,10 +29,17 @@ import org.apache.paimon.fs.FileIO;
 import org.apache.paimon.fs.Path;
 import org.apache.paimon.io.RollingFileWriter;
 import org.apache.paimon.io.SingleFileWriter;
+import org.apache.paimon.manifest.ManifestEntryCache.ManifestEntries;
+import org.apache.paimon.manifest.SimpleFileEntrySerializer.ExpireFileEntrySerializer;
+import org.apache.paimon.operation.metrics.CacheMetrics;
+import org.apache.paimon.partition.PartitionPredicate;
 import org.apache.paimon.schema.SchemaManager;
 import org.apache.paimon.stats.SimpleStatsConverter;
 import org.apache.paimon.types.RowType;
 import org.apache.paimon.utils.FileStorePathFactory;
+import org.apache.paimon.utils.FileUtils;
+import org.apache.paimon.utils.Filter;
+import org.apache.paimon.utils.ObjectSerializer;
 import org.apache.paimon.utils.ObjectsFile;
 import org.apache.paimon.utils.PathFactory;
 import org.apache.paimon.utils.SegmentsCache;
@@ -41,6 +50,7 @@ import javax.annotation.Nullable;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Function;
 
 /**
  * This file includes several {@link ManifestEntry}s, representing the additional changes since last
@@ -53,6 +63,10 @@ public class ManifestFile extends ObjectsFile<ManifestEntry> {
     private final FormatWriterFactory writerFactory;
     private final long suggestedFileSize;
 
+    private final FormatReaderFactory simpleReaderFactory;
+    @Nullable private final ManifestEntryCache entryCache;
+    @Nullable private CacheMetrics cacheMetrics;
+
     private ManifestFile(
             FileIO fileIO,
             SchemaManager schemaManager,
@@ -60,11 +74,13 @@ public class ManifestFile extends ObjectsFile<ManifestEntry> {
             ManifestEntrySerializer serializer,
             RowType schema,
             FormatReaderFactory readerFactory,
+            FormatReaderFactory simpleReaderFactory,
             FormatWriterFactory writerFactory,
             String compression,
             PathFactory pathFactory,
             long suggestedFileSize,
-            @Nullable SegmentsCache<Path> cache) {
+            @Nullable SegmentsCache<Path> cache,
+            @Nullable ManifestEntryCache entryCache) {
         super(
                 fileIO,
                 serializer,
@@ -78,6 +94,77 @@ public class ManifestFile extends ObjectsFile<ManifestEntry> {
         this.partitionType = partitionType;
         this.writerFactory = writerFactory;
         this.suggestedFileSize = suggestedFileSize;
+        this.simpleReaderFactory = simpleReaderFactory;
+        this.entryCache = entryCache;
+    }
+
+    @Override
+    public ManifestFile withCacheMetrics(@Nullable CacheMetrics cacheMetrics) {
+        super.withCacheMetrics(cacheMetrics);
+        this.cacheMetrics = cacheMetrics;
+        return this;
+    }
+
+    public boolean isEntryCacheEnabled() {
+        return entryCache != null;
+    }
+
+    /**
+     * Read {@link ManifestEntry}s of the partitions accepted by {@code partitionFilter} and the
+     * buckets accepted by {@code bucketFilter}. If the {@link ManifestEntryCache} is enabled,
+     * entries are served from the deserialized cache and only matching partitions are visited.
+     */
+    public List<ManifestEntry> read(
+            String fileName,
+            @Nullable Long fileSize,
+            @Nullable PartitionPredicate partitionFilter,
+            @Nullable Filter<Integer> bucketFilter,
+            Filter<ManifestEntry> entryFilter) {
+        if (entryCache == null) {
+            return read(
+                    fileName,
+                    fileSize,
+                    createEntryRowFilter(partitionFilter, bucketFilter),
+                    entryFilter);
+        }
+
+        Path path = pathFactory.toPath(fileName);
+        ManifestEntries entries = entryCache.getIfPresent(path);
+        if (entries != null) {
+            if (cacheMetrics != null) {
+                cacheMetrics.increaseHitObject();
+            }
+        } else {
+            if (cacheMetrics != null) {
+                cacheMetrics.increaseMissedObject();
+            }
+            try {
+                if (fileSize == null) {
+                    fileSize = fileSize(path);
+                }
+                entries =
+                        new ManifestEntries(
+                                readFromIterator(
+                                        createIterator(path, fileSize),
+                                        serializer,
+                                        Filter.alwaysTrue(),
+                                        Filter.alwaysTrue()));
+            } catch (IOException e) {
+                throw new RuntimeException("Failed to read " + fileName, e);
+            }
+            entryCache.put(path, entries);
+        }
+        return entries.filter(partitionFilter, bucketFilter, entryFilter);
+    }
+
+    private static Filter<InternalRow> createEntryRowFilter(
+            @Nullable PartitionPredicate partitionFilter, @Nullable Filter<Integer> bucketFilter) {
+        Function<InternalRow, BinaryRow> partitionGetter =
+                ManifestEntrySerializer.partitionGetter();
+        Function<InternalRow, Integer> bucketGetter = ManifestEntrySerializer.bucketGetter();
+        return row ->
+                (partitionFilter == null || partitionFilter.test(partitionGetter.apply(row)))
+                        && (bucketFilter == null || bucketFilter.test(bucketGetter.apply(row)));
     }
 
     @VisibleForTesting
@@ -86,6 +173,15 @@ public class ManifestFile extends ObjectsFile<ManifestEntry> {
     }
 
     public List<ExpireFileEntry> readExpireFileEntries(String fileName, @Nullable Long fileSize) {
+        if (projectionEnabled()) {
+            return readProjected(
+                    fileName,
+                    fileSize,
+                    new ExpireFileEntrySerializer(),
+                    Filter.alwaysTrue(),
+                    Filter.alwaysTrue());
+        }
+
         List<ManifestEntry> entries = read(fileName, fileSize);
         List<ExpireFileEntry> result = new ArrayList<>(entries.size());
         for (ManifestEntry entry : entries) {
@@ -94,6 +190,61 @@ public class ManifestFile extends ObjectsFile<ManifestEntry> {
         return result;
     }
 
+    /**
+     * Read {@link SimpleFileEntry}s. If no cache is enabled, only the columns of {@link
+     * SimpleFileEntrySerializer#SCHEMA} are read, which skips the statistics of data files, so
+     * columnar manifest formats read a fraction of the bytes.
+     *
+     * <p>NOTE: {@code readFilter} should only access top-level fields except {@code _FILE}.
+     */
+    public List<SimpleFileEntry> readSimpleEntries(
+            String fileName,
+            @Nullable Long fileSize,
+            Filter<InternalRow> readFilter,
+            Filter<SimpleFileEntry> readTFilter) {
+        if (projectionEnabled()) {
+            return readProjected(
+                    fileName, fileSize, new SimpleFileEntrySerializer(), readFilter, readTFilter);
+        }
+
+        List<ManifestEntry> entries = read(fileName, fileSize, readFilter, Filter.alwaysTrue());
+        List<SimpleFileEntry> result = new ArrayList<>(entries.size());
+        for (ManifestEntry entry : entries) {
+            SimpleFileEntry simple = SimpleFileEntry.from(entry);
+            if (readTFilter.test(simple)) {
+                result.add(simple);
+            }
+        }
+        return result;
+    }
+
+    private boolean projectionEnabled() {
+        // cached entries are cheaper than reading projected columns from file system
+        return !isCacheEnabled() && entryCache == null;
+    }
+
+    private <T> List<T> readProjected(
+            String fileName,
+            @Nullable Long fileSize,
+            ObjectSerializer<T> serializer,
+            Filter<InternalRow> readFilter,
+            Filter<T> readTFilter) {
+        try {
+            return readFromIterator(
+                    FileUtils.createFormatReader(
+                                    fileIO,
+                                    simpleReaderFactory,
+                                    pathFactory.toPath(fileName),
+                                    fileSize)
+                            .toCloseableIterator(),
+                    serializer,
+                    readFilter,
+                    readTFilter);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read " + fileName, e);
+        }
+    }
+
     /**
      * Write several {@link ManifestEntry}s into manifest files.
      *
@@ -198,6 +349,7 @@ public class ManifestFile extends ObjectsFile<ManifestEntry> {
         private final FileStorePathFactory pathFactory;
         private final long suggestedFileSize;
         @Nullable private final SegmentsCache<Path> cache;
+        @Nullable private final ManifestEntryCache entryCache;
 
         public Factory(
                 FileIO fileIO,
@@ -208,6 +360,28 @@ public class ManifestFile extends ObjectsFile<ManifestEntry> {
                 FileStorePathFactory pathFactory,
                 long suggestedFileSize,
                 @Nullable SegmentsCache<Path> cache) {
+            this(
+                    fileIO,
+                    schemaManager,
+                    partitionType,
+                    fileFormat,
+                    compression,
+                    pathFactory,
+                    suggestedFileSize,
+                    cache,
+                    null);
+        }
+
+        public Factory(
+                FileIO fileIO,
+                SchemaManager schemaManager,
+                RowType partitionType,
+                FileFormat fileFormat,
+                String compression,
+                FileStorePathFactory pathFactory,
+                long suggestedFileSize,
+                @Nullable SegmentsCache<Path> cache,
+                @Nullable ManifestEntryCache entryCache) {
             this.fileIO = fileIO;
             this.schemaManager = schemaManager;
             this.partitionType = partitionType;
@@ -216,6 +390,7 @@ public class ManifestFile extends ObjectsFile<ManifestEntry> {
             this.pathFactory = pathFactory;
             this.suggestedFileSize = suggestedFileSize;
             this.cache = cache;
+            this.entryCache = entryCache;
         }
 
         public boolean isCacheEnabled() {
@@ -224,6 +399,8 @@ public class ManifestFile extends ObjectsFile<ManifestEntry> {
 
         public ManifestFile create() {
             RowType entryType = VersionedObjectSerializer.versionType(ManifestEntry.SCHEMA);
+            RowType simpleEntryType =
+                    VersionedObjectSerializer.versionType(SimpleFileEntrySerializer.SCHEMA);
             return new ManifestFile(
                     fileIO,
                     schemaManager,
@@ -231,11 +408,13 @@ public class ManifestFile extends ObjectsFile<ManifestEntry> {
                     new ManifestEntrySerializer(),
                     entryType,
                     fileFormat.createReaderFactory(entryType),
+                    fileFormat.createReaderFactory(simpleEntryType),
                     fileFormat.createWriterFactory(entryType),
                     compression,
                     pathFactory.manifestFileFactory(),
                     suggestedFileSize,
-                    cache);
+                    cache,
+                    entryCache);
         }
     }
 }
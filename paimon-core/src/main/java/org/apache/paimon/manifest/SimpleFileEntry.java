@@ -142,6 +142,11 @@ public class SimpleFileEntry implements FileEntry {
         return extraFiles;
     }
 
+    @Nullable
+    public byte[] embeddedIndex() {
+        return embeddedIndex;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -0,0 +1,166 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.manifest;
+
+import org.apache.paimon.data.BinaryString;
+import org.apache.paimon.data.GenericRow;
+import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.io.DataFileMeta;
+import org.apache.paimon.types.DataField;
+import org.apache.paimon.types.RowType;
+import org.apache.paimon.utils.VersionedObjectSerializer;
+
+import java.util.Arrays;
+
+import static org.apache.paimon.utils.InternalRowUtils.fromStringArrayData;
+import static org.apache.paimon.utils.InternalRowUtils.toStringArrayData;
+import static org.apache.paimon.utils.SerializationUtils.deserializeBinaryRow;
+import static org.apache.paimon.utils.SerializationUtils.serializeBinaryRow;
+
+/**
+ * Serializer for {@link SimpleFileEntry}. Its schema is a projection of {@link
+ * ManifestEntry#SCHEMA}, so manifest files can be read by this serializer with a projected reader,
+ * skipping the statistics of data files.
+ */
+public class SimpleFileEntrySerializer extends VersionedObjectSerializer<SimpleFileEntry> {
+
+    private static final long serialVersionUID = 1L;
+
+    /** Fields of {@link DataFileMeta#SCHEMA} needed by {@link ExpireFileEntry}. */
+    static final RowType FILE_SCHEMA =
+            DataFileMeta.SCHEMA.project(
+                    "_FILE_NAME",
+                    "_MIN_KEY",
+                    "_MAX_KEY",
+                    "_LEVEL",
+                    "_EXTRA_FILES",
+                    "_EMBEDDED_FILE_INDEX",
+                    "_FILE_SOURCE",
+                    "_EXTERNAL_PATH");
+
+    public static final RowType SCHEMA =
+            new RowType(
+                    false,
+                    Arrays.asList(
+                            ManifestEntry.SCHEMA.getField("_KIND"),
+                            ManifestEntry.SCHEMA.getField("_PARTITION"),
+                            ManifestEntry.SCHEMA.getField("_BUCKET"),
+                            ManifestEntry.SCHEMA.getField("_TOTAL_BUCKETS"),
+                            new DataField(4, "_FILE", FILE_SCHEMA)));
+
+    public SimpleFileEntrySerializer() {
+        super(SCHEMA);
+    }
+
+    @Override
+    public int getVersion() {
+        return 2;
+    }
+
+    @Override
+    public InternalRow convertTo(SimpleFileEntry entry) {
+        GenericRow file = new GenericRow(FILE_SCHEMA.getFieldCount());
+        file.setField(0, BinaryString.fromString(entry.fileName()));
+        file.setField(1, serializeBinaryRow(entry.minKey()));
+        file.setField(2, serializeBinaryRow(entry.maxKey()));
+        file.setField(3, entry.level());
+        file.setField(4, toStringArrayData(entry.extraFiles()));
+        file.setField(5, entry.embeddedIndex());
+        if (entry instanceof ExpireFileEntry) {
+            ((ExpireFileEntry) entry)
+                    .fileSource()
+                    .ifPresent(source -> file.setField(6, source.toByteValue()));
+        }
+        file.setField(7, BinaryString.fromString(entry.externalPath()));
+
+        GenericRow row = new GenericRow(5);
+        row.setField(0, entry.kind().toByteValue());
+        row.setField(1, serializeBinaryRow(entry.partition()));
+        row.setField(2, entry.bucket());
+        row.setField(3, entry.totalBuckets());
+        row.setField(4, file);
+        return row;
+    }
+
+    @Override
+    public SimpleFileEntry convertFrom(int version, InternalRow row) {
+        checkVersion(version);
+        InternalRow file = row.getRow(4, FILE_SCHEMA.getFieldCount());
+        return new SimpleFileEntry(
+                FileKind.fromByteValue(row.getByte(0)),
+                deserializeBinaryRow(row.getBinary(1)),
+                row.getInt(2),
+                row.getInt(3),
+                file.getInt(3),
+                file.getString(0).toString(),
+                fromStringArrayData(file.getArray(4)),
+                file.isNullAt(5) ? null : file.getBinary(5),
+                deserializeBinaryRow(file.getBinary(1)),
+                deserializeBinaryRow(file.getBinary(2)),
+                file.isNullAt(7) ? null : file.getString(7).toString());
+    }
+
+    static void checkVersion(int version) {
+        if (version != 2) {
+            throw new IllegalArgumentException("Unsupported version: " + version);
+        }
+    }
+
+    /** Serializer for {@link ExpireFileEntry}, shares the schema of {@link SimpleFileEntry}. */
+    public static class ExpireFileEntrySerializer
+            extends VersionedObjectSerializer<ExpireFileEntry> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final SimpleFileEntrySerializer serializer = new SimpleFileEntrySerializer();
+
+        public ExpireFileEntrySerializer() {
+            super(SCHEMA);
+        }
+
+        @Override
+        public int getVersion() {
+            return serializer.getVersion();
+        }
+
+        @Override
+        public InternalRow convertTo(ExpireFileEntry entry) {
+            return serializer.convertTo(entry);
+        }
+
+        @Override
+        public ExpireFileEntry convertFrom(int version, InternalRow row) {
+            checkVersion(version);
+            InternalRow file = row.getRow(4, FILE_SCHEMA.getFieldCount());
+            return new ExpireFileEntry(
+                    FileKind.fromByteValue(row.getByte(0)),
+                    deserializeBinaryRow(row.getBinary(1)),
+                    row.getInt(2),
+                    row.getInt(3),
+                    file.getInt(3),
+                    file.getString(0).toString(),
+                    fromStringArrayData(file.getArray(4)),
+                    file.isNullAt(5) ? null : file.getBinary(5),
+                    deserializeBinaryRow(file.getBinary(1)),
+                    deserializeBinaryRow(file.getBinary(2)),
+                    file.isNullAt(6) ? null : FileSource.fromByteValue(file.getByte(6)),
+                    file.isNullAt(7) ? null : file.getString(7).toString());
+        }
+    }
+}
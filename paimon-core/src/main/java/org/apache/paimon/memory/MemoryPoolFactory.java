@@ -23,12 +23,19 @@ import org.apache.paimon.annotation.VisibleForTesting;
 import org.apache.paimon.shade.guava30.com.google.common.collect.Iterators;
 
 import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
 
 import static org.apache.paimon.utils.Preconditions.checkNotNull;
 
 /**
  * A factory which creates {@link MemorySegmentPool} from {@link MemoryOwner}. The returned memory
  * pool will try to preempt memory when there is no memory left.
+ *
+ * <p>Each owner deserves a share of the memory by its recent allocation rate, which decays by half
+ * every time the total memory is allocated. The owner holding the most memory beyond its share is
+ * preempted, so idle owners are flushed before the busy ones. If no owner holds more than its
+ * share, the owner holding the most memory is preempted.
  */
 public class MemoryPoolFactory {
 
@@ -36,14 +43,18 @@ public class MemoryPoolFactory {
     private final int totalPages;
 
     private Iterable<MemoryOwner> owners;
+    private final Map<MemoryOwner, OwnerStats> ownerStats;
+    private long allocatedPages;
 
     private final long totalBufferSize;
     private long bufferPreemptCount;
+    private long idleBufferPreemptCount;
 
     public MemoryPoolFactory(MemorySegmentPool innerPool) {
         this.innerPool = innerPool;
         this.totalPages = innerPool.freePages();
         this.totalBufferSize = (long) totalPages * innerPool.pageSize();
+        this.ownerStats = new WeakHashMap<>();
     }
 
     public MemoryPoolFactory addOwners(Iterable<MemoryOwner> newOwners) {
@@ -67,25 +78,56 @@ public class MemoryPoolFactory {
     }
 
     MemorySegmentPool createSubPool(MemoryOwner owner) {
-        return new OwnerMemoryPool(owner);
+        OwnerStats stats = new OwnerStats();
+        ownerStats.put(owner, stats);
+        return new OwnerMemoryPool(owner, stats);
     }
 
     private void preemptMemory(MemoryOwner owner) {
+        double totalRate = 0;
+        for (MemoryOwner other : owners) {
+            OwnerStats stats = ownerStats.get(other);
+            if (stats != null) {
+                totalRate += stats.rate(allocatedPages, totalPages);
+            }
+        }
+
         long maxMemory = 0;
         MemoryOwner max = null;
+        double maxExcess = 0;
+        MemoryOwner maxExcessOwner = null;
         for (MemoryOwner other : owners) {
             // Don't preempt yourself! Write and flush at the same time, which may lead to
             // inconsistent state
-            if (other != owner && other.memoryOccupancy() > maxMemory) {
-                maxMemory = other.memoryOccupancy();
+            if (other == owner) {
+                continue;
+            }
+
+            long memory = other.memoryOccupancy();
+            if (memory > maxMemory) {
+                maxMemory = memory;
                 max = other;
             }
+
+            OwnerStats stats = ownerStats.get(other);
+            if (memory > 0 && stats != null && totalRate > 0) {
+                double share = totalPages * stats.rate(allocatedPages, totalPages) / totalRate;
+                double excess = stats.pages - share;
+                if (excess > maxExcess) {
+                    maxExcess = excess;
+                    maxExcessOwner = other;
+                }
+            }
         }
 
-        if (max != null) {
+        MemoryOwner preempted = maxExcessOwner == null ? max : maxExcessOwner;
+        if (preempted != null) {
             try {
-                max.flushMemory();
+                preempted.flushMemory();
                 ++bufferPreemptCount;
+                if (preempted != max) {
+                    ++idleBufferPreemptCount;
+                }
             } catch (Exception e) {
                 throw new RuntimeException(e);
             }
@@ -96,6 +138,33 @@ public class MemoryPoolFactory {
         return bufferPreemptCount;
     }
 
+    /** Number of preemptions which flushed an idle owner instead of the owner using most memory. */
+    public long idleBufferPreemptCount() {
+        return idleBufferPreemptCount;
+    }
+
+    public long maxOwnerBufferSize() {
+        long maxBufferSize = 0L;
+        if (owners != null) {
+            for (MemoryOwner owner : owners) {
+                maxBufferSize = Math.max(maxBufferSize, owner.memoryOccupancy());
+            }
+        }
+        return maxBufferSize;
+    }
+
+    public long numBufferingOwners() {
+        long numBufferingOwners = 0L;
+        if (owners != null) {
+            for (MemoryOwner owner : owners) {
+                if (owner.memoryOccupancy() > 0) {
+                    numBufferingOwners++;
+                }
+            }
+        }
+        return numBufferingOwners;
+    }
+
     public long usedBufferSize() {
         long usedBufferSize = 0L;
         if (owners != null) {
@@ -110,14 +179,34 @@ public class MemoryPoolFactory {
         return totalBufferSize;
     }
 
+    /** Allocation statistics of an owner, it must not refer to the owner. */
+    private static class OwnerStats {
+
+        private int pages;
+        private double rate;
+        private long lastAllocation;
+
+        private double rate(long now, int halfLife) {
+            return rate * Math.pow(0.5, (double) (now - lastAllocation) / Math.max(halfLife, 1));
+        }
+
+        private void allocate(long now, int halfLife) {
+            rate = rate(now, halfLife) + 1;
+            lastAllocation = now;
+            pages++;
+        }
+    }
+
     private class OwnerMemoryPool implements MemorySegmentPool {
 
         private final MemoryOwner owner;
+        private final OwnerStats stats;
 
         private int allocatedPages = 0;
 
-        public OwnerMemoryPool(MemoryOwner owner) {
+        public OwnerMemoryPool(MemoryOwner owner, OwnerStats stats) {
             this.owner = owner;
+            this.stats = stats;
         }
 
         @Override
@@ -128,6 +217,7 @@ public class MemoryPoolFactory {
         @Override
         public void returnAll(List<MemorySegment> memory) {
             allocatedPages -= memory.size();
+            stats.pages -= memory.size();
             innerPool.returnAll(memory);
         }
 
@@ -145,6 +235,7 @@ public class MemoryPoolFactory {
             }
             if (segment != null) {
                 allocatedPages++;
+                stats.allocate(MemoryPoolFactory.this.allocatedPages++, totalPages);
             }
             return segment;
         }
@@ -56,6 +56,7 @@ public class LookupFile {
     private long requestCount;
     private long hitCount;
     private boolean isClosed = false;
+    private volatile boolean retainLocalFile = false;
 
     public LookupFile(
             File localFile, DataFileMeta remoteFile, LookupStoreReader reader, Runnable callback) {
@@ -84,10 +85,21 @@ public class LookupFile {
         return isClosed;
     }
 
+    /**
+     * Keeps the local file when closing, so it can be restored by {@link PersistentLookupFiles}.
+     */
+    public void retainLocalFile() {
+        this.retainLocalFile = true;
+    }
+
     public void close(RemovalCause cause) throws IOException {
         reader.close();
         isClosed = true;
         callback.run();
+        if (retainLocalFile) {
+            LOG.info("Close lookup file {} and retain it for restoring.", localFile.getName());
+            return;
+        }
         LOG.info(
                 "Delete Lookup file {} due to {}. Access stats: requestCount={}, hitCount={}, size={}KB",
                 localFile.getName(),
@@ -23,6 +23,7 @@ import org.apache.paimon.annotation.VisibleForTesting;
 import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.data.serializer.RowCompactedSerializer;
 import org.apache.paimon.io.DataFileMeta;
+import org.apache.paimon.io.KeyBloomFilterFile;
 import org.apache.paimon.lookup.LookupStoreFactory;
 import org.apache.paimon.lookup.LookupStoreWriter;
 import org.apache.paimon.memory.MemorySegment;
@@ -41,6 +42,7 @@ import javax.annotation.Nullable;
 import java.io.Closeable;
 import java.io.File;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.HashSet;
@@ -63,9 +65,13 @@ public class LookupLevels<T> implements Levels.DropFileCallback, Closeable {
     private final Function<String, File> localFileFactory;
     private final LookupStoreFactory lookupStoreFactory;
     private final Function<Long, BloomFilter.Builder> bfGenerator;
+    private final IOFunction<DataFileMeta, BloomFilter> keyBloomFilterLoader;
 
     private final Cache<String, LookupFile> lookupFileCache;
     private final Set<String> ownCachedFiles;
+    private final Cache<String, BloomFilter> keyBloomFilterCache;
+
+    @Nullable private PersistentLookupFiles persistentFiles;
 
     public LookupLevels(
             Levels levels,
@@ -76,6 +82,8 @@ public class LookupLevels<T> implements Levels.DropFileCallback, Closeable {
             Function<String, File> localFileFactory,
             LookupStoreFactory lookupStoreFactory,
             Function<Long, BloomFilter.Builder> bfGenerator,
+            IOFunction<DataFileMeta, BloomFilter> keyBloomFilterLoader,
+            Cache<String, BloomFilter> keyBloomFilterCache,
             Cache<String, LookupFile> lookupFileCache) {
         this.levels = levels;
         this.keyComparator = keyComparator;
@@ -85,6 +93,8 @@ public class LookupLevels<T> implements Levels.DropFileCallback, Closeable {
         this.localFileFactory = localFileFactory;
         this.lookupStoreFactory = lookupStoreFactory;
         this.bfGenerator = bfGenerator;
+        this.keyBloomFilterLoader = keyBloomFilterLoader;
+        this.keyBloomFilterCache = keyBloomFilterCache;
         this.lookupFileCache = lookupFileCache;
         this.ownCachedFiles = new HashSet<>();
         levels.addDropFileCallback(this);
@@ -94,6 +104,18 @@ public class LookupLevels<T> implements Levels.DropFileCallback, Closeable {
         return levels;
     }
 
+    /**
+     * Keeps lookup files in the given stable directory, persisted files of the current data files
+     * are reused and the others are removed.
+     */
+    public LookupLevels<T> withPersistentFiles(PersistentLookupFiles persistentFiles) {
+        Set<String> dataFileNames = new HashSet<>();
+        levels.allFiles().forEach(file -> dataFileNames.add(file.fileName()));
+        persistentFiles.cleanUnused(dataFileNames);
+        this.persistentFiles = persistentFiles;
+        return this;
+    }
+
     @VisibleForTesting
     Cache<String, LookupFile> lookupFiles() {
         return lookupFileCache;
@@ -104,9 +126,15 @@ public class LookupLevels<T> implements Levels.DropFileCallback, Closeable {
         return ownCachedFiles;
     }
 
+    @VisibleForTesting
+    Cache<String, BloomFilter> keyBloomFilters() {
+        return keyBloomFilterCache;
+    }
+
     @Override
     public void notifyDropFile(String file) {
         lookupFileCache.invalidate(file);
+        keyBloomFilterCache.invalidate(file);
     }
 
     @Nullable
@@ -127,16 +155,20 @@ public class LookupLevels<T> implements Levels.DropFileCallback, Closeable {
     @Nullable
     private T lookup(InternalRow key, DataFileMeta file) throws IOException {
         LookupFile lookupFile = lookupFileCache.getIfPresent(file.fileName());
+        byte[] keyBytes = keySerializer.serializeToBytes(key);
 
         boolean newCreatedLookupFile = false;
         if (lookupFile == null) {
+            if (!mightContain(file, keyBytes)) {
+                // new keys do not need to build a local lookup file for this file
+                return null;
+            }
             lookupFile = createLookupFile(file);
             newCreatedLookupFile = true;
         }
 
         byte[] valueBytes;
         try {
-            byte[] keyBytes = keySerializer.serializeToBytes(key);
             valueBytes = lookupFile.get(keyBytes);
         } finally {
             if (newCreatedLookupFile) {
@@ -151,8 +183,38 @@ public class LookupLevels<T> implements Levels.DropFileCallback, Closeable {
                 key, lookupFile.remoteFile().level(), valueBytes, file.fileName());
     }
 
+    private boolean mightContain(DataFileMeta file, byte[] keyBytes) throws IOException {
+        BloomFilter keyBloomFilter;
+        try {
+            // files without key bloom filter are not cached, they are checked without reading
+            keyBloomFilter =
+                    keyBloomFilterCache.get(
+                            file.fileName(),
+                            k -> {
+                                try {
+                                    return keyBloomFilterLoader.apply(file);
+                                } catch (IOException e) {
+                                    throw new UncheckedIOException(e);
+                                }
+                            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        return keyBloomFilter == null || keyBloomFilter.testHash(KeyBloomFilterFile.hash(keyBytes));
+    }
+
     private LookupFile createLookupFile(DataFileMeta file) throws IOException {
-        File localFile = localFileFactory.apply(file.fileName());
+        if (persistentFiles != null) {
+            PersistentLookupFiles.Restored restored = persistentFiles.restore(file);
+            if (restored != null) {
+                return newLookupFile(file, restored.localFile(), restored.context());
+            }
+        }
+
+        File localFile =
+                persistentFiles == null
+                        ? localFileFactory.apply(file.fileName())
+                        : persistentFiles.newLocalFile(file);
         if (!localFile.createNewFile()) {
             throw new IOException("Can not create new file: " + localFile);
         }
@@ -190,6 +252,15 @@ public class LookupLevels<T> implements Levels.DropFileCallback, Closeable {
             context = kvWriter.close();
         }
 
+        if (persistentFiles != null) {
+            persistentFiles.persist(file, localFile, context);
+        }
+        return newLookupFile(file, localFile, context);
+    }
+
+    private LookupFile newLookupFile(
+            DataFileMeta file, File localFile, LookupStoreFactory.Context context)
+            throws IOException {
         ownCachedFiles.add(file.fileName());
         return new LookupFile(
                 localFile,
@@ -202,13 +273,26 @@ public class LookupLevels<T> implements Levels.DropFileCallback, Closeable {
     public void close() throws IOException {
         Set<String> toClean = new HashSet<>(ownCachedFiles);
         for (String cachedFile : toClean) {
+            if (persistentFiles != null) {
+                LookupFile lookupFile = lookupFileCache.getIfPresent(cachedFile);
+                if (lookupFile != null) {
+                    lookupFile.retainLocalFile();
+                }
+            }
             lookupFileCache.invalidate(cachedFile);
         }
+        levels.allFiles().forEach(file -> keyBloomFilterCache.invalidate(file.fileName()));
+        if (persistentFiles != null) {
+            persistentFiles.close();
+        }
     }
 
     /** Processor to process value. */
     public interface ValueProcessor<T> {
 
+        /** Identifies the layout of persisted values, to check if a lookup file can be reused. */
+        String identifier();
+
         boolean withPosition();
 
         byte[] persistToDisk(KeyValue kv);
@@ -223,12 +307,19 @@ public class LookupLevels<T> implements Levels.DropFileCallback, Closeable {
     /** A {@link ValueProcessor} to return {@link KeyValue}. */
     public static class KeyValueProcessor implements ValueProcessor<KeyValue> {
 
+        private final RowType valueType;
         private final RowCompactedSerializer valueSerializer;
 
         public KeyValueProcessor(RowType valueType) {
+            this.valueType = valueType;
             this.valueSerializer = new RowCompactedSerializer(valueType);
         }
 
+        @Override
+        public String identifier() {
+            return "key-value:" + valueType;
+        }
+
         @Override
         public boolean withPosition() {
             return false;
@@ -259,6 +350,11 @@ public class LookupLevels<T> implements Levels.DropFileCallback, Closeable {
 
         private static final byte[] EMPTY_BYTES = new byte[0];
 
+        @Override
+        public String identifier() {
+            return "contains";
+        }
+
         @Override
         public boolean withPosition() {
             return false;
@@ -277,14 +373,21 @@ public class LookupLevels<T> implements Levels.DropFileCallback, Closeable {
 
     /** A {@link ValueProcessor} to return {@link PositionedKeyValue}. */
     public static class PositionedKeyValueProcessor implements ValueProcessor<PositionedKeyValue> {
+        private final RowType valueType;
         private final boolean persistValue;
         private final RowCompactedSerializer valueSerializer;
 
         public PositionedKeyValueProcessor(RowType valueType, boolean persistValue) {
+            this.valueType = valueType;
             this.persistValue = persistValue;
             this.valueSerializer = persistValue ? new RowCompactedSerializer(valueType) : null;
         }
 
+        @Override
+        public String identifier() {
+            return persistValue ? "positioned-key-value:" + valueType : "position";
+        }
+
         @Override
         public boolean withPosition() {
             return true;
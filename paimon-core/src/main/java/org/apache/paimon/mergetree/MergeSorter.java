@@ -33,6 +33,7 @@ import org.apache.paimon.disk.ChannelWriterOutputView;
 import org.apache.paimon.disk.FileChannelUtil;
 import org.apache.paimon.disk.FileIOChannel;
 import org.apache.paimon.disk.IOManager;
+import org.apache.paimon.disk.SpillStats;
 import org.apache.paimon.memory.CachelessSegmentPool;
 import org.apache.paimon.memory.MemorySegmentPool;
 import org.apache.paimon.mergetree.compact.MergeFunctionWrapper;
@@ -153,6 +154,11 @@ public class MergeSorter {
             readers.add(spill(supplier));
         }
 
+        SpillStats spillStats = ioManager.spillStats();
+        if (spillStats != null) {
+            spillStats.recordMerge(readers.size());
+        }
+
         return mergeSortNoSpill(readers, keyComparator, userDefinedSeqComparator, mergeFunction);
     }
 
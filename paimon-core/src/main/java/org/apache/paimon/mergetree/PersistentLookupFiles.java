@@ -0,0 +1,309 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.mergetree;
+
+import org.apache.paimon.CoreOptions;
+import org.apache.paimon.catalog.Identifier;
+import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.io.DataFileMeta;
+import org.apache.paimon.lookup.LookupStoreFactory;
+import org.apache.paimon.schema.SchemaManager;
+import org.apache.paimon.types.RowType;
+import org.apache.paimon.utils.FileIOUtils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Set;
+
+import static org.apache.paimon.utils.InternalRowPartitionComputer.partToSimpleString;
+
+/**
+ * Lookup files of one bucket kept in a stable local directory, configured by {@link
+ * CoreOptions#LOOKUP_CACHE_PERSIST_DIR}, so that they can be reused after a restart instead of
+ * being built from remote data files again.
+ *
+ * <p>Each lookup file is named by its data file, and has a meta file which is written after the
+ * lookup file is complete. The meta file records the data file, a fingerprint of everything that
+ * affects the lookup file content, and the context to reopen the lookup store. A lookup file is
+ * only restored when all of them match.
+ *
+ * <p>Lookup files of a bucket may be built by several owners on one host at the same time, for
+ * example parallel lookup subtasks which all query the bucket. Each owner holds an exclusive file
+ * lock on its own sub directory of the bucket, and the sub directory is reused by the next owner
+ * after the lock is released, so that lookup files are neither shared nor lost across restarts.
+ */
+public class PersistentLookupFiles implements Closeable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PersistentLookupFiles.class);
+
+    private static final int VERSION = 1;
+    private static final String LOOKUP_FILE_SUFFIX = ".lookup";
+    private static final String META_FILE_SUFFIX = ".meta";
+    private static final String OWNER_PREFIX = "owner-";
+    private static final String LOCK_FILE_SUFFIX = ".lock";
+
+    private final File directory;
+    private final String fingerprint;
+    private final LookupStoreFactory lookupStoreFactory;
+    @Nullable private final FileLock ownerLock;
+
+    /** Creates persistent lookup files in a directory exclusively owned by the caller. */
+    public PersistentLookupFiles(
+            File directory, String fingerprint, LookupStoreFactory lookupStoreFactory) {
+        this(directory, fingerprint, lookupStoreFactory, null);
+    }
+
+    private PersistentLookupFiles(
+            File directory,
+            String fingerprint,
+            LookupStoreFactory lookupStoreFactory,
+            @Nullable FileLock ownerLock) {
+        this.directory = directory;
+        this.fingerprint = fingerprint;
+        this.lookupStoreFactory = lookupStoreFactory;
+        this.ownerLock = ownerLock;
+    }
+
+    /**
+     * Creates persistent lookup files of a bucket in {@link CoreOptions#lookupCachePersistDir()}.
+     * The files are kept under the full name of the table with its branch, and {@code user}
+     * separates lookup files of the same bucket built for different purposes, for example
+     * compaction and table query. The returned instance must be closed to release its sub directory
+     * of the bucket.
+     *
+     * @param identifier identifier of the table, the table path is used if it is null
+     */
+    public static PersistentLookupFiles create(
+            CoreOptions options,
+            @Nullable Identifier identifier,
+            String user,
+            RowType partitionType,
+            BinaryRow partition,
+            int bucket,
+            String fingerprint,
+            LookupStoreFactory lookupStoreFactory) {
+        if (identifier == null) {
+            identifier = SchemaManager.identifierFromPath(options.path().toString(), true);
+        }
+        String tableDir =
+                new Identifier(
+                                identifier.getDatabaseName(),
+                                identifier.getTableName(),
+                                options.branch())
+                        .getFullName();
+        String bucketDir =
+                partition.getFieldCount() == 0
+                        ? "bucket-" + bucket
+                        : String.format(
+                                "%s-%08x-bucket-%s",
+                                partToSimpleString(partitionType, partition, "-", 20),
+                                partition.hashCode(),
+                                bucket);
+        File directory =
+                new File(
+                        new File(new File(options.lookupCachePersistDir(), tableDir), user),
+                        bucketDir);
+        try {
+            Files.createDirectories(directory.toPath());
+            for (int owner = 0; ; owner++) {
+                FileLock lock =
+                        tryLock(new File(directory, OWNER_PREFIX + owner + LOCK_FILE_SUFFIX));
+                if (lock != null) {
+                    return new PersistentLookupFiles(
+                            new File(directory, OWNER_PREFIX + owner),
+                            fingerprint,
+                            lookupStoreFactory,
+                            lock);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /** Returns the lock of the file, or null if it is held by another owner on this host. */
+    @Nullable
+    private static FileLock tryLock(File lockFile) throws IOException {
+        FileChannel channel =
+                FileChannel.open(
+                        lockFile.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        FileLock lock;
+        try {
+            lock = channel.tryLock();
+        } catch (OverlappingFileLockException e) {
+            // held by another owner in this JVM
+            lock = null;
+        }
+        if (lock == null) {
+            channel.close();
+        }
+        return lock;
+    }
+
+    /**
+     * Fingerprint of the things which affect the content of lookup files besides the data file
+     * itself.
+     */
+    public static String fingerprint(
+            CoreOptions options, RowType keyType, String valueProcessorIdentifier) {
+        return String.join(
+                ";",
+                options.lookupLocalFileType().toString(),
+                options.lookupCompressOptions().toString(),
+                String.valueOf(options.cachePageSize()),
+                keyType.toString(),
+                valueProcessorIdentifier);
+    }
+
+    /** Returns a new local file for the data file, removing the stale one if any. */
+    public File newLocalFile(DataFileMeta file) throws IOException {
+        Files.createDirectories(directory.toPath());
+        File localFile = localFile(file.fileName());
+        FileIOUtils.deleteFileOrDirectory(metaFile(file.fileName()));
+        FileIOUtils.deleteFileOrDirectory(localFile);
+        return localFile;
+    }
+
+    /** Records the written lookup file, it can be restored after this method returns. */
+    public void persist(DataFileMeta file, File localFile, LookupStoreFactory.Context context)
+            throws IOException {
+        File metaFile = metaFile(file.fileName());
+        File tmpFile = new File(directory, metaFile.getName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new FileOutputStream(tmpFile))) {
+            out.writeInt(VERSION);
+            out.writeUTF(file.fileName());
+            out.writeLong(file.fileSize());
+            out.writeLong(file.rowCount());
+            out.writeLong(file.schemaId());
+            out.writeUTF(fingerprint);
+            out.writeLong(localFile.length());
+            lookupStoreFactory.serializeContext(context, out);
+        }
+        Files.move(tmpFile.toPath(), metaFile.toPath(), StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Restores the persisted lookup file of the data file. Returns null and removes the persisted
+     * files if they do not exist or do not match the data file.
+     */
+    @Nullable
+    public Restored restore(DataFileMeta file) {
+        File localFile = localFile(file.fileName());
+        File metaFile = metaFile(file.fileName());
+        if (!metaFile.exists() || !localFile.exists()) {
+            return null;
+        }
+
+        try (DataInputStream in = new DataInputStream(new FileInputStream(metaFile))) {
+            if (in.readInt() == VERSION
+                    && in.readUTF().equals(file.fileName())
+                    && in.readLong() == file.fileSize()
+                    && in.readLong() == file.rowCount()
+                    && in.readLong() == file.schemaId()
+                    && in.readUTF().equals(fingerprint)
+                    && in.readLong() == localFile.length()) {
+                return new Restored(localFile, lookupStoreFactory.deserializeContext(in));
+            }
+        } catch (IOException e) {
+            LOG.warn("Failed to restore lookup file {}, it will be rebuilt.", localFile, e);
+        }
+
+        deleteQuietly(metaFile);
+        deleteQuietly(localFile);
+        return null;
+    }
+
+    /** Removes persisted files whose data files are not in {@code dataFileNames} anymore. */
+    public void cleanUnused(Set<String> dataFileNames) {
+        File[] files = directory.listFiles();
+        if (files == null) {
+            return;
+        }
+
+        for (File file : files) {
+            String name = file.getName();
+            int index = name.lastIndexOf(LOOKUP_FILE_SUFFIX);
+            if (index < 0 || !dataFileNames.contains(name.substring(0, index))) {
+                LOG.info("Delete unused persisted lookup file {}.", file);
+                deleteQuietly(file);
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (ownerLock != null) {
+            // closing the channel releases the lock
+            ownerLock.channel().close();
+        }
+    }
+
+    private static void deleteQuietly(File file) {
+        try {
+            FileIOUtils.deleteFileOrDirectory(file);
+        } catch (IOException e) {
+            LOG.warn("Failed to delete persisted lookup file {}.", file, e);
+        }
+    }
+
+    private File localFile(String dataFileName) {
+        return new File(directory, dataFileName + LOOKUP_FILE_SUFFIX);
+    }
+
+    private File metaFile(String dataFileName) {
+        return new File(directory, dataFileName + LOOKUP_FILE_SUFFIX + META_FILE_SUFFIX);
+    }
+
+    /** A restored lookup file with the context to open it. */
+    public static class Restored {
+
+        private final File localFile;
+        private final LookupStoreFactory.Context context;
+
+        private Restored(File localFile, LookupStoreFactory.Context context) {
+            this.localFile = localFile;
+            this.context = context;
+        }
+
+        public File localFile() {
+            return localFile;
+        }
+
+        public LookupStoreFactory.Context context() {
+            return context;
+        }
+    }
+}
@@ -23,6 +23,7 @@ import org.apache.paimon.annotation.VisibleForTesting;
 import org.apache.paimon.compact.CompactDeletionFile;
 import org.apache.paimon.compact.CompactFutureManager;
 import org.apache.paimon.compact.CompactResult;
+import org.apache.paimon.compact.CompactScheduler;
 import org.apache.paimon.compact.CompactTask;
 import org.apache.paimon.compact.CompactUnit;
 import org.apache.paimon.data.InternalRow;
@@ -70,6 +71,8 @@ public class MergeTreeCompactManager extends CompactFutureManager {
 
     @Nullable private final RecordLevelExpire recordLevelExpire;
 
+    @Nullable private CompactScheduler scheduler;
+
     public MergeTreeCompactManager(
             ExecutorService executor,
             Levels levels,
@@ -101,6 +104,20 @@ public class MergeTreeCompactManager extends CompactFutureManager {
         MetricUtils.safeCall(this::reportMetrics, LOG);
     }
 
+    /** Submits compaction tasks to the given scheduler instead of the executor. */
+    public MergeTreeCompactManager withCompactScheduler(@Nullable CompactScheduler scheduler) {
+        this.scheduler = scheduler;
+        return this;
+    }
+
+    /**
+     * Compaction debt of this bucket, which is the number of sorted runs relative to the stop
+     * trigger. Reads merge all sorted runs, and writes stop when the debt exceeds 1.
+     */
+    public double compactionDebt() {
+        return levels.numberOfSortedRuns() / (double) numSortedRunStopTrigger;
+    }
+
     @Override
     public boolean shouldWaitForLatestCompaction() {
         return levels.numberOfSortedRuns() > numSortedRunStopTrigger;
@@ -115,6 +132,9 @@ public class MergeTreeCompactManager extends CompactFutureManager {
     @Override
     public void addNewFile(DataFileMeta file) {
         levels.addLevel0File(file);
+        if (taskFuture instanceof CompactScheduler.ScheduledTask) {
+            ((CompactScheduler.ScheduledTask) taskFuture).updateDebt(compactionDebt());
+        }
         MetricUtils.safeCall(this::reportMetrics, LOG);
     }
 
@@ -237,7 +257,12 @@ public class MergeTreeCompactManager extends CompactFutureManager {
                                                     file.fileName(), file.level(), file.fileSize()))
                             .collect(Collectors.joining(", ")));
         }
-        taskFuture = executor.submit(task);
+        if (scheduler == null) {
+            taskFuture = executor.submit(task);
+        } else {
+            long inputSize = unit.files().stream().mapToLong(DataFileMeta::fileSize).sum();
+            taskFuture = scheduler.submit(task, inputSize, compactionDebt());
+        }
         if (metricsReporter != null) {
             metricsReporter.increaseCompactionsQueuedCount();
         }
@@ -279,6 +304,7 @@ public class MergeTreeCompactManager extends CompactFutureManager {
         if (metricsReporter != null) {
             metricsReporter.reportLevel0FileCount(levels.level0().size());
             metricsReporter.reportTotalFileSize(levels.totalFileSize());
+            metricsReporter.reportCompactionDebt(compactionDebt());
         }
     }
 
@@ -20,6 +20,9 @@ package org.apache.paimon.mergetree.compact;
 
 import org.apache.paimon.CoreOptions;
 import org.apache.paimon.KeyValue;
+import org.apache.paimon.codegen.CodeGenUtils;
+import org.apache.paimon.codegen.RowMerger;
+import org.apache.paimon.codegen.RowMerger.FieldMergeKind;
 import org.apache.paimon.data.GenericRow;
 import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.mergetree.compact.aggregate.FieldAggregator;
@@ -37,6 +40,9 @@ import org.apache.paimon.utils.Preconditions;
 import org.apache.paimon.utils.Projection;
 import org.apache.paimon.utils.UserDefinedSeqComparator;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import javax.annotation.Nullable;
 
 import java.util.ArrayList;
@@ -67,6 +73,8 @@ import static org.apache.paimon.utils.Preconditions.checkArgument;
  */
 public class PartialUpdateMergeFunction implements MergeFunction<KeyValue> {
 
+    private static final Logger LOG = LoggerFactory.getLogger(PartialUpdateMergeFunction.class);
+
     public static final String SEQUENCE_GROUP = "sequence-group";
 
     private final InternalRow.FieldGetter[] getters;
@@ -78,6 +86,10 @@ public class PartialUpdateMergeFunction implements MergeFunction<KeyValue> {
     private final Set<Integer> sequenceGroupPartialDelete;
     private final boolean[] nullables;
 
+    /** Generated merger of non-null fields, used until the first retraction of a key. */
+    @Nullable private final RowMerger merger;
+
+    private boolean merging;
     private InternalRow currentKey;
     private long latestSequenceNumber;
     private GenericRow row;
@@ -100,6 +112,28 @@ public class PartialUpdateMergeFunction implements MergeFunction<KeyValue> {
             boolean removeRecordOnDelete,
             Set<Integer> sequenceGroupPartialDelete,
             boolean[] nullables) {
+        this(
+                getters,
+                ignoreDelete,
+                fieldSeqComparators,
+                fieldAggregators,
+                fieldSequenceEnabled,
+                removeRecordOnDelete,
+                sequenceGroupPartialDelete,
+                nullables,
+                null);
+    }
+
+    protected PartialUpdateMergeFunction(
+            InternalRow.FieldGetter[] getters,
+            boolean ignoreDelete,
+            Map<Integer, FieldsComparator> fieldSeqComparators,
+            Map<Integer, FieldAggregator> fieldAggregators,
+            boolean fieldSequenceEnabled,
+            boolean removeRecordOnDelete,
+            Set<Integer> sequenceGroupPartialDelete,
+            boolean[] nullables,
+            @Nullable RowMerger merger) {
         this.getters = getters;
         this.ignoreDelete = ignoreDelete;
         this.fieldSeqComparators = getKeySortedListFromMap(fieldSeqComparators);
@@ -108,6 +142,7 @@ public class PartialUpdateMergeFunction implements MergeFunction<KeyValue> {
         this.removeRecordOnDelete = removeRecordOnDelete;
         this.sequenceGroupPartialDelete = sequenceGroupPartialDelete;
         this.nullables = nullables;
+        this.merger = merger;
     }
 
     @Override
@@ -118,6 +153,10 @@ public class PartialUpdateMergeFunction implements MergeFunction<KeyValue> {
         this.row = new GenericRow(getters.length);
         this.latestSequenceNumber = 0;
         fieldAggregators.forEach(w -> w.getValue().reset());
+        if (merger != null) {
+            merger.reset();
+            this.merging = true;
+        }
     }
 
     @Override
@@ -125,6 +164,18 @@ public class PartialUpdateMergeFunction implements MergeFunction<KeyValue> {
         // refresh key object to avoid reference overwritten
         currentKey = kv.key();
         currentDeleteRow = false;
+        if (merging) {
+            if (!kv.valueKind().isRetract()) {
+                checkNonNullFields(kv.value());
+                merger.merge(kv.value());
+                latestSequenceNumber = kv.sequenceNumber();
+                meetInsert = true;
+                notNullColumnFilled = true;
+                return;
+            }
+            flushMerger();
+        }
+
         if (kv.valueKind().isRetract()) {
 
             if (!notNullColumnFilled) {
@@ -176,6 +227,23 @@ public class PartialUpdateMergeFunction implements MergeFunction<KeyValue> {
         notNullColumnFilled = true;
     }
 
+    private void checkNonNullFields(InternalRow value) {
+        for (int i = 0; i < nullables.length; i++) {
+            if (!nullables[i] && value.isNullAt(i)) {
+                throw new IllegalArgumentException("Field " + i + " can not be null");
+            }
+        }
+    }
+
+    /** Continues with the interpreted merging from the result of the generated merger. */
+    private void flushMerger() {
+        InternalRow merged = merger.getResult();
+        for (int i = 0; i < getters.length; i++) {
+            row.setField(i, getters[i].getFieldOrNull(merged));
+        }
+        merging = false;
+    }
+
     private void updateNonNullFields(KeyValue kv) {
         for (int i = 0; i < getters.length; i++) {
             Object field = getters[i].getFieldOrNull(kv.value());
@@ -363,7 +431,8 @@ public class PartialUpdateMergeFunction implements MergeFunction<KeyValue> {
         }
 
         RowKind rowKind = currentDeleteRow || !meetInsert ? RowKind.DELETE : RowKind.INSERT;
-        return reused.replace(currentKey, latestSequenceNumber, rowKind, row);
+        return reused.replace(
+                currentKey, latestSequenceNumber, rowKind, merging ? merger.getResult() : row);
     }
 
     @Override
@@ -554,7 +623,8 @@ public class PartialUpdateMergeFunction implements MergeFunction<KeyValue> {
                         ArrayUtils.toPrimitiveBoolean(
                                 projectedTypes.stream()
                                         .map(DataType::isNullable)
-                                        .toArray(Boolean[]::new)));
+                                        .toArray(Boolean[]::new)),
+                        createRowMerger(projectedTypes));
             } else {
                 Map<Integer, FieldsComparator> fieldSeqComparators = new HashMap<>();
                 this.fieldSeqComparators.forEach(
@@ -573,7 +643,28 @@ public class PartialUpdateMergeFunction implements MergeFunction<KeyValue> {
                         ArrayUtils.toPrimitiveBoolean(
                                 rowType.getFieldTypes().stream()
                                         .map(DataType::isNullable)
-                                        .toArray(Boolean[]::new)));
+                                        .toArray(Boolean[]::new)),
+                        createRowMerger(tableTypes));
+            }
+        }
+
+        /**
+         * Generates a {@link RowMerger} updating non-null fields if there is no sequence group,
+         * returns null to merge with the interpreted field getters.
+         */
+        @Nullable
+        private RowMerger createRowMerger(List<DataType> fieldTypes) {
+            if (!fieldSeqComparators.isEmpty()) {
+                return null;
+            }
+
+            try {
+                return CodeGenUtils.newRowMerger(
+                        fieldTypes,
+                        Collections.nCopies(fieldTypes.size(), FieldMergeKind.LAST_NON_NULL_VALUE));
+            } catch (Throwable t) {
+                LOG.warn("Failed to generate merger, fall back to the field getters.", t);
+                return null;
             }
         }
 
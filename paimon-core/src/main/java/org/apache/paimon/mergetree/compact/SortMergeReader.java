@@ -38,12 +38,34 @@ import java.util.List;
  */
 public interface SortMergeReader<T> extends RecordReader<T> {
 
+    /**
+     * The minimum number of readers for which {@link SortEngine#AUTO} uses loser-tree.
+     *
+     * <p>This is not a measured crossover. In {@code SortMergeReaderBenchmark} of
+     * paimon-micro-benchmarks, neither engine is consistently faster from 2 to 8 runs (either one
+     * leads by up to 20% depending on the shape and the run), and loser-tree is faster for every
+     * shape from 16 runs. With 2 readers, both engines compare once per record and min-heap has the
+     * simpler bookkeeping, so min-heap is only kept for that case.
+     */
+    int AUTO_LOSER_TREE_MIN_READERS = 3;
+
     static <T> SortMergeReader<T> createSortMergeReader(
             List<RecordReader<KeyValue>> readers,
             Comparator<InternalRow> userKeyComparator,
             @Nullable FieldsComparator userDefinedSeqComparator,
             MergeFunctionWrapper<T> mergeFunctionWrapper,
             SortEngine sortEngine) {
+        if (readers.size() == 1) {
+            // keys of one reader are distinct, there is nothing to sort
+            return new SortMergeReaderWithConcat<>(readers.get(0), mergeFunctionWrapper);
+        }
+
+        if (sortEngine == SortEngine.AUTO) {
+            sortEngine =
+                    readers.size() < AUTO_LOSER_TREE_MIN_READERS
+                            ? SortEngine.MIN_HEAP
+                            : SortEngine.LOSER_TREE;
+        }
         switch (sortEngine) {
             case MIN_HEAP:
                 return new SortMergeReaderWithMinHeap<>(
@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.mergetree.compact;
+
+import org.apache.paimon.KeyValue;
+import org.apache.paimon.reader.RecordReader;
+
+import javax.annotation.Nullable;
+
+import java.io.IOException;
+
+/**
+ * {@link SortMergeReader} for a single reader, such as a sorted run or several sorted runs with
+ * non-overlapping key intervals concatenated in key order. The keys of such a reader are already
+ * sorted and distinct, so each {@link KeyValue} is merged alone without comparing keys.
+ */
+public class SortMergeReaderWithConcat<T> implements SortMergeReader<T> {
+
+    private final RecordReader<KeyValue> reader;
+    private final MergeFunctionWrapper<T> mergeFunctionWrapper;
+
+    public SortMergeReaderWithConcat(
+            RecordReader<KeyValue> reader, MergeFunctionWrapper<T> mergeFunctionWrapper) {
+        this.reader = reader;
+        this.mergeFunctionWrapper = mergeFunctionWrapper;
+    }
+
+    @Nullable
+    @Override
+    public RecordIterator<T> readBatch() throws IOException {
+        RecordIterator<KeyValue> batch = reader.readBatch();
+        return batch == null ? null : new ConcatIterator(batch);
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    /** The iterator iterates on {@link SortMergeReaderWithConcat}. */
+    private class ConcatIterator implements RecordIterator<T> {
+
+        private final RecordIterator<KeyValue> batch;
+
+        private ConcatIterator(RecordIterator<KeyValue> batch) {
+            this.batch = batch;
+        }
+
+        @Nullable
+        @Override
+        public T next() throws IOException {
+            while (true) {
+                KeyValue kv = batch.next();
+                if (kv == null) {
+                    return null;
+                }
+                mergeFunctionWrapper.reset();
+                mergeFunctionWrapper.add(kv);
+                T result = mergeFunctionWrapper.getResult();
+                if (result != null) {
+                    return result;
+                }
+            }
+        }
+
+        @Override
+        public void releaseBatch() {
+            batch.releaseBatch();
+        }
+    }
+}
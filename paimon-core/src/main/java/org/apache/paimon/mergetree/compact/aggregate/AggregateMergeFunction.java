@@ -20,6 +20,9 @@ package org.apache.paimon.mergetree.compact.aggregate;
 
 import org.apache.paimon.CoreOptions;
 import org.apache.paimon.KeyValue;
+import org.apache.paimon.codegen.CodeGenUtils;
+import org.apache.paimon.codegen.RowMerger;
+import org.apache.paimon.codegen.RowMerger.FieldMergeKind;
 import org.apache.paimon.data.GenericRow;
 import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.mergetree.compact.MergeFunction;
@@ -34,8 +37,12 @@ import org.apache.paimon.types.RowKind;
 import org.apache.paimon.utils.ArrayUtils;
 import org.apache.paimon.utils.Projection;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import javax.annotation.Nullable;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -48,10 +55,20 @@ import static org.apache.paimon.utils.Preconditions.checkNotNull;
  */
 public class AggregateMergeFunction implements MergeFunction<KeyValue> {
 
+    private static final Logger LOG = LoggerFactory.getLogger(AggregateMergeFunction.class);
+
     private final InternalRow.FieldGetter[] getters;
     private final FieldAggregator[] aggregators;
     private final boolean[] nullables;
 
+    /** States of the {@link StatefulFieldAggregator}s, null if the field is in {@link #row}. */
+    private final Object[] states;
+
+    /** Generated merger, used until the first retraction of a key. */
+    @Nullable private final RowMerger merger;
+
+    private boolean merging;
+
     private KeyValue latestKv;
     private GenericRow row;
     private KeyValue reused;
@@ -63,18 +80,34 @@ public class AggregateMergeFunction implements MergeFunction<KeyValue> {
             FieldAggregator[] aggregators,
             boolean removeRecordOnDelete,
             boolean[] nullables) {
+        this(getters, aggregators, removeRecordOnDelete, nullables, null);
+    }
+
+    public AggregateMergeFunction(
+            InternalRow.FieldGetter[] getters,
+            FieldAggregator[] aggregators,
+            boolean removeRecordOnDelete,
+            boolean[] nullables,
+            @Nullable RowMerger merger) {
         this.getters = getters;
         this.aggregators = aggregators;
         this.removeRecordOnDelete = removeRecordOnDelete;
         this.nullables = nullables;
+        this.states = new Object[aggregators.length];
+        this.merger = merger;
     }
 
     @Override
     public void reset() {
         this.latestKv = null;
         this.row = new GenericRow(getters.length);
+        Arrays.fill(states, null);
         Arrays.stream(aggregators).forEach(FieldAggregator::reset);
         this.currentDeleteRow = false;
+        if (merger != null) {
+            merger.reset();
+            this.merging = true;
+        }
     }
 
     @Override
@@ -82,17 +115,33 @@ public class AggregateMergeFunction implements MergeFunction<KeyValue> {
         latestKv = kv;
 
         currentDeleteRow = removeRecordOnDelete && kv.valueKind() == RowKind.DELETE;
+        if (merging) {
+            if (!currentDeleteRow && !kv.valueKind().isRetract()) {
+                merger.merge(kv.value());
+                return;
+            }
+            flushMerger();
+        }
+
         if (currentDeleteRow) {
             row = new GenericRow(getters.length);
+            Arrays.fill(states, null);
             initRow(row, kv.value());
             return;
         }
 
         boolean isRetract = kv.valueKind().isRetract();
+        if (isRetract) {
+            flushStates();
+        }
         for (int i = 0; i < getters.length; i++) {
             FieldAggregator fieldAggregator = aggregators[i];
-            Object accumulator = getters[i].getFieldOrNull(row);
             Object inputField = getters[i].getFieldOrNull(kv.value());
+            if (!isRetract && accumulateState(i, inputField)) {
+                continue;
+            }
+
+            Object accumulator = getters[i].getFieldOrNull(row);
             Object mergedField =
                     isRetract
                             ? fieldAggregator.retract(accumulator, inputField)
@@ -101,6 +150,49 @@ public class AggregateMergeFunction implements MergeFunction<KeyValue> {
         }
     }
 
+    /**
+     * Merges the input into the state of a {@link StatefulFieldAggregator}, the state is created
+     * once both the accumulator and an input are non-null. Returns false if the field should be
+     * aggregated by {@link FieldAggregator#agg}.
+     */
+    private boolean accumulateState(int i, Object inputField) {
+        if (!(aggregators[i] instanceof StatefulFieldAggregator)) {
+            return false;
+        }
+
+        StatefulFieldAggregator aggregator = (StatefulFieldAggregator) aggregators[i];
+        if (states[i] == null) {
+            Object accumulator = getters[i].getFieldOrNull(row);
+            if (accumulator == null || inputField == null) {
+                return false;
+            }
+            states[i] = aggregator.createState(accumulator);
+        } else if (inputField == null) {
+            return true;
+        }
+        states[i] = aggregator.accumulate(states[i], inputField);
+        return true;
+    }
+
+    /** Continues with the field aggregators from the result of the generated merger. */
+    private void flushMerger() {
+        InternalRow merged = merger.getResult();
+        for (int i = 0; i < getters.length; i++) {
+            row.setField(i, getters[i].getFieldOrNull(merged));
+        }
+        merging = false;
+    }
+
+    /** Writes the states back to the row, retraction and results work on the row. */
+    private void flushStates() {
+        for (int i = 0; i < states.length; i++) {
+            if (states[i] != null) {
+                row.setField(i, ((StatefulFieldAggregator) aggregators[i]).getValue(states[i]));
+                states[i] = null;
+            }
+        }
+    }
+
     private void initRow(GenericRow row, InternalRow value) {
         for (int i = 0; i < getters.length; i++) {
             Object field = getters[i].getFieldOrNull(value);
@@ -123,6 +215,12 @@ public class AggregateMergeFunction implements MergeFunction<KeyValue> {
         if (reused == null) {
             reused = new KeyValue();
         }
+        if (merging) {
+            return reused.replace(
+                    latestKv.key(), latestKv.sequenceNumber(), RowKind.INSERT, merger.getResult());
+        }
+
+        flushStates();
         RowKind rowKind = currentDeleteRow ? RowKind.DELETE : RowKind.INSERT;
         return reused.replace(latestKv.key(), latestKv.sequenceNumber(), rowKind, row);
     }
@@ -188,7 +286,74 @@ public class AggregateMergeFunction implements MergeFunction<KeyValue> {
                     fieldAggregators,
                     removeRecordOnDelete,
                     ArrayUtils.toPrimitiveBoolean(
-                            fieldTypes.stream().map(DataType::isNullable).toArray(Boolean[]::new)));
+                            fieldTypes.stream().map(DataType::isNullable).toArray(Boolean[]::new)),
+                    createRowMerger(fieldTypes, fieldAggregators));
+        }
+
+        /**
+         * Generates a {@link RowMerger} if all fields are aggregated by built-in aggregators it
+         * supports, returns null to use the interpreted field aggregators.
+         */
+        @Nullable
+        private RowMerger createRowMerger(
+                List<DataType> fieldTypes, FieldAggregator[] fieldAggregators) {
+            if (removeRecordOnDelete) {
+                // the first value aggregators keep their state across deletes
+                return null;
+            }
+
+            List<FieldMergeKind> mergeKinds = new ArrayList<>();
+            for (int i = 0; i < fieldAggregators.length; i++) {
+                FieldMergeKind mergeKind = mergeKind(fieldAggregators[i], fieldTypes.get(i));
+                if (mergeKind == null) {
+                    return null;
+                }
+                mergeKinds.add(mergeKind);
+            }
+
+            try {
+                return CodeGenUtils.newRowMerger(fieldTypes, mergeKinds);
+            } catch (Throwable t) {
+                LOG.warn("Failed to generate merger, fall back to the field aggregators.", t);
+                return null;
+            }
+        }
+
+        @Nullable
+        private static FieldMergeKind mergeKind(FieldAggregator aggregator, DataType fieldType) {
+            Class<?> clazz = aggregator.getClass();
+            if (clazz == FieldPrimaryKeyAgg.class || clazz == FieldLastValueAgg.class) {
+                return FieldMergeKind.LAST_VALUE;
+            } else if (clazz == FieldLastNonNullValueAgg.class) {
+                return FieldMergeKind.LAST_NON_NULL_VALUE;
+            } else if (clazz == FieldFirstValueAgg.class) {
+                return FieldMergeKind.FIRST_VALUE;
+            } else if (clazz == FieldFirstNonNullValueAgg.class) {
+                return FieldMergeKind.FIRST_NON_NULL_VALUE;
+            }
+
+            switch (fieldType.getTypeRoot()) {
+                case TINYINT:
+                case SMALLINT:
+                case INTEGER:
+                case BIGINT:
+                case FLOAT:
+                case DOUBLE:
+                    if (clazz == FieldSumAgg.class) {
+                        return FieldMergeKind.SUM;
+                    }
+                    // fall through
+                case DATE:
+                case TIME_WITHOUT_TIME_ZONE:
+                    if (clazz == FieldMinAgg.class) {
+                        return FieldMergeKind.MIN;
+                    } else if (clazz == FieldMaxAgg.class) {
+                        return FieldMergeKind.MAX;
+                    }
+                    return null;
+                default:
+                    return null;
+            }
         }
 
         private String getAggFuncName(String fieldName, List<String> sequenceFields) {
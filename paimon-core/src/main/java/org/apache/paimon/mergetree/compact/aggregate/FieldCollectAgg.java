@@ -41,7 +41,7 @@ import java.util.function.BiFunction;
 import static org.apache.paimon.codegen.CodeGenUtils.newRecordEqualiser;
 
 /** Collect elements into an ARRAY. */
-public class FieldCollectAgg extends FieldAggregator {
+public class FieldCollectAgg extends FieldAggregator implements StatefulFieldAggregator {
 
     private static final long serialVersionUID = 1L;
 
@@ -115,6 +115,32 @@ public class FieldCollectAgg extends FieldAggregator {
         }
     }
 
+    @Override
+    public Object createState(Object accumulator) {
+        // the accumulator is always distinct, no need to distinct it again
+        Collection<Object> state =
+                distinct && equaliser == null ? new HashSet<>() : new ArrayList<>();
+        collect(state, accumulator);
+        return state;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Object accumulate(Object state, Object inputField) {
+        if (equaliser != null) {
+            collectWithEqualiser((List<Object>) state, inputField);
+        } else {
+            collect((Collection<Object>) state, inputField);
+        }
+        return state;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Object getValue(Object state) {
+        return new GenericArray(((Collection<Object>) state).toArray());
+    }
+
     private void collect(Collection<Object> collection, @Nullable Object data) {
         if (data == null) {
             return;
@@ -22,7 +22,7 @@ import org.apache.paimon.types.VarBinaryType;
 import org.apache.paimon.utils.HllSketchUtil;
 
 /** HllSketch aggregate a field of a row. */
-public class FieldHllSketchAgg extends FieldAggregator {
+public class FieldHllSketchAgg extends FieldAggregator implements StatefulFieldAggregator {
 
     private static final long serialVersionUID = 1L;
 
@@ -38,4 +38,20 @@ public class FieldHllSketchAgg extends FieldAggregator {
 
         return HllSketchUtil.union((byte[]) accumulator, (byte[]) inputField);
     }
+
+    @Override
+    public Object createState(Object accumulator) {
+        return new HllSketchUtil.UnionAccumulator((byte[]) accumulator);
+    }
+
+    @Override
+    public Object accumulate(Object state, Object inputField) {
+        ((HllSketchUtil.UnionAccumulator) state).update((byte[]) inputField);
+        return state;
+    }
+
+    @Override
+    public Object getValue(Object state) {
+        return ((HllSketchUtil.UnionAccumulator) state).getResult();
+    }
 }
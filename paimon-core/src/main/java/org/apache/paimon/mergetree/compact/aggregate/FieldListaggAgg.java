@@ -23,8 +23,11 @@ import org.apache.paimon.data.BinaryString;
 import org.apache.paimon.types.VarCharType;
 import org.apache.paimon.utils.BinaryStringUtils;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /** listagg aggregate a field of a row. */
-public class FieldListaggAgg extends FieldAggregator {
+public class FieldListaggAgg extends FieldAggregator implements StatefulFieldAggregator {
 
     private static final long serialVersionUID = 1L;
 
@@ -49,4 +52,26 @@ public class FieldListaggAgg extends FieldAggregator {
         return BinaryStringUtils.concat(
                 mergeFieldSD, BinaryString.fromString(delimiter), inFieldSD);
     }
+
+    @Override
+    public Object createState(Object accumulator) {
+        List<BinaryString> state = new ArrayList<>();
+        state.add((BinaryString) accumulator);
+        return state;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Object accumulate(Object state, Object inputField) {
+        List<BinaryString> strings = (List<BinaryString>) state;
+        strings.add(BinaryString.fromString(delimiter));
+        strings.add((BinaryString) inputField);
+        return state;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Object getValue(Object state) {
+        return BinaryStringUtils.concat((List<BinaryString>) state);
+    }
 }
@@ -29,7 +29,7 @@ import java.util.Map;
 import java.util.Set;
 
 /** Merge two maps. */
-public class FieldMergeMapAgg extends FieldAggregator {
+public class FieldMergeMapAgg extends FieldAggregator implements StatefulFieldAggregator {
 
     private static final long serialVersionUID = 1L;
 
@@ -56,6 +56,26 @@ public class FieldMergeMapAgg extends FieldAggregator {
         return new GenericMap(resultMap);
     }
 
+    @Override
+    public Object createState(Object accumulator) {
+        Map<Object, Object> state = new HashMap<>();
+        putToMap(state, accumulator);
+        return state;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Object accumulate(Object state, Object inputField) {
+        putToMap((Map<Object, Object>) state, inputField);
+        return state;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Object getValue(Object state) {
+        return new GenericMap((Map<Object, Object>) state);
+    }
+
     private void putToMap(Map<Object, Object> map, Object data) {
         InternalMap mapData = (InternalMap) data;
         InternalArray keyArray = mapData.keyArray();
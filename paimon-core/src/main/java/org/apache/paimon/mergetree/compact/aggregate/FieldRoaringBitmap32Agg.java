@@ -25,7 +25,7 @@ import java.io.IOException;
 import java.nio.ByteBuffer;
 
 /** roaring bitmap aggregate a field of a row. */
-public class FieldRoaringBitmap32Agg extends FieldAggregator {
+public class FieldRoaringBitmap32Agg extends FieldAggregator implements StatefulFieldAggregator {
 
     private static final long serialVersionUID = 1L;
     private final RoaringBitmap32 roaringBitmapAcc;
@@ -55,4 +55,33 @@ public class FieldRoaringBitmap32Agg extends FieldAggregator {
             roaringBitmapInput.clear();
         }
     }
+
+    @Override
+    public Object createState(Object accumulator) {
+        RoaringBitmap32 state = new RoaringBitmap32();
+        try {
+            state.deserialize(ByteBuffer.wrap((byte[]) accumulator));
+        } catch (IOException e) {
+            throw new RuntimeException("Unable to deserialize roaring bitmap.", e);
+        }
+        return state;
+    }
+
+    @Override
+    public Object accumulate(Object state, Object inputField) {
+        try {
+            roaringBitmapInput.deserialize(ByteBuffer.wrap((byte[]) inputField));
+            ((RoaringBitmap32) state).or(roaringBitmapInput);
+            return state;
+        } catch (IOException e) {
+            throw new RuntimeException("Unable to deserialize roaring bitmap.", e);
+        } finally {
+            roaringBitmapInput.clear();
+        }
+    }
+
+    @Override
+    public Object getValue(Object state) {
+        return ((RoaringBitmap32) state).serialize();
+    }
 }
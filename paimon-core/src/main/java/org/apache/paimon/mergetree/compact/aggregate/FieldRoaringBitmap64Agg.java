@@ -24,7 +24,7 @@ import org.apache.paimon.utils.RoaringBitmap64;
 import java.io.IOException;
 
 /** roaring bitmap aggregate a field of a row. */
-public class FieldRoaringBitmap64Agg extends FieldAggregator {
+public class FieldRoaringBitmap64Agg extends FieldAggregator implements StatefulFieldAggregator {
 
     private static final long serialVersionUID = 1L;
     private final RoaringBitmap64 roaringBitmapAcc;
@@ -54,4 +54,37 @@ public class FieldRoaringBitmap64Agg extends FieldAggregator {
             roaringBitmapInput.clear();
         }
     }
+
+    @Override
+    public Object createState(Object accumulator) {
+        RoaringBitmap64 state = new RoaringBitmap64();
+        try {
+            state.deserialize((byte[]) accumulator);
+        } catch (IOException e) {
+            throw new RuntimeException("Unable to deserialize roaring bitmap.", e);
+        }
+        return state;
+    }
+
+    @Override
+    public Object accumulate(Object state, Object inputField) {
+        try {
+            roaringBitmapInput.deserialize((byte[]) inputField);
+            ((RoaringBitmap64) state).or(roaringBitmapInput);
+            return state;
+        } catch (IOException e) {
+            throw new RuntimeException("Unable to deserialize roaring bitmap.", e);
+        } finally {
+            roaringBitmapInput.clear();
+        }
+    }
+
+    @Override
+    public Object getValue(Object state) {
+        try {
+            return ((RoaringBitmap64) state).serialize();
+        } catch (IOException e) {
+            throw new RuntimeException("Unable to serialize roaring bitmap.", e);
+        }
+    }
 }
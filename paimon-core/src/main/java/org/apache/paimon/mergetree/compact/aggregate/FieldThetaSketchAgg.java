@@ -22,7 +22,7 @@ import org.apache.paimon.types.VarBinaryType;
 import org.apache.paimon.utils.ThetaSketch;
 
 /** ThetaSketch aggregate a field of a row. */
-public class FieldThetaSketchAgg extends FieldAggregator {
+public class FieldThetaSketchAgg extends FieldAggregator implements StatefulFieldAggregator {
 
     private static final long serialVersionUID = 1L;
 
@@ -38,4 +38,22 @@ public class FieldThetaSketchAgg extends FieldAggregator {
 
         return ThetaSketch.union((byte[]) accumulator, (byte[]) inputField);
     }
+
+    @Override
+    public Object createState(Object accumulator) {
+        ThetaSketch.UnionAccumulator state = new ThetaSketch.UnionAccumulator();
+        state.update((byte[]) accumulator);
+        return state;
+    }
+
+    @Override
+    public Object accumulate(Object state, Object inputField) {
+        ((ThetaSketch.UnionAccumulator) state).update((byte[]) inputField);
+        return state;
+    }
+
+    @Override
+    public Object getValue(Object state) {
+        return ((ThetaSketch.UnionAccumulator) state).getResult();
+    }
 }
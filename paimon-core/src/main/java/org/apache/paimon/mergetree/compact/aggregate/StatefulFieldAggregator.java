@@ -0,0 +1,38 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.mergetree.compact.aggregate;
+
+/**
+ * A {@link FieldAggregator} which can keep the accumulator of a key group in a mutable, native
+ * form, so that inputs are merged into it without serializing the accumulator for every record.
+ *
+ * <p>For the same inputs, {@code getValue(accumulate(...accumulate(createState(acc), in1)...,
+ * inN))} must produce the same result as folding them with {@link FieldAggregator#agg}.
+ */
+public interface StatefulFieldAggregator {
+
+    /** Creates the state from a non-null accumulator. */
+    Object createState(Object accumulator);
+
+    /** Merges a non-null input field into the state and returns the updated state. */
+    Object accumulate(Object state, Object inputField);
+
+    /** Returns the accumulator represented by the state. */
+    Object getValue(Object state);
+}
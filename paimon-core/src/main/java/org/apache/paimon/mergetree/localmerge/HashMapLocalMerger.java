@@ -20,8 +20,10 @@ package org.apache.paimon.mergetree.localmerge;
 
 import org.apache.paimon.KeyValue;
 import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.data.GenericRow;
 import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.data.InternalRow.FieldSetter;
+import org.apache.paimon.data.JoinedRow;
 import org.apache.paimon.data.serializer.BinaryRowSerializer;
 import org.apache.paimon.data.serializer.InternalRowSerializer;
 import org.apache.paimon.hash.BytesHashMap;
@@ -29,44 +31,85 @@ import org.apache.paimon.hash.BytesMap.LookupInfo;
 import org.apache.paimon.memory.MemorySegmentPool;
 import org.apache.paimon.mergetree.compact.MergeFunction;
 import org.apache.paimon.types.DataField;
+import org.apache.paimon.types.DataType;
+import org.apache.paimon.types.DataTypes;
 import org.apache.paimon.types.RowKind;
 import org.apache.paimon.types.RowType;
 import org.apache.paimon.utils.FieldsComparator;
 import org.apache.paimon.utils.KeyValueIterator;
+import org.apache.paimon.utils.OffsetRow;
 
 import javax.annotation.Nullable;
 
 import java.io.EOFException;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.function.Consumer;
 
 import static org.apache.paimon.data.InternalRow.createFieldSetter;
 
-/** A {@link LocalMerger} which stores records in {@link BytesHashMap}. */
+/**
+ * A {@link LocalMerger} which stores records in {@link BytesHashMap}.
+ *
+ * <p>If cold keys are evicted, the number of times each key is merged is stored after the fields of
+ * its record. When the buffer is full, keys merged most are kept in buffer, at most half of the
+ * keys, and the others are evicted. The counts of kept keys are halved so that keys which become
+ * cold are evicted later. If no key would be kept, nothing is evicted and the buffer is flushed as
+ * a whole.
+ */
 public class HashMapLocalMerger implements LocalMerger {
 
+    private static final int MAX_HITS = 255;
+
     private final InternalRowSerializer valueSerializer;
     private final MergeFunction<KeyValue> mergeFunction;
     @Nullable private final FieldsComparator udsComparator;
     private final BytesHashMap<BinaryRow> buffer;
     private final List<FieldSetter> nonKeySetters;
 
+    private final boolean evictColdKeys;
+    private final int hitsIndex;
+    private final GenericRow initialHits;
+    private final JoinedRow valueWithHits;
+    private final OffsetRow valueWithoutHits;
+    private final int[] numKeysByHits;
+
     public HashMapLocalMerger(
             RowType rowType,
             List<String> primaryKeys,
             MemorySegmentPool memoryPool,
             MergeFunction<KeyValue> mergeFunction,
             @Nullable FieldsComparator userDefinedSeqComparator) {
-        this.valueSerializer = new InternalRowSerializer(rowType);
+        this(rowType, primaryKeys, memoryPool, mergeFunction, userDefinedSeqComparator, false);
+    }
+
+    public HashMapLocalMerger(
+            RowType rowType,
+            List<String> primaryKeys,
+            MemorySegmentPool memoryPool,
+            MergeFunction<KeyValue> mergeFunction,
+            @Nullable FieldsComparator userDefinedSeqComparator,
+            boolean evictColdKeys) {
+        this.evictColdKeys = evictColdKeys;
+        this.hitsIndex = rowType.getFieldCount();
+        this.initialHits = GenericRow.of(0);
+        this.valueWithHits = new JoinedRow();
+        this.valueWithoutHits = new OffsetRow(rowType.getFieldCount(), 0);
+        this.numKeysByHits = new int[MAX_HITS + 1];
+        List<DataType> valueTypes = new ArrayList<>(rowType.getFieldTypes());
+        if (evictColdKeys) {
+            valueTypes.add(DataTypes.INT());
+        }
+        this.valueSerializer = new InternalRowSerializer(valueTypes.toArray(new DataType[0]));
         this.mergeFunction = mergeFunction;
         this.udsComparator = userDefinedSeqComparator;
         this.buffer =
                 new BytesHashMap<>(
                         memoryPool,
                         new BinaryRowSerializer(primaryKeys.size()),
-                        rowType.getFieldCount());
+                        valueSerializer.getArity());
 
         this.nonKeySetters = new ArrayList<>();
         for (int i = 0; i < rowType.getFieldCount(); i++) {
@@ -86,7 +129,8 @@ public class HashMapLocalMerger implements LocalMerger {
         LookupInfo<BinaryRow, BinaryRow> lookup = buffer.lookup(key);
         if (!lookup.isFound()) {
             try {
-                buffer.append(lookup, valueSerializer.toBinaryRow(value));
+                buffer.append(lookup, valueSerializer.toBinaryRow(input(value)));
+                numKeysByHits[0]++;
                 return true;
             } catch (EOFException eof) {
                 return false;
@@ -95,6 +139,14 @@ public class HashMapLocalMerger implements LocalMerger {
 
         mergeFunction.reset();
         BinaryRow stored = lookup.getValue();
+        if (evictColdKeys) {
+            int hits = stored.getInt(hitsIndex);
+            if (hits < MAX_HITS) {
+                stored.setInt(hitsIndex, hits + 1);
+                numKeysByHits[hits]--;
+                numKeysByHits[hits + 1]++;
+            }
+        }
         KeyValue previousKv = new KeyValue().replace(key, stored.getRowKind(), stored);
         KeyValue newKv = new KeyValue().replace(key, value.getRowKind(), value);
         if (udsComparator != null && udsComparator.compare(stored, value) > 0) {
@@ -122,12 +174,72 @@ public class HashMapLocalMerger implements LocalMerger {
     public void forEach(Consumer<InternalRow> consumer) throws IOException {
         KeyValueIterator<BinaryRow, BinaryRow> iterator = buffer.getEntryIterator(false);
         while (iterator.advanceNext()) {
-            consumer.accept(iterator.getValue());
+            consumer.accept(output(iterator.getValue()));
+        }
+    }
+
+    @Override
+    public boolean evict(Consumer<InternalRow> consumer) throws IOException {
+        int numElements = buffer.getNumElements();
+        if (!evictColdKeys || numElements < 2) {
+            return false;
         }
+
+        // find the minimum hits to keep at most half of the keys
+        int minHits = MAX_HITS + 1;
+        int numKept = 0;
+        while (minHits > 1 && numKept + numKeysByHits[minHits - 1] <= numElements / 2) {
+            minHits--;
+            numKept += numKeysByHits[minHits];
+        }
+        if (numKept == 0) {
+            // no key is merged since the last eviction, flush the whole buffer instead
+            return false;
+        }
+
+        List<BinaryRow> keptKeys = new ArrayList<>(numKept);
+        List<BinaryRow> keptValues = new ArrayList<>(numKept);
+        KeyValueIterator<BinaryRow, BinaryRow> iterator = buffer.getEntryIterator(false);
+        while (iterator.advanceNext()) {
+            BinaryRow value = iterator.getValue();
+            int hits = value.getInt(hitsIndex);
+            if (hits >= minHits) {
+                BinaryRow copied = value.copy();
+                copied.setInt(hitsIndex, hits >>> 1);
+                keptKeys.add(iterator.getKey().copy());
+                keptValues.add(copied);
+            } else {
+                consumer.accept(output(value));
+            }
+        }
+
+        clear();
+        for (int i = 0; i < keptKeys.size(); i++) {
+            // kept records take less memory than before, there is no EOFException
+            BinaryRow value = keptValues.get(i);
+            buffer.append(buffer.lookup(keptKeys.get(i)), value);
+            numKeysByHits[value.getInt(hitsIndex)]++;
+        }
+        return true;
+    }
+
+    private InternalRow input(InternalRow value) {
+        if (!evictColdKeys) {
+            return value;
+        }
+
+        valueWithHits.replace(value, initialHits);
+        valueWithHits.setRowKind(value.getRowKind());
+        return valueWithHits;
+    }
+
+    private InternalRow output(BinaryRow value) {
+        return evictColdKeys ? valueWithoutHits.replace(value) : value;
     }
 
     @Override
     public void clear() {
         buffer.reset();
+        Arrays.fill(numKeysByHits, 0);
     }
 }
@@ -34,5 +34,15 @@ public interface LocalMerger {
 
     void forEach(Consumer<InternalRow> consumer) throws IOException;
 
+    /**
+     * Evicts part of the buffered records to the consumer to make room for new records, the records
+     * kept in buffer are merged with later records as usual.
+     *
+     * @return false if nothing is evicted, the whole buffer should be flushed then.
+     */
+    default boolean evict(Consumer<InternalRow> consumer) throws IOException {
+        return false;
+    }
+
     void clear();
 }
@@ -24,7 +24,9 @@ import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.manifest.BucketEntry;
 import org.apache.paimon.manifest.FileEntry;
 import org.apache.paimon.manifest.FileEntry.Identifier;
+import org.apache.paimon.manifest.FileKind;
 import org.apache.paimon.manifest.ManifestEntry;
+import org.apache.paimon.manifest.ManifestEntryCache;
 import org.apache.paimon.manifest.ManifestEntrySerializer;
 import org.apache.paimon.manifest.ManifestFile;
 import org.apache.paimon.manifest.ManifestFileMeta;
@@ -307,10 +309,19 @@ public abstract class AbstractFileStoreScan implements FileStoreScan {
     @Override
     public List<SimpleFileEntry> readSimpleEntries() {
         List<ManifestFileMeta> manifests = readManifests().filteredManifests;
+        FileEntryReader<SimpleFileEntry> reader;
+        if (manifestEntryFilter == null && !statsFilterEnabled()) {
+            // no filter needs the statistics, read projected columns only
+            reader = this::readSimpleManifest;
+        } else {
+            reader =
+                    (manifest, kind, filter) ->
+                            SimpleFileEntry.from(readManifest(manifest, kind, filter));
+        }
         Iterator<SimpleFileEntry> iterator =
                 scanMode == ScanMode.ALL
-                        ? readAndMergeFileEntries(manifests, SimpleFileEntry::from, false)
-                        : readAndNoMergeFileEntries(manifests, SimpleFileEntry::from, false);
+                        ? readAndMergeFileEntries(manifests, reader, false)
+                        : readAndNoMergeFileEntries(manifests, reader, false);
         List<SimpleFileEntry> result = new ArrayList<>();
         while (iterator.hasNext()) {
             result.add(iterator.next());
@@ -351,17 +362,15 @@ public abstract class AbstractFileStoreScan implements FileStoreScan {
     private Iterator<ManifestEntry> readManifestEntries(
             List<ManifestFileMeta> manifests, boolean useSequential) {
         return scanMode == ScanMode.ALL
-                ? readAndMergeFileEntries(manifests, Function.identity(), useSequential)
-                : readAndNoMergeFileEntries(manifests, Function.identity(), useSequential);
+                ? readAndMergeFileEntries(manifests, this::readManifest, useSequential)
+                : readAndNoMergeFileEntries(manifests, this::readManifest, useSequential);
     }
 
     private <T extends FileEntry> Iterator<T> readAndMergeFileEntries(
-            List<ManifestFileMeta> manifests,
-            Function<List<ManifestEntry>, List<T>> converter,
-            boolean useSequential) {
+            List<ManifestFileMeta> manifests, FileEntryReader<T> reader, boolean useSequential) {
         Set<Identifier> deletedEntries =
                 FileEntry.readDeletedEntries(
-                        manifest -> readManifest(manifest, FileEntry.deletedFilter(), null),
+                        manifest -> reader.read(manifest, FileKind.DELETE, null),
                         manifests,
                         parallelism);
 
@@ -372,11 +381,10 @@ public abstract class AbstractFileStoreScan implements FileStoreScan {
 
         Function<ManifestFileMeta, List<T>> processor =
                 manifest ->
-                        converter.apply(
-                                readManifest(
-                                        manifest,
-                                        FileEntry.addFilter(),
-                                        entry -> !deletedEntries.contains(entry.identifier())));
+                        reader.read(
+                                manifest,
+                                FileKind.ADD,
+                                entry -> !deletedEntries.contains(entry.identifier()));
         if (useSequential) {
             return sequentialBatchedExecute(processor, manifests, parallelism).iterator();
         } else {
@@ -385,15 +393,13 @@ public abstract class AbstractFileStoreScan implements FileStoreScan {
     }
 
     private <T extends FileEntry> Iterator<T> readAndNoMergeFileEntries(
-            List<ManifestFileMeta> manifests,
-            Function<List<ManifestEntry>, List<T>> converter,
-            boolean useSequential) {
-        Function<ManifestFileMeta, List<T>> reader =
-                manifest -> converter.apply(readManifest(manifest));
+            List<ManifestFileMeta> manifests, FileEntryReader<T> reader, boolean useSequential) {
+        Function<ManifestFileMeta, List<T>> processor =
+                manifest -> reader.read(manifest, null, null);
         if (useSequential) {
-            return sequentialBatchedExecute(reader, manifests, parallelism).iterator();
+            return sequentialBatchedExecute(processor, manifests, parallelism).iterator();
         } else {
-            return randomlyExecuteSequentialReturn(reader, manifests, parallelism);
+            return randomlyExecuteSequentialReturn(processor, manifests, parallelism);
         }
     }
 
@@ -415,6 +421,9 @@ public abstract class AbstractFileStoreScan implements FileStoreScan {
     /** Note: Keep this thread-safe. */
     protected abstract boolean filterByStats(ManifestEntry entry);
 
+    /** Whether {@link #filterByStats} may filter out entries. */
+    protected abstract boolean statsFilterEnabled();
+
     protected boolean wholeBucketFilterEnabled() {
         return false;
     }
@@ -431,22 +440,43 @@ public abstract class AbstractFileStoreScan implements FileStoreScan {
 
     private List<ManifestEntry> readManifest(
             ManifestFileMeta manifest,
-            @Nullable Filter<InternalRow> additionalFilter,
-            @Nullable Filter<ManifestEntry> additionalTFilter) {
-        List<ManifestEntry> entries =
+            @Nullable FileKind kind,
+            @Nullable Filter<? super ManifestEntry> additionalTFilter) {
+        ManifestFile manifestFile =
                 manifestFileFactory
                         .create()
                         .withCacheMetrics(
-                                scanMetrics != null ? scanMetrics.getCacheMetrics() : null)
-                        .read(
-                                manifest.fileName(),
-                                manifest.fileSize(),
-                                createEntryRowFilter().and(additionalFilter),
-                                entry ->
-                                        (additionalTFilter == null || additionalTFilter.test(entry))
-                                                && (manifestEntryFilter == null
-                                                        || manifestEntryFilter.test(entry))
-                                                && filterByStats(entry));
+                                scanMetrics != null ? scanMetrics.getCacheMetrics() : null);
+        Filter<ManifestEntry> entryFilter =
+                entry ->
+                        (additionalTFilter == null || additionalTFilter.test(entry))
+                                && (manifestEntryFilter == null || manifestEntryFilter.test(entry))
+                                && filterByStats(entry);
+        List<ManifestEntry> entries;
+        if (manifestFile.isEntryCacheEnabled()) {
+            // entries are already deserialized, filter them by partition and bucket index
+            Filter<ManifestEntry> kindFilter = entry -> kind == null || entry.kind() == kind;
+            entries =
+                    manifestFile.read(
+                            manifest.fileName(),
+                            manifest.fileSize(),
+                            manifestsReader.partitionFilter(),
+                            this::filterBucket,
+                            kindFilter.and(createEntryFilter()).and(entryFilter));
+        } else {
+            Filter<InternalRow> kindFilter =
+                    kind == null
+                            ? null
+                            : kind == FileKind.ADD
+                                    ? FileEntry.addFilter()
+                                    : FileEntry.deletedFilter();
+            entries =
+                    manifestFile.read(
+                            manifest.fileName(),
+                            manifest.fileSize(),
+                            createEntryRowFilter().and(kindFilter),
+                            entryFilter);
+        }
         if (dropStats) {
             List<ManifestEntry> copied = new ArrayList<>(entries.size());
             for (ManifestEntry entry : entries) {
@@ -457,6 +487,25 @@ public abstract class AbstractFileStoreScan implements FileStoreScan {
         return entries;
     }
 
+    /** Note: Keep this thread-safe. */
+    private List<SimpleFileEntry> readSimpleManifest(
+            ManifestFileMeta manifest,
+            @Nullable FileKind kind,
+            @Nullable Filter<? super SimpleFileEntry> additionalTFilter) {
+        Filter<SimpleFileEntry> entryFilter =
+                entry ->
+                        (kind == null || entry.kind() == kind)
+                                && (additionalTFilter == null || additionalTFilter.test(entry));
+        return manifestFileFactory
+                .create()
+                .withCacheMetrics(scanMetrics != null ? scanMetrics.getCacheMetrics() : null)
+                .readSimpleEntries(
+                        manifest.fileName(),
+                        manifest.fileSize(),
+                        createPartitionBucketRowFilter(),
+                        entryFilter.and(createEntryFilter()));
+    }
+
     protected ManifestEntry dropStats(ManifestEntry entry) {
         return entry.copyWithoutStats();
     }
@@ -467,51 +516,94 @@ public abstract class AbstractFileStoreScan implements FileStoreScan {
      * <p>Implemented to {@link InternalRow} is for performance (No deserialization).
      */
     private Filter<InternalRow> createEntryRowFilter() {
+        Function<InternalRow, String> fileNameGetter = ManifestEntrySerializer.fileNameGetter();
+        Function<InternalRow, Integer> levelGetter = ManifestEntrySerializer.levelGetter();
+        Filter<InternalRow> fileFilter =
+                row -> {
+                    if (!filterLevel(levelGetter.apply(row))) {
+                        return false;
+                    }
+
+                    return fileNameFilter == null
+                            || fileNameFilter.test((fileNameGetter.apply(row)));
+                };
+        return createPartitionBucketRowFilter().and(fileFilter);
+    }
+
+    /** Filter rows by partition and bucket, which are top-level fields of the entry row. */
+    private Filter<InternalRow> createPartitionBucketRowFilter() {
         Function<InternalRow, BinaryRow> partitionGetter =
                 ManifestEntrySerializer.partitionGetter();
         Function<InternalRow, Integer> bucketGetter = ManifestEntrySerializer.bucketGetter();
         Function<InternalRow, Integer> totalBucketGetter =
                 ManifestEntrySerializer.totalBucketGetter();
-        Function<InternalRow, String> fileNameGetter = ManifestEntrySerializer.fileNameGetter();
         PartitionPredicate partitionFilter = manifestsReader.partitionFilter();
-        Function<InternalRow, Integer> levelGetter = ManifestEntrySerializer.levelGetter();
         return row -> {
             if ((partitionFilter != null && !partitionFilter.test(partitionGetter.apply(row)))) {
                 return false;
             }
 
             int bucket = bucketGetter.apply(row);
-            if (onlyReadRealBuckets && bucket < 0) {
-                return false;
-            }
-
-            if (specifiedBucket != null && bucket != specifiedBucket) {
+            if (!filterBucket(bucket)) {
                 return false;
             }
 
-            if (bucketFilter != null && !bucketFilter.test(bucket)) {
-                return false;
-            }
+            return totalAwareBucketFilter == null
+                    || totalAwareBucketFilter.test(bucket, totalBucketGetter.apply(row));
+        };
+    }
 
+    /**
+     * Same as {@link #createEntryRowFilter()} for deserialized entries, except partition and
+     * bucket, which are filtered by the index of {@link ManifestEntryCache} or by {@link
+     * #createPartitionBucketRowFilter()}.
+     */
+    private Filter<FileEntry> createEntryFilter() {
+        return entry -> {
             if (totalAwareBucketFilter != null
-                    && !totalAwareBucketFilter.test(bucket, totalBucketGetter.apply(row))) {
+                    && !totalAwareBucketFilter.test(entry.bucket(), entry.totalBuckets())) {
                 return false;
             }
 
-            int level = levelGetter.apply(row);
-            if (specifiedLevel != null && level != specifiedLevel) {
+            if (!filterLevel(entry.level())) {
                 return false;
             }
 
-            if (levelFilter != null && !levelFilter.test(level)) {
-                return false;
-            }
-
-            return fileNameFilter == null || fileNameFilter.test((fileNameGetter.apply(row)));
+            return fileNameFilter == null || fileNameFilter.test(entry.fileName());
         };
     }
 
+    private boolean filterBucket(int bucket) {
+        if (onlyReadRealBuckets && bucket < 0) {
+            return false;
+        }
+
+        if (specifiedBucket != null && bucket != specifiedBucket) {
+            return false;
+        }
+
+        return bucketFilter == null || bucketFilter.test(bucket);
+    }
+
+    private boolean filterLevel(int level) {
+        if (specifiedLevel != null && level != specifiedLevel) {
+            return false;
+        }
+
+        return levelFilter == null || levelFilter.test(level);
+    }
+
     // ------------------------------------------------------------------------
     // End Thread Safe Methods
     // ------------------------------------------------------------------------
+
+    /** Reader to read {@link FileEntry}s of a manifest file. */
+    @FunctionalInterface
+    private interface FileEntryReader<T extends FileEntry> {
+
+        List<T> read(
+                ManifestFileMeta manifest,
+                @Nullable FileKind kind,
+                @Nullable Filter<FileEntry> additionalFilter);
+    }
 }
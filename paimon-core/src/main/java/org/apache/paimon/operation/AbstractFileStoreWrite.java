@@ -34,6 +34,7 @@ import org.apache.paimon.io.IndexIncrement;
 import org.apache.paimon.memory.MemoryPoolFactory;
 import org.apache.paimon.metrics.MetricRegistry;
 import org.apache.paimon.operation.metrics.CompactionMetrics;
+import org.apache.paimon.operation.metrics.WriteRestoreMetrics;
 import org.apache.paimon.table.sink.CommitMessage;
 import org.apache.paimon.table.sink.CommitMessageImpl;
 import org.apache.paimon.types.RowType;
@@ -49,6 +50,7 @@ import javax.annotation.Nullable;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
@@ -82,12 +84,14 @@ public abstract class AbstractFileStoreWrite<T> implements FileStoreWrite<T> {
     protected final Map<BinaryRow, Map<Integer, WriterContainer<T>>> writers;
 
     protected WriteRestore restore;
+    private final Map<BinaryRow, Map<Integer, RestoreFiles>> preparedRestores;
     private ExecutorService lazyCompactExecutor;
     private boolean closeCompactExecutorWhenLeaving = true;
     private boolean ignorePreviousFiles = false;
     private boolean ignoreNumBucketCheck = false;
 
     protected CompactionMetrics compactionMetrics = null;
+    @Nullable private WriteRestoreMetrics restoreMetrics = null;
     protected final String tableName;
     private final boolean legacyPartitionName;
 
@@ -111,6 +115,7 @@ public abstract class AbstractFileStoreWrite<T> implements FileStoreWrite<T> {
         this.numBuckets = options.bucket();
         this.partitionType = partitionType;
         this.writers = new HashMap<>();
+        this.preparedRestores = new HashMap<>();
         this.tableName = tableName;
         this.writerNumberMax = options.writeMaxWritersToSpill();
         this.legacyPartitionName = options.legacyPartitionName();
@@ -184,6 +189,9 @@ public abstract class AbstractFileStoreWrite<T> implements FileStoreWrite<T> {
     @Override
     public List<CommitMessage> prepareCommit(boolean waitCompaction, long commitIdentifier)
             throws Exception {
+        // files committed from now on are not in the prepared restores
+        preparedRestores.clear();
+
         Function<WriterContainer<T>, Boolean> writerCleanChecker;
         if (writers.values().stream()
                         .map(Map::values)
@@ -310,6 +318,9 @@ public abstract class AbstractFileStoreWrite<T> implements FileStoreWrite<T> {
         if (compactionMetrics != null) {
             compactionMetrics.close();
         }
+        if (restoreMetrics != null) {
+            restoreMetrics.close();
+        }
     }
 
     @Override
@@ -464,16 +475,74 @@ public abstract class AbstractFileStoreWrite<T> implements FileStoreWrite<T> {
     @Override
     public FileStoreWrite<T> withMetricRegistry(MetricRegistry metricRegistry) {
         this.compactionMetrics = new CompactionMetrics(metricRegistry, tableName);
+        this.restoreMetrics = new WriteRestoreMetrics(metricRegistry, tableName);
         return this;
     }
 
-    private RestoreFiles scanExistingFileMetas(BinaryRow partition, int bucket) {
-        RestoreFiles restored =
+    @Override
+    public void prepareRestore(Map<BinaryRow, List<Integer>> partitionBuckets) {
+        if (ignorePreviousFiles) {
+            return;
+        }
+
+        Map<BinaryRow, List<Integer>> toRestore = new HashMap<>();
+        int numBuckets = 0;
+        for (Map.Entry<BinaryRow, List<Integer>> entry : partitionBuckets.entrySet()) {
+            Map<Integer, WriterContainer<T>> bucketWriters =
+                    writers.getOrDefault(entry.getKey(), Collections.emptyMap());
+            Map<Integer, RestoreFiles> prepared =
+                    preparedRestores.getOrDefault(entry.getKey(), Collections.emptyMap());
+            for (int bucket : entry.getValue()) {
+                if (!bucketWriters.containsKey(bucket) && !prepared.containsKey(bucket)) {
+                    toRestore
+                            .computeIfAbsent(entry.getKey().copy(), k -> new ArrayList<>())
+                            .add(bucket);
+                    numBuckets++;
+                }
+            }
+        }
+        if (toRestore.isEmpty()) {
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        Map<BinaryRow, Map<Integer, RestoreFiles>> restored =
                 restore.restoreFiles(
-                        partition,
-                        bucket,
-                        dbMaintainerFactory != null,
-                        dvMaintainerFactory != null);
+                        toRestore, dbMaintainerFactory != null, dvMaintainerFactory != null);
+        restored.forEach(
+                (partition, bucketFiles) ->
+                        preparedRestores
+                                .computeIfAbsent(partition, k -> new HashMap<>())
+                                .putAll(bucketFiles));
+        long duration = System.currentTimeMillis() - start;
+        if (restoreMetrics != null) {
+            restoreMetrics.reportRestore(numBuckets, true, duration);
+        }
+        LOG.info("Restored files of {} buckets in {} ms.", numBuckets, duration);
+    }
+
+    private RestoreFiles scanExistingFileMetas(BinaryRow partition, int bucket) {
+        RestoreFiles restored = null;
+        Map<Integer, RestoreFiles> prepared = preparedRestores.get(partition);
+        if (prepared != null) {
+            restored = prepared.remove(bucket);
+            if (prepared.isEmpty()) {
+                preparedRestores.remove(partition);
+            }
+        }
+
+        if (restored == null) {
+            long start = System.currentTimeMillis();
+            restored =
+                    restore.restoreFiles(
+                            partition,
+                            bucket,
+                            dbMaintainerFactory != null,
+                            dvMaintainerFactory != null);
+            if (restoreMetrics != null) {
+                restoreMetrics.reportRestore(1, false, System.currentTimeMillis() - start);
+            }
+        }
         Integer restoredTotalBuckets = restored.totalBuckets();
         int totalBuckets = numBuckets;
         if (restoredTotalBuckets != null) {
@@ -498,12 +567,23 @@ public abstract class AbstractFileStoreWrite<T> implements FileStoreWrite<T> {
         return restored;
     }
 
+    /**
+     * Number of threads of the compaction executor created by this write. Only writes which bound
+     * concurrent compactions themselves should use more than one thread.
+     */
+    protected int compactThreads() {
+        return 1;
+    }
+
     private ExecutorService compactExecutor() {
         if (lazyCompactExecutor == null) {
+            int compactThreads = compactThreads();
+            ExecutorThreadFactory threadFactory =
+                    new ExecutorThreadFactory(Thread.currentThread().getName() + "-compaction");
             lazyCompactExecutor =
-                    Executors.newSingleThreadScheduledExecutor(
-                            new ExecutorThreadFactory(
-                                    Thread.currentThread().getName() + "-compaction"));
+                    compactThreads > 1
+                            ? Executors.newScheduledThreadPool(compactThreads, threadFactory)
+                            : Executors.newSingleThreadScheduledExecutor(threadFactory);
         }
         return lazyCompactExecutor;
     }
@@ -565,4 +645,10 @@ public abstract class AbstractFileStoreWrite<T> implements FileStoreWrite<T> {
     public CompactionMetrics compactionMetrics() {
         return compactionMetrics;
     }
+
+    @VisibleForTesting
+    @Nullable
+    public WriteRestoreMetrics restoreMetrics() {
+        return restoreMetrics;
+    }
 }
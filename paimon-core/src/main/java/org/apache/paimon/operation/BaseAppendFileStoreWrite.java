@@ -21,6 +21,7 @@ package org.apache.paimon.operation;
 import org.apache.paimon.AppendOnlyFileStore;
 import org.apache.paimon.CoreOptions;
 import org.apache.paimon.append.AppendOnlyWriter;
+import org.apache.paimon.append.cluster.ClusterSorter;
 import org.apache.paimon.compact.CompactManager;
 import org.apache.paimon.data.BinaryRow;
 import org.apache.paimon.data.InternalRow;
@@ -41,6 +42,7 @@ import org.apache.paimon.utils.ExceptionUtils;
 import org.apache.paimon.utils.FileStorePathFactory;
 import org.apache.paimon.utils.IOExceptionSupplier;
 import org.apache.paimon.utils.LongCounter;
+import org.apache.paimon.utils.MutableObjectIterator;
 import org.apache.paimon.utils.RecordWriter;
 import org.apache.paimon.utils.SnapshotManager;
 import org.apache.paimon.utils.StatsCollectorFactories;
@@ -59,6 +61,7 @@ import java.util.concurrent.ExecutorService;
 import java.util.function.Function;
 
 import static org.apache.paimon.format.FileFormat.fileFormat;
+import static org.apache.paimon.utils.Preconditions.checkNotNull;
 
 /** {@link FileStoreWrite} for {@link AppendOnlyFileStore}. */
 public abstract class BaseAppendFileStoreWrite extends MemoryFileStoreWrite<InternalRow>
@@ -181,6 +184,54 @@ public abstract class BaseAppendFileStoreWrite extends MemoryFileStoreWrite<Inte
         return rewriter.result();
     }
 
+    /**
+     * Rewrites the given files sorted by the clustering columns, and upgrades the result files to
+     * {@code outputLevel} so that they are not picked again until a higher level is merged.
+     */
+    public List<DataFileMeta> clusterRewrite(
+            BinaryRow partition, int bucket, List<DataFileMeta> toCluster, int outputLevel)
+            throws Exception {
+        if (toCluster.isEmpty()) {
+            return Collections.emptyList();
+        }
+        checkNotNull(ioManager, "IOManager is required to sort records for clustering.");
+        // the files are not ordered by sequence number, level 0 files come newest first
+        long minSequenceNumber =
+                toCluster.stream().mapToLong(DataFileMeta::minSequenceNumber).min().getAsLong();
+        Exception collectedExceptions = null;
+        RowDataRollingFileWriter rewriter =
+                createRollingFileWriter(partition, bucket, new LongCounter(minSequenceNumber));
+        try (ClusterSorter sorter = new ClusterSorter(rowType, options, ioManager)) {
+            try (RecordReaderIterator<InternalRow> iterator =
+                    createFilesIterator(partition, bucket, toCluster, null)) {
+                while (iterator.hasNext()) {
+                    sorter.write(iterator.next());
+                }
+            }
+            MutableObjectIterator<InternalRow> sorted = sorter.sortedIterator();
+            InternalRow row;
+            while ((row = sorted.next()) != null) {
+                rewriter.write(row);
+            }
+        } catch (Exception e) {
+            collectedExceptions = e;
+        } finally {
+            try {
+                rewriter.close();
+            } catch (Exception e) {
+                collectedExceptions = ExceptionUtils.firstOrSuppressed(e, collectedExceptions);
+            }
+        }
+        if (collectedExceptions != null) {
+            throw collectedExceptions;
+        }
+        List<DataFileMeta> result = new ArrayList<>();
+        for (DataFileMeta file : rewriter.result()) {
+            result.add(outputLevel > file.level() ? file.upgrade(outputLevel) : file);
+        }
+        return result;
+    }
+
     private RowDataRollingFileWriter createRollingFileWriter(
             BinaryRow partition, int bucket, LongCounter seqNumCounter) {
         return new RowDataRollingFileWriter(
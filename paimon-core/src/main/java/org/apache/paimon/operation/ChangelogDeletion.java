@@ -31,6 +31,8 @@ import org.apache.paimon.manifest.ManifestList;
 import org.apache.paimon.stats.StatsFileHandler;
 import org.apache.paimon.utils.FileStorePathFactory;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -61,13 +63,30 @@ public class ChangelogDeletion extends FileDeletionBase<Changelog> {
 
     @Override
     public void cleanUnusedDataFiles(Changelog changelog, Predicate<ExpireFileEntry> skipper) {
-        if (changelog.changelogManifestList() != null) {
-            deleteAddedDataFiles(changelog.changelogManifestList());
-        }
+        cleanUnusedDataFiles(Collections.singletonList(changelog), skipper);
+    }
 
-        if (manifestList.exists(changelog.deltaManifestList())) {
-            cleanUnusedDataFiles(changelog.deltaManifestList(), skipper);
+    /**
+     * Clean data files of consecutive changelogs sharing the same skipper, manifests of all
+     * changelogs are read in parallel.
+     *
+     * @return number of deleted files
+     */
+    public int cleanUnusedDataFiles(
+            List<Changelog> changelogs, Predicate<ExpireFileEntry> skipper) {
+        List<String> changelogManifestLists = new ArrayList<>();
+        List<String> deltaManifestLists = new ArrayList<>();
+        for (Changelog changelog : changelogs) {
+            if (changelog.changelogManifestList() != null) {
+                changelogManifestLists.add(changelog.changelogManifestList());
+            }
+            if (manifestList.exists(changelog.deltaManifestList())) {
+                deltaManifestLists.add(changelog.deltaManifestList());
+            }
         }
+
+        return deleteAddedDataFilesInManifestLists(changelogManifestLists)
+                + cleanUnusedDataFilesInManifestLists(deltaManifestLists, skipper);
     }
 
     @Override
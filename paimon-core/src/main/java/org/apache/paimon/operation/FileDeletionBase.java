@@ -40,6 +40,8 @@ import org.apache.paimon.utils.FileStorePathFactory;
 import org.apache.paimon.utils.Pair;
 import org.apache.paimon.utils.SnapshotManager;
 
+import org.apache.paimon.shade.guava30.com.google.common.collect.Lists;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -55,6 +57,7 @@ import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 /**
@@ -65,6 +68,8 @@ public abstract class FileDeletionBase<T extends Snapshot> {
 
     private static final Logger LOG = LoggerFactory.getLogger(FileDeletionBase.class);
 
+    private static final int DELETE_BATCH_SIZE = 1000;
+
     protected final FileIO fileIO;
     protected final FileStorePathFactory pathFactory;
     protected final ManifestFile manifestFile;
@@ -75,6 +80,7 @@ public abstract class FileDeletionBase<T extends Snapshot> {
     protected final Map<BinaryRow, Set<Integer>> deletionBuckets;
 
     private final Executor deleteFileExecutor;
+    private final int deleteFileThreadNum;
 
     protected boolean changelogDecoupled;
 
@@ -102,6 +108,7 @@ public abstract class FileDeletionBase<T extends Snapshot> {
         this.cleanEmptyDirectories = cleanEmptyDirectories;
         this.deletionBuckets = new HashMap<>();
         this.deleteFileExecutor = FileDeletionThreadPool.getExecutorService(deleteFileThreadNum);
+        this.deleteFileThreadNum = Math.max(1, deleteFileThreadNum);
     }
 
     /**
@@ -172,29 +179,54 @@ public abstract class FileDeletionBase<T extends Snapshot> {
     }
 
     public void cleanUnusedDataFiles(String manifestList, Predicate<ExpireFileEntry> skipper) {
-        // try read manifests
-        List<ManifestFileMeta> manifests = tryReadManifestList(manifestList);
-        List<ExpireFileEntry> manifestEntries;
+        cleanUnusedDataFilesInManifestLists(Collections.singletonList(manifestList), skipper);
+    }
+
+    /**
+     * Clean data files deleted in the given manifest lists, which are the delta manifest lists of
+     * consecutive snapshots in order. Manifests are read in parallel and entries are merged in
+     * order, so a data file deleted by several snapshots is only deleted once, and a data file
+     * added back by a later snapshot is kept.
+     *
+     * <p>If some manifests fail to be read, each manifest list is cleaned on its own instead, so
+     * that only the deletion of the manifest lists with unreadable manifests is cancelled.
+     *
+     * @return number of deleted files
+     */
+    protected int cleanUnusedDataFilesInManifestLists(
+            List<String> manifestLists, Predicate<ExpireFileEntry> skipper) {
         // data file path -> (original manifest entry, extra file paths)
         Map<Path, Pair<ExpireFileEntry, List<Path>>> dataFileToDelete = new HashMap<>();
-        for (ManifestFileMeta manifest : manifests) {
-            try {
-                manifestEntries =
-                        manifestFile.readExpireFileEntries(
-                                manifest.fileName(), manifest.fileSize());
-            } catch (Exception e) {
+        for (List<ExpireFileEntry> manifestEntries : readExpireFileEntries(manifestLists)) {
+            if (manifestEntries == null) {
+                if (manifestLists.size() > 1) {
+                    LOG.warn(
+                            "Failed to read some manifest files of {} manifest lists. "
+                                    + "Clean them one by one.",
+                            manifestLists.size());
+                    int deleted = 0;
+                    for (String manifestList : manifestLists) {
+                        deleted +=
+                                cleanUnusedDataFilesInManifestLists(
+                                        Collections.singletonList(manifestList), skipper);
+                    }
+                    return deleted;
+                }
+
                 // cancel deletion if any exception occurs
-                LOG.warn("Failed to read some manifest files. Cancel deletion.", e);
-                return;
+                LOG.warn(
+                        "Failed to read some manifest files of manifest list {}. Cancel deletion.",
+                        manifestLists.get(0));
+                return 0;
             }
 
             getDataFileToDelete(dataFileToDelete, manifestEntries);
         }
 
-        doCleanUnusedDataFile(dataFileToDelete, skipper);
+        return doCleanUnusedDataFile(dataFileToDelete, skipper);
     }
 
-    protected void doCleanUnusedDataFile(
+    protected int doCleanUnusedDataFile(
             Map<Path, Pair<ExpireFileEntry, List<Path>>> dataFileToDelete,
             Predicate<ExpireFileEntry> skipper) {
         List<Path> actualDataFileToDelete = new ArrayList<>();
@@ -210,7 +242,8 @@ public abstract class FileDeletionBase<T extends Snapshot> {
                         recordDeletionBuckets(entry);
                     }
                 });
-        deleteFiles(actualDataFileToDelete, fileIO::deleteQuietly);
+        deleteFilesInBatches(actualDataFileToDelete);
+        return actualDataFileToDelete.size();
     }
 
     protected void getDataFileToDelete(
@@ -247,32 +280,54 @@ public abstract class FileDeletionBase<T extends Snapshot> {
      * @param manifestListName name of manifest list
      */
     public void deleteAddedDataFiles(String manifestListName) {
-        List<ManifestFileMeta> manifests = tryReadManifestList(manifestListName);
-        for (ManifestFileMeta manifest : manifests) {
-            try {
-                List<ExpireFileEntry> manifestEntries =
-                        manifestFile.readExpireFileEntries(
-                                manifest.fileName(), manifest.fileSize());
-                deleteAddedDataFiles(manifestEntries);
-            } catch (Exception e) {
-                // We want to delete the data file, so just ignore the unavailable files
-                LOG.info("Failed to read manifest " + manifest.fileName() + ". Ignore it.", e);
-            }
-        }
+        deleteAddedDataFilesInManifestLists(Collections.singletonList(manifestListName));
     }
 
-    private void deleteAddedDataFiles(List<ExpireFileEntry> manifestEntries) {
+    /**
+     * Delete added files in the given manifest lists, manifests are read in parallel.
+     *
+     * @return number of deleted files
+     */
+    public int deleteAddedDataFilesInManifestLists(List<String> manifestListNames) {
         List<Path> dataFileToDelete = new ArrayList<>();
         DataFilePathFactories factories = new DataFilePathFactories(pathFactory);
-        for (ExpireFileEntry entry : manifestEntries) {
-            DataFilePathFactory dataFilePathFactory =
-                    factories.get(entry.partition(), entry.bucket());
-            if (entry.kind() == FileKind.ADD) {
-                dataFileToDelete.add(dataFilePathFactory.toPath(entry));
-                recordDeletionBuckets(entry);
+        for (List<ExpireFileEntry> manifestEntries : readExpireFileEntries(manifestListNames)) {
+            // We want to delete the data file, so just ignore the unavailable files
+            if (manifestEntries == null) {
+                continue;
+            }
+
+            for (ExpireFileEntry entry : manifestEntries) {
+                if (entry.kind() == FileKind.ADD) {
+                    dataFileToDelete.add(
+                            factories.get(entry.partition(), entry.bucket()).toPath(entry));
+                    recordDeletionBuckets(entry);
+                }
             }
         }
-        deleteFiles(dataFileToDelete, fileIO::deleteQuietly);
+        deleteFilesInBatches(dataFileToDelete);
+        return dataFileToDelete.size();
+    }
+
+    /**
+     * Read entries of the manifests in the given manifest lists in parallel. The result is in the
+     * order of manifest lists and manifests, entries of a manifest which failed to be read are
+     * null.
+     */
+    private List<List<ExpireFileEntry>> readExpireFileEntries(List<String> manifestListNames) {
+        List<ManifestFileMeta> manifests = new ArrayList<>();
+        supplyInParallel(manifestListNames, this::tryReadManifestList).forEach(manifests::addAll);
+        return supplyInParallel(
+                manifests,
+                manifest -> {
+                    try {
+                        return manifestFile.readExpireFileEntries(
+                                manifest.fileName(), manifest.fileSize());
+                    } catch (Exception e) {
+                        LOG.info("Failed to read manifest " + manifest.fileName() + ".", e);
+                        return null;
+                    }
+                });
     }
 
     public void cleanUnusedStatisticsManifests(Snapshot snapshot, Set<String> skippingSet) {
@@ -451,6 +506,20 @@ public abstract class FileDeletionBase<T extends Snapshot> {
         }
     }
 
+    /**
+     * Delete files in batches by {@link FileIO#deleteFilesQuietly}, so that a {@link FileIO}
+     * supporting bulk deletion can delete a batch with a single request.
+     */
+    protected void deleteFilesInBatches(List<Path> files) {
+        int batchSize =
+                Math.max(
+                        1,
+                        Math.min(
+                                DELETE_BATCH_SIZE,
+                                (files.size() + deleteFileThreadNum - 1) / deleteFileThreadNum));
+        deleteFiles(Lists.partition(files, batchSize), fileIO::deleteFilesQuietly);
+    }
+
     protected <F> void deleteFiles(Collection<F> files, Consumer<F> deletion) {
         if (files.isEmpty()) {
             return;
@@ -468,4 +537,22 @@ public abstract class FileDeletionBase<T extends Snapshot> {
             throw new RuntimeException(e);
         }
     }
+
+    private <F, R> List<R> supplyInParallel(List<F> inputs, Function<F, R> function) {
+        List<CompletableFuture<R>> futures = new ArrayList<>(inputs.size());
+        for (F input : inputs) {
+            futures.add(
+                    CompletableFuture.supplyAsync(() -> function.apply(input), deleteFileExecutor));
+        }
+
+        List<R> results = new ArrayList<>(inputs.size());
+        try {
+            for (CompletableFuture<R> future : futures) {
+                results.add(future.get());
+            }
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+        return results;
+    }
 }
@@ -1625,6 +1625,11 @@ public class FileStoreCommitImpl implements FileStoreCommit {
         return latestSnapshot -> false;
     }
 
+    @VisibleForTesting
+    public List<CommitCallback> commitCallbacks() {
+        return commitCallbacks;
+    }
+
     @VisibleForTesting
     static ConflictCheck mustConflictCheck() {
         return latestSnapshot -> true;
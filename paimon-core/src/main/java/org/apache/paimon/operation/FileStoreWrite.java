@@ -38,6 +38,7 @@ import javax.annotation.Nullable;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ExecutorService;
 
 /**
@@ -86,6 +87,13 @@ public interface FileStoreWrite<T> extends Restorable<List<FileStoreWrite.State<
 
     void withCompactExecutor(ExecutorService compactExecutor);
 
+    /**
+     * Restores files of the given partitions and buckets in bulk for the writers which are going to
+     * be created, so that each writer does not need its own manifest scan. The restored files are
+     * only used by writers created before the next {@link #prepareCommit}.
+     */
+    void prepareRestore(Map<BinaryRow, List<Integer>> partitionBuckets);
+
     /**
      * Write the data to the store according to the partition and bucket.
      *
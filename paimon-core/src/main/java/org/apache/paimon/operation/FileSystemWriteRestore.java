@@ -25,12 +25,17 @@ import org.apache.paimon.index.IndexFileHandler;
 import org.apache.paimon.index.IndexFileMeta;
 import org.apache.paimon.io.DataFileMeta;
 import org.apache.paimon.manifest.ManifestEntry;
+import org.apache.paimon.utils.Pair;
 import org.apache.paimon.utils.SnapshotManager;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static org.apache.paimon.deletionvectors.DeletionVectorsIndexFile.DELETION_VECTORS_INDEX;
+import static org.apache.paimon.index.HashIndexFile.HASH_INDEX;
 
 /** {@link WriteRestore} to restore files directly from file system. */
 public class FileSystemWriteRestore implements WriteRestore {
@@ -95,4 +100,105 @@ public class FileSystemWriteRestore implements WriteRestore {
         return new RestoreFiles(
                 snapshot, totalBuckets, restoreFiles, dynamicBucketIndex, deleteVectorsIndex);
     }
+
+    /**
+     * Plans one scan for each distinct bucket over all requested partitions of it, instead of one
+     * scan for each partition-bucket. Manifests are still pruned by the bucket, and index manifests
+     * are read once.
+     */
+    @Override
+    public Map<BinaryRow, Map<Integer, RestoreFiles>> restoreFiles(
+            Map<BinaryRow, List<Integer>> partitionBuckets,
+            boolean scanDynamicBucketIndex,
+            boolean scanDeleteVectorsIndex) {
+        Map<BinaryRow, Map<Integer, RestoreFiles>> result = new HashMap<>();
+        Snapshot snapshot = snapshotManager.latestSnapshotFromFileSystem();
+        if (snapshot == null) {
+            partitionBuckets.forEach(
+                    (partition, buckets) -> {
+                        Map<Integer, RestoreFiles> bucketFiles =
+                                result.computeIfAbsent(partition, k -> new HashMap<>());
+                        buckets.forEach(bucket -> bucketFiles.put(bucket, RestoreFiles.empty()));
+                    });
+            return result;
+        }
+
+        Map<Integer, List<BinaryRow>> bucketPartitions = new HashMap<>();
+        partitionBuckets.forEach(
+                (partition, buckets) ->
+                        buckets.forEach(
+                                bucket ->
+                                        bucketPartitions
+                                                .computeIfAbsent(bucket, k -> new ArrayList<>())
+                                                .add(partition)));
+
+        Map<Pair<BinaryRow, Integer>, List<ManifestEntry>> entries = new HashMap<>();
+        bucketPartitions.forEach(
+                (bucket, partitions) -> {
+                    List<ManifestEntry> files =
+                            scan.withSnapshot(snapshot)
+                                    .withPartitionFilter(partitions)
+                                    .withBucket(bucket)
+                                    .plan()
+                                    .files();
+                    for (ManifestEntry entry : files) {
+                        entries.computeIfAbsent(
+                                        Pair.of(entry.partition(), entry.bucket()),
+                                        k -> new ArrayList<>())
+                                .add(entry);
+                    }
+                });
+
+        Map<Pair<BinaryRow, Integer>, List<IndexFileMeta>> dynamicBucketIndices =
+                scanDynamicBucketIndex
+                        ? indexFileHandler.scan(snapshot, HASH_INDEX, partitionBuckets.keySet())
+                        : Collections.emptyMap();
+        Map<Pair<BinaryRow, Integer>, List<IndexFileMeta>> deleteVectorsIndices =
+                scanDeleteVectorsIndex
+                        ? indexFileHandler.scan(
+                                snapshot, DELETION_VECTORS_INDEX, partitionBuckets.keySet())
+                        : Collections.emptyMap();
+
+        partitionBuckets.forEach(
+                (partition, buckets) -> {
+                    Map<Integer, RestoreFiles> bucketFiles =
+                            result.computeIfAbsent(partition, k -> new HashMap<>());
+                    for (int bucket : buckets) {
+                        Pair<BinaryRow, Integer> key = Pair.of(partition, bucket);
+                        List<DataFileMeta> restoreFiles = new ArrayList<>();
+                        Integer totalBuckets =
+                                WriteRestore.extractDataFiles(
+                                        entries.getOrDefault(key, Collections.emptyList()),
+                                        restoreFiles);
+
+                        IndexFileMeta dynamicBucketIndex = null;
+                        if (scanDynamicBucketIndex) {
+                            List<IndexFileMeta> indices =
+                                    dynamicBucketIndices.getOrDefault(key, Collections.emptyList());
+                            if (indices.size() > 1) {
+                                throw new IllegalArgumentException(
+                                        "Find multiple hash index files for one bucket: "
+                                                + indices);
+                            }
+                            dynamicBucketIndex = indices.isEmpty() ? null : indices.get(0);
+                        }
+
+                        List<IndexFileMeta> deleteVectorsIndex = null;
+                        if (scanDeleteVectorsIndex) {
+                            deleteVectorsIndex =
+                                    deleteVectorsIndices.getOrDefault(key, new ArrayList<>());
+                        }
+
+                        bucketFiles.put(
+                                bucket,
+                                new RestoreFiles(
+                                        snapshot,
+                                        totalBuckets,
+                                        restoreFiles,
+                                        dynamicBucketIndex,
+                                        deleteVectorsIndex));
+                    }
+                });
+        return result;
+    }
 }
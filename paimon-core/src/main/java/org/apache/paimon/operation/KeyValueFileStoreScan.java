@@ -164,6 +164,11 @@ public class KeyValueFileStoreScan extends AbstractFileStoreScan {
         }
     }
 
+    @Override
+    protected boolean statsFilterEnabled() {
+        return isValueFilterEnabled() || keyFilter != null;
+    }
+
     private boolean isValueFilterEnabled() {
         if (valueFilter == null) {
             return false;
@@ -23,8 +23,10 @@ import org.apache.paimon.CoreOptions.ChangelogProducer;
 import org.apache.paimon.CoreOptions.MergeEngine;
 import org.apache.paimon.KeyValue;
 import org.apache.paimon.KeyValueFileStore;
+import org.apache.paimon.catalog.Identifier;
 import org.apache.paimon.codegen.RecordEqualiser;
 import org.apache.paimon.compact.CompactManager;
+import org.apache.paimon.compact.CompactScheduler;
 import org.apache.paimon.compact.NoopCompactManager;
 import org.apache.paimon.data.BinaryRow;
 import org.apache.paimon.data.InternalRow;
@@ -36,6 +38,7 @@ import org.apache.paimon.fs.FileIO;
 import org.apache.paimon.index.DynamicBucketIndexMaintainer;
 import org.apache.paimon.io.DataFileMeta;
 import org.apache.paimon.io.FileReaderFactory;
+import org.apache.paimon.io.KeyBloomFilterFile;
 import org.apache.paimon.io.KeyValueFileReaderFactory;
 import org.apache.paimon.io.KeyValueFileWriterFactory;
 import org.apache.paimon.io.RecordLevelExpire;
@@ -49,6 +52,7 @@ import org.apache.paimon.mergetree.LookupLevels.KeyValueProcessor;
 import org.apache.paimon.mergetree.LookupLevels.PositionedKeyValueProcessor;
 import org.apache.paimon.mergetree.MergeSorter;
 import org.apache.paimon.mergetree.MergeTreeWriter;
+import org.apache.paimon.mergetree.PersistentLookupFiles;
 import org.apache.paimon.mergetree.compact.CompactRewriter;
 import org.apache.paimon.mergetree.compact.CompactStrategy;
 import org.apache.paimon.mergetree.compact.ForceUpLevel0Compaction;
@@ -65,9 +69,11 @@ import org.apache.paimon.schema.KeyValueFieldsExtractor;
 import org.apache.paimon.schema.SchemaManager;
 import org.apache.paimon.schema.TableSchema;
 import org.apache.paimon.types.RowType;
+import org.apache.paimon.utils.BloomFilter;
 import org.apache.paimon.utils.CommitIncrement;
 import org.apache.paimon.utils.FieldsComparator;
 import org.apache.paimon.utils.FileStorePathFactory;
+import org.apache.paimon.utils.IOFunction;
 import org.apache.paimon.utils.SnapshotManager;
 import org.apache.paimon.utils.UserDefinedSeqComparator;
 
@@ -110,7 +116,10 @@ public class KeyValueFileStoreWrite extends MemoryFileStoreWrite<KeyValue> {
     private final RowType partitionType;
     private final String commitUser;
     @Nullable private final RecordLevelExpire recordLevelExpire;
+    @Nullable private final Identifier identifier;
     @Nullable private Cache<String, LookupFile> lookupFileCache;
+    @Nullable private Cache<String, BloomFilter> keyBloomFilterCache;
+    @Nullable private CompactScheduler compactScheduler;
 
     public KeyValueFileStoreWrite(
             FileIO fileIO,
@@ -132,7 +141,8 @@ public class KeyValueFileStoreWrite extends MemoryFileStoreWrite<KeyValue> {
             @Nullable DeletionVectorsMaintainer.Factory dvMaintainerFactory,
             CoreOptions options,
             KeyValueFieldsExtractor extractor,
-            String tableName) {
+            String tableName,
+            @Nullable Identifier identifier) {
         super(
                 snapshotManager,
                 scan,
@@ -173,6 +183,7 @@ public class KeyValueFileStoreWrite extends MemoryFileStoreWrite<KeyValue> {
         this.logDedupEqualSupplier = logDedupEqualSupplier;
         this.mfFactory = mfFactory;
         this.options = options;
+        this.identifier = identifier;
     }
 
     @Override
@@ -271,22 +282,46 @@ public class KeyValueFileStoreWrite extends MemoryFileStoreWrite<KeyValue> {
                             levels,
                             dvMaintainer);
             return new MergeTreeCompactManager(
-                    compactExecutor,
-                    levels,
-                    compactStrategy,
-                    keyComparator,
-                    options.compactionFileSize(true),
-                    options.numSortedRunStopTrigger(),
-                    rewriter,
-                    compactionMetrics == null
-                            ? null
-                            : compactionMetrics.createReporter(partition, bucket),
-                    dvMaintainer,
-                    options.prepareCommitWaitCompaction(),
-                    options.needLookup(),
-                    recordLevelExpire,
-                    options.forceRewriteAllFiles());
+                            compactExecutor,
+                            levels,
+                            compactStrategy,
+                            keyComparator,
+                            options.compactionFileSize(true),
+                            options.numSortedRunStopTrigger(),
+                            rewriter,
+                            compactionMetrics == null
+                                    ? null
+                                    : compactionMetrics.createReporter(partition, bucket),
+                            dvMaintainer,
+                            options.prepareCommitWaitCompaction(),
+                            options.needLookup(),
+                            recordLevelExpire,
+                            options.forceRewriteAllFiles())
+                    .withCompactScheduler(compactScheduler(compactExecutor));
+        }
+    }
+
+    @Override
+    protected int compactThreads() {
+        // the compact scheduler limits the number of running compactions
+        return options.compactionAdaptiveScheduling()
+                ? options.compactionAdaptiveSchedulingMaxConcurrentTasks()
+                : 1;
+    }
+
+    @Nullable
+    private CompactScheduler compactScheduler(ExecutorService compactExecutor) {
+        if (!options.compactionAdaptiveScheduling()) {
+            return null;
         }
+        if (compactScheduler == null) {
+            compactScheduler =
+                    new CompactScheduler(
+                            compactExecutor,
+                            options.compactionAdaptiveSchedulingMaxConcurrentTasks(),
+                            options.compactionAdaptiveSchedulingMaxInputSize());
+        }
+        return compactScheduler;
     }
 
     private MergeTreeCompactRewriter createRewriter(
@@ -297,8 +332,9 @@ public class KeyValueFileStoreWrite extends MemoryFileStoreWrite<KeyValue> {
             Levels levels,
             @Nullable DeletionVectorsMaintainer dvMaintainer) {
         DeletionVector.Factory dvFactory = DeletionVector.factory(dvMaintainer);
-        FileReaderFactory<KeyValue> readerFactory =
+        KeyValueFileReaderFactory keyValueReaderFactory =
                 readerFactoryBuilder.build(partition, bucket, dvFactory);
+        FileReaderFactory<KeyValue> readerFactory = keyValueReaderFactory;
         if (recordLevelExpire != null) {
             readerFactory = recordLevelExpire.wrap(readerFactory);
         }
@@ -354,7 +390,13 @@ public class KeyValueFileStoreWrite extends MemoryFileStoreWrite<KeyValue> {
             return new LookupMergeTreeCompactRewriter(
                     maxLevel,
                     mergeEngine,
-                    createLookupLevels(partition, bucket, levels, processor, lookupReaderFactory),
+                    createLookupLevels(
+                            partition,
+                            bucket,
+                            levels,
+                            processor,
+                            lookupReaderFactory,
+                            keyValueReaderFactory::readKeyBloomFilter),
                     readerFactory,
                     writerFactory,
                     keyComparator,
@@ -381,7 +423,8 @@ public class KeyValueFileStoreWrite extends MemoryFileStoreWrite<KeyValue> {
             int bucket,
             Levels levels,
             LookupLevels.ValueProcessor<T> valueProcessor,
-            FileReaderFactory<KeyValue> readerFactory) {
+            FileReaderFactory<KeyValue> readerFactory,
+            IOFunction<DataFileMeta, BloomFilter> keyBloomFilterLoader) {
         if (ioManager == null) {
             throw new RuntimeException(
                     "Can not use lookup, there is no temp disk directory to use.");
@@ -398,20 +441,44 @@ public class KeyValueFileStoreWrite extends MemoryFileStoreWrite<KeyValue> {
                             options.get(CoreOptions.LOOKUP_CACHE_FILE_RETENTION),
                             options.get(CoreOptions.LOOKUP_CACHE_MAX_DISK_SIZE));
         }
-        return new LookupLevels<>(
-                levels,
-                keyComparatorSupplier.get(),
-                keyType,
-                valueProcessor,
-                readerFactory::createRecordReader,
-                file ->
-                        ioManager
-                                .createChannel(
-                                        localFilePrefix(partitionType, partition, bucket, file))
-                                .getPathFile(),
-                lookupStoreFactory,
-                bfGenerator(options),
-                lookupFileCache);
+        if (keyBloomFilterCache == null) {
+            keyBloomFilterCache =
+                    KeyBloomFilterFile.createCache(
+                            this.options.lookupKeyBloomFilterCacheMaxMemorySize());
+        }
+        LookupLevels<T> lookupLevels =
+                new LookupLevels<>(
+                        levels,
+                        keyComparatorSupplier.get(),
+                        keyType,
+                        valueProcessor,
+                        readerFactory::createRecordReader,
+                        file ->
+                                ioManager
+                                        .createChannel(
+                                                localFilePrefix(
+                                                        partitionType, partition, bucket, file))
+                                        .getPathFile(),
+                        lookupStoreFactory,
+                        bfGenerator(options),
+                        keyBloomFilterLoader,
+                        keyBloomFilterCache,
+                        lookupFileCache);
+        String persistDir = this.options.lookupCachePersistDir();
+        if (persistDir != null) {
+            lookupLevels.withPersistentFiles(
+                    PersistentLookupFiles.create(
+                            this.options,
+                            identifier,
+                            "compact",
+                            partitionType,
+                            partition,
+                            bucket,
+                            PersistentLookupFiles.fingerprint(
+                                    this.options, keyType, valueProcessor.identifier()),
+                            lookupStoreFactory));
+        }
+        return lookupLevels;
     }
 
     @Override
@@ -425,5 +492,8 @@ public class KeyValueFileStoreWrite extends MemoryFileStoreWrite<KeyValue> {
         if (lookupFileCache != null) {
             lookupFileCache.invalidateAll();
         }
+        if (keyBloomFilterCache != null) {
+            keyBloomFilterCache.invalidateAll();
+        }
     }
 }
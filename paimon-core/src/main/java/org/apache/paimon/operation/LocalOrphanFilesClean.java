@@ -21,6 +21,7 @@ package org.apache.paimon.operation;
 import org.apache.paimon.CoreOptions;
 import org.apache.paimon.catalog.Catalog;
 import org.apache.paimon.catalog.Identifier;
+import org.apache.paimon.fs.FileStatus;
 import org.apache.paimon.fs.Path;
 import org.apache.paimon.manifest.ManifestEntry;
 import org.apache.paimon.manifest.ManifestFile;
@@ -38,6 +39,7 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
@@ -60,11 +62,21 @@ import static org.apache.paimon.utils.ThreadPoolUtils.randomlyOnlyExecute;
 /**
  * Local {@link OrphanFilesClean}, it will use thread pool to execute deletion.
  *
+ * <p>Used files of all branches are collected into a {@link SortedFileNameSet} first. Then the
+ * metadata directories and every partition are listed and cleaned independently, so the listed
+ * files never need to be held in memory together. Finished partitions are recorded in a progress
+ * file in the table directory, an interrupted cleaning resumes from it and the file is deleted
+ * after all partitions are finished.
+ *
  * <p>Note that, this class will be used when the orphan clean mode is local, else orphan clean will
  * use distributed one. See `FlinkOrphanFilesClean` and `SparkOrphanFilesClean`.
  */
 public class LocalOrphanFilesClean extends OrphanFilesClean {
 
+    public static final String PROGRESS_FILE = "orphan-clean-progress";
+
+    private static final int PROGRESS_INTERVAL = 100;
+
     private final ThreadPoolExecutor executor;
 
     private final List<Path> deleteFiles;
@@ -73,8 +85,6 @@ public class LocalOrphanFilesClean extends OrphanFilesClean {
 
     private final AtomicLong deletedFilesLenInBytes = new AtomicLong(0);
 
-    private Set<String> candidateDeletes;
-
     public LocalOrphanFilesClean(FileStoreTable table) {
         this(table, System.currentTimeMillis() - TimeUnit.DAYS.toMillis(1));
     }
@@ -99,43 +109,94 @@ public class LocalOrphanFilesClean extends OrphanFilesClean {
         // specially handle to clear snapshot dir
         cleanSnapshotDir(branches, deleteFiles::add, deletedFilesLenInBytes::addAndGet);
 
-        // get candidate files
-        Map<String, Pair<Path, Long>> candidates = getCandidateDeletingFiles();
-        if (candidates.isEmpty()) {
-            return new CleanOrphanFilesResult(
-                    deleteFiles.size(), deletedFilesLenInBytes.get(), deleteFiles);
+        // find used files
+        try (SortedFileNameSet usedFiles = collectUsedFiles(branches)) {
+            LOG.info("Collected {} used files of table {}.", usedFiles.size(), table.fullName());
+            cleanUnusedFiles(usedFiles);
         }
-        candidateDeletes = new HashSet<>(candidates.keySet());
 
-        // find used files
-        Set<String> usedFiles =
-                branches.stream()
-                        .flatMap(branch -> getUsedFiles(branch).stream())
-                        .collect(Collectors.toSet());
+        return new CleanOrphanFilesResult(
+                deleteFiles.size(), deletedFilesLenInBytes.get(), deleteFiles);
+    }
+
+    private SortedFileNameSet collectUsedFiles(List<String> branches) {
+        try (SortedFileNameSet.Builder usedFilesBuilder = new SortedFileNameSet.Builder()) {
+            for (String branch : branches) {
+                collectUsedFiles(branch, usedFilesBuilder::add);
+            }
+            return usedFilesBuilder.build();
+        }
+    }
+
+    private void cleanUnusedFiles(SortedFileNameSet usedFiles)
+            throws IOException, ExecutionException, InterruptedException {
+        // list and clean metadata directories and partitions independently
+        Path progressFile = new Path(location, PROGRESS_FILE);
+        Set<String> finished = dryRun ? new HashSet<>() : readProgress(progressFile);
+        Set<Path> metadataDirs = new HashSet<>(listMetadataDirs());
+        List<Path> dirs = new ArrayList<>(metadataDirs);
+        dirs.addAll(listPartitionDirs());
+        dirs.removeIf(dir -> finished.contains(dir.toString()));
+
+        Function<Path, List<Pair<Path, List<Path>>>> processor =
+                dir -> {
+                    List<Path> fileDirs =
+                            metadataDirs.contains(dir)
+                                    ? Collections.singletonList(dir)
+                                    : listBucketDirs(dir);
+                    List<Path> deleted = new ArrayList<>();
+                    for (Path fileDir : fileDirs) {
+                        for (FileStatus status : tryBestListingDirs(fileDir)) {
+                            if (oldEnough(status)
+                                    && !usedFiles.contains(status.getPath().getName())) {
+                                deletedFilesLenInBytes.addAndGet(status.getLen());
+                                cleanFile(status.getPath());
+                                deleted.add(status.getPath());
+                            }
+                        }
+                    }
+                    return Collections.singletonList(Pair.of(dir, deleted));
+                };
+        Iterator<Pair<Path, List<Path>>> results =
+                randomlyExecuteSequentialReturn(executor, processor, dirs);
+        List<Path> deletedDataFiles = new ArrayList<>();
+        int unsaved = 0;
+        while (results.hasNext()) {
+            Pair<Path, List<Path>> result = results.next();
+            deleteFiles.addAll(result.getRight());
+            if (!metadataDirs.contains(result.getLeft())) {
+                deletedDataFiles.addAll(result.getRight());
+            }
 
-        // delete unused files
-        candidateDeletes.removeAll(usedFiles);
-        candidateDeletes.stream()
-                .map(candidates::get)
-                .forEach(
-                        deleteFileInfo -> {
-                            deletedFilesLenInBytes.addAndGet(deleteFileInfo.getRight());
-                            cleanFile(deleteFileInfo.getLeft());
-                        });
-        deleteFiles.addAll(
-                candidateDeletes.stream()
-                        .map(candidates::get)
-                        .map(Pair::getLeft)
-                        .collect(Collectors.toList()));
-        candidateDeletes.clear();
+            finished.add(result.getLeft().toString());
+            if (!dryRun && ++unsaved >= PROGRESS_INTERVAL) {
+                fileIO.overwriteFileUtf8(progressFile, String.join("\n", finished));
+                unsaved = 0;
+            }
+        }
 
         // clean empty directory
         if (!dryRun) {
-            cleanEmptyDataDirectory(deleteFiles);
+            cleanEmptyDataDirectory(deletedDataFiles);
+            fileIO.deleteQuietly(progressFile);
         }
+    }
 
-        return new CleanOrphanFilesResult(
-                deleteFiles.size(), deletedFilesLenInBytes.get(), deleteFiles);
+    private Set<String> readProgress(Path progressFile) throws IOException {
+        Set<String> finished = new HashSet<>();
+        Optional<String> progress = fileIO.readOverwrittenFileUtf8(progressFile);
+        if (progress.isPresent()) {
+            for (String dir : progress.get().split("\n")) {
+                if (!dir.isEmpty()) {
+                    finished.add(dir);
+                }
+            }
+            LOG.info(
+                    "Resume orphan files cleaning of table {}, skip {} finished directories.",
+                    table.fullName(),
+                    finished.size());
+        }
+        return finished;
     }
 
     private void cleanEmptyDataDirectory(List<Path> deleteFiles) {
@@ -171,13 +232,12 @@ public class LocalOrphanFilesClean extends OrphanFilesClean {
                 safelyGetAllSnapshots(branch));
     }
 
-    private Set<String> getUsedFiles(String branch) {
-        Set<String> usedFiles = ConcurrentHashMap.newKeySet();
+    private void collectUsedFiles(String branch, Consumer<String> usedFileConsumer) {
         ManifestFile manifestFile =
                 table.switchToBranch(branch).store().manifestFileFactory().create();
         try {
             Set<String> manifests = ConcurrentHashMap.newKeySet();
-            collectWithoutDataFile(branch, usedFiles::add, manifests::add);
+            collectWithoutDataFile(branch, usedFileConsumer, manifests::add);
             randomlyOnlyExecute(
                     executor,
                     manifestName -> {
@@ -189,12 +249,8 @@ public class LocalOrphanFilesClean extends OrphanFilesClean {
                                     .map(ManifestEntry::file)
                                     .forEach(
                                             f -> {
-                                                if (candidateDeletes.contains(f.fileName())) {
-                                                    usedFiles.add(f.fileName());
-                                                }
-                                                f.extraFiles().stream()
-                                                        .filter(candidateDeletes::contains)
-                                                        .forEach(usedFiles::add);
+                                                usedFileConsumer.accept(f.fileName());
+                                                f.extraFiles().forEach(usedFileConsumer);
                                             });
                         } catch (IOException e) {
                             throw new RuntimeException(e);
@@ -204,29 +260,6 @@ public class LocalOrphanFilesClean extends OrphanFilesClean {
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
-        return usedFiles;
-    }
-
-    /**
-     * Get all the candidate deleting files in the specified directories and filter them by
-     * olderThanMillis.
-     */
-    private Map<String, Pair<Path, Long>> getCandidateDeletingFiles() {
-        List<Path> fileDirs = listPaimonFileDirs();
-        Function<Path, List<Pair<Path, Long>>> processor =
-                path ->
-                        tryBestListingDirs(path).stream()
-                                .filter(this::oldEnough)
-                                .map(status -> Pair.of(status.getPath(), status.getLen()))
-                                .collect(Collectors.toList());
-        Iterator<Pair<Path, Long>> allFilesInfo =
-                randomlyExecuteSequentialReturn(executor, processor, fileDirs);
-        Map<String, Pair<Path, Long>> result = new HashMap<>();
-        while (allFilesInfo.hasNext()) {
-            Pair<Path, Long> fileInfo = allFilesInfo.next();
-            result.put(fileInfo.getLeft().getName(), fileInfo);
-        }
-        return result;
     }
 
     public static List<LocalOrphanFilesClean> createOrphanFilesCleans(
@@ -142,7 +142,8 @@ public abstract class MemoryFileStoreWrite<T> extends AbstractFileStoreWrite<T>
     private void registerWriterBufferMetric(MetricRegistry metricRegistry) {
         if (metricRegistry != null) {
             writerBufferMetric =
-                    new WriterBufferMetric(() -> writeBufferPool, metricRegistry, tableName);
+                    new WriterBufferMetric(
+                            () -> writeBufferPool, () -> ioManager, metricRegistry, tableName);
         }
     }
 
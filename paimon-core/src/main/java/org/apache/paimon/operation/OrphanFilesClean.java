@@ -19,6 +19,7 @@
 package org.apache.paimon.operation;
 
 import org.apache.paimon.Snapshot;
+import org.apache.paimon.crosspartition.BootstrapIndexFile;
 import org.apache.paimon.data.Timestamp;
 import org.apache.paimon.fs.FileIO;
 import org.apache.paimon.fs.FileStatus;
@@ -47,6 +48,7 @@ import javax.annotation.Nullable;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.Serializable;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -97,6 +99,12 @@ public abstract class OrphanFilesClean implements Serializable {
     protected final int partitionKeysNum;
     protected final Path location;
 
+    /**
+     * Bootstrap index files which are not referenced by snapshots but may be read by the next
+     * bootstrap, see {@link BootstrapIndexFile}.
+     */
+    protected final Set<String> bootstrapIndexFiles;
+
     public OrphanFilesClean(FileStoreTable table, long olderThanMillis, boolean dryRun) {
         this.table = table;
         this.fileIO = table.fileIO();
@@ -104,6 +112,20 @@ public abstract class OrphanFilesClean implements Serializable {
         this.location = table.location();
         this.olderThanMillis = olderThanMillis;
         this.dryRun = dryRun;
+        this.bootstrapIndexFiles = bootstrapIndexFiles(table);
+    }
+
+    private static Set<String> bootstrapIndexFiles(FileStoreTable table) {
+        if (!table.coreOptions().crossPartitionUpsertIncrementalBootstrap()) {
+            return Collections.emptySet();
+        }
+
+        try {
+            return BootstrapIndexFile.latestFileNames(
+                    table.fileIO(), table.store().pathFactory().indexPath());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 
     protected List<String> validBranches() {
@@ -344,14 +366,9 @@ public abstract class OrphanFilesClean implements Serializable {
         paimonFileDirs.add(new Path(manifestPath));
         paimonFileDirs.add(new Path(indexPath));
         paimonFileDirs.add(new Path(statisticsPath));
-        paimonFileDirs.addAll(listFileDirs(new Path(dataFilePath), partitionKeysNum));
-
-        // add external data paths
-        if (dataFileExternalPaths != null) {
-            String[] externalPathArr = dataFileExternalPaths.split(",");
-            for (String externalPath : externalPathArr) {
-                paimonFileDirs.addAll(listFileDirs(new Path(externalPath), partitionKeysNum));
-            }
+        for (Path partitionDir :
+                listPartitionDirs(dataFilePath, partitionKeysNum, dataFileExternalPaths)) {
+            paimonFileDirs.addAll(listBucketDirs(partitionDir));
         }
         LOG.info(
                 "End list paimon file directories for table [{}] spend [{}] ms",
@@ -360,27 +377,61 @@ public abstract class OrphanFilesClean implements Serializable {
         return paimonFileDirs;
     }
 
+    /** List directories that contains metadata files, such as manifest files and index files. */
+    protected List<Path> listMetadataDirs() {
+        FileStorePathFactory pathFactory = table.store().pathFactory();
+        return Arrays.asList(
+                pathFactory.manifestPath(), pathFactory.indexPath(), pathFactory.statisticsPath());
+    }
+
     /**
-     * List directories that contains data files. The argument level is used to control recursive
-     * depth.
+     * List the directories of all partitions, including the ones in external data paths. For an
+     * unpartitioned table, the data directories themselves are returned.
      */
-    private List<Path> listFileDirs(Path dir, int level) {
-        List<FileStatus> dirs = tryBestListingDirs(dir);
+    protected List<Path> listPartitionDirs() {
+        return listPartitionDirs(
+                table.store().pathFactory().dataFilePath().toString(),
+                partitionKeysNum,
+                table.store().options().dataFileExternalPaths());
+    }
+
+    private List<Path> listPartitionDirs(
+            String dataFilePath, int partitionKeysNum, @Nullable String dataFileExternalPaths) {
+        List<Path> partitionDirs =
+                new ArrayList<>(listPartitionDirs(new Path(dataFilePath), partitionKeysNum));
+
+        // add external data paths
+        if (dataFileExternalPaths != null) {
+            String[] externalPathArr = dataFileExternalPaths.split(",");
+            for (String externalPath : externalPathArr) {
+                partitionDirs.addAll(listPartitionDirs(new Path(externalPath), partitionKeysNum));
+            }
+        }
+        return partitionDirs;
+    }
 
+    /** List directories of partitions. The argument level is used to control recursive depth. */
+    private List<Path> listPartitionDirs(Path dir, int level) {
         if (level == 0) {
-            // return bucket paths
-            return filterDirs(dirs, p -> p.getName().startsWith(BUCKET_PATH_PREFIX));
+            return Collections.singletonList(dir);
         }
 
-        List<Path> partitionPaths = filterDirs(dirs, p -> p.getName().contains("="));
+        List<Path> partitionPaths =
+                filterDirs(tryBestListingDirs(dir), p -> p.getName().contains("="));
 
         List<Path> result = new ArrayList<>();
         for (Path partitionPath : partitionPaths) {
-            result.addAll(listFileDirs(partitionPath, level - 1));
+            result.addAll(listPartitionDirs(partitionPath, level - 1));
         }
         return result;
     }
 
+    /** List bucket directories, which contain data files, of a partition directory. */
+    protected List<Path> listBucketDirs(Path partitionDir) {
+        return filterDirs(
+                tryBestListingDirs(partitionDir), p -> p.getName().startsWith(BUCKET_PATH_PREFIX));
+    }
+
     private List<Path> filterDirs(List<FileStatus> statuses, Predicate<Path> filter) {
         List<Path> filtered = new ArrayList<>();
 
@@ -445,7 +496,8 @@ public abstract class OrphanFilesClean implements Serializable {
     }
 
     protected boolean oldEnough(FileStatus status) {
-        return status.getModificationTime() < olderThanMillis;
+        return status.getModificationTime() < olderThanMillis
+                && !bootstrapIndexFiles.contains(status.getPath().getName());
     }
 
     public static long olderThanMillis(@Nullable String olderThan) {
@@ -31,6 +31,8 @@ import org.apache.paimon.stats.StatsFileHandler;
 import org.apache.paimon.utils.FileStorePathFactory;
 import org.apache.paimon.utils.Pair;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -66,6 +68,22 @@ public class SnapshotDeletion extends FileDeletionBase<Snapshot> {
 
     @Override
     public void cleanUnusedDataFiles(Snapshot snapshot, Predicate<ExpireFileEntry> skipper) {
+        cleanUnusedDataFiles(Collections.singletonList(snapshot), skipper);
+    }
+
+    /**
+     * Clean data files that will not be used anymore by consecutive snapshots sharing the same
+     * skipper. Delta manifests of all snapshots are read in parallel, and data files are
+     * deduplicated across snapshots before deleting.
+     *
+     * @return number of deleted files
+     */
+    public int cleanUnusedDataFiles(List<Snapshot> snapshots, Predicate<ExpireFileEntry> skipper) {
+        List<String> deltaManifestLists = new ArrayList<>(snapshots.size());
+        for (Snapshot snapshot : snapshots) {
+            deltaManifestLists.add(snapshot.deltaManifestList());
+        }
+
         if (changelogDecoupled && !produceChangelog) {
             // Skip clean the 'APPEND' data files.If we do not have the file source information
             // eg: the old version table file, we just skip clean this here, let it done by
@@ -75,9 +93,9 @@ public class SnapshotDeletion extends FileDeletionBase<Snapshot> {
                             skipper.test(manifestEntry)
                                     || (manifestEntry.fileSource().orElse(FileSource.APPEND)
                                             == FileSource.APPEND);
-            cleanUnusedDataFiles(snapshot.deltaManifestList(), enriched);
+            return cleanUnusedDataFilesInManifestLists(deltaManifestLists, enriched);
         } else {
-            cleanUnusedDataFiles(snapshot.deltaManifestList(), skipper);
+            return cleanUnusedDataFilesInManifestLists(deltaManifestLists, skipper);
         }
     }
 
@@ -0,0 +1,295 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.operation;
+
+import org.apache.paimon.memory.MemorySegment;
+import org.apache.paimon.memory.MemoryUtils;
+import org.apache.paimon.sort.IndexedSortable;
+import org.apache.paimon.sort.QuickSort;
+import org.apache.paimon.utils.BloomFilter64;
+import org.apache.paimon.utils.MurmurHashUtils;
+
+import java.io.Closeable;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.apache.paimon.utils.Preconditions.checkArgument;
+
+/**
+ * A compact set of file names for {@link LocalOrphanFilesClean}. Names are packed into off-heap
+ * pages and addressed by a sorted array of positions, which takes a fraction of the memory of a
+ * {@code Set<String>} when a table references tens of millions of files.
+ *
+ * <p>A lookup first tests a bloom filter, so names which are not in the set (orphan files) are
+ * usually rejected without a binary search, and then searches the sorted names for an exact answer.
+ *
+ * <p>The pages are direct memory and are freed by {@link #close()}, the set must not be used
+ * afterwards.
+ */
+public class SortedFileNameSet implements Closeable {
+
+    private static final int PAGE_SIZE = 4 * 1024 * 1024;
+    private static final double BLOOM_FILTER_FPP = 0.01;
+    private static final int LOCAL_BATCH_SIZE = 1024;
+
+    private final List<ByteBuffer> buffers;
+    private final List<MemorySegment> pages;
+    private final long[] positions;
+    private final BloomFilter64 bloomFilter;
+
+    private SortedFileNameSet(
+            List<ByteBuffer> buffers, List<MemorySegment> pages, long[] positions) {
+        this.buffers = buffers;
+        this.pages = pages;
+        this.positions = positions;
+        this.bloomFilter = new BloomFilter64(Math.max(1, positions.length), BLOOM_FILTER_FPP);
+        for (long position : positions) {
+            MemorySegment page = page(pages, position);
+            int offset = offset(position);
+            bloomFilter.addHash(hash(page, offset + 2, page.getShort(offset)));
+        }
+    }
+
+    public int size() {
+        return positions.length;
+    }
+
+    public boolean contains(String fileName) {
+        byte[] bytes = fileName.getBytes(UTF_8);
+        MemorySegment key = MemorySegment.wrap(bytes);
+        if (!bloomFilter.testHash(hash(key, 0, bytes.length))) {
+            return false;
+        }
+
+        int low = 0;
+        int high = positions.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = compare(pages, positions[mid], key, 0, bytes.length);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void close() {
+        free(buffers, pages);
+    }
+
+    private static void free(List<ByteBuffer> buffers, List<MemorySegment> pages) {
+        // drop the segments first, so that a misuse fails on the list instead of reading freed
+        // memory
+        pages.clear();
+        for (ByteBuffer buffer : buffers) {
+            MemoryUtils.freeDirectBuffer(buffer);
+        }
+        buffers.clear();
+    }
+
+    private static int compare(
+            List<MemorySegment> pages,
+            long position,
+            MemorySegment key,
+            int keyOffset,
+            int keyLength) {
+        MemorySegment page = page(pages, position);
+        int offset = offset(position);
+        return page.compare(key, offset + 2, keyOffset, page.getShort(offset), keyLength);
+    }
+
+    private static int compare(List<MemorySegment> pages, long position1, long position2) {
+        MemorySegment page = page(pages, position2);
+        int offset = offset(position2);
+        return compare(pages, position1, page, offset + 2, page.getShort(offset));
+    }
+
+    private static MemorySegment page(List<MemorySegment> pages, long position) {
+        return pages.get((int) (position >>> 32));
+    }
+
+    private static int offset(long position) {
+        return (int) position;
+    }
+
+    private static long hash(MemorySegment segment, int offset, int length) {
+        return MurmurHashUtils.fmix((long) MurmurHashUtils.hashBytes(segment, offset, length));
+    }
+
+    /**
+     * Builder of {@link SortedFileNameSet}, names can be added concurrently.
+     *
+     * <p>Every adding thread buffers its names locally and copies them into the shared pages in
+     * batches, so the threads reading manifests only contend once per {@link #LOCAL_BATCH_SIZE}
+     * names. The pages are handed over to the built set, {@link #close()} only frees them if {@link
+     * #build()} is not reached.
+     */
+    public static class Builder implements Closeable {
+
+        private final ThreadLocal<List<byte[]>> localBatch =
+                ThreadLocal.withInitial(this::newLocalBatch);
+        private final List<List<byte[]>> localBatches = new ArrayList<>();
+
+        private final List<ByteBuffer> buffers = new ArrayList<>();
+        private final List<MemorySegment> pages = new ArrayList<>();
+
+        private long[] positions = new long[1024];
+        private int size;
+        private int pageOffset = PAGE_SIZE;
+        private boolean built;
+
+        public void add(String fileName) {
+            byte[] bytes = fileName.getBytes(UTF_8);
+            checkArgument(bytes.length <= Short.MAX_VALUE, "File name is too long: %s", fileName);
+            List<byte[]> batch = localBatch.get();
+            List<byte[]> full = null;
+            synchronized (batch) {
+                batch.add(bytes);
+                if (batch.size() >= LOCAL_BATCH_SIZE) {
+                    full = new ArrayList<>(batch);
+                    batch.clear();
+                }
+            }
+            if (full != null) {
+                addAll(full);
+            }
+        }
+
+        private synchronized List<byte[]> newLocalBatch() {
+            List<byte[]> batch = new ArrayList<>();
+            localBatches.add(batch);
+            return batch;
+        }
+
+        private synchronized void addAll(List<byte[]> names) {
+            for (byte[] bytes : names) {
+                write(bytes);
+            }
+        }
+
+        private void write(byte[] bytes) {
+            if (pageOffset + 2 + bytes.length > PAGE_SIZE) {
+                ByteBuffer buffer = ByteBuffer.allocateDirect(PAGE_SIZE);
+                buffers.add(buffer);
+                pages.add(MemorySegment.wrapOffHeapMemory(buffer));
+                pageOffset = 0;
+            }
+
+            MemorySegment page = pages.get(pages.size() - 1);
+            page.putShort(pageOffset, (short) bytes.length);
+            page.put(pageOffset + 2, bytes);
+            if (size == positions.length) {
+                positions = Arrays.copyOf(positions, size * 2);
+            }
+            positions[size++] = ((long) (pages.size() - 1) << 32) | pageOffset;
+            pageOffset += 2 + bytes.length;
+        }
+
+        /** Sorts and deduplicates the added names, the builder should not be used afterwards. */
+        public synchronized SortedFileNameSet build() {
+            // names are only added before building, the lock of a batch publishes its content
+            for (List<byte[]> batch : localBatches) {
+                synchronized (batch) {
+                    for (byte[] bytes : batch) {
+                        write(bytes);
+                    }
+                    batch.clear();
+                }
+            }
+            localBatches.clear();
+
+            if (size > 1) {
+                new QuickSort().sort(new Sortable());
+            }
+
+            int unique = 0;
+            for (int i = 0; i < size; i++) {
+                if (unique == 0 || compare(pages, positions[unique - 1], positions[i]) != 0) {
+                    positions[unique++] = positions[i];
+                }
+            }
+            built = true;
+            return new SortedFileNameSet(buffers, pages, Arrays.copyOf(positions, unique));
+        }
+
+        @Override
+        public synchronized void close() {
+            if (!built) {
+                free(buffers, pages);
+            }
+        }
+
+        /** Sorts the added positions by names, every record is a single position. */
+        private class Sortable implements IndexedSortable {
+
+            @Override
+            public int compare(int i, int j) {
+                return SortedFileNameSet.compare(pages, positions[i], positions[j]);
+            }
+
+            @Override
+            public int compare(
+                    int segmentNumberI,
+                    int segmentOffsetI,
+                    int segmentNumberJ,
+                    int segmentOffsetJ) {
+                return compare(segmentOffsetI, segmentOffsetJ);
+            }
+
+            @Override
+            public void swap(int i, int j) {
+                long tmp = positions[i];
+                positions[i] = positions[j];
+                positions[j] = tmp;
+            }
+
+            @Override
+            public void swap(
+                    int segmentNumberI,
+                    int segmentOffsetI,
+                    int segmentNumberJ,
+                    int segmentOffsetJ) {
+                swap(segmentOffsetI, segmentOffsetJ);
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+
+            @Override
+            public int recordSize() {
+                return 1;
+            }
+
+            @Override
+            public int recordsPerSegment() {
+                return Integer.MAX_VALUE;
+            }
+        }
+    }
+}
@@ -24,7 +24,9 @@ import org.apache.paimon.manifest.ManifestEntry;
 
 import javax.annotation.Nullable;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /** Restore for write to restore data files by partition and bucket from file system. */
 public interface WriteRestore {
@@ -37,6 +39,33 @@ public interface WriteRestore {
             boolean scanDynamicBucketIndex,
             boolean scanDeleteVectorsIndex);
 
+    /**
+     * Restores files of many partitions and buckets at once, for example for the writers created
+     * after a restart. The default implementation restores them one by one, implementations should
+     * share the manifest scans between buckets.
+     */
+    default Map<BinaryRow, Map<Integer, RestoreFiles>> restoreFiles(
+            Map<BinaryRow, List<Integer>> partitionBuckets,
+            boolean scanDynamicBucketIndex,
+            boolean scanDeleteVectorsIndex) {
+        Map<BinaryRow, Map<Integer, RestoreFiles>> result = new HashMap<>();
+        partitionBuckets.forEach(
+                (partition, buckets) -> {
+                    Map<Integer, RestoreFiles> bucketFiles =
+                            result.computeIfAbsent(partition, k -> new HashMap<>());
+                    for (int bucket : buckets) {
+                        bucketFiles.put(
+                                bucket,
+                                restoreFiles(
+                                        partition,
+                                        bucket,
+                                        scanDynamicBucketIndex,
+                                        scanDeleteVectorsIndex));
+                    }
+                });
+        return result;
+    }
+
     @Nullable
     static Integer extractDataFiles(List<ManifestEntry> entries, List<DataFileMeta> dataFiles) {
         Integer totalBuckets = null;
@@ -50,6 +50,8 @@ public class CompactionMetrics {
     public static final String AVG_COMPACTION_OUTPUT_SIZE = "avgCompactionOutputSize";
     public static final String MAX_TOTAL_FILE_SIZE = "maxTotalFileSize";
     public static final String AVG_TOTAL_FILE_SIZE = "avgTotalFileSize";
+    public static final String MAX_COMPACTION_DEBT = "maxCompactionDebt";
+    public static final String AVG_COMPACTION_DEBT = "avgCompactionDebt";
 
     private static final long BUSY_MEASURE_MILLIS = 60_000;
     private static final int COMPACTION_TIME_WINDOW = 100;
@@ -99,6 +101,10 @@ public class CompactionMetrics {
 
         metricGroup.gauge(MAX_TOTAL_FILE_SIZE, () -> getTotalFileSizeStream().max().orElse(-1));
         metricGroup.gauge(AVG_TOTAL_FILE_SIZE, () -> getTotalFileSizeStream().average().orElse(-1));
+
+        metricGroup.gauge(MAX_COMPACTION_DEBT, () -> getCompactionDebtStream().max().orElse(-1));
+        metricGroup.gauge(
+                AVG_COMPACTION_DEBT, () -> getCompactionDebtStream().average().orElse(-1));
     }
 
     private LongStream getLevel0FileCountStream() {
@@ -113,6 +119,11 @@ public class CompactionMetrics {
         return reporters.values().stream().mapToLong(r -> r.compactionOutputSize);
     }
 
+    @VisibleForTesting
+    public DoubleStream getCompactionDebtStream() {
+        return reporters.values().stream().mapToDouble(r -> r.compactionDebt);
+    }
+
     private DoubleStream getCompactBusyStream() {
         return compactTimers.values().stream()
                 .mapToDouble(t -> 100.0 * t.calculateLength() / BUSY_MEASURE_MILLIS);
@@ -152,6 +163,8 @@ public class CompactionMetrics {
 
         void reportTotalFileSize(long bytes);
 
+        void reportCompactionDebt(double debt);
+
         void unregister();
     }
 
@@ -162,6 +175,7 @@ public class CompactionMetrics {
         private long compactionInputSize = 0;
         private long compactionOutputSize = 0;
         private long totalFileSize = 0;
+        private double compactionDebt = 0;
 
         private ReporterImpl(PartitionAndBucket key) {
             this.key = key;
@@ -200,6 +214,11 @@ public class CompactionMetrics {
             this.totalFileSize = bytes;
         }
 
+        @Override
+        public void reportCompactionDebt(double debt) {
+            this.compactionDebt = debt;
+        }
+
         @Override
         public void reportLevel0FileCount(long count) {
             this.level0FileCount = count;
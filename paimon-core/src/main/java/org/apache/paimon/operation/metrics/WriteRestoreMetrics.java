@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.operation.metrics;
+
+import org.apache.paimon.annotation.VisibleForTesting;
+import org.apache.paimon.metrics.Counter;
+import org.apache.paimon.metrics.Histogram;
+import org.apache.paimon.metrics.MetricGroup;
+import org.apache.paimon.metrics.MetricRegistry;
+
+/** Metrics to measure restoring files of writers. */
+public class WriteRestoreMetrics {
+
+    private static final int HISTOGRAM_WINDOW_SIZE = 100;
+    public static final String GROUP_NAME = "writeRestore";
+    public static final String LAST_RESTORE_DURATION = "lastRestoreDuration";
+    public static final String RESTORE_DURATION = "restoreDuration";
+    public static final String RESTORED_BUCKETS = "restoredBuckets";
+    public static final String BULK_RESTORED_BUCKETS = "bulkRestoredBuckets";
+
+    private final MetricGroup metricGroup;
+    private final Histogram durationHistogram;
+    private final Counter restoredBuckets;
+    private final Counter bulkRestoredBuckets;
+
+    private long lastRestoreDuration;
+
+    public WriteRestoreMetrics(MetricRegistry registry, String tableName) {
+        metricGroup = registry.createTableMetricGroup(GROUP_NAME, tableName);
+        metricGroup.gauge(LAST_RESTORE_DURATION, () -> lastRestoreDuration);
+        durationHistogram = metricGroup.histogram(RESTORE_DURATION, HISTOGRAM_WINDOW_SIZE);
+        restoredBuckets = metricGroup.counter(RESTORED_BUCKETS);
+        bulkRestoredBuckets = metricGroup.counter(BULK_RESTORED_BUCKETS);
+    }
+
+    @VisibleForTesting
+    public MetricGroup getMetricGroup() {
+        return metricGroup;
+    }
+
+    /** Reports a restore of one bucket or a bulk restore of many buckets. */
+    public void reportRestore(int buckets, boolean bulk, long durationMillis) {
+        lastRestoreDuration = durationMillis;
+        durationHistogram.update(durationMillis);
+        restoredBuckets.inc(buckets);
+        if (bulk) {
+            bulkRestoredBuckets.inc(buckets);
+        }
+    }
+
+    public void close() {
+        metricGroup.close();
+    }
+}
@@ -18,6 +18,8 @@
 
 package org.apache.paimon.operation.metrics;
 
+import org.apache.paimon.disk.IOManager;
+import org.apache.paimon.disk.SpillStats;
 import org.apache.paimon.memory.MemoryPoolFactory;
 import org.apache.paimon.metrics.MetricGroup;
 import org.apache.paimon.metrics.MetricRegistry;
@@ -34,12 +36,19 @@ public class WriterBufferMetric {
     private static final String BUFFER_PREEMPT_COUNT = "bufferPreemptCount";
     private static final String USED_WRITE_BUFFER_SIZE = "usedWriteBufferSizeByte";
     private static final String TOTAL_WRITE_BUFFER_SIZE = "totalWriteBufferSizeByte";
+    private static final String MAX_WRITER_BUFFER_SIZE = "maxWriterBufferSizeByte";
+    private static final String NUM_BUFFERING_WRITERS = "numBufferingWriters";
+    private static final String IDLE_BUFFER_PREEMPT_COUNT = "idleBufferPreemptCount";
+    private static final String SPILLED_BYTES = "spilledBytes";
+    private static final String SPILL_WAIT_TIME = "spillWaitTimeMs";
+    private static final String LAST_MERGE_FAN_IN = "lastMergeFanIn";
 
     private final MetricGroup metricGroup;
     private final AtomicInteger numWriters;
 
     public WriterBufferMetric(
             Supplier<MemoryPoolFactory> memoryPoolFactorySupplier,
+            Supplier<IOManager> ioManagerSupplier,
             MetricRegistry metricRegistry,
             String tableName) {
         metricGroup = metricRegistry.createTableMetricGroup(GROUP_NAME, tableName);
@@ -58,6 +67,31 @@ public class WriterBufferMetric {
                 () ->
                         getMetricValue(
                                 memoryPoolFactorySupplier, MemoryPoolFactory::totalBufferSize));
+        metricGroup.gauge(
+                MAX_WRITER_BUFFER_SIZE,
+                () ->
+                        getMetricValue(
+                                memoryPoolFactorySupplier, MemoryPoolFactory::maxOwnerBufferSize));
+        metricGroup.gauge(
+                NUM_BUFFERING_WRITERS,
+                () ->
+                        getMetricValue(
+                                memoryPoolFactorySupplier, MemoryPoolFactory::numBufferingOwners));
+        metricGroup.gauge(
+                IDLE_BUFFER_PREEMPT_COUNT,
+                () ->
+                        getMetricValue(
+                                memoryPoolFactorySupplier,
+                                MemoryPoolFactory::idleBufferPreemptCount));
+        metricGroup.gauge(
+                SPILLED_BYTES,
+                () -> getSpillMetricValue(ioManagerSupplier, SpillStats::spilledBytes));
+        metricGroup.gauge(
+                SPILL_WAIT_TIME,
+                () -> getSpillMetricValue(ioManagerSupplier, SpillStats::spillWaitTimeMillis));
+        metricGroup.gauge(
+                LAST_MERGE_FAN_IN,
+                () -> getSpillMetricValue(ioManagerSupplier, s -> (long) s.lastMergeFanIn()));
     }
 
     private long getMetricValue(
@@ -67,6 +101,13 @@ public class WriterBufferMetric {
         return memoryPoolFactory == null ? -1 : function.apply(memoryPoolFactory);
     }
 
+    private long getSpillMetricValue(
+            Supplier<IOManager> ioManagerSupplier, Function<SpillStats, Long> function) {
+        IOManager ioManager = ioManagerSupplier.get();
+        SpillStats spillStats = ioManager == null ? null : ioManager.spillStats();
+        return spillStats == null ? -1 : function.apply(spillStats);
+    }
+
     public void increaseNumWriters() {
         numWriters.incrementAndGet();
     }
@@ -215,6 +215,10 @@ public interface PartitionPredicate extends Serializable {
             }
         }
 
+        public Set<BinaryRow> partitions() {
+            return partitions;
+        }
+
         @Override
         public boolean test(BinaryRow part) {
             return partitions.contains(part);
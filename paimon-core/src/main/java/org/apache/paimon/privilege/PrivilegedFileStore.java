@@ -25,6 +25,7 @@ import org.apache.paimon.catalog.Identifier;
 import org.apache.paimon.fs.Path;
 import org.apache.paimon.index.IndexFileHandler;
 import org.apache.paimon.manifest.IndexManifestFile;
+import org.apache.paimon.manifest.ManifestEntryCache;
 import org.apache.paimon.manifest.ManifestFile;
 import org.apache.paimon.manifest.ManifestList;
 import org.apache.paimon.operation.ChangelogDeletion;
@@ -228,6 +229,11 @@ public class PrivilegedFileStore<T> implements FileStore<T> {
         wrapped.setManifestCache(manifestCache);
     }
 
+    @Override
+    public void setManifestEntryCache(ManifestEntryCache manifestEntryCache) {
+        wrapped.setManifestEntryCache(manifestEntryCache);
+    }
+
     @Override
     public void setSnapshotCache(Cache<Path, Snapshot> cache) {
         wrapped.setSnapshotCache(cache);
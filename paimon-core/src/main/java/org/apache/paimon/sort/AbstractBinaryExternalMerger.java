@@ -26,6 +26,7 @@ import org.apache.paimon.disk.ChannelWriterOutputView;
 import org.apache.paimon.disk.FileChannelUtil;
 import org.apache.paimon.disk.FileIOChannel;
 import org.apache.paimon.disk.IOManager;
+import org.apache.paimon.disk.SpillStats;
 import org.apache.paimon.utils.MutableObjectIterator;
 
 import org.slf4j.Logger;
@@ -91,6 +92,11 @@ public abstract class AbstractBinaryExternalMerger<Entry> implements Closeable {
             LOG.debug("Performing merge of " + channelIDs.size() + " sorted streams.");
         }
 
+        SpillStats spillStats = ioManager.spillStats();
+        if (spillStats != null) {
+            spillStats.recordMerge(channelIDs.size());
+        }
+
         final List<MutableObjectIterator<Entry>> iterators = new ArrayList<>(channelIDs.size() + 1);
 
         for (ChannelWithMeta channel : channelIDs) {
@@ -261,7 +261,7 @@ public class BinaryExternalSortBuffer implements SortBuffer {
             output =
                     FileChannelUtil.createOutputView(
                             ioManager, channel, compressionCodecFactory, compressionBlockSize);
-            new QuickSort().sort(inMemorySortBuffer);
+            new RadixSort().sort(inMemorySortBuffer);
             inMemorySortBuffer.writeToOutput(output);
             output.close();
             blockCount = output.getBlockCount();
@@ -245,7 +245,7 @@ public class BinaryInMemorySortBuffer extends BinaryIndexedSortable implements S
     @Override
     public final MutableObjectIterator<BinaryRow> sortedIterator() {
         if (numRecords > 0) {
-            new QuickSort().sort(this);
+            new RadixSort().sort(this);
         }
         return iterator();
     }
@@ -28,6 +28,8 @@ import org.apache.paimon.data.serializer.BinaryRowSerializer;
 import org.apache.paimon.memory.MemorySegment;
 import org.apache.paimon.memory.MemorySegmentPool;
 
+import javax.annotation.Nullable;
+
 import java.io.IOException;
 import java.util.ArrayList;
 
@@ -215,6 +217,41 @@ public abstract class BinaryIndexedSortable implements IndexedSortable {
                 segI, segmentOffsetI + OFFSET_LEN, segJ, segmentOffsetJ + OFFSET_LEN);
     }
 
+    /**
+     * Offsets of normalized key bytes from the most significant to the least significant, or null
+     * if the normalized key can not be sorted byte by byte.
+     */
+    @Nullable
+    public int[] keyByteOrder() {
+        return numKeyBytes == 0 ? null : normalizedKeyComputer.keyByteOrder();
+    }
+
+    public boolean isKeyInverted() {
+        return !useNormKeyUninverted;
+    }
+
+    public boolean isKeyFullyDetermines() {
+        return normalizedKeyFullyDetermines;
+    }
+
+    /**
+     * Read the normalized key byte at {@code keyOffset} of records from {@code from} (inclusive) to
+     * {@code to} (exclusive) into {@code target}.
+     */
+    public void readKeyBytes(int from, int to, int keyOffset, byte[] target) {
+        int segmentNumber = from / this.indexEntriesPerSegment;
+        int segmentIndex = from % this.indexEntriesPerSegment;
+        MemorySegment segment = this.sortIndex.get(segmentNumber);
+        for (int i = 0; i < to - from; i++) {
+            if (segmentIndex == this.indexEntriesPerSegment) {
+                segment = this.sortIndex.get(++segmentNumber);
+                segmentIndex = 0;
+            }
+            target[i] = segment.get(segmentIndex * this.indexEntrySize + OFFSET_LEN + keyOffset);
+            segmentIndex++;
+        }
+    }
+
     @Override
     public int size() {
         return this.numRecords;
@@ -0,0 +1,151 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.sort;
+
+import java.util.Arrays;
+
+/**
+ * MSD radix sort {@link IndexedSorter} on the normalized keys of {@link BinaryIndexedSortable}.
+ * Records are distributed in place by one normalized key byte at a time (American flag sort), and
+ * small ranges, or ranges whose normalized keys are all the same but do not fully determine the
+ * order, fall back to {@link QuickSort}, which compares the records.
+ *
+ * <p>If the sortable does not provide the byte order of its normalized keys, this sorter is the
+ * same as {@link QuickSort}.
+ */
+public final class RadixSort implements IndexedSorter {
+
+    /** Ranges smaller than this are sorted by {@link QuickSort}. */
+    private static final int QUICK_SORT_THRESHOLD = 64;
+
+    private static final int RADIX = 256;
+
+    private final QuickSort quickSort = new QuickSort();
+
+    @Override
+    public void sort(IndexedSortable s, int l, int r) {
+        if (s instanceof BinaryIndexedSortable && r - l >= QUICK_SORT_THRESHOLD) {
+            BinaryIndexedSortable sortable = (BinaryIndexedSortable) s;
+            int[] keyByteOrder = sortable.keyByteOrder();
+            if (keyByteOrder != null) {
+                new Sorter(sortable, keyByteOrder, r - l).sort(l, r, 0);
+                return;
+            }
+        }
+        quickSort.sort(s, l, r);
+    }
+
+    @Override
+    public void sort(IndexedSortable s) {
+        sort(s, 0, s.size());
+    }
+
+    /** Sorts the records of one {@link BinaryIndexedSortable}. */
+    private class Sorter {
+
+        private final BinaryIndexedSortable sortable;
+        private final int[] keyByteOrder;
+        private final int invertMask;
+        private final boolean keyFullyDetermines;
+
+        /** Key bytes of the range being distributed, swapped together with the records. */
+        private final byte[] keyBytes;
+
+        private final int[] counts = new int[RADIX];
+
+        private Sorter(BinaryIndexedSortable sortable, int[] keyByteOrder, int size) {
+            this.sortable = sortable;
+            this.keyByteOrder = keyByteOrder;
+            this.invertMask = sortable.isKeyInverted() ? RADIX - 1 : 0;
+            this.keyFullyDetermines = sortable.isKeyFullyDetermines();
+            this.keyBytes = new byte[size];
+        }
+
+        private void sort(int l, int r, int digit) {
+            int size = r - l;
+            while (true) {
+                if (digit == keyByteOrder.length) {
+                    // normalized keys are all the same
+                    if (!keyFullyDetermines) {
+                        quickSort.sort(sortable, l, r);
+                    }
+                    return;
+                }
+
+                if (size < QUICK_SORT_THRESHOLD) {
+                    quickSort.sort(sortable, l, r);
+                    return;
+                }
+
+                sortable.readKeyBytes(l, r, keyByteOrder[digit], keyBytes);
+                Arrays.fill(counts, 0);
+                for (int i = 0; i < size; i++) {
+                    counts[(keyBytes[i] & 0xFF) ^ invertMask]++;
+                }
+
+                if (counts[(keyBytes[0] & 0xFF) ^ invertMask] == size) {
+                    // all records share this byte, go to the next byte without distributing
+                    digit++;
+                    continue;
+                }
+
+                int[] ends = new int[RADIX];
+                int[] nexts = new int[RADIX];
+                int pos = 0;
+                for (int b = 0; b < RADIX; b++) {
+                    nexts[b] = pos;
+                    pos += counts[b];
+                    ends[b] = pos;
+                }
+                distribute(l, ends, nexts);
+
+                // sort every bucket by the next byte
+                int start = 0;
+                for (int b = 0; b < RADIX; b++) {
+                    int end = ends[b];
+                    if (end - start > 1) {
+                        sort(l + start, l + end, digit + 1);
+                    }
+                    start = end;
+                }
+                return;
+            }
+        }
+
+        /** Distribute records in place, the i-th key byte belongs to the record l + i. */
+        private void distribute(int l, int[] ends, int[] nexts) {
+            for (int b = 0; b < RADIX; b++) {
+                while (nexts[b] < ends[b]) {
+                    int i = nexts[b];
+                    byte key = keyBytes[i];
+                    int v = (key & 0xFF) ^ invertMask;
+                    while (v != b) {
+                        int j = nexts[v]++;
+                        sortable.swap(l + i, l + j);
+                        key = keyBytes[j];
+                        keyBytes[j] = keyBytes[i];
+                        keyBytes[i] = key;
+                        v = (key & 0xFF) ^ invertMask;
+                    }
+                    nexts[b]++;
+                }
+            }
+        }
+    }
+}
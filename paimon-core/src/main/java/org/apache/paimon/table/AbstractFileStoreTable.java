@@ -26,6 +26,7 @@ import org.apache.paimon.fs.FileIO;
 import org.apache.paimon.fs.Path;
 import org.apache.paimon.manifest.IndexManifestEntry;
 import org.apache.paimon.manifest.ManifestEntry;
+import org.apache.paimon.manifest.ManifestEntryCache;
 import org.apache.paimon.manifest.ManifestFileMeta;
 import org.apache.paimon.operation.FileStoreScan;
 import org.apache.paimon.options.ExpireConfig;
@@ -90,6 +91,7 @@ abstract class AbstractFileStoreTable implements FileStoreTable {
     protected final CatalogEnvironment catalogEnvironment;
 
     @Nullable protected transient SegmentsCache<Path> manifestCache;
+    @Nullable protected transient ManifestEntryCache manifestEntryCache;
     @Nullable protected transient Cache<Path, Snapshot> snapshotCache;
     @Nullable protected transient Cache<String, Statistics> statsCache;
 
@@ -126,6 +128,12 @@ abstract class AbstractFileStoreTable implements FileStoreTable {
         return manifestCache;
     }
 
+    @Override
+    public void setManifestEntryCache(ManifestEntryCache manifestEntryCache) {
+        this.manifestEntryCache = manifestEntryCache;
+        store().setManifestEntryCache(manifestEntryCache);
+    }
+
     @Override
     public void setSnapshotCache(Cache<Path, Snapshot> cache) {
         this.snapshotCache = cache;
@@ -382,6 +390,9 @@ abstract class AbstractFileStoreTable implements FileStoreTable {
         if (manifestCache != null) {
             copied.setManifestCache(manifestCache);
         }
+        if (manifestEntryCache != null) {
+            copied.setManifestEntryCache(manifestEntryCache);
+        }
         if (statsCache != null) {
             copied.setStatsCache(statsCache);
         }
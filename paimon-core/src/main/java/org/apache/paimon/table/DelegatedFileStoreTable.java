@@ -26,6 +26,7 @@ import org.apache.paimon.fs.FileIO;
 import org.apache.paimon.fs.Path;
 import org.apache.paimon.manifest.IndexManifestEntry;
 import org.apache.paimon.manifest.ManifestEntry;
+import org.apache.paimon.manifest.ManifestEntryCache;
 import org.apache.paimon.manifest.ManifestFileMeta;
 import org.apache.paimon.schema.SchemaManager;
 import org.apache.paimon.schema.TableSchema;
@@ -143,6 +144,11 @@ public abstract class DelegatedFileStoreTable implements FileStoreTable {
         return wrapped.getManifestCache();
     }
 
+    @Override
+    public void setManifestEntryCache(ManifestEntryCache manifestEntryCache) {
+        wrapped.setManifestEntryCache(manifestEntryCache);
+    }
+
     @Override
     public void setSnapshotCache(Cache<Path, Snapshot> cache) {
         wrapped.setSnapshotCache(cache);
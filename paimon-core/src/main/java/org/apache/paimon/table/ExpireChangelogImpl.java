@@ -35,11 +35,14 @@ import org.slf4j.LoggerFactory;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 import java.util.function.Predicate;
 
+import static org.apache.paimon.table.ExpireSnapshotsImpl.EXPIRE_BATCH_SIZE;
 import static org.apache.paimon.table.ExpireSnapshotsImpl.findSkippingTags;
+import static org.apache.paimon.utils.SnapshotManager.findPreviousSnapshot;
 
 /** Cleanup the changelog in changelog directory. */
 public class ExpireChangelogImpl implements ExpireSnapshots {
@@ -150,27 +153,14 @@ public class ExpireChangelogImpl implements ExpireSnapshots {
                 findSkippingTags(taggedSnapshots, earliestId, endExclusiveId);
         skippingSnapshots.add(changelogManager.changelog(endExclusiveId));
         Set<String> manifestSkippSet = changelogDeletion.manifestSkippingSet(skippingSnapshots);
+        List<Changelog> changelogs = new ArrayList<>();
         for (long id = earliestId; id < endExclusiveId; id++) {
             if (LOG.isDebugEnabled()) {
                 LOG.debug("Ready to delete changelog files from changelog #" + id);
             }
-            Changelog changelog = changelogManager.longLivedChangelog(id);
-            Predicate<ExpireFileEntry> skipper;
-            try {
-                skipper = changelogDeletion.createDataFileSkipperForTags(taggedSnapshots, id);
-            } catch (Exception e) {
-                LOG.info(
-                        String.format(
-                                "Skip cleaning data files of changelog '%s' due to failed to build skipping set.",
-                                id),
-                        e);
-                continue;
-            }
-
-            changelogDeletion.cleanUnusedDataFiles(changelog, skipper);
-            changelogDeletion.cleanUnusedManifests(changelog, manifestSkippSet);
-            changelogManager.fileIO().deleteQuietly(changelogManager.longLivedChangelogPath(id));
+            changelogs.add(changelogManager.longLivedChangelog(id));
         }
+        expireChangelogs(changelogs, taggedSnapshots, manifestSkippSet);
 
         changelogDeletion.cleanEmptyDirectories();
         writeEarliestHintFile(endExclusiveId);
@@ -216,33 +206,18 @@ public class ExpireChangelogImpl implements ExpireSnapshots {
         skippingSnapshots.add(snapshotManager.snapshot(earliestSnapshotId));
 
         Set<String> manifestSkippSet = changelogDeletion.manifestSkippingSet(skippingSnapshots);
+        List<Changelog> changelogs = new ArrayList<>();
         for (long id = earliestChangelogId; id <= latestChangelogId; id++) {
 
             LOG.info("Ready to delete changelog files from changelog #" + id);
 
-            Changelog changelog;
             try {
-                changelog = changelogManager.tryGetChangelog(id);
+                changelogs.add(changelogManager.tryGetChangelog(id));
             } catch (FileNotFoundException e) {
                 LOG.info("fail to get changelog #" + id);
-                continue;
-            }
-            Predicate<ExpireFileEntry> skipper;
-            try {
-                skipper = changelogDeletion.createDataFileSkipperForTags(taggedSnapshots, id);
-            } catch (Exception e) {
-                LOG.info(
-                        String.format(
-                                "Skip cleaning data files of changelog '%s' due to failed to build skipping set.",
-                                id),
-                        e);
-                continue;
             }
-
-            changelogDeletion.cleanUnusedDataFiles(changelog, skipper);
-            changelogDeletion.cleanUnusedManifests(changelog, manifestSkippSet);
-            changelogManager.fileIO().deleteQuietly(changelogManager.longLivedChangelogPath(id));
         }
+        expireChangelogs(changelogs, taggedSnapshots, manifestSkippSet);
 
         // try delete changelog hint file
         try {
@@ -255,6 +230,70 @@ public class ExpireChangelogImpl implements ExpireSnapshots {
         changelogDeletion.cleanEmptyDirectories();
     }
 
+    /**
+     * Expire changelogs in order. Changelogs after the same tag share the data file skipper, so
+     * their data files are cleaned in batches, then their manifests and changelog files are
+     * deleted.
+     */
+    private void expireChangelogs(
+            List<Changelog> changelogs,
+            List<Snapshot> taggedSnapshots,
+            Set<String> manifestSkippingSet) {
+        long startMillis = System.currentTimeMillis();
+        int deletedFiles = 0;
+        List<Changelog> batch = new ArrayList<>();
+        Predicate<ExpireFileEntry> skipper = null;
+        int batchTag = -1;
+        for (Changelog changelog : changelogs) {
+            int tag = findPreviousSnapshot(taggedSnapshots, changelog.id());
+            if (!batch.isEmpty() && (tag != batchTag || batch.size() >= EXPIRE_BATCH_SIZE)) {
+                deletedFiles += expireBatch(batch, skipper, manifestSkippingSet);
+                long duration = Math.max(1, System.currentTimeMillis() - startMillis);
+                LOG.info(
+                        "Deleted {} data files of changelogs until #{} in {} ms, {} files/s.",
+                        deletedFiles,
+                        changelog.id() - 1,
+                        duration,
+                        deletedFiles * 1000L / duration);
+                batch.clear();
+            }
+
+            if (batch.isEmpty()) {
+                try {
+                    skipper =
+                            changelogDeletion.createDataFileSkipperForTags(
+                                    taggedSnapshots, changelog.id());
+                } catch (Exception e) {
+                    LOG.info(
+                            String.format(
+                                    "Skip cleaning data files of changelog '%s' due to failed to build skipping set.",
+                                    changelog.id()),
+                            e);
+                    continue;
+                }
+                batchTag = tag;
+            }
+            batch.add(changelog);
+        }
+        if (!batch.isEmpty()) {
+            expireBatch(batch, skipper, manifestSkippingSet);
+        }
+    }
+
+    private int expireBatch(
+            List<Changelog> batch,
+            Predicate<ExpireFileEntry> skipper,
+            Set<String> manifestSkippingSet) {
+        int deletedFiles = changelogDeletion.cleanUnusedDataFiles(batch, skipper);
+        for (Changelog changelog : batch) {
+            changelogDeletion.cleanUnusedManifests(changelog, manifestSkippingSet);
+            changelogManager
+                    .fileIO()
+                    .deleteQuietly(changelogManager.longLivedChangelogPath(changelog.id()));
+        }
+        return deletedFiles;
+    }
+
     private void writeEarliestHintFile(long earliest) {
         try {
             changelogManager.commitLongLivedChangelogEarliestHint(earliest);
@@ -50,6 +50,12 @@ public class ExpireSnapshotsImpl implements ExpireSnapshots {
 
     private static final Logger LOG = LoggerFactory.getLogger(ExpireSnapshotsImpl.class);
 
+    /**
+     * Max number of snapshots whose data files are cleaned in one batch, progress is logged after
+     * each batch.
+     */
+    static final int EXPIRE_BATCH_SIZE = 1000;
+
     private final SnapshotManager snapshotManager;
     private final ChangelogManager changelogManager;
     private final ConsumerManager consumerManager;
@@ -168,6 +174,12 @@ public class ExpireSnapshotsImpl implements ExpireSnapshots {
         // delete merge tree files
         // deleted merge tree files in a snapshot are not used by the next snapshot, so the range of
         // id should be (beginInclusiveId, endExclusiveId]
+        // snapshots after the same tag share the skipper, so their files are cleaned in batches
+        long deletionStart = System.currentTimeMillis();
+        int deletedDataFiles = 0;
+        List<Snapshot> batch = new ArrayList<>();
+        Predicate<ExpireFileEntry> skipper = null;
+        int batchTag = -1;
         for (long id = beginInclusiveId + 1; id <= endExclusiveId; id++) {
             if (LOG.isDebugEnabled()) {
                 LOG.debug("Ready to delete merge tree files not used by snapshot #" + id);
@@ -179,24 +191,39 @@ public class ExpireSnapshotsImpl implements ExpireSnapshots {
                 beginInclusiveId = id + 1;
                 continue;
             }
-            // expire merge tree files and collect changed buckets
-            Predicate<ExpireFileEntry> skipper;
-            try {
-                skipper = snapshotDeletion.createDataFileSkipperForTags(taggedSnapshots, id);
-            } catch (Exception e) {
-                LOG.info(
-                        String.format(
-                                "Skip cleaning data files of snapshot '%s' due to failed to build skipping set.",
-                                id),
-                        e);
-                continue;
+
+            int tag = findPreviousSnapshot(taggedSnapshots, id);
+            if (!batch.isEmpty() && (tag != batchTag || batch.size() >= EXPIRE_BATCH_SIZE)) {
+                deletedDataFiles += snapshotDeletion.cleanUnusedDataFiles(batch, skipper);
+                logDeletionProgress("data", deletedDataFiles, id - 1, deletionStart);
+                batch.clear();
             }
 
-            snapshotDeletion.cleanUnusedDataFiles(snapshot, skipper);
+            if (batch.isEmpty()) {
+                // expire merge tree files and collect changed buckets
+                try {
+                    skipper = snapshotDeletion.createDataFileSkipperForTags(taggedSnapshots, id);
+                } catch (Exception e) {
+                    LOG.info(
+                            String.format(
+                                    "Skip cleaning data files of snapshot '%s' due to failed to build skipping set.",
+                                    id),
+                            e);
+                    continue;
+                }
+                batchTag = tag;
+            }
+            batch.add(snapshot);
+        }
+        if (!batch.isEmpty()) {
+            deletedDataFiles += snapshotDeletion.cleanUnusedDataFiles(batch, skipper);
         }
 
         // delete changelog files
+        int deletedChangelogFiles = 0;
         if (!expireConfig.isChangelogDecoupled()) {
+            deletionStart = System.currentTimeMillis();
+            List<String> changelogManifestLists = new ArrayList<>();
             for (long id = beginInclusiveId; id < endExclusiveId; id++) {
                 if (LOG.isDebugEnabled()) {
                     LOG.debug("Ready to delete changelog files from snapshot #" + id);
@@ -209,9 +236,21 @@ public class ExpireSnapshotsImpl implements ExpireSnapshots {
                     continue;
                 }
                 if (snapshot.changelogManifestList() != null) {
-                    snapshotDeletion.deleteAddedDataFiles(snapshot.changelogManifestList());
+                    changelogManifestLists.add(snapshot.changelogManifestList());
+                }
+                if (changelogManifestLists.size() >= EXPIRE_BATCH_SIZE) {
+                    deletedChangelogFiles +=
+                            snapshotDeletion.deleteAddedDataFilesInManifestLists(
+                                    changelogManifestLists);
+                    logDeletionProgress("changelog", deletedChangelogFiles, id, deletionStart);
+                    changelogManifestLists.clear();
                 }
             }
+            if (!changelogManifestLists.isEmpty()) {
+                deletedChangelogFiles +=
+                        snapshotDeletion.deleteAddedDataFilesInManifestLists(
+                                changelogManifestLists);
+            }
         }
 
         // data files and changelog files in bucket directories has been deleted
@@ -271,13 +310,28 @@ public class ExpireSnapshotsImpl implements ExpireSnapshots {
         writeEarliestHint(endExclusiveId);
         long duration = System.currentTimeMillis() - startTime;
         LOG.info(
-                "Finished expire snapshots, duration {} ms, range is [{}, {})",
+                "Finished expire snapshots, duration {} ms, range is [{}, {}), "
+                        + "deleted {} data files and {} changelog files",
                 duration,
                 beginInclusiveId,
-                endExclusiveId);
+                endExclusiveId,
+                deletedDataFiles,
+                deletedChangelogFiles);
         return (int) (endExclusiveId - beginInclusiveId);
     }
 
+    private static void logDeletionProgress(
+            String fileType, int deletedFiles, long untilId, long startMillis) {
+        long duration = Math.max(1, System.currentTimeMillis() - startMillis);
+        LOG.info(
+                "Deleted {} {} files of snapshots until #{} in {} ms, {} files/s.",
+                deletedFiles,
+                fileType,
+                untilId,
+                duration,
+                deletedFiles * 1000L / duration);
+    }
+
     private void commitChangelog(Changelog changelog) {
         try {
             changelogManager.commitChangelog(changelog, changelog.id());
@@ -29,6 +29,7 @@ import org.apache.paimon.io.DataInputView;
 import org.apache.paimon.io.DataInputViewStreamWrapper;
 import org.apache.paimon.io.DataOutputView;
 import org.apache.paimon.io.DataOutputViewStreamWrapper;
+import org.apache.paimon.manifest.ManifestEntryCache;
 import org.apache.paimon.manifest.PartitionEntry;
 import org.apache.paimon.metrics.MetricRegistry;
 import org.apache.paimon.options.Options;
@@ -127,6 +128,12 @@ public class FallbackReadFileStoreTable extends DelegatedFileStoreTable {
         fallback.setManifestCache(manifestCache);
     }
 
+    @Override
+    public void setManifestEntryCache(ManifestEntryCache manifestEntryCache) {
+        super.setManifestEntryCache(manifestEntryCache);
+        fallback.setManifestEntryCache(manifestEntryCache);
+    }
+
     private FileStoreTable switchWrappedToBranch(String branchName) {
         Optional<TableSchema> optionalSchema =
                 wrapped.schemaManager().copyWithBranch(branchName).latest();
@@ -23,6 +23,7 @@ import org.apache.paimon.Snapshot;
 import org.apache.paimon.consumer.ConsumerManager;
 import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.fs.Path;
+import org.apache.paimon.manifest.ManifestEntryCache;
 import org.apache.paimon.operation.LocalOrphanFilesClean;
 import org.apache.paimon.options.ExpireConfig;
 import org.apache.paimon.schema.TableSchema;
@@ -58,6 +59,8 @@ public interface FileStoreTable extends DataTable {
     @Nullable
     SegmentsCache<Path> getManifestCache();
 
+    void setManifestEntryCache(ManifestEntryCache manifestEntryCache);
+
     void setSnapshotCache(Cache<Path, Snapshot> cache);
 
     void setStatsCache(Cache<String, Statistics> cache);
@@ -22,6 +22,7 @@ import org.apache.paimon.CoreOptions;
 import org.apache.paimon.FileStore;
 import org.apache.paimon.KeyValue;
 import org.apache.paimon.KeyValueFileStore;
+import org.apache.paimon.catalog.Identifier;
 import org.apache.paimon.data.BinaryRow;
 import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.data.serializer.InternalRowSerializer;
@@ -30,16 +31,19 @@ import org.apache.paimon.data.serializer.RowCompactedSerializer;
 import org.apache.paimon.deletionvectors.DeletionVector;
 import org.apache.paimon.disk.IOManager;
 import org.apache.paimon.io.DataFileMeta;
+import org.apache.paimon.io.KeyBloomFilterFile;
 import org.apache.paimon.io.KeyValueFileReaderFactory;
 import org.apache.paimon.io.cache.CacheManager;
 import org.apache.paimon.lookup.LookupStoreFactory;
 import org.apache.paimon.mergetree.Levels;
 import org.apache.paimon.mergetree.LookupFile;
 import org.apache.paimon.mergetree.LookupLevels;
+import org.apache.paimon.mergetree.PersistentLookupFiles;
 import org.apache.paimon.options.Options;
 import org.apache.paimon.reader.RecordReader;
 import org.apache.paimon.table.FileStoreTable;
 import org.apache.paimon.types.RowType;
+import org.apache.paimon.utils.BloomFilter;
 import org.apache.paimon.utils.Filter;
 import org.apache.paimon.utils.KeyComparatorSupplier;
 import org.apache.paimon.utils.Preconditions;
@@ -76,9 +80,11 @@ public class LocalTableQuery implements TableQuery {
     private IOManager ioManager;
 
     @Nullable private Cache<String, LookupFile> lookupFileCache;
+    @Nullable private Cache<String, BloomFilter> keyBloomFilterCache;
 
     private final RowType rowType;
     private final RowType partitionType;
+    @Nullable private final Identifier identifier;
 
     @Nullable private Filter<InternalRow> cacheRowFilter;
 
@@ -95,6 +101,7 @@ public class LocalTableQuery implements TableQuery {
         this.readerFactoryBuilder = store.newReaderFactoryBuilder();
         this.rowType = table.schema().logicalRowType();
         this.partitionType = table.schema().logicalPartitionType();
+        this.identifier = table.catalogEnvironment().identifier();
         RowType keyType = readerFactoryBuilder.keyType();
         this.keyComparatorSupplier = new KeyComparatorSupplier(readerFactoryBuilder.keyType());
         this.lookupStoreFactory =
@@ -136,13 +143,20 @@ public class LocalTableQuery implements TableQuery {
                             options.get(CoreOptions.LOOKUP_CACHE_FILE_RETENTION),
                             options.get(CoreOptions.LOOKUP_CACHE_MAX_DISK_SIZE));
         }
+        if (keyBloomFilterCache == null) {
+            keyBloomFilterCache =
+                    KeyBloomFilterFile.createCache(
+                            this.options.lookupKeyBloomFilterCacheMaxMemorySize());
+        }
 
+        LookupLevels.KeyValueProcessor valueProcessor =
+                new LookupLevels.KeyValueProcessor(readerFactoryBuilder.readValueType());
         LookupLevels<KeyValue> lookupLevels =
                 new LookupLevels<>(
                         levels,
                         keyComparatorSupplier.get(),
                         readerFactoryBuilder.keyType(),
-                        new LookupLevels.KeyValueProcessor(readerFactoryBuilder.readValueType()),
+                        valueProcessor,
                         file -> {
                             RecordReader<KeyValue> reader = factory.createRecordReader(file);
                             if (cacheRowFilter != null) {
@@ -160,8 +174,28 @@ public class LocalTableQuery implements TableQuery {
                                         .getPathFile(),
                         lookupStoreFactory,
                         bfGenerator(options),
+                        factory::readKeyBloomFilter,
+                        keyBloomFilterCache,
                         lookupFileCache);
 
+        String persistDir = this.options.lookupCachePersistDir();
+        // files filtered by the cache row filter can not be validated, do not persist them
+        if (persistDir != null && cacheRowFilter == null) {
+            lookupLevels.withPersistentFiles(
+                    PersistentLookupFiles.create(
+                            this.options,
+                            identifier,
+                            "query",
+                            partitionType,
+                            partition,
+                            bucket,
+                            PersistentLookupFiles.fingerprint(
+                                    this.options,
+                                    readerFactoryBuilder.keyType(),
+                                    valueProcessor.identifier()),
+                            lookupStoreFactory));
+        }
+
         tableView.computeIfAbsent(partition, k -> new HashMap<>()).put(bucket, lookupLevels);
     }
 
@@ -220,6 +254,9 @@ public class LocalTableQuery implements TableQuery {
         if (lookupFileCache != null) {
             lookupFileCache.invalidateAll();
         }
+        if (keyBloomFilterCache != null) {
+            keyBloomFilterCache.invalidateAll();
+        }
         tableView.clear();
     }
 }
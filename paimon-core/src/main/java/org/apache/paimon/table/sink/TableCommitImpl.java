@@ -369,4 +369,9 @@ public class TableCommitImpl implements InnerTableCommit {
     public ExecutorService getExpireMainExecutor() {
         return expireMainExecutor;
     }
+
+    @VisibleForTesting
+    public FileStoreCommit fileStoreCommit() {
+        return commit;
+    }
 }
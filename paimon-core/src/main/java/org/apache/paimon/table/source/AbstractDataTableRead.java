@@ -20,6 +20,7 @@ package org.apache.paimon.table.source;
 
 import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.disk.IOManager;
+import org.apache.paimon.predicate.DictionaryPredicateFilter;
 import org.apache.paimon.predicate.Predicate;
 import org.apache.paimon.predicate.PredicateProjectionConverter;
 import org.apache.paimon.reader.RecordReader;
@@ -105,7 +106,6 @@ public abstract class AbstractDataTableRead implements InnerTableRead {
             predicate = optional.get();
         }
 
-        Predicate finalFilter = predicate;
-        return reader.filter(finalFilter::test);
+        return reader.filter(new DictionaryPredicateFilter(predicate));
     }
 }
@@ -0,0 +1,588 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.table.source.aggregate;
+
+import org.apache.paimon.data.Decimal;
+import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.data.columnar.ByteColumnVector;
+import org.apache.paimon.data.columnar.ColumnVector;
+import org.apache.paimon.data.columnar.DecimalColumnVector;
+import org.apache.paimon.data.columnar.DoubleColumnVector;
+import org.apache.paimon.data.columnar.FloatColumnVector;
+import org.apache.paimon.data.columnar.IntColumnVector;
+import org.apache.paimon.data.columnar.LongColumnVector;
+import org.apache.paimon.data.columnar.ShortColumnVector;
+import org.apache.paimon.data.columnar.VectorizedColumnBatch;
+import org.apache.paimon.types.DataType;
+import org.apache.paimon.types.DataTypeRoot;
+import org.apache.paimon.types.DecimalType;
+import org.apache.paimon.types.RowType;
+import org.apache.paimon.utils.InternalRowUtils;
+
+import javax.annotation.Nullable;
+
+import java.math.BigDecimal;
+
+/**
+ * The state of an {@link AggregateCall} for one group. An accumulator can be updated row by row, or
+ * with a whole {@link VectorizedColumnBatch} or a single row of it if {@link
+ * #supports(VectorizedColumnBatch)}.
+ */
+abstract class Accumulator {
+
+    abstract void update(InternalRow row);
+
+    abstract boolean supports(VectorizedColumnBatch batch);
+
+    abstract void update(VectorizedColumnBatch batch);
+
+    abstract void update(VectorizedColumnBatch batch, int rowId);
+
+    @Nullable
+    abstract Object result();
+
+    static Accumulator create(AggregateCall call, RowType inputType) {
+        int field = call.fieldIndex();
+        switch (call.kind()) {
+            case COUNT_STAR:
+                return new CountStar();
+            case COUNT:
+                return new Count(field);
+            case SUM:
+                DataType sumType = inputType.getTypeAt(field);
+                switch (sumType.getTypeRoot()) {
+                    case FLOAT:
+                    case DOUBLE:
+                        return new FloatingSum(field, sumType.getTypeRoot());
+                    case DECIMAL:
+                        return new DecimalSum(
+                                field,
+                                (DecimalType) sumType,
+                                (DecimalType) call.resultType(inputType));
+                    default:
+                        return new IntegralSum(field, sumType.getTypeRoot());
+                }
+            case MIN:
+            case MAX:
+                boolean isMin = call.kind() == AggregateCall.Kind.MIN;
+                DataType type = inputType.getTypeAt(field);
+                switch (type.getTypeRoot()) {
+                    case TINYINT:
+                    case SMALLINT:
+                    case INTEGER:
+                    case DATE:
+                    case TIME_WITHOUT_TIME_ZONE:
+                    case BIGINT:
+                        return new IntegralMinMax(field, type.getTypeRoot(), isMin);
+                    case FLOAT:
+                    case DOUBLE:
+                        return new FloatingMinMax(field, type.getTypeRoot(), isMin);
+                    default:
+                        return new GenericMinMax(field, type, isMin);
+                }
+            default:
+                throw new UnsupportedOperationException("Unsupported aggregate call: " + call);
+        }
+    }
+
+    // ------------------------------------------------------------------------------------------
+    // Helpers to read primitive values from rows and vectors
+    // ------------------------------------------------------------------------------------------
+
+    static long getLong(InternalRow row, int pos, DataTypeRoot root) {
+        switch (root) {
+            case TINYINT:
+                return row.getByte(pos);
+            case SMALLINT:
+                return row.getShort(pos);
+            case BIGINT:
+                return row.getLong(pos);
+            default:
+                return row.getInt(pos);
+        }
+    }
+
+    static long getLong(ColumnVector vector, int i, DataTypeRoot root) {
+        switch (root) {
+            case TINYINT:
+                return ((ByteColumnVector) vector).getByte(i);
+            case SMALLINT:
+                return ((ShortColumnVector) vector).getShort(i);
+            case BIGINT:
+                return ((LongColumnVector) vector).getLong(i);
+            default:
+                return ((IntColumnVector) vector).getInt(i);
+        }
+    }
+
+    static boolean isLongVector(ColumnVector vector, DataTypeRoot root) {
+        switch (root) {
+            case TINYINT:
+                return vector instanceof ByteColumnVector;
+            case SMALLINT:
+                return vector instanceof ShortColumnVector;
+            case BIGINT:
+                return vector instanceof LongColumnVector;
+            default:
+                return vector instanceof IntColumnVector;
+        }
+    }
+
+    private static double getDouble(InternalRow row, int pos, DataTypeRoot root) {
+        return root == DataTypeRoot.FLOAT ? row.getFloat(pos) : row.getDouble(pos);
+    }
+
+    private static double getDouble(ColumnVector vector, int i, DataTypeRoot root) {
+        return root == DataTypeRoot.FLOAT
+                ? ((FloatColumnVector) vector).getFloat(i)
+                : ((DoubleColumnVector) vector).getDouble(i);
+    }
+
+    private static boolean isDoubleVector(ColumnVector vector, DataTypeRoot root) {
+        return root == DataTypeRoot.FLOAT
+                ? vector instanceof FloatColumnVector
+                : vector instanceof DoubleColumnVector;
+    }
+
+    // ------------------------------------------------------------------------------------------
+    // Accumulators
+    // ------------------------------------------------------------------------------------------
+
+    private static class CountStar extends Accumulator {
+
+        private long count;
+
+        @Override
+        void update(InternalRow row) {
+            count++;
+        }
+
+        @Override
+        boolean supports(VectorizedColumnBatch batch) {
+            return true;
+        }
+
+        @Override
+        void update(VectorizedColumnBatch batch) {
+            count += batch.getNumRows();
+        }
+
+        @Override
+        void update(VectorizedColumnBatch batch, int rowId) {
+            count++;
+        }
+
+        @Override
+        Object result() {
+            return count;
+        }
+    }
+
+    private static class Count extends Accumulator {
+
+        private final int field;
+        private long count;
+
+        private Count(int field) {
+            this.field = field;
+        }
+
+        @Override
+        void update(InternalRow row) {
+            if (!row.isNullAt(field)) {
+                count++;
+            }
+        }
+
+        @Override
+        boolean supports(VectorizedColumnBatch batch) {
+            return true;
+        }
+
+        @Override
+        void update(VectorizedColumnBatch batch) {
+            ColumnVector vector = batch.columns[field];
+            int numRows = batch.getNumRows();
+            for (int i = 0; i < numRows; i++) {
+                if (!vector.isNullAt(i)) {
+                    count++;
+                }
+            }
+        }
+
+        @Override
+        void update(VectorizedColumnBatch batch, int rowId) {
+            if (!batch.columns[field].isNullAt(rowId)) {
+                count++;
+            }
+        }
+
+        @Override
+        Object result() {
+            return count;
+        }
+    }
+
+    private static class IntegralSum extends Accumulator {
+
+        private final int field;
+        private final DataTypeRoot root;
+        private boolean hasValue;
+        private long sum;
+
+        private IntegralSum(int field, DataTypeRoot root) {
+            this.field = field;
+            this.root = root;
+        }
+
+        @Override
+        void update(InternalRow row) {
+            if (!row.isNullAt(field)) {
+                hasValue = true;
+                sum += getLong(row, field, root);
+            }
+        }
+
+        @Override
+        boolean supports(VectorizedColumnBatch batch) {
+            return isLongVector(batch.columns[field], root);
+        }
+
+        @Override
+        void update(VectorizedColumnBatch batch) {
+            ColumnVector vector = batch.columns[field];
+            int numRows = batch.getNumRows();
+            for (int i = 0; i < numRows; i++) {
+                if (!vector.isNullAt(i)) {
+                    hasValue = true;
+                    sum += getLong(vector, i, root);
+                }
+            }
+        }
+
+        @Override
+        void update(VectorizedColumnBatch batch, int rowId) {
+            ColumnVector vector = batch.columns[field];
+            if (!vector.isNullAt(rowId)) {
+                hasValue = true;
+                sum += getLong(vector, rowId, root);
+            }
+        }
+
+        @Override
+        Object result() {
+            return hasValue ? sum : null;
+        }
+    }
+
+    private static class FloatingSum extends Accumulator {
+
+        private final int field;
+        private final DataTypeRoot root;
+        private boolean hasValue;
+        private double sum;
+
+        private FloatingSum(int field, DataTypeRoot root) {
+            this.field = field;
+            this.root = root;
+        }
+
+        @Override
+        void update(InternalRow row) {
+            if (!row.isNullAt(field)) {
+                hasValue = true;
+                sum += getDouble(row, field, root);
+            }
+        }
+
+        @Override
+        boolean supports(VectorizedColumnBatch batch) {
+            return isDoubleVector(batch.columns[field], root);
+        }
+
+        @Override
+        void update(VectorizedColumnBatch batch) {
+            ColumnVector vector = batch.columns[field];
+            int numRows = batch.getNumRows();
+            for (int i = 0; i < numRows; i++) {
+                if (!vector.isNullAt(i)) {
+                    hasValue = true;
+                    sum += getDouble(vector, i, root);
+                }
+            }
+        }
+
+        @Override
+        void update(VectorizedColumnBatch batch, int rowId) {
+            ColumnVector vector = batch.columns[field];
+            if (!vector.isNullAt(rowId)) {
+                hasValue = true;
+                sum += getDouble(vector, rowId, root);
+            }
+        }
+
+        @Override
+        Object result() {
+            return hasValue ? sum : null;
+        }
+    }
+
+    private static class DecimalSum extends Accumulator {
+
+        private final int field;
+        private final DecimalType inputType;
+        private final DecimalType resultType;
+        @Nullable private BigDecimal sum;
+
+        private DecimalSum(int field, DecimalType inputType, DecimalType resultType) {
+            this.field = field;
+            this.inputType = inputType;
+            this.resultType = resultType;
+        }
+
+        private void add(Decimal value) {
+            sum = sum == null ? value.toBigDecimal() : sum.add(value.toBigDecimal());
+        }
+
+        @Override
+        void update(InternalRow row) {
+            if (!row.isNullAt(field)) {
+                add(row.getDecimal(field, inputType.getPrecision(), inputType.getScale()));
+            }
+        }
+
+        @Override
+        boolean supports(VectorizedColumnBatch batch) {
+            return batch.columns[field] instanceof DecimalColumnVector;
+        }
+
+        @Override
+        void update(VectorizedColumnBatch batch) {
+            DecimalColumnVector vector = (DecimalColumnVector) batch.columns[field];
+            int numRows = batch.getNumRows();
+            for (int i = 0; i < numRows; i++) {
+                if (!vector.isNullAt(i)) {
+                    add(vector.getDecimal(i, inputType.getPrecision(), inputType.getScale()));
+                }
+            }
+        }
+
+        @Override
+        void update(VectorizedColumnBatch batch, int rowId) {
+            DecimalColumnVector vector = (DecimalColumnVector) batch.columns[field];
+            if (!vector.isNullAt(rowId)) {
+                add(vector.getDecimal(rowId, inputType.getPrecision(), inputType.getScale()));
+            }
+        }
+
+        @Override
+        Object result() {
+            return sum == null
+                    ? null
+                    : Decimal.fromBigDecimal(sum, resultType.getPrecision(), resultType.getScale());
+        }
+    }
+
+    private static class IntegralMinMax extends Accumulator {
+
+        private final int field;
+        private final DataTypeRoot root;
+        private final boolean isMin;
+        private boolean hasValue;
+        private long value;
+
+        private IntegralMinMax(int field, DataTypeRoot root, boolean isMin) {
+            this.field = field;
+            this.root = root;
+            this.isMin = isMin;
+        }
+
+        private void accept(long input) {
+            if (!hasValue || (isMin ? input < value : input > value)) {
+                hasValue = true;
+                value = input;
+            }
+        }
+
+        @Override
+        void update(InternalRow row) {
+            if (!row.isNullAt(field)) {
+                accept(getLong(row, field, root));
+            }
+        }
+
+        @Override
+        boolean supports(VectorizedColumnBatch batch) {
+            return isLongVector(batch.columns[field], root);
+        }
+
+        @Override
+        void update(VectorizedColumnBatch batch) {
+            ColumnVector vector = batch.columns[field];
+            int numRows = batch.getNumRows();
+            for (int i = 0; i < numRows; i++) {
+                if (!vector.isNullAt(i)) {
+                    accept(getLong(vector, i, root));
+                }
+            }
+        }
+
+        @Override
+        void update(VectorizedColumnBatch batch, int rowId) {
+            ColumnVector vector = batch.columns[field];
+            if (!vector.isNullAt(rowId)) {
+                accept(getLong(vector, rowId, root));
+            }
+        }
+
+        @Override
+        Object result() {
+            if (!hasValue) {
+                return null;
+            }
+            switch (root) {
+                case TINYINT:
+                    return (byte) value;
+                case SMALLINT:
+                    return (short) value;
+                case BIGINT:
+                    return value;
+                default:
+                    return (int) value;
+            }
+        }
+    }
+
+    private static class FloatingMinMax extends Accumulator {
+
+        private final int field;
+        private final DataTypeRoot root;
+        private final boolean isMin;
+        private boolean hasValue;
+        private double value;
+
+        private FloatingMinMax(int field, DataTypeRoot root, boolean isMin) {
+            this.field = field;
+            this.root = root;
+            this.isMin = isMin;
+        }
+
+        private void accept(double input) {
+            // same as Double#compareTo, NaN is greater than any other value
+            if (!hasValue
+                    || (isMin
+                            ? Double.compare(input, value) < 0
+                            : Double.compare(input, value) > 0)) {
+                hasValue = true;
+                value = input;
+            }
+        }
+
+        @Override
+        void update(InternalRow row) {
+            if (!row.isNullAt(field)) {
+                accept(getDouble(row, field, root));
+            }
+        }
+
+        @Override
+        boolean supports(VectorizedColumnBatch batch) {
+            return isDoubleVector(batch.columns[field], root);
+        }
+
+        @Override
+        void update(VectorizedColumnBatch batch) {
+            ColumnVector vector = batch.columns[field];
+            int numRows = batch.getNumRows();
+            for (int i = 0; i < numRows; i++) {
+                if (!vector.isNullAt(i)) {
+                    accept(getDouble(vector, i, root));
+                }
+            }
+        }
+
+        @Override
+        void update(VectorizedColumnBatch batch, int rowId) {
+            ColumnVector vector = batch.columns[field];
+            if (!vector.isNullAt(rowId)) {
+                accept(getDouble(vector, rowId, root));
+            }
+        }
+
+        @Override
+        Object result() {
+            if (!hasValue) {
+                return null;
+            }
+            return root == DataTypeRoot.FLOAT ? (Object) (float) value : (Object) value;
+        }
+    }
+
+    private static class GenericMinMax extends Accumulator {
+
+        private final DataType type;
+        private final InternalRow.FieldGetter getter;
+        private final boolean isMin;
+        @Nullable private Object value;
+
+        private GenericMinMax(int field, DataType type, boolean isMin) {
+            this.type = type;
+            this.getter = InternalRow.createFieldGetter(type, field);
+            this.isMin = isMin;
+        }
+
+        @Override
+        void update(InternalRow row) {
+            Object input = getter.getFieldOrNull(row);
+            if (input == null) {
+                return;
+            }
+
+            if (value == null) {
+                value = InternalRowUtils.copy(input, type);
+            } else {
+                int compare = InternalRowUtils.compare(input, value, type.getTypeRoot());
+                if (isMin ? compare < 0 : compare > 0) {
+                    // the input may be reused by the reader, so copy it
+                    value = InternalRowUtils.copy(input, type);
+                }
+            }
+        }
+
+        @Override
+        boolean supports(VectorizedColumnBatch batch) {
+            return false;
+        }
+
+        @Override
+        void update(VectorizedColumnBatch batch) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        void update(VectorizedColumnBatch batch, int rowId) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        Object result() {
+            return value;
+        }
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.table.source.aggregate;
+
+import org.apache.paimon.types.BigIntType;
+import org.apache.paimon.types.DataType;
+import org.apache.paimon.types.DecimalType;
+import org.apache.paimon.types.DoubleType;
+import org.apache.paimon.types.RowType;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+import static org.apache.paimon.utils.Preconditions.checkArgument;
+
+/**
+ * An aggregate function call which can be partially evaluated inside the reader, see {@link
+ * PartialAggregation}.
+ */
+public class AggregateCall implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /** Kind of the aggregate function. */
+    public enum Kind {
+        COUNT_STAR,
+        COUNT,
+        SUM,
+        MIN,
+        MAX
+    }
+
+    private final Kind kind;
+
+    // -1 for COUNT_STAR
+    private final int fieldIndex;
+
+    private AggregateCall(Kind kind, int fieldIndex) {
+        this.kind = kind;
+        this.fieldIndex = fieldIndex;
+    }
+
+    public static AggregateCall countStar() {
+        return new AggregateCall(Kind.COUNT_STAR, -1);
+    }
+
+    public static AggregateCall count(int fieldIndex) {
+        return new AggregateCall(Kind.COUNT, fieldIndex);
+    }
+
+    public static AggregateCall sum(int fieldIndex) {
+        return new AggregateCall(Kind.SUM, fieldIndex);
+    }
+
+    public static AggregateCall min(int fieldIndex) {
+        return new AggregateCall(Kind.MIN, fieldIndex);
+    }
+
+    public static AggregateCall max(int fieldIndex) {
+        return new AggregateCall(Kind.MAX, fieldIndex);
+    }
+
+    public Kind kind() {
+        return kind;
+    }
+
+    public int fieldIndex() {
+        return fieldIndex;
+    }
+
+    /** Whether this call can be evaluated on the given input row type. */
+    public boolean supports(RowType inputType) {
+        if (kind == Kind.COUNT_STAR) {
+            return true;
+        }
+        if (fieldIndex < 0 || fieldIndex >= inputType.getFieldCount()) {
+            return false;
+        }
+
+        DataType type = inputType.getTypeAt(fieldIndex);
+        switch (kind) {
+            case COUNT:
+                return true;
+            case SUM:
+                switch (type.getTypeRoot()) {
+                    case TINYINT:
+                    case SMALLINT:
+                    case INTEGER:
+                    case BIGINT:
+                    case FLOAT:
+                    case DOUBLE:
+                    case DECIMAL:
+                        return true;
+                    default:
+                        return false;
+                }
+            case MIN:
+            case MAX:
+                switch (type.getTypeRoot()) {
+                    case TINYINT:
+                    case SMALLINT:
+                    case INTEGER:
+                    case BIGINT:
+                    case FLOAT:
+                    case DOUBLE:
+                    case DECIMAL:
+                    case DATE:
+                    case TIME_WITHOUT_TIME_ZONE:
+                    case TIMESTAMP_WITHOUT_TIME_ZONE:
+                    case TIMESTAMP_WITH_LOCAL_TIME_ZONE:
+                    case CHAR:
+                    case VARCHAR:
+                        return true;
+                    default:
+                        return false;
+                }
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * The result type of this call. Integral sums are widened to BIGINT, floating sums to DOUBLE
+     * and decimal sums get 10 more digits of precision.
+     */
+    public DataType resultType(RowType inputType) {
+        checkArgument(supports(inputType), "Unsupported aggregate call %s.", this);
+        switch (kind) {
+            case COUNT_STAR:
+            case COUNT:
+                return new BigIntType(false);
+            case SUM:
+                DataType type = inputType.getTypeAt(fieldIndex);
+                switch (type.getTypeRoot()) {
+                    case FLOAT:
+                    case DOUBLE:
+                        return new DoubleType();
+                    case DECIMAL:
+                        DecimalType decimalType = (DecimalType) type;
+                        return new DecimalType(
+                                Math.min(
+                                        DecimalType.MAX_PRECISION, decimalType.getPrecision() + 10),
+                                decimalType.getScale());
+                    default:
+                        return new BigIntType();
+                }
+            default:
+                return inputType.getTypeAt(fieldIndex).copy(true);
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        AggregateCall that = (AggregateCall) o;
+        return fieldIndex == that.fieldIndex && kind == that.kind;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(kind, fieldIndex);
+    }
+
+    @Override
+    public String toString() {
+        return kind == Kind.COUNT_STAR ? "COUNT(*)" : String.format("%s($%s)", kind, fieldIndex);
+    }
+}
@@ -0,0 +1,206 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.table.source.aggregate;
+
+import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.data.columnar.ColumnVector;
+import org.apache.paimon.data.columnar.ColumnarRow;
+import org.apache.paimon.data.columnar.Dictionary;
+import org.apache.paimon.data.columnar.DictionaryColumnVector;
+import org.apache.paimon.data.columnar.VectorizedColumnBatch;
+import org.apache.paimon.data.serializer.InternalRowSerializer;
+import org.apache.paimon.types.DataTypeRoot;
+import org.apache.paimon.utils.ProjectedRow;
+
+import javax.annotation.Nullable;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Groups rows by the group by fields of a {@link PartialAggregation} for {@link
+ * PartialAggregateReader}, the accumulators of each group are kept in a map keyed by the serialized
+ * group by fields.
+ *
+ * <p>The rows of a {@link VectorizedColumnBatch} are grouped from its column vectors. A single
+ * group by column with dictionary ids (see {@link DictionaryColumnVector}) is grouped by id, and a
+ * single integral group by column is grouped by its value, so that the group by fields are only
+ * serialized for the first row of each group. Other rows are grouped by their serialized group by
+ * fields.
+ *
+ * <p>This class is stateful and not thread-safe, create one per reader.
+ */
+class Grouper {
+
+    private final Map<BinaryRow, Accumulator[]> groups;
+    private final Supplier<Accumulator[]> accumulatorsFactory;
+    private final ProjectedRow groupByRow;
+    private final InternalRowSerializer groupBySerializer;
+
+    /** The single group by field, or -1 if there are several. */
+    private final int singleField;
+
+    /** The type of {@link #singleField} if it is integral, or null. */
+    @Nullable private final DataTypeRoot integralRoot;
+
+    private final Map<Long, Accumulator[]> integralGroups;
+
+    @Nullable private Dictionary dictionary;
+    private Accumulator[][] dictionaryGroups;
+
+    private final ColumnarRow row;
+    private Accumulator[][] rowGroups;
+
+    Grouper(PartialAggregation aggregation, Supplier<Accumulator[]> accumulatorsFactory) {
+        int[] groupByFields = aggregation.groupByFields();
+        this.groups = new HashMap<>();
+        this.accumulatorsFactory = accumulatorsFactory;
+        this.groupByRow = ProjectedRow.from(groupByFields);
+        this.groupBySerializer = new InternalRowSerializer(aggregation.groupByType());
+        this.singleField = groupByFields.length == 1 ? groupByFields[0] : -1;
+        this.integralRoot =
+                singleField >= 0
+                        ? integralRoot(aggregation.inputType().getTypeAt(singleField).getTypeRoot())
+                        : null;
+        this.integralGroups = new HashMap<>();
+        this.dictionaryGroups = new Accumulator[0][];
+        this.row = new ColumnarRow();
+        this.rowGroups = new Accumulator[0][];
+    }
+
+    @Nullable
+    private static DataTypeRoot integralRoot(DataTypeRoot root) {
+        switch (root) {
+            case TINYINT:
+            case SMALLINT:
+            case INTEGER:
+            case DATE:
+            case TIME_WITHOUT_TIME_ZONE:
+            case BIGINT:
+                return root;
+            default:
+                return null;
+        }
+    }
+
+    int size() {
+        return groups.size();
+    }
+
+    Map<BinaryRow, Accumulator[]> groups() {
+        return groups;
+    }
+
+    /** Returns the accumulators of the group of the row. */
+    Accumulator[] group(InternalRow row) {
+        BinaryRow key = groupBySerializer.toBinaryRow(groupByRow.replaceRow(row));
+        Accumulator[] accumulators = groups.get(key);
+        if (accumulators == null) {
+            accumulators = accumulatorsFactory.get();
+            groups.put(key.copy(), accumulators);
+        }
+        return accumulators;
+    }
+
+    /**
+     * Returns the accumulators of the group of each row of the batch. The returned array is reused
+     * by the next call.
+     */
+    Accumulator[][] group(VectorizedColumnBatch batch) {
+        int numRows = batch.getNumRows();
+        if (rowGroups.length < numRows) {
+            rowGroups = new Accumulator[numRows][];
+        }
+        row.setVectorizedColumnBatch(batch);
+
+        ColumnVector vector = singleField >= 0 ? batch.columns[singleField] : null;
+        if (vector instanceof DictionaryColumnVector
+                && ((DictionaryColumnVector) vector).isDictionaryEncoded()) {
+            groupByDictionaryIds((DictionaryColumnVector) vector, numRows);
+        } else if (integralRoot != null && Accumulator.isLongVector(vector, integralRoot)) {
+            groupByIntegralValues(vector, numRows);
+        } else {
+            for (int i = 0; i < numRows; i++) {
+                rowGroups[i] = groupOfRow(i);
+            }
+        }
+        return rowGroups;
+    }
+
+    private void groupByDictionaryIds(DictionaryColumnVector vector, int numRows) {
+        Dictionary dictionary = vector.getDictionary();
+        if (this.dictionary != dictionary) {
+            this.dictionary = dictionary;
+            Arrays.fill(dictionaryGroups, null);
+        }
+
+        for (int i = 0; i < numRows; i++) {
+            if (vector.isNullAt(i)) {
+                rowGroups[i] = groupOfRow(i);
+                continue;
+            }
+
+            int id = vector.getDictionaryId(i);
+            if (id >= dictionaryGroups.length) {
+                dictionaryGroups =
+                        Arrays.copyOf(
+                                dictionaryGroups, Math.max(id + 1, dictionaryGroups.length * 2));
+            }
+            Accumulator[] accumulators = dictionaryGroups[id];
+            if (accumulators == null) {
+                accumulators = groupOfRow(i);
+                dictionaryGroups[id] = accumulators;
+            }
+            rowGroups[i] = accumulators;
+        }
+    }
+
+    private void groupByIntegralValues(ColumnVector vector, int numRows) {
+        for (int i = 0; i < numRows; i++) {
+            if (vector.isNullAt(i)) {
+                rowGroups[i] = groupOfRow(i);
+                continue;
+            }
+
+            long value = Accumulator.getLong(vector, i, integralRoot);
+            Accumulator[] accumulators = integralGroups.get(value);
+            if (accumulators == null) {
+                accumulators = groupOfRow(i);
+                integralGroups.put(value, accumulators);
+            }
+            rowGroups[i] = accumulators;
+        }
+    }
+
+    private Accumulator[] groupOfRow(int rowId) {
+        row.setRowId(rowId);
+        return group(row);
+    }
+
+    /** Removes all groups, once they are emitted. */
+    void clear() {
+        groups.clear();
+        integralGroups.clear();
+        Arrays.fill(dictionaryGroups, null);
+        Arrays.fill(rowGroups, null);
+    }
+}
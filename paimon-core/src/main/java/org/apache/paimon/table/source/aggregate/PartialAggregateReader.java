@@ -0,0 +1,200 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.table.source.aggregate;
+
+import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.data.GenericRow;
+import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.data.JoinedRow;
+import org.apache.paimon.data.columnar.VectorizedColumnBatch;
+import org.apache.paimon.reader.RecordReader;
+import org.apache.paimon.reader.VectorizedRecordIterator;
+import org.apache.paimon.types.RowType;
+
+import javax.annotation.Nullable;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A {@link RecordReader} evaluating a {@link PartialAggregation} over the rows of another reader.
+ *
+ * <p>Batches of a {@link VectorizedRecordIterator} are aggregated column by column without
+ * materializing rows. With group by fields, the group of each row is first found by a {@link
+ * Grouper}, and the buffered groups are emitted when the input is exhausted or {@link
+ * PartialAggregation#maxGroups()} groups are reached.
+ */
+public class PartialAggregateReader implements RecordReader<InternalRow> {
+
+    private final RecordReader<InternalRow> reader;
+    private final PartialAggregation aggregation;
+    private final RowType inputType;
+
+    @Nullable private final Accumulator[] globalAccumulators;
+    private final Grouper grouper;
+
+    /** Only used to check whether a batch can be aggregated column by column. */
+    private final Accumulator[] batchAccumulators;
+
+    private boolean endOfInput;
+    private boolean globalEmitted;
+
+    public PartialAggregateReader(
+            RecordReader<InternalRow> reader, PartialAggregation aggregation) {
+        this.reader = reader;
+        this.aggregation = aggregation;
+        this.inputType = aggregation.inputType();
+        this.globalAccumulators =
+                aggregation.groupByFields().length == 0 ? newAccumulators() : null;
+        this.grouper = new Grouper(aggregation, this::newAccumulators);
+        this.batchAccumulators =
+                globalAccumulators != null ? globalAccumulators : newAccumulators();
+    }
+
+    @Nullable
+    @Override
+    public RecordIterator<InternalRow> readBatch() throws IOException {
+        if (globalAccumulators != null) {
+            if (globalEmitted) {
+                return null;
+            }
+            // always emit one row for global aggregation, even if the input is empty
+            while (!endOfInput) {
+                readAndAggregate();
+            }
+            globalEmitted = true;
+            return new ResultIterator(
+                    Collections.singletonList(GenericRow.of(results(globalAccumulators))));
+        }
+
+        while (!endOfInput && grouper.size() < aggregation.maxGroups()) {
+            readAndAggregate();
+        }
+        if (grouper.size() == 0) {
+            return null;
+        }
+
+        List<InternalRow> rows = new ArrayList<>(grouper.size());
+        for (Map.Entry<BinaryRow, Accumulator[]> entry : grouper.groups().entrySet()) {
+            rows.add(new JoinedRow(entry.getKey(), GenericRow.of(results(entry.getValue()))));
+        }
+        grouper.clear();
+        return new ResultIterator(rows);
+    }
+
+    /** Aggregates the next batch of the input. */
+    private void readAndAggregate() throws IOException {
+        RecordIterator<InternalRow> iterator = reader.readBatch();
+        if (iterator == null) {
+            endOfInput = true;
+            return;
+        }
+
+        try {
+            if (iterator instanceof VectorizedRecordIterator) {
+                VectorizedColumnBatch batch = ((VectorizedRecordIterator) iterator).batch();
+                if (supports(batch)) {
+                    aggregate(batch);
+                    return;
+                }
+            }
+
+            InternalRow row;
+            while ((row = iterator.next()) != null) {
+                Accumulator[] accumulators =
+                        globalAccumulators == null ? grouper.group(row) : globalAccumulators;
+                for (Accumulator accumulator : accumulators) {
+                    accumulator.update(row);
+                }
+            }
+        } finally {
+            iterator.releaseBatch();
+        }
+    }
+
+    private boolean supports(VectorizedColumnBatch batch) {
+        for (Accumulator accumulator : batchAccumulators) {
+            if (!accumulator.supports(batch)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void aggregate(VectorizedColumnBatch batch) {
+        if (globalAccumulators != null) {
+            for (Accumulator accumulator : globalAccumulators) {
+                accumulator.update(batch);
+            }
+            return;
+        }
+
+        Accumulator[][] rowGroups = grouper.group(batch);
+        int numRows = batch.getNumRows();
+        for (int call = 0; call < batchAccumulators.length; call++) {
+            for (int i = 0; i < numRows; i++) {
+                rowGroups[i][call].update(batch, i);
+            }
+        }
+    }
+
+    private Accumulator[] newAccumulators() {
+        List<AggregateCall> calls = aggregation.aggregateCalls();
+        Accumulator[] accumulators = new Accumulator[calls.size()];
+        for (int i = 0; i < accumulators.length; i++) {
+            accumulators[i] = Accumulator.create(calls.get(i), inputType);
+        }
+        return accumulators;
+    }
+
+    private static Object[] results(Accumulator[] accumulators) {
+        Object[] results = new Object[accumulators.length];
+        for (int i = 0; i < accumulators.length; i++) {
+            results[i] = accumulators[i].result();
+        }
+        return results;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private static class ResultIterator implements RecordIterator<InternalRow> {
+
+        private final Iterator<InternalRow> rows;
+
+        private ResultIterator(List<InternalRow> rows) {
+            this.rows = rows.iterator();
+        }
+
+        @Nullable
+        @Override
+        public InternalRow next() {
+            return rows.hasNext() ? rows.next() : null;
+        }
+
+        @Override
+        public void releaseBatch() {}
+    }
+}
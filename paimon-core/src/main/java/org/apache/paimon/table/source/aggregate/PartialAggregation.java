@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.table.source.aggregate;
+
+import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.reader.RecordReader;
+import org.apache.paimon.types.DataField;
+import org.apache.paimon.types.RowType;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import static org.apache.paimon.utils.Preconditions.checkArgument;
+
+/**
+ * A partial (local) aggregation which is evaluated inside the reader. The rows of the reader are
+ * grouped by {@link #groupByFields()} and aggregated by {@link #aggregateCalls()}, the reader emits
+ * rows of {@link #resultType()}: the group by fields followed by the results of the aggregate
+ * calls.
+ *
+ * <p>The result is only partial: the same group may be emitted more than once by one reader (when
+ * more than {@link #maxGroups()} groups are buffered) and by different readers, so the engine must
+ * still merge the results, e.g. sum the counts and sums, and take the min of the mins.
+ */
+public class PartialAggregation implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    public static final int DEFAULT_MAX_GROUPS = 10_000;
+
+    private final RowType inputType;
+    private final int[] groupByFields;
+    private final List<AggregateCall> aggregateCalls;
+    private final int maxGroups;
+
+    public PartialAggregation(
+            RowType inputType, int[] groupByFields, List<AggregateCall> aggregateCalls) {
+        this(inputType, groupByFields, aggregateCalls, DEFAULT_MAX_GROUPS);
+    }
+
+    public PartialAggregation(
+            RowType inputType,
+            int[] groupByFields,
+            List<AggregateCall> aggregateCalls,
+            int maxGroups) {
+        checkArgument(maxGroups > 0, "maxGroups must be positive.");
+        for (int field : groupByFields) {
+            checkArgument(
+                    field >= 0 && field < inputType.getFieldCount(),
+                    "Group by field %s is out of range of %s.",
+                    field,
+                    inputType);
+        }
+        for (AggregateCall call : aggregateCalls) {
+            checkArgument(
+                    call.supports(inputType),
+                    "Aggregate call %s is not supported on %s.",
+                    call,
+                    inputType);
+        }
+        this.inputType = inputType;
+        this.groupByFields = groupByFields;
+        this.aggregateCalls = Collections.unmodifiableList(new ArrayList<>(aggregateCalls));
+        this.maxGroups = maxGroups;
+    }
+
+    public RowType inputType() {
+        return inputType;
+    }
+
+    public int[] groupByFields() {
+        return groupByFields;
+    }
+
+    public List<AggregateCall> aggregateCalls() {
+        return aggregateCalls;
+    }
+
+    public int maxGroups() {
+        return maxGroups;
+    }
+
+    public RowType groupByType() {
+        return inputType.project(groupByFields);
+    }
+
+    public RowType resultType() {
+        List<DataField> fields = new ArrayList<>(groupByType().getFields());
+        int id = fields.size();
+        for (int i = 0; i < aggregateCalls.size(); i++) {
+            AggregateCall call = aggregateCalls.get(i);
+            fields.add(
+                    new DataField(
+                            id++,
+                            call.kind().name().toLowerCase() + "_" + i,
+                            call.resultType(inputType)));
+        }
+        return new RowType(fields);
+    }
+
+    /** Wraps a reader of {@link #inputType()} rows to emit aggregated rows. */
+    public RecordReader<InternalRow> createReader(RecordReader<InternalRow> reader) {
+        return new PartialAggregateReader(reader, this);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        PartialAggregation that = (PartialAggregation) o;
+        return maxGroups == that.maxGroups
+                && Objects.equals(inputType, that.inputType)
+                && Arrays.equals(groupByFields, that.groupByFields)
+                && Objects.equals(aggregateCalls, that.aggregateCalls);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Objects.hash(inputType, aggregateCalls, maxGroups);
+        result = 31 * result + Arrays.hashCode(groupByFields);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "PartialAggregation{groupBy=%s, aggregates=%s}",
+                groupByType().getFieldNames(), aggregateCalls);
+    }
+}
@@ -89,6 +89,10 @@ public class ObjectsFile<T> implements SimpleFileReader<T> {
         return fileIO;
     }
 
+    protected boolean isCacheEnabled() {
+        return cache != null;
+    }
+
     public long fileSize(String fileName) {
         try {
             return fileIO.getFileSize(pathFactory.toPath(fileName));
@@ -187,13 +191,13 @@ public class ObjectsFile<T> implements SimpleFileReader<T> {
         }
     }
 
-    private CloseableIterator<InternalRow> createIterator(Path file, @Nullable Long fileSize)
+    protected CloseableIterator<InternalRow> createIterator(Path file, @Nullable Long fileSize)
             throws IOException {
         return FileUtils.createFormatReader(fileIO, readerFactory, file, fileSize)
                 .toCloseableIterator();
     }
 
-    private long fileSize(Path file) throws IOException {
+    protected long fileSize(Path file) throws IOException {
         try {
             return fileIO.getFileSize(file);
         } catch (IOException e) {
@@ -0,0 +1,211 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.append.cluster;
+
+import org.apache.paimon.CoreOptions;
+import org.apache.paimon.catalog.Identifier;
+import org.apache.paimon.data.BinaryString;
+import org.apache.paimon.data.GenericRow;
+import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.disk.IOManager;
+import org.apache.paimon.io.DataFileMeta;
+import org.apache.paimon.manifest.ManifestEntry;
+import org.apache.paimon.schema.Schema;
+import org.apache.paimon.table.FileStoreTable;
+import org.apache.paimon.table.TableTestBase;
+import org.apache.paimon.table.sink.CommitMessage;
+import org.apache.paimon.table.sink.StreamTableCommit;
+import org.apache.paimon.table.sink.StreamTableWrite;
+import org.apache.paimon.types.DataTypes;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/** Tests for {@link IncrementalClusterManager} and {@link LocalIncrementalClusterService}. */
+public class IncrementalClusterManagerTest extends TableTestBase {
+
+    @Test
+    public void testIncrementalCluster() throws Exception {
+        FileStoreTable table = createTable("a,b", "zorder");
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            expected.addAll(writeBatch(table, i, 100));
+        }
+
+        IncrementalClusterManager manager = new IncrementalClusterManager(table);
+        List<IncrementalClusterTask> tasks = manager.plan(false);
+        assertThat(tasks).hasSize(1);
+        assertThat(tasks.get(0).clusterBefore()).hasSize(3);
+        assertThat(tasks.get(0).outputLevel()).isGreaterThan(0);
+
+        cluster(table, false);
+        assertThat(files(table)).allMatch(file -> file.level() > 0);
+        assertThat(readAsString(table)).containsExactlyInAnyOrderElementsOf(expected);
+
+        // nothing changed, nothing to cluster
+        assertThat(manager.plan(false)).isEmpty();
+
+        // new files are merged with the existing clustered files only when the runs are
+        // comparable in size
+        for (int i = 3; i < 6; i++) {
+            expected.addAll(writeBatch(table, i, 100));
+        }
+        assertThat(manager.plan(false)).hasSize(1);
+        cluster(table, false);
+        assertThat(readAsString(table)).containsExactlyInAnyOrderElementsOf(expected);
+    }
+
+    @Test
+    public void testClusterFromOldestSequenceNumber() throws Exception {
+        FileStoreTable table = createTable("a,b", "zorder");
+        // a single writer keeps increasing sequence numbers across commits
+        try (StreamTableWrite write = table.newStreamWriteBuilder().newWrite();
+                StreamTableCommit commit = table.newStreamWriteBuilder().newCommit()) {
+            for (int i = 0; i < 3; i++) {
+                for (int j = 0; j < 100; j++) {
+                    write.write(GenericRow.of(j, j, BinaryString.fromString(i + "-" + j)));
+                }
+                commit.commit(i, write.prepareCommit(false, i));
+            }
+        }
+        List<DataFileMeta> before = files(table);
+        assertThat(before.stream().map(DataFileMeta::minSequenceNumber).distinct()).hasSize(3);
+
+        cluster(table, false);
+        List<DataFileMeta> after = files(table);
+        assertThat(minSequenceNumber(after)).isEqualTo(minSequenceNumber(before));
+        assertThat(after.stream().mapToLong(DataFileMeta::maxSequenceNumber).max().getAsLong())
+                .isEqualTo(
+                        before.stream()
+                                .mapToLong(DataFileMeta::maxSequenceNumber)
+                                .max()
+                                .getAsLong());
+    }
+
+    @Test
+    public void testFullClusterByOrder() throws Exception {
+        FileStoreTable table = createTable("a", "order");
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            expected.addAll(writeBatch(table, i, 500));
+        }
+
+        cluster(table, true);
+        List<DataFileMeta> files = files(table);
+        assertThat(files).hasSize(1);
+        assertThat(files.get(0).level()).isEqualTo(table.coreOptions().numLevels() - 1);
+
+        List<InternalRow> rows = read(table);
+        assertThat(rows).isSortedAccordingTo(Comparator.comparingInt(row -> row.getInt(0)));
+        assertThat(readAsString(table)).containsExactlyInAnyOrderElementsOf(expected);
+
+        assertThat(new IncrementalClusterManager(table).plan(true)).isEmpty();
+    }
+
+    @Test
+    public void testHilbertCluster() throws Exception {
+        FileStoreTable table = createTable("a,b", "hilbert");
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            expected.addAll(writeBatch(table, i, 100));
+        }
+
+        cluster(table, true);
+        assertThat(files(table)).hasSize(1);
+        assertThat(readAsString(table)).containsExactlyInAnyOrderElementsOf(expected);
+    }
+
+    @Test
+    public void testUnsupportedTable() throws Exception {
+        Schema schema =
+                Schema.newBuilder()
+                        .column("a", DataTypes.INT())
+                        .column("b", DataTypes.INT())
+                        .primaryKey("a")
+                        .option(CoreOptions.CLUSTERING_COLUMNS.key(), "b")
+                        .build();
+        catalog.createTable(identifier("pk"), schema, false);
+        FileStoreTable table = getTable(identifier("pk"));
+        assertThatThrownBy(() -> new IncrementalClusterManager(table))
+                .hasMessageContaining("only supports append table with unaware bucket");
+    }
+
+    private FileStoreTable createTable(String columns, String strategy) throws Exception {
+        Schema schema =
+                Schema.newBuilder()
+                        .column("a", DataTypes.INT())
+                        .column("b", DataTypes.INT())
+                        .column("c", DataTypes.STRING())
+                        .option(CoreOptions.BUCKET.key(), "-1")
+                        .option(CoreOptions.WRITE_ONLY.key(), "true")
+                        .option(CoreOptions.CLUSTERING_COLUMNS.key(), columns)
+                        .option(CoreOptions.CLUSTERING_STRATEGY.key(), strategy)
+                        .option(CoreOptions.NUM_SORTED_RUNS_COMPACTION_TRIGGER.key(), "3")
+                        .build();
+        Identifier identifier = identifier();
+        catalog.createTable(identifier, schema, false);
+        return getTable(identifier);
+    }
+
+    private List<String> writeBatch(FileStoreTable table, int batch, int size) throws Exception {
+        List<String> written = new ArrayList<>();
+        InternalRow[] rows = new InternalRow[size];
+        for (int i = 0; i < size; i++) {
+            int a = RANDOM.nextInt(1000);
+            int b = RANDOM.nextInt(1000);
+            String c = batch + "-" + i;
+            rows[i] = GenericRow.of(a, b, BinaryString.fromString(c));
+            written.add(a + "," + b + "," + c);
+        }
+        write(table, rows);
+        return written;
+    }
+
+    private void cluster(FileStoreTable table, boolean fullCluster) throws Exception {
+        try (IOManager ioManager = IOManager.create(tempPath.toString());
+                LocalIncrementalClusterService service =
+                        new LocalIncrementalClusterService(table, ioManager, 2)) {
+            List<CommitMessage> messages = service.cluster(fullCluster);
+            table.newBatchWriteBuilder().newCommit().commit(messages);
+        }
+    }
+
+    private List<DataFileMeta> files(FileStoreTable table) {
+        return table.store().newScan().plan().files().stream()
+                .map(ManifestEntry::file)
+                .collect(Collectors.toList());
+    }
+
+    private long minSequenceNumber(List<DataFileMeta> files) {
+        return files.stream().mapToLong(DataFileMeta::minSequenceNumber).min().getAsLong();
+    }
+
+    private List<String> readAsString(FileStoreTable table) throws Exception {
+        return read(table).stream()
+                .map(row -> row.getInt(0) + "," + row.getInt(1) + "," + row.getString(2))
+                .collect(Collectors.toList());
+    }
+}
@@ -20,6 +20,8 @@ package org.apache.paimon.arrow.converter;
 
 import org.apache.paimon.CoreOptions;
 import org.apache.paimon.arrow.ArrowUtils;
+import org.apache.paimon.arrow.writable.ArrowWritableColumnVector;
+import org.apache.paimon.arrow.writable.ArrowWritableColumnVectorFactory;
 import org.apache.paimon.arrow.writer.ArrowFieldWriter;
 import org.apache.paimon.catalog.Catalog;
 import org.apache.paimon.catalog.CatalogContext;
@@ -52,6 +54,7 @@ import org.apache.paimon.types.RowType;
 import org.apache.paimon.utils.DateTimeUtils;
 import org.apache.paimon.utils.StringUtils;
 
+import org.apache.arrow.memory.BufferAllocator;
 import org.apache.arrow.memory.RootAllocator;
 import org.apache.arrow.vector.FieldVector;
 import org.apache.arrow.vector.IntVector;
@@ -210,6 +213,77 @@ public class ArrowBatchConverterTest {
         }
     }
 
+    @TestTemplate
+    public void testPrimitiveTypesZeroCopy() throws Exception {
+        assumeThat(testMode).isEqualTo("vectorized_without_dv");
+        int batchSize = 4;
+        List<Object[]> expected = new ArrayList<>();
+        List<InternalRow> rows = new ArrayList<>();
+        for (int i = 0; i < RND.nextInt(5) + 2 * batchSize; i++) {
+            Object[] randomRowValues = randomRowValues(NULLABLE);
+            expected.add(randomRowValues);
+            rows.add(GenericRow.of(randomRowValues));
+        }
+        Map<String, String> options = new HashMap<>();
+        options.put(CoreOptions.FILE_FORMAT.key(), "parquet");
+        options.put(CoreOptions.READ_BATCH_SIZE.key(), String.valueOf(batchSize));
+        options.put("parquet.read.vector-factory", ArrowWritableColumnVectorFactory.IDENTIFIER);
+        FileStoreTable table =
+                createFileStoreTable(PRIMITIVE_TYPE, Collections.emptyList(), options);
+        StreamTableWrite write = table.newStreamWriteBuilder().newWrite();
+        StreamTableCommit commit = table.newStreamWriteBuilder().newCommit();
+        for (InternalRow row : rows) {
+            write.write(row);
+        }
+        commit.commit(0, write.prepareCommit(false, 0));
+        RecordReader<InternalRow> reader =
+                table.newRead().createReader(table.newReadBuilder().newScan().plan());
+
+        int intIndex = PRIMITIVE_TYPE.getFieldIndex("int");
+        try (BufferAllocator allocator = new RootAllocator()) {
+            VectorSchemaRoot vsr = ArrowUtils.createVectorSchemaRoot(PRIMITIVE_TYPE, allocator);
+            ArrowVectorizedBatchConverter arrowWriter =
+                    new ArrowVectorizedBatchConverter(
+                            vsr, ArrowUtils.createArrowFieldWriters(vsr, PRIMITIVE_TYPE));
+            int numBatches = 0;
+            int numRows = 0;
+            VectorizedRecordIterator iterator;
+            while ((iterator = (VectorizedRecordIterator) reader.readBatch()) != null) {
+                // the int column is decoded into Arrow buffers
+                ArrowWritableColumnVector<?> intVector =
+                        (ArrowWritableColumnVector<?>) iterator.batch().columns[intIndex];
+                long intAddress = intVector.getArrowVector().getDataBuffer().memoryAddress();
+
+                arrowWriter.reset(iterator);
+                arrowWriter.next(batchSize);
+                // the first batch is copied, the following batches are allocated from the
+                // allocator of the root and handed over
+                if (numBatches == 0) {
+                    assertThat(vsr.getVector(intIndex).getDataBuffer().memoryAddress())
+                            .isNotEqualTo(intAddress);
+                } else {
+                    assertThat(vsr.getVector(intIndex).getDataBuffer().memoryAddress())
+                            .isEqualTo(intAddress);
+                }
+
+                List<FieldVector> fieldVectors = vsr.getFieldVectors();
+                for (int i = 0; i < vsr.getRowCount(); i++) {
+                    String expectedString =
+                            paimonObjectsToString(expected.get(numRows + i), PRIMITIVE_TYPE);
+                    String actualString = arrowObjectsToString(fieldVectors, PRIMITIVE_TYPE, i);
+                    assertThat(actualString).isEqualTo(expectedString);
+                }
+                numRows += vsr.getRowCount();
+                numBatches++;
+            }
+            assertThat(numRows).isEqualTo(expected.size());
+            assertThat(numBatches).isGreaterThan(1);
+
+            arrowWriter.close();
+            reader.close();
+        }
+    }
+
     @TestTemplate
     public void testArrayType() throws Exception {
         testDv(false);
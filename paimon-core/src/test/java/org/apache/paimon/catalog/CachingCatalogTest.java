@@ -65,6 +65,7 @@ import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 import static org.apache.paimon.data.BinaryString.fromString;
 import static org.apache.paimon.options.CatalogOptions.CACHE_EXPIRE_AFTER_ACCESS;
+import static org.apache.paimon.options.CatalogOptions.CACHE_MANIFEST_ENTRY_MEMORY;
 import static org.apache.paimon.options.CatalogOptions.CACHE_MANIFEST_MAX_MEMORY;
 import static org.apache.paimon.options.CatalogOptions.CACHE_MANIFEST_SMALL_FILE_MEMORY;
 import static org.apache.paimon.options.CatalogOptions.CACHE_MANIFEST_SMALL_FILE_THRESHOLD;
@@ -476,6 +477,57 @@ class CachingCatalogTest extends CatalogTestBase {
         }
     }
 
+    @Test
+    public void testManifestEntryCache() throws Exception {
+        Options options = new Options();
+        options.set(CACHE_MANIFEST_ENTRY_MEMORY, MemorySize.ofMebiBytes(1));
+        CachingCatalog catalog = new CachingCatalog(this.catalog, options);
+        Identifier tableIdent = new Identifier("db", "tbl");
+        catalog.dropTable(tableIdent, true);
+        Schema schema =
+                new Schema(
+                        DEFAULT_TABLE_SCHEMA.fields(),
+                        Collections.singletonList("col2"),
+                        Collections.emptyList(),
+                        new HashMap<>(),
+                        "");
+        catalog.createTable(tableIdent, schema, false);
+
+        Table table = catalog.getTable(tableIdent);
+        BatchWriteBuilder writeBuilder = table.newBatchWriteBuilder();
+        try (BatchTableWrite write = writeBuilder.newWrite();
+                BatchTableCommit commit = writeBuilder.newCommit()) {
+            for (int i = 0; i < 10; i++) {
+                write.write(GenericRow.of(i, fromString("v" + i), fromString("p" + i % 3)));
+            }
+            commit.commit(write.prepareCommit());
+        }
+
+        for (int i = 0; i < 3; i++) {
+            ReadBuilder readBuilder =
+                    catalog.getTable(tableIdent)
+                            .newReadBuilder()
+                            .withPartitionFilter(Collections.singletonMap("col2", "p1"));
+            List<Integer> result = new ArrayList<>();
+            readBuilder
+                    .newRead()
+                    .createReader(readBuilder.newScan().plan())
+                    .forEachRemaining(r -> result.add(r.getInt(0)));
+            assertThat(result).containsExactlyInAnyOrder(1, 4, 7);
+
+            // delete manifest to validate cache
+            if (i == 0) {
+                Path manifestPath = new Path(table.options().get("path"), "manifest");
+                assertThat(fileIO.exists(manifestPath)).isTrue();
+                fileIO.deleteDirectoryQuietly(manifestPath);
+            }
+        }
+
+        CachingCatalog.CacheSizes cacheSizes = catalog.estimatedCacheSizes();
+        assertThat(cacheSizes.manifestEntryCacheSize()).isEqualTo(1);
+        assertThat(cacheSizes.manifestEntryCacheBytes()).isGreaterThan(0);
+    }
+
     @Test
     public void testManifestCacheOptions() {
         Options options = new Options();
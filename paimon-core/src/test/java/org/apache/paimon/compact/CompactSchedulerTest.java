@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.compact;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Test for {@link CompactScheduler}. */
+public class CompactSchedulerTest {
+
+    private ExecutorService executor;
+    private List<String> finished;
+
+    @BeforeEach
+    public void before() {
+        executor = Executors.newFixedThreadPool(2);
+        finished = new CopyOnWriteArrayList<>();
+    }
+
+    @AfterEach
+    public void after() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testHighestDebtFirst() throws Exception {
+        CompactScheduler scheduler = new CompactScheduler(executor, 1, Long.MAX_VALUE);
+        CountDownLatch latch = new CountDownLatch(1);
+        CompactScheduler.ScheduledTask blocking = scheduler.submit(task("a", latch), 0, 0.1);
+        CompactScheduler.ScheduledTask b = scheduler.submit(task("b", null), 0, 0.2);
+        CompactScheduler.ScheduledTask c = scheduler.submit(task("c", null), 0, 0.5);
+        CompactScheduler.ScheduledTask d = scheduler.submit(task("d", null), 0, 0.3);
+        assertThat(scheduler.queueLength()).isEqualTo(3);
+
+        // new level 0 files make b the most urgent one
+        b.updateDebt(1.2);
+        latch.countDown();
+        blocking.get();
+        b.get();
+        c.get();
+        d.get();
+        assertThat(finished).containsExactly("a", "b", "c", "d");
+        assertThat(scheduler.queueLength()).isEqualTo(0);
+    }
+
+    @Test
+    public void testInputSizeBudget() throws Exception {
+        CompactScheduler scheduler = new CompactScheduler(executor, 2, 100);
+        CountDownLatch latch = new CountDownLatch(1);
+        CompactScheduler.ScheduledTask a = scheduler.submit(task("a", latch), 80, 0.5);
+        CompactScheduler.ScheduledTask b = scheduler.submit(task("b", null), 50, 0.5);
+        CompactScheduler.ScheduledTask c = scheduler.submit(task("c", null), 60, 0.1);
+
+        // b and c exceed the budget together with a, and then together with each other
+        assertThat(scheduler.queueLength()).isEqualTo(2);
+        latch.countDown();
+        a.get();
+        b.get();
+        c.get();
+        assertThat(finished).containsExactly("a", "b", "c");
+    }
+
+    @Test
+    public void testCancelPendingTask() throws Exception {
+        CompactScheduler scheduler = new CompactScheduler(executor, 1, Long.MAX_VALUE);
+        CountDownLatch latch = new CountDownLatch(1);
+        CompactScheduler.ScheduledTask a = scheduler.submit(task("a", latch), 0, 0.5);
+        CompactScheduler.ScheduledTask b = scheduler.submit(task("b", null), 0, 0.5);
+        b.cancel(true);
+        latch.countDown();
+        a.get();
+        scheduler.submit(task("c", null), 0, 0.5).get();
+        assertThat(finished).containsExactly("a", "c");
+    }
+
+    private CompactTask task(String name, CountDownLatch latch) {
+        return new CompactTask(null) {
+            @Override
+            protected CompactResult doCompact() throws Exception {
+                if (latch != null) {
+                    latch.await();
+                }
+                finished.add(name);
+                return new CompactResult();
+            }
+        };
+    }
+}
@@ -23,6 +23,8 @@ import org.apache.paimon.catalog.Identifier;
 import org.apache.paimon.data.GenericRow;
 import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.data.Timestamp;
+import org.apache.paimon.fs.FileStatus;
+import org.apache.paimon.fs.Path;
 import org.apache.paimon.io.DataFileMeta;
 import org.apache.paimon.manifest.FileSource;
 import org.apache.paimon.options.Options;
@@ -44,7 +46,9 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
+import static org.apache.paimon.crosspartition.BootstrapIndexFile.BOOTSTRAP_INDEX_PREFIX;
 import static org.apache.paimon.crosspartition.IndexBootstrap.BUCKET_FIELD;
 import static org.apache.paimon.crosspartition.IndexBootstrap.filterSplit;
 import static org.apache.paimon.data.BinaryRow.EMPTY_ROW;
@@ -96,9 +100,78 @@ public class IndexBootstrapTest extends TableTestBase {
         Thread.sleep(1000);
     }
 
+    @Test
+    public void testIncrementalBootstrap() throws Exception {
+        Options options = new Options();
+        options.set(CoreOptions.CROSS_PARTITION_UPSERT_INCREMENTAL_BOOTSTRAP, true);
+        FileStoreTable table = (FileStoreTable) createTable(options);
+        Path indexDir = table.store().pathFactory().indexPath();
+
+        write(table, row(1, 1, 1, 2), row(1, 2, 2, 3), row(2, 3, 3, 4));
+        IndexBootstrap indexBootstrap = new IndexBootstrap(table);
+        assertThat(bootstrap(indexBootstrap))
+                .containsExactlyInAnyOrder(
+                        GenericRow.of(1, 1, 2), GenericRow.of(2, 1, 3), GenericRow.of(3, 2, 4));
+        List<Path> files = bootstrapIndexFiles(table, indexDir);
+        assertThat(files).hasSize(1);
+
+        // nothing changed, the index file is reused as it is
+        assertThat(bootstrap(indexBootstrap))
+                .containsExactlyInAnyOrder(
+                        GenericRow.of(1, 1, 2), GenericRow.of(2, 1, 3), GenericRow.of(3, 2, 4));
+        assertThat(bootstrapIndexFiles(table, indexDir)).isEqualTo(files);
+
+        // change a bucket and add a partition
+        write(table, row(1, 4, 4, 3), row(3, 5, 5, 6));
+        assertThat(bootstrap(indexBootstrap))
+                .containsExactlyInAnyOrder(
+                        GenericRow.of(1, 1, 2),
+                        GenericRow.of(2, 1, 3),
+                        GenericRow.of(4, 1, 3),
+                        GenericRow.of(3, 2, 4),
+                        GenericRow.of(5, 3, 6));
+        List<Path> newFiles = bootstrapIndexFiles(table, indexDir);
+        assertThat(newFiles).hasSize(1).doesNotContainAnyElementsOf(files);
+
+        // an incomplete file is ignored and deleted
+        Path incomplete = new Path(indexDir, BOOTSTRAP_INDEX_PREFIX + "1-0-100-incomplete");
+        table.fileIO().overwriteFileUtf8(incomplete, "incomplete");
+        assertThat(bootstrap(indexBootstrap)).hasSize(5);
+        assertThat(bootstrapIndexFiles(table, indexDir)).isEqualTo(newFiles);
+
+        // a file with an invalid name is ignored and kept
+        Path invalid = new Path(indexDir, BOOTSTRAP_INDEX_PREFIX + "copy-of-1-0-100");
+        table.fileIO().overwriteFileUtf8(invalid, "invalid");
+        assertThat(bootstrap(indexBootstrap)).hasSize(5);
+        assertThat(bootstrapIndexFiles(table, indexDir))
+                .extracting(Path::getName)
+                .containsExactlyInAnyOrder(newFiles.get(0).getName(), invalid.getName());
+
+        Thread.sleep(1000);
+    }
+
+    private List<GenericRow> bootstrap(IndexBootstrap indexBootstrap) throws Exception {
+        List<GenericRow> result = new ArrayList<>();
+        indexBootstrap.bootstrap(
+                1,
+                0,
+                row -> result.add(GenericRow.of(row.getInt(0), row.getInt(1), row.getInt(2))));
+        return result;
+    }
+
+    private List<Path> bootstrapIndexFiles(FileStoreTable table, Path indexDir) throws Exception {
+        return Arrays.stream(table.fileIO().listStatus(indexDir))
+                .map(FileStatus::getPath)
+                .filter(path -> path.getName().startsWith(BOOTSTRAP_INDEX_PREFIX))
+                .collect(Collectors.toList());
+    }
+
     private Table createTable() throws Exception {
+        return createTable(new Options());
+    }
+
+    private Table createTable(Options options) throws Exception {
         Identifier identifier = identifier("T");
-        Options options = new Options();
         options.set(CoreOptions.BUCKET, -1);
         Schema schema =
                 Schema.newBuilder()
@@ -128,6 +128,45 @@ public class BufferFileWriterReaderTest {
         }
     }
 
+    @Test
+    public void testAsyncWriteReadAhead() throws IOException {
+        int numBuffers = 1024;
+        int currentNumber = 0;
+
+        final int minBufferSize = BUFFER_SIZE / 4;
+
+        writer.close();
+        reader.close();
+
+        FileIOChannel.ID channel = ioManager.createChannel();
+        BufferFileWriter asyncWriter = ioManager.createAsyncBufferFileWriter(channel);
+
+        // the writer copies blocks, so the same buffer can be reused
+        Buffer buffer = createBuffer();
+        long expectedSize = 0;
+        for (int i = 0; i < numBuffers; i++) {
+            int size = getNextMultipleOf(getRandomNumberInRange(minBufferSize, BUFFER_SIZE), 4);
+            currentNumber = fillBufferWithAscendingNumbers(buffer, currentNumber, size);
+            asyncWriter.writeBlock(buffer);
+            expectedSize += 4 + size;
+        }
+        assertThat(asyncWriter.getSize()).isEqualTo(expectedSize);
+        asyncWriter.close();
+        assertThat(asyncWriter.getChannelID().getPathFile().length()).isEqualTo(expectedSize);
+        assertThat(ioManager.spillStats().spilledBytes()).isEqualTo(expectedSize);
+
+        BufferFileReader readAheadReader = ioManager.createReadAheadBufferFileReader(channel);
+        currentNumber = 0;
+        for (int i = 0; i < numBuffers; i++) {
+            assertThat(readAheadReader.hasReachedEndOfFile()).isFalse();
+            Buffer read = createBuffer();
+            readAheadReader.readInto(read);
+            currentNumber = verifyBufferFilledWithAscendingNumbers(read, currentNumber);
+        }
+        assertThat(readAheadReader.hasReachedEndOfFile()).isTrue();
+        readAheadReader.closeAndDelete();
+    }
+
     private int getRandomNumberInRange(int min, int max) {
         return random.nextInt((max - min) + 1) + min;
     }
@@ -39,6 +39,7 @@ import org.apache.paimon.iceberg.manifest.IcebergManifestFileMeta;
 import org.apache.paimon.iceberg.manifest.IcebergManifestList;
 import org.apache.paimon.iceberg.metadata.IcebergMetadata;
 import org.apache.paimon.iceberg.metadata.IcebergRef;
+import org.apache.paimon.operation.FileStoreCommitImpl;
 import org.apache.paimon.options.MemorySize;
 import org.apache.paimon.options.Options;
 import org.apache.paimon.schema.Schema;
@@ -791,6 +792,11 @@ public class IcebergCompatibilityTest {
         commit.commit(2, write.prepareCommit(true, 2));
         assertThat(getIcebergResult())
                 .containsExactlyInAnyOrder("Record(1, 11)", "Record(2, 20)", "Record(3, 30)");
+        String tableUuid =
+                IcebergMetadata.fromPath(
+                                table.fileIO(),
+                                new Path(table.location(), "metadata/v3.metadata.json"))
+                        .tableUuid();
 
         // disable iceberg compatibility
         Map<String, String> options = new HashMap<>();
@@ -829,6 +835,69 @@ public class IcebergCompatibilityTest {
                         "Record(4, 40)",
                         "Record(5, 50)",
                         "Record(6, 60)");
+        // changes of snapshots without Iceberg metadata are applied to the latest metadata
+        assertThat(
+                        IcebergMetadata.fromPath(
+                                        table.fileIO(),
+                                        new Path(table.location(), "metadata/v7.metadata.json"))
+                                .tableUuid())
+                .isEqualTo(tableUuid);
+
+        write.close();
+        commit.close();
+    }
+
+    @Test
+    public void testAsyncManifestCompaction() throws Exception {
+        RowType rowType =
+                RowType.of(
+                        new DataType[] {DataTypes.INT(), DataTypes.INT()}, new String[] {"k", "v"});
+        Map<String, String> options = new HashMap<>();
+        options.put(IcebergOptions.COMPACT_ASYNC.key(), "true");
+        FileStoreTable table =
+                createPaimonTable(
+                        rowType, Collections.emptyList(), Collections.emptyList(), -1, options);
+
+        String commitUser = UUID.randomUUID().toString();
+        TableWriteImpl<?> write = table.newWrite(commitUser);
+        TableCommitImpl commit = table.newCommit(commitUser);
+
+        IcebergCommitCallback callback =
+                ((FileStoreCommitImpl) commit.fileStoreCommit())
+                        .commitCallbacks().stream()
+                                .filter(c -> c instanceof IcebergCommitCallback)
+                                .map(c -> (IcebergCommitCallback) c)
+                                .findFirst()
+                                .get();
+
+        IcebergPathFactory pathFactory =
+                new IcebergPathFactory(new Path(table.location(), "metadata"));
+        IcebergManifestList manifestList = IcebergManifestList.create(table, pathFactory);
+        List<String> expected = new ArrayList<>();
+        List<Integer> numManifests = new ArrayList<>();
+        for (int i = 1; i <= 9; i++) {
+            write.write(GenericRow.of(i, i * 10));
+            commit.commit(i, write.prepareCommit(false, i));
+            expected.add(String.format("Record(%d, %d)", i, i * 10));
+
+            long snapshotId = table.snapshotManager().latestSnapshotId();
+            IcebergMetadata metadata =
+                    IcebergMetadata.fromPath(
+                            table.fileIO(),
+                            new Path(
+                                    table.location(),
+                                    "metadata/v" + snapshotId + ".metadata.json"));
+            numManifests.add(
+                    manifestList
+                            .read(new Path(metadata.currentSnapshot().manifestList()).getName())
+                            .size());
+            callback.awaitAsyncCompaction();
+        }
+
+        // tables are created with 8 as the compaction min file num, the 8 manifests compacted in
+        // background after the 8th commit are used by the 9th commit
+        assertThat(numManifests).containsExactly(1, 2, 3, 4, 5, 6, 7, 8, 2);
+        assertThat(getIcebergResult()).containsExactlyInAnyOrderElementsOf(expected);
 
         write.close();
         commit.close();
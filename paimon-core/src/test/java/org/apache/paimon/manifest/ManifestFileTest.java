@@ -30,9 +30,12 @@ import org.apache.paimon.schema.SchemaManager;
 import org.apache.paimon.stats.StatsTestUtils;
 import org.apache.paimon.utils.FailingFileIO;
 import org.apache.paimon.utils.FileStorePathFactory;
+import org.apache.paimon.utils.Filter;
 
 import org.junit.jupiter.api.RepeatedTest;
 import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import java.io.IOException;
 import java.util.ArrayList;
@@ -68,6 +71,50 @@ public class ManifestFileTest {
         assertThat(actualEntries).isEqualTo(entries);
     }
 
+    @ParameterizedTest
+    @ValueSource(strings = {"avro", "parquet", "orc"})
+    public void testReadProjectedEntries(String format) {
+        List<ManifestEntry> entries = generateData();
+        ManifestFile manifestFile =
+                createManifestFile(
+                        tempDir.toString(), FileFormat.fromIdentifier(format, new Options()));
+
+        List<ManifestFileMeta> metas = manifestFile.write(entries);
+        List<SimpleFileEntry> simpleEntries = new ArrayList<>();
+        List<ExpireFileEntry> expireEntries = new ArrayList<>();
+        for (ManifestFileMeta meta : metas) {
+            simpleEntries.addAll(
+                    manifestFile.readSimpleEntries(
+                            meta.fileName(),
+                            meta.fileSize(),
+                            Filter.alwaysTrue(),
+                            Filter.alwaysTrue()));
+            expireEntries.addAll(
+                    manifestFile.readExpireFileEntries(meta.fileName(), meta.fileSize()));
+        }
+        assertThat(simpleEntries).isEqualTo(SimpleFileEntry.from(entries));
+        assertThat(expireEntries)
+                .isEqualTo(
+                        entries.stream().map(ExpireFileEntry::from).collect(Collectors.toList()));
+
+        // filter by top-level fields before deserialization
+        List<SimpleFileEntry> deleted = new ArrayList<>();
+        for (ManifestFileMeta meta : metas) {
+            deleted.addAll(
+                    manifestFile.readSimpleEntries(
+                            meta.fileName(),
+                            meta.fileSize(),
+                            FileEntry.deletedFilter(),
+                            Filter.alwaysTrue()));
+        }
+        assertThat(deleted)
+                .isEqualTo(
+                        SimpleFileEntry.from(
+                                entries.stream()
+                                        .filter(e -> e.kind() == FileKind.DELETE)
+                                        .collect(Collectors.toList())));
+    }
+
     @RepeatedTest(10)
     public void testCleanUpForException() throws IOException {
         String failingName = UUID.randomUUID().toString();
@@ -94,6 +141,10 @@ public class ManifestFileTest {
     }
 
     private ManifestFile createManifestFile(String pathStr) {
+        return createManifestFile(pathStr, avro);
+    }
+
+    private ManifestFile createManifestFile(String pathStr, FileFormat format) {
         Path path = new Path(pathStr);
         FileStorePathFactory pathFactory =
                 new FileStorePathFactory(
@@ -114,7 +165,7 @@ public class ManifestFileTest {
                         fileIO,
                         new SchemaManager(fileIO, path),
                         DEFAULT_PART_TYPE,
-                        avro,
+                        format,
                         "zstd",
                         pathFactory,
                         suggestedFileSize,
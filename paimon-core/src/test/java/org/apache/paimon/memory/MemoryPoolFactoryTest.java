@@ -76,6 +76,71 @@ public class MemoryPoolFactoryTest {
         assertThat(factory.memoryOwners()).containsExactlyInAnyOrderElementsOf(allAddedOwners);
     }
 
+    @Test
+    public void testPreemptIdleOwner() {
+        List<MemoryOwner> owners = new ArrayList<>();
+        MemoryPoolFactory factory =
+                new MemoryPoolFactory(new HeapMemorySegmentPool(1024 * 10, 1024)).addOwners(owners);
+        BufferingMemoryOwner idle = new BufferingMemoryOwner();
+        BufferingMemoryOwner busy = new BufferingMemoryOwner();
+        BufferingMemoryOwner requester = new BufferingMemoryOwner();
+        owners.add(idle);
+        owners.add(busy);
+        owners.add(requester);
+        factory.notifyNewOwner(idle);
+        factory.notifyNewOwner(busy);
+        factory.notifyNewOwner(requester);
+
+        idle.allocate(3);
+        busy.allocate(6);
+        requester.allocate(1);
+        assertThat(factory.numBufferingOwners()).isEqualTo(3);
+        assertThat(factory.maxOwnerBufferSize()).isEqualTo(6 * 1024);
+
+        // busy holds the most memory, but idle holds more than its share
+        requester.allocate(1);
+        assertThat(idle.memoryOccupancy()).isEqualTo(0);
+        assertThat(busy.memoryOccupancy()).isEqualTo(6 * 1024);
+        assertThat(factory.bufferPreemptCount()).isEqualTo(1);
+        assertThat(factory.idleBufferPreemptCount()).isEqualTo(1);
+
+        // busy both holds the most memory and exceeds its share
+        requester.allocate(3);
+        assertThat(busy.memoryOccupancy()).isEqualTo(0);
+        assertThat(factory.bufferPreemptCount()).isEqualTo(2);
+        assertThat(factory.idleBufferPreemptCount()).isEqualTo(1);
+    }
+
+    private static class BufferingMemoryOwner implements MemoryOwner {
+
+        private final List<MemorySegment> segments = new ArrayList<>();
+        private MemorySegmentPool memoryPool;
+
+        private void allocate(int pages) {
+            for (int i = 0; i < pages; i++) {
+                MemorySegment segment = memoryPool.nextSegment();
+                assertThat(segment).isNotNull();
+                segments.add(segment);
+            }
+        }
+
+        @Override
+        public void setMemoryPool(MemorySegmentPool memoryPool) {
+            this.memoryPool = memoryPool;
+        }
+
+        @Override
+        public long memoryOccupancy() {
+            return (long) segments.size() * memoryPool.pageSize();
+        }
+
+        @Override
+        public void flushMemory() {
+            memoryPool.returnAll(new ArrayList<>(segments));
+            segments.clear();
+        }
+    }
+
     private static class TestMemoryOwner implements MemoryOwner {
         @Override
         public void setMemoryPool(MemorySegmentPool memoryPool) {}
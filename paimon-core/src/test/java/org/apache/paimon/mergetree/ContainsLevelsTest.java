@@ -29,6 +29,7 @@ import org.apache.paimon.format.FlushingFileFormat;
 import org.apache.paimon.fs.FileIOFinder;
 import org.apache.paimon.fs.Path;
 import org.apache.paimon.io.DataFileMeta;
+import org.apache.paimon.io.KeyBloomFilterFile;
 import org.apache.paimon.io.KeyValueFileReaderFactory;
 import org.apache.paimon.io.KeyValueFileWriterFactory;
 import org.apache.paimon.io.RollingFileWriter;
@@ -204,6 +205,8 @@ public class ContainsLevelsTest {
                         0.75,
                         new CompressOptions("none", 1)),
                 rowCount -> BloomFilter.builder(rowCount, 0.01),
+                file -> null,
+                KeyBloomFilterFile.createCache(MemorySize.ofMebiBytes(1)),
                 LookupFile.createCache(Duration.ofHours(1), maxDiskSize));
     }
 
@@ -20,6 +20,7 @@ package org.apache.paimon.mergetree;
 
 import org.apache.paimon.CoreOptions;
 import org.apache.paimon.KeyValue;
+import org.apache.paimon.catalog.Identifier;
 import org.apache.paimon.compression.CompressOptions;
 import org.apache.paimon.data.BinaryRow;
 import org.apache.paimon.data.GenericRow;
@@ -29,6 +30,8 @@ import org.apache.paimon.format.FlushingFileFormat;
 import org.apache.paimon.fs.FileIOFinder;
 import org.apache.paimon.fs.Path;
 import org.apache.paimon.io.DataFileMeta;
+import org.apache.paimon.io.DataFilePathFactory;
+import org.apache.paimon.io.KeyBloomFilterFile;
 import org.apache.paimon.io.KeyValueFileReaderFactory;
 import org.apache.paimon.io.KeyValueFileWriterFactory;
 import org.apache.paimon.io.RollingFileWriter;
@@ -37,6 +40,7 @@ import org.apache.paimon.lookup.hash.HashLookupStoreFactory;
 import org.apache.paimon.manifest.FileSource;
 import org.apache.paimon.options.MemorySize;
 import org.apache.paimon.options.Options;
+import org.apache.paimon.reader.RecordReader;
 import org.apache.paimon.schema.KeyValueFieldsExtractor;
 import org.apache.paimon.schema.SchemaManager;
 import org.apache.paimon.schema.TableSchema;
@@ -48,6 +52,7 @@ import org.apache.paimon.types.RowKind;
 import org.apache.paimon.types.RowType;
 import org.apache.paimon.utils.BloomFilter;
 import org.apache.paimon.utils.FileStorePathFactory;
+import org.apache.paimon.utils.IOFunction;
 
 import org.junit.jupiter.api.RepeatedTest;
 import org.junit.jupiter.api.Test;
@@ -267,23 +272,157 @@ public class LookupLevelsTest {
         assertThat(kv.value().getInt(1)).isEqualTo(11);
     }
 
+    @Test
+    public void testKeyBloomFilter() throws IOException {
+        Options options = new Options();
+        options.set(CoreOptions.LOOKUP_KEY_BLOOM_FILTER_ENABLED, true);
+        DataFileMeta file = newFile(options, 1, kv(1, 11), kv(3, 33), kv(5, 5));
+        assertThat(file.extraFiles())
+                .containsExactly(file.fileName() + DataFilePathFactory.KEY_BLOOM_FILTER_SUFFIX);
+
+        Levels levels = new Levels(comparator, Collections.singletonList(file), 3);
+        LookupLevels<KeyValue> lookupLevels =
+                createLookupLevels(levels, MemorySize.ofMebiBytes(10));
+
+        // absent keys in the key range are filtered without creating the local lookup file
+        assertThat(lookupLevels.lookup(row(2), 1)).isNull();
+        assertThat(lookupLevels.lookup(row(4), 1)).isNull();
+        assertThat(lookupLevels.lookupFiles().estimatedSize()).isEqualTo(0);
+        assertThat(lookupLevels.keyBloomFilters().asMap()).containsOnlyKeys(file.fileName());
+
+        KeyValue kv = lookupLevels.lookup(row(3), 1);
+        assertThat(kv).isNotNull();
+        assertThat(kv.value().getInt(1)).isEqualTo(33);
+        assertThat(lookupLevels.lookupFiles().estimatedSize()).isEqualTo(1);
+        assertThat(lookupLevels.lookup(row(4), 1)).isNull();
+
+        // cached key bloom filters of the levels are released when closing
+        lookupLevels.close();
+        assertThat(lookupLevels.keyBloomFilters().asMap()).isEmpty();
+    }
+
+    @Test
+    public void testPersistentLookupFiles() throws IOException {
+        DataFileMeta file = newFile(1, kv(1, 11), kv(3, 33), kv(5, 5));
+        Levels levels = new Levels(comparator, Collections.singletonList(file), 3);
+        File persistDir = new File(tempDir.toFile(), "persist");
+
+        LookupLevels<KeyValue> lookupLevels =
+                createLookupLevels(
+                                levels,
+                                MemorySize.ofMebiBytes(10),
+                                f -> createReaderFactory().createRecordReader(f))
+                        .withPersistentFiles(createPersistentFiles(persistDir));
+        KeyValue kv = lookupLevels.lookup(row(3), 1);
+        assertThat(kv).isNotNull();
+        assertThat(kv.value().getInt(1)).isEqualTo(33);
+        lookupLevels.close();
+
+        // the lookup file is kept after close and restored without reading the data file
+        lookupLevels =
+                createLookupLevels(
+                                levels,
+                                MemorySize.ofMebiBytes(10),
+                                f -> {
+                                    throw new IOException("Data file should not be read.");
+                                })
+                        .withPersistentFiles(createPersistentFiles(persistDir));
+        kv = lookupLevels.lookup(row(5), 1);
+        assertThat(kv).isNotNull();
+        assertThat(kv.value().getInt(1)).isEqualTo(5);
+        assertThat(lookupLevels.lookup(row(4), 1)).isNull();
+        lookupLevels.close();
+
+        // lookup files of data files no longer in the levels are cleaned
+        DataFileMeta newFile = newFile(1, kv(7, 77));
+        createLookupLevels(
+                        new Levels(comparator, Collections.singletonList(newFile), 3),
+                        MemorySize.ofMebiBytes(10))
+                .withPersistentFiles(createPersistentFiles(persistDir))
+                .close();
+        assertThat(new File(persistDir, "bucket-0").list()).isEmpty();
+    }
+
+    @Test
+    public void testPersistentLookupFilesOwners() throws IOException {
+        File persistDir = new File(tempDir.toFile(), "persist");
+        Options options = new Options();
+        options.set(CoreOptions.PATH, new File(tempDir.toFile(), "db.db/T").toString());
+        options.set(CoreOptions.LOOKUP_CACHE_PERSIST_DIR, persistDir.toString());
+        CoreOptions coreOptions = new CoreOptions(options);
+
+        DataFileMeta file = newFile(1, kv(1, 11));
+        PersistentLookupFiles files1 = createPersistentFiles(coreOptions, "db");
+        PersistentLookupFiles files2 = createPersistentFiles(coreOptions, "db");
+        File localFile1 = files1.newLocalFile(file);
+        File localFile2 = files2.newLocalFile(file);
+        // owners of the same bucket do not share lookup files
+        assertThat(localFile1.getParentFile()).isNotEqualTo(localFile2.getParentFile());
+        assertThat(localFile1.getParentFile().getParentFile())
+                .isEqualTo(new File(persistDir, "db.T/test/bucket-0"));
+
+        // tables with the same name in different databases do not share lookup files
+        PersistentLookupFiles files3 = createPersistentFiles(coreOptions, "db2");
+        assertThat(files3.newLocalFile(file).getParentFile().getParentFile())
+                .isEqualTo(new File(persistDir, "db2.T/test/bucket-0"));
+        files3.close();
+
+        // the directory of a closed owner is reused by the next one
+        files1.close();
+        PersistentLookupFiles files4 = createPersistentFiles(coreOptions, "db");
+        assertThat(files4.newLocalFile(file).getParentFile()).isEqualTo(localFile1.getParentFile());
+        files2.close();
+        files4.close();
+    }
+
+    private PersistentLookupFiles createPersistentFiles(CoreOptions options, String database) {
+        return PersistentLookupFiles.create(
+                options,
+                Identifier.create(database, "T"),
+                "test",
+                RowType.of(),
+                BinaryRow.EMPTY_ROW,
+                0,
+                "fingerprint",
+                createLookupStoreFactory());
+    }
+
+    private PersistentLookupFiles createPersistentFiles(File persistDir) {
+        return new PersistentLookupFiles(
+                new File(persistDir, "bucket-0"), "fingerprint", createLookupStoreFactory());
+    }
+
     private LookupLevels<KeyValue> createLookupLevels(Levels levels, MemorySize maxDiskSize) {
+        return createLookupLevels(
+                levels, maxDiskSize, file -> createReaderFactory().createRecordReader(file));
+    }
+
+    private LookupLevels<KeyValue> createLookupLevels(
+            Levels levels,
+            MemorySize maxDiskSize,
+            IOFunction<DataFileMeta, RecordReader<KeyValue>> fileReaderFactory) {
         return new LookupLevels<>(
                 levels,
                 comparator,
                 keyType,
                 new LookupLevels.KeyValueProcessor(rowType),
-                file -> createReaderFactory().createRecordReader(file),
+                fileReaderFactory,
                 file -> new File(tempDir.toFile(), LOOKUP_FILE_PREFIX + UUID.randomUUID()),
-                new HashLookupStoreFactory(
-                        new CacheManager(MemorySize.ofMebiBytes(1)),
-                        2048,
-                        0.75,
-                        new CompressOptions("none", 1)),
+                createLookupStoreFactory(),
                 rowCount -> BloomFilter.builder(rowCount, 0.05),
+                file -> createReaderFactory().readKeyBloomFilter(file),
+                KeyBloomFilterFile.createCache(MemorySize.ofMebiBytes(1)),
                 LookupFile.createCache(Duration.ofHours(1), maxDiskSize));
     }
 
+    private HashLookupStoreFactory createLookupStoreFactory() {
+        return new HashLookupStoreFactory(
+                new CacheManager(MemorySize.ofMebiBytes(1)),
+                2048,
+                0.75,
+                new CompressOptions("none", 1));
+    }
+
     private KeyValue kv(int key, int value) {
         return kv(key, value, UNKNOWN_SEQUENCE);
     }
@@ -294,8 +433,14 @@ public class LookupLevelsTest {
     }
 
     private DataFileMeta newFile(int level, KeyValue... records) throws IOException {
+        return newFile(new Options(), level, records);
+    }
+
+    private DataFileMeta newFile(Options options, int level, KeyValue... records)
+            throws IOException {
         RollingFileWriter<KeyValue, DataFileMeta> writer =
-                createWriterFactory().createRollingMergeTreeFileWriter(level, FileSource.APPEND);
+                createWriterFactory(options)
+                        .createRollingMergeTreeFileWriter(level, FileSource.APPEND);
         for (KeyValue kv : records) {
             writer.write(kv);
         }
@@ -303,7 +448,7 @@ public class LookupLevelsTest {
         return writer.result().get(0);
     }
 
-    private KeyValueFileWriterFactory createWriterFactory() {
+    private KeyValueFileWriterFactory createWriterFactory(Options options) {
         Path path = new Path(tempDir.toUri().toString());
         String identifier = "avro";
         Function<String, FileStorePathFactory> pathFactoryMap = k -> createNonPartFactory(path);
@@ -315,7 +460,7 @@ public class LookupLevelsTest {
                         new FlushingFileFormat(identifier),
                         pathFactoryMap,
                         VALUE_128_MB.getBytes())
-                .build(BinaryRow.EMPTY_ROW, 0, new CoreOptions(new Options()));
+                .build(BinaryRow.EMPTY_ROW, 0, new CoreOptions(options));
     }
 
     private KeyValueFileReaderFactory createReaderFactory() {
@@ -84,7 +84,7 @@ public class MergeSorterTest {
     @SuppressWarnings("unused")
     @Parameters(name = "{0}")
     public static List<SortEngine> getVarSeg() {
-        return Arrays.asList(SortEngine.LOSER_TREE, SortEngine.MIN_HEAP);
+        return Arrays.asList(SortEngine.LOSER_TREE, SortEngine.MIN_HEAP, SortEngine.AUTO);
     }
 
     @BeforeEach
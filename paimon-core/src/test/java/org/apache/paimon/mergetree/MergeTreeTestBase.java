@@ -676,4 +676,13 @@ public abstract class MergeTreeTestBase {
             return SortEngine.MIN_HEAP;
         }
     }
+
+    /** {@link MergeTreeTestBase} with {@link SortEngine#AUTO}. */
+    public static class MergeTreeTestWithAutoSortEngine extends MergeTreeTestBase {
+
+        @Override
+        protected SortEngine getSortEngine() {
+            return SortEngine.AUTO;
+        }
+    }
 }
@@ -55,6 +55,22 @@ public abstract class SortMergeReaderTestBase extends CombiningRecordReaderTestB
         runTest(parseData("", "", ""), sortEngine);
     }
 
+    @ParameterizedTest
+    @EnumSource(SortEngine.class)
+    public void testSingleReader(SortEngine sortEngine) throws IOException {
+        runTest(parseData("1, 1, +, 100 | 3, 4, +, 300 | 5, 2, +, 200"), sortEngine);
+    }
+
+    @ParameterizedTest
+    @EnumSource(SortEngine.class)
+    public void testManyReaders(SortEngine sortEngine) throws IOException {
+        String[] readersData = new String[SortMergeReader.AUTO_LOSER_TREE_MIN_READERS + 1];
+        for (int i = 0; i < readersData.length; i++) {
+            readersData[i] = String.format("%s, %s, +, %s | 20, %s, +, 200", i, i, i * 100, i + 20);
+        }
+        runTest(parseData(readersData), sortEngine);
+    }
+
     @ParameterizedTest
     @EnumSource(SortEngine.class)
     public void testAlternateKeys(SortEngine sortEngine) throws IOException {
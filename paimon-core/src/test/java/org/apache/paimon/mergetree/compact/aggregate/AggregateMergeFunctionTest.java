@@ -20,11 +20,15 @@ package org.apache.paimon.mergetree.compact.aggregate;
 
 import org.apache.paimon.KeyValue;
 import org.apache.paimon.data.BinaryString;
+import org.apache.paimon.data.GenericArray;
 import org.apache.paimon.data.GenericRow;
+import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.mergetree.compact.MergeFunction;
 import org.apache.paimon.options.Options;
+import org.apache.paimon.types.DataType;
 import org.apache.paimon.types.DataTypes;
 import org.apache.paimon.types.RowKind;
+import org.apache.paimon.utils.RoaringBitmap32;
 
 import org.junit.jupiter.api.Test;
 
@@ -32,6 +36,7 @@ import java.util.Arrays;
 import java.util.Collections;
 
 import static org.apache.paimon.CoreOptions.FIELDS_DEFAULT_AGG_FUNC;
+import static org.apache.paimon.utils.InternalRowUtils.createFieldGetters;
 import static org.assertj.core.api.Assertions.assertThat;
 
 /** Test for aggregate merge function. */
@@ -61,7 +66,15 @@ class AggregateMergeFunctionTest {
         aggregateFunction.add(value(1, 3, 3, null, 3));
         aggregateFunction.add(value(1, 4, 4, 4, null));
         aggregateFunction.add(value(1, 5, 5, 5, 5));
-        assertThat(aggregateFunction.getResult().value()).isEqualTo(GenericRow.of(1, 2, 13, 1, 1));
+        assertThat(
+                        toGenericRow(
+                                aggregateFunction.getResult().value(),
+                                DataTypes.INT(),
+                                DataTypes.INT(),
+                                DataTypes.INT(),
+                                DataTypes.INT(),
+                                DataTypes.INT()))
+                .isEqualTo(GenericRow.of(1, 2, 13, 1, 1));
     }
 
     @Test
@@ -132,6 +145,124 @@ class AggregateMergeFunctionTest {
                                 BinaryString.fromString("1/2/3/4/5")));
     }
 
+    @Test
+    void testGeneratedMergerWithRetract() {
+        Options options = new Options();
+        options.set("fields.a.aggregate-function", "sum");
+        options.set("fields.b.aggregate-function", "last_non_null_value");
+        options.set("fields.c.aggregate-function", "last_value");
+        MergeFunction<KeyValue> aggregateFunction =
+                AggregateMergeFunction.factory(
+                                options,
+                                Arrays.asList("k", "a", "b", "c"),
+                                Arrays.asList(
+                                        DataTypes.INT(),
+                                        DataTypes.BIGINT(),
+                                        DataTypes.INT(),
+                                        DataTypes.STRING()),
+                                Collections.singletonList("k"))
+                        .create();
+        aggregateFunction.reset();
+
+        aggregateFunction.add(kv(RowKind.INSERT, 1, 1L, 5, "a"));
+        aggregateFunction.add(kv(RowKind.INSERT, 1, 2L, 3, "b"));
+        assertThat(
+                        toGenericRow(
+                                aggregateFunction.getResult().value(),
+                                DataTypes.INT(),
+                                DataTypes.BIGINT(),
+                                DataTypes.INT(),
+                                DataTypes.STRING()))
+                .isEqualTo(GenericRow.of(1, 3L, 3, BinaryString.fromString("b")));
+
+        // retraction continues with the field aggregators
+        aggregateFunction.add(kv(RowKind.UPDATE_BEFORE, 1, 1L, null, "b"));
+        aggregateFunction.add(kv(RowKind.INSERT, 1, 4L, 7, null));
+        assertThat(
+                        toGenericRow(
+                                aggregateFunction.getResult().value(),
+                                DataTypes.INT(),
+                                DataTypes.BIGINT(),
+                                DataTypes.INT(),
+                                DataTypes.STRING()))
+                .isEqualTo(GenericRow.of(1, 6L, 7, null));
+
+        aggregateFunction.reset();
+        aggregateFunction.add(kv(RowKind.INSERT, 2, null, 1, "c"));
+        assertThat(
+                        toGenericRow(
+                                aggregateFunction.getResult().value(),
+                                DataTypes.INT(),
+                                DataTypes.BIGINT(),
+                                DataTypes.INT(),
+                                DataTypes.STRING()))
+                .isEqualTo(GenericRow.of(2, null, 1, BinaryString.fromString("c")));
+    }
+
+    /** The result may be a generic row or a binary row of a generated merger. */
+    private static GenericRow toGenericRow(InternalRow row, DataType... types) {
+        GenericRow result = new GenericRow(types.length);
+        InternalRow.FieldGetter[] getters = createFieldGetters(Arrays.asList(types));
+        for (int i = 0; i < types.length; i++) {
+            result.setField(i, getters[i].getFieldOrNull(row));
+        }
+        return result;
+    }
+
+    private KeyValue kv(RowKind rowKind, int k, Long a, Integer b, String c) {
+        return new KeyValue()
+                .replace(
+                        GenericRow.of(k),
+                        rowKind,
+                        GenericRow.of(k, a, b, c == null ? null : BinaryString.fromString(c)));
+    }
+
+    @Test
+    void testStatefulAggFunc() {
+        Options options = new Options();
+        options.set("fields.a.aggregate-function", "rbm32");
+        options.set("fields.b.aggregate-function", "collect");
+        MergeFunction<KeyValue> aggregateFunction =
+                AggregateMergeFunction.factory(
+                                options,
+                                Arrays.asList("k", "a", "b"),
+                                Arrays.asList(
+                                        DataTypes.INT(),
+                                        DataTypes.VARBINARY(20),
+                                        DataTypes.ARRAY(DataTypes.INT())),
+                                Collections.singletonList("k"))
+                        .create();
+        aggregateFunction.reset();
+
+        aggregateFunction.add(kv(RowKind.INSERT, null, new GenericArray(new int[] {1})));
+        aggregateFunction.add(kv(RowKind.INSERT, RoaringBitmap32.bitmapOf(1), null));
+        aggregateFunction.add(
+                kv(RowKind.INSERT, RoaringBitmap32.bitmapOf(2), new GenericArray(new int[] {2})));
+        aggregateFunction.add(kv(RowKind.INSERT, null, new GenericArray(new int[] {3})));
+        aggregateFunction.add(
+                kv(RowKind.INSERT, RoaringBitmap32.bitmapOf(3, 4), new GenericArray(new int[0])));
+        assertResult(aggregateFunction.getResult().value(), new int[] {1, 2, 3, 4}, 1, 2, 3);
+
+        // the result is written back to the row, later inputs are merged on top of it
+        aggregateFunction.add(
+                kv(RowKind.INSERT, RoaringBitmap32.bitmapOf(5), new GenericArray(new int[] {4})));
+        assertResult(aggregateFunction.getResult().value(), new int[] {1, 2, 3, 4, 5}, 1, 2, 3, 4);
+    }
+
+    private void assertResult(InternalRow row, int[] bitmap, int... collected) {
+        RoaringBitmap32 expected = RoaringBitmap32.bitmapOf(bitmap);
+        assertThat(row.getBinary(1)).isEqualTo(expected.serialize());
+        assertThat(row.getArray(2).toIntArray()).containsExactly(collected);
+    }
+
+    private KeyValue kv(RowKind rowKind, RoaringBitmap32 bitmap, GenericArray array) {
+        return new KeyValue()
+                .replace(
+                        GenericRow.of(1),
+                        rowKind,
+                        GenericRow.of(1, bitmap == null ? null : bitmap.serialize(), array));
+    }
+
     private KeyValue value(Integer... values) {
         return new KeyValue()
                 .replace(GenericRow.of(values[0]), RowKind.INSERT, GenericRow.of(values));
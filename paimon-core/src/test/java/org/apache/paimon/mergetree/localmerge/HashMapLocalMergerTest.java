@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.mergetree.localmerge;
+
+import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.data.GenericRow;
+import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.memory.HeapMemorySegmentPool;
+import org.apache.paimon.mergetree.compact.DeduplicateMergeFunction;
+import org.apache.paimon.types.DataType;
+import org.apache.paimon.types.DataTypes;
+import org.apache.paimon.types.RowKind;
+import org.apache.paimon.types.RowType;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Test for {@link HashMapLocalMerger}. */
+public class HashMapLocalMergerTest {
+
+    private static final RowType ROW_TYPE =
+            RowType.of(
+                    new DataType[] {DataTypes.INT(), DataTypes.BIGINT()}, new String[] {"k", "v"});
+
+    @Test
+    public void testEvictColdKeys() throws Exception {
+        HashMapLocalMerger merger =
+                new HashMapLocalMerger(
+                        ROW_TYPE,
+                        Collections.singletonList("k"),
+                        new HeapMemorySegmentPool(4 * 1024 * 1024, 32 * 1024),
+                        DeduplicateMergeFunction.factory().create(),
+                        null,
+                        true);
+
+        Map<Integer, Long> evicted = new HashMap<>();
+        List<InternalRow> evictedRows = new ArrayList<>();
+        Consumer<InternalRow> consumer =
+                row -> {
+                    evictedRows.add(row);
+                    evicted.put(row.getInt(0), row.getLong(1));
+                };
+        int numEvictions = 0;
+        for (int i = 0; i < 100_000; i++) {
+            for (int key : new int[] {i + 1, 0}) {
+                if (!put(merger, key, i)) {
+                    assertThat(merger.evict(consumer)).isTrue();
+                    numEvictions++;
+                    assertThat(put(merger, key, i)).isTrue();
+                }
+            }
+        }
+
+        // the hot key is never evicted, and the evicted rows do not contain hits
+        assertThat(numEvictions).isGreaterThan(0);
+        assertThat(evicted).doesNotContainKey(0).isNotEmpty();
+        assertThat(evictedRows.get(0).getFieldCount()).isEqualTo(2);
+
+        Map<Integer, Long> remaining = new HashMap<>();
+        merger.forEach(row -> remaining.put(row.getInt(0), row.getLong(1)));
+        assertThat(remaining).containsEntry(0, 99_999L);
+        for (int i = 0; i < 100_000; i++) {
+            Long value = evicted.containsKey(i + 1) ? evicted.get(i + 1) : remaining.get(i + 1);
+            assertThat(value).isEqualTo(i);
+        }
+        assertThat(evicted.size() + remaining.size()).isEqualTo(100_001);
+    }
+
+    @Test
+    public void testNoEvictionWithoutMergedKeys() throws Exception {
+        HashMapLocalMerger merger =
+                new HashMapLocalMerger(
+                        ROW_TYPE,
+                        Collections.singletonList("k"),
+                        new HeapMemorySegmentPool(4 * 1024 * 1024, 32 * 1024),
+                        DeduplicateMergeFunction.factory().create(),
+                        null,
+                        true);
+        for (int i = 0; i < 100; i++) {
+            put(merger, i, i);
+        }
+
+        // no key would be kept, so the whole buffer should be flushed instead
+        List<InternalRow> evicted = new ArrayList<>();
+        assertThat(merger.evict(evicted::add)).isFalse();
+        assertThat(evicted).isEmpty();
+        assertThat(merger.size()).isEqualTo(100);
+    }
+
+    @Test
+    public void testNoEvictionByDefault() throws Exception {
+        HashMapLocalMerger merger =
+                new HashMapLocalMerger(
+                        ROW_TYPE,
+                        Collections.singletonList("k"),
+                        new HeapMemorySegmentPool(4 * 1024 * 1024, 32 * 1024),
+                        DeduplicateMergeFunction.factory().create(),
+                        null);
+        put(merger, 0, 0);
+        put(merger, 1, 0);
+        assertThat(merger.evict(row -> {})).isFalse();
+        assertThat(merger.size()).isEqualTo(2);
+    }
+
+    private static boolean put(HashMapLocalMerger merger, int key, long value) throws Exception {
+        BinaryRow binaryKey = BinaryRow.singleColumn(key);
+        return merger.put(RowKind.INSERT, binaryKey, GenericRow.of(key, value));
+    }
+}
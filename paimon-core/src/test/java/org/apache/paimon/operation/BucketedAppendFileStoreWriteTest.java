@@ -45,10 +45,13 @@ import org.junit.jupiter.api.io.TempDir;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
 
+import static org.apache.paimon.CoreOptions.COMPACTION_ADAPTIVE_SCHEDULING;
+import static org.apache.paimon.CoreOptions.COMPACTION_ADAPTIVE_SCHEDULING_MAX_CONCURRENT_TASKS;
 import static org.apache.paimon.CoreOptions.WRITE_MAX_WRITERS_TO_SPILL;
 
 /** Tests for {@link BucketedAppendFileStoreWrite}. */
@@ -155,6 +158,19 @@ public class BucketedAppendFileStoreWriteTest {
         Assertions.assertThat(records).isEqualTo(1007);
     }
 
+    @Test
+    public void testSingleCompactThreadWithAdaptiveScheduling() throws Exception {
+        Map<String, String> options = new HashMap<>();
+        options.put(COMPACTION_ADAPTIVE_SCHEDULING.key(), "true");
+        options.put(COMPACTION_ADAPTIVE_SCHEDULING_MAX_CONCURRENT_TASKS.key(), "4");
+        FileStoreTable table = createFileStoreTable().copy(options);
+
+        // adaptive scheduling only applies to primary key tables
+        BaseAppendFileStoreWrite write = (BaseAppendFileStoreWrite) table.store().newWrite("ss");
+        Assertions.assertThat(write.compactThreads()).isEqualTo(1);
+        write.close();
+    }
+
     protected FileStoreTable createFileStoreTable() throws Exception {
         Catalog catalog = new FileSystemCatalog(LocalFileIO.create(), new Path(tempDir.toString()));
         Schema schema =
@@ -249,6 +249,41 @@ public class ExpireSnapshotsTest {
         }
     }
 
+    @Test
+    public void testExpireRangeAcrossTags() throws Exception {
+        List<KeyValue> allData = new ArrayList<>();
+        List<Integer> snapshotPositions = new ArrayList<>();
+        commit(20, allData, snapshotPositions);
+        int latestSnapshotId = requireNonNull(snapshotManager.latestSnapshotId()).intValue();
+
+        // data files of the whole range are cleaned in batches split by tags
+        TagManager tagManager = store.newTagManager();
+        List<Integer> taggedIds = Arrays.asList(5, 12);
+        for (int id : taggedIds) {
+            tagManager.createTag(
+                    snapshotManager.snapshot(id),
+                    "tag" + id,
+                    store.options().tagDefaultTimeRetained(),
+                    Collections.emptyList(),
+                    false);
+        }
+        store.newExpire(1, 1, Long.MAX_VALUE).expire();
+
+        for (int id = 1; id < latestSnapshotId; id++) {
+            assertThat(snapshotManager.snapshotExists(id)).isFalse();
+        }
+        assertSnapshot(latestSnapshotId, allData, snapshotPositions);
+        for (Snapshot tagged : tagManager.taggedSnapshots()) {
+            assertSnapshot(tagged, allData, snapshotPositions);
+        }
+
+        for (int id : taggedIds) {
+            tagManager.deleteTag(
+                    "tag" + id, store.newTagDeletion(), snapshotManager, Collections.emptyList());
+        }
+        store.assertCleaned();
+    }
+
     @Test
     public void testExpireExtraFiles() throws IOException {
         ExpireSnapshotsImpl expire = (ExpireSnapshotsImpl) store.newExpire(1, 3, Long.MAX_VALUE);
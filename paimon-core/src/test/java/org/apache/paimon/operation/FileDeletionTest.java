@@ -649,6 +649,60 @@ public class FileDeletionTest {
         assertPathExists(fileIO, dataFileA);
     }
 
+    /**
+     * Snapshots are expired in batches, this test ensures that a manifest which cannot be read only
+     * cancels the deletion of data files of its own snapshot, not of the whole batch.
+     */
+    @Test
+    public void testExpireBatchWithMissingManifest() throws Exception {
+        TestFileStore store = createStore(TestKeyValueGenerator.GeneratorMode.NON_PARTITIONED, 2);
+        SnapshotManager snapshotManager = store.snapshotManager();
+        TestKeyValueGenerator gen =
+                new TestKeyValueGenerator(TestKeyValueGenerator.GeneratorMode.NON_PARTITIONED);
+        BinaryRow partition = gen.getPartition(gen.next());
+        FileStorePathFactory pathFactory = store.pathFactory();
+
+        // snapshot 1, 2: commit A to bucket 0 and B to bucket 1
+        Map<BinaryRow, Map<Integer, RecordWriter<KeyValue>>> writers = new HashMap<>();
+        writeData(store, partitionedData(5, gen), partition, 0, writers);
+        commitData(store, commitIdentifier++, writers);
+        writers.clear();
+        writeData(store, partitionedData(5, gen), partition, 1, writers);
+        commitData(store, commitIdentifier++, writers);
+        Path dataFileA = dataFiles(pathFactory.bucketPath(partition, 0)).get(0);
+        Path dataFileB = dataFiles(pathFactory.bucketPath(partition, 1)).get(0);
+
+        // snapshot 3, 4: delete A and B
+        cleanBucket(store, partition, 0);
+        cleanBucket(store, partition, 1);
+
+        // snapshot 5: commit C to bucket 0
+        writers.clear();
+        writeData(store, partitionedData(5, gen), partition, 0, writers);
+        commitData(store, commitIdentifier++, writers);
+
+        // delete the delta manifest of snapshot 3 which deletes A
+        ManifestList manifestList = store.manifestListFactory().create();
+        for (ManifestFileMeta manifest :
+                manifestList.read(snapshotManager.snapshot(3).deltaManifestList())) {
+            fileIO.deleteQuietly(pathFactory.toManifestFilePath(manifest.fileName()));
+        }
+
+        store.newExpire(1, 1, Long.MAX_VALUE).expire();
+
+        assertThat(snapshotManager.earliestSnapshotId()).isEqualTo(5);
+        assertPathExists(fileIO, dataFileA);
+        assertPathNotExists(fileIO, dataFileB);
+    }
+
+    private static List<Path> dataFiles(Path bucketPath) throws IOException {
+        return Files.walk(Paths.get(bucketPath.toString()))
+                .filter(Files::isRegularFile)
+                .filter(p -> p.getFileName().toString().startsWith("data"))
+                .map(p -> new Path(p.toString()))
+                .collect(Collectors.toList());
+    }
+
     @Test
     public void testExpireWithDeletingTags() throws Exception {
         TestFileStore store = createStore(TestKeyValueGenerator.GeneratorMode.NON_PARTITIONED, 2);
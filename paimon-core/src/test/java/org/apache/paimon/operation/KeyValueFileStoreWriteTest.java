@@ -83,6 +83,16 @@ public class KeyValueFileStoreWriteTest {
         assertCompactStrategy(options, ForceUpLevel0Compaction.class);
     }
 
+    @Test
+    public void testCompactThreadsWithAdaptiveScheduling() throws Exception {
+        Map<String, String> options = new HashMap<>();
+        options.put(CoreOptions.COMPACTION_ADAPTIVE_SCHEDULING.key(), "true");
+        options.put(CoreOptions.COMPACTION_ADAPTIVE_SCHEDULING_MAX_CONCURRENT_TASKS.key(), "4");
+        KeyValueFileStoreWrite write = createWriteWithOptions(options);
+        assertThat(write.compactThreads()).isEqualTo(4);
+        write.close();
+    }
+
     private void assertCompactStrategy(
             Map<String, String> options, Class<? extends CompactStrategy> expected)
             throws Exception {
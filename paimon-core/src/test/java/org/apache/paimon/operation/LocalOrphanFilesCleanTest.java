@@ -22,6 +22,7 @@ import org.apache.paimon.Changelog;
 import org.apache.paimon.CoreOptions;
 import org.apache.paimon.CoreOptions.ExternalPathStrategy;
 import org.apache.paimon.Snapshot;
+import org.apache.paimon.crosspartition.BootstrapIndexFile;
 import org.apache.paimon.data.BinaryString;
 import org.apache.paimon.data.DataFormatTestUtil;
 import org.apache.paimon.data.GenericRow;
@@ -80,6 +81,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
+import static org.apache.paimon.crosspartition.BootstrapIndexFile.BOOTSTRAP_INDEX_PREFIX;
 import static org.apache.paimon.utils.BranchManager.branchPath;
 import static org.apache.paimon.utils.FileStorePathFactory.BUCKET_PATH_PREFIX;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -544,6 +546,91 @@ public class LocalOrphanFilesCleanTest {
         assertThat(orphanFilesClean.clean().getDeletedFilesPath().size()).isGreaterThan(0);
     }
 
+    @Test
+    public void testResumeFromProgress() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            commit(generateData());
+        }
+
+        List<Path> partitions = new ArrayList<>();
+        for (Path part1 : listSubDirs(tablePath, p -> p.getName().contains("="))) {
+            partitions.addAll(listSubDirs(part1, p -> p.getName().contains("=")));
+        }
+        assertThat(partitions.size()).isGreaterThan(1);
+
+        List<Path> orphans = new ArrayList<>();
+        for (Path partition : partitions.subList(0, 2)) {
+            Path bucket =
+                    listSubDirs(partition, p -> p.getName().startsWith(BUCKET_PATH_PREFIX)).get(0);
+            Path orphan = new Path(bucket, "data-" + UUID.randomUUID());
+            fileIO.tryToWriteAtomic(orphan, "");
+            orphans.add(orphan);
+        }
+
+        // the first partition is recorded as finished by an interrupted cleaning
+        Path progressFile = new Path(tablePath, LocalOrphanFilesClean.PROGRESS_FILE);
+        fileIO.overwriteFileUtf8(progressFile, partitions.get(0).toString());
+
+        long olderThanMillis = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(2);
+        List<Path> deleted =
+                new LocalOrphanFilesClean(table, olderThanMillis).clean().getDeletedFilesPath();
+        assertThat(deleted).containsExactly(orphans.get(1));
+        assertThat(fileIO.exists(orphans.get(0))).isTrue();
+        assertThat(fileIO.exists(progressFile)).isFalse();
+
+        // the next cleaning checks all partitions again
+        deleted = new LocalOrphanFilesClean(table, olderThanMillis).clean().getDeletedFilesPath();
+        assertThat(deleted).containsExactly(orphans.get(0));
+    }
+
+    @Test
+    public void testBootstrapIndexFiles() throws Exception {
+        commit(generateData());
+
+        Path indexDir = table.store().pathFactory().indexPath();
+        Path old = writeBootstrapIndexFile(indexDir, 1, 0, 1);
+        Path latest = writeBootstrapIndexFile(indexDir, 1, 0, 2);
+        Path incomplete = new Path(indexDir, BOOTSTRAP_INDEX_PREFIX + "1-0-3-" + UUID.randomUUID());
+        fileIO.overwriteFileUtf8(incomplete, "incomplete");
+        Path otherAssigner = writeBootstrapIndexFile(indexDir, 2, 1, 1);
+
+        // the latest complete file of each assigner is kept for the next bootstrap
+        long olderThanMillis = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(2);
+        FileStoreTable incrementalTable =
+                table.copy(
+                        Collections.singletonMap(
+                                CoreOptions.CROSS_PARTITION_UPSERT_INCREMENTAL_BOOTSTRAP.key(),
+                                "true"));
+        List<Path> deleted =
+                new LocalOrphanFilesClean(incrementalTable, olderThanMillis)
+                        .clean()
+                        .getDeletedFilesPath();
+        assertThat(deleted)
+                .extracting(Path::getName)
+                .containsExactlyInAnyOrder(old.getName(), incomplete.getName());
+
+        // without incremental bootstrap, all bootstrap index files are orphan files
+        deleted = new LocalOrphanFilesClean(table, olderThanMillis).clean().getDeletedFilesPath();
+        assertThat(deleted)
+                .extracting(Path::getName)
+                .containsExactlyInAnyOrder(latest.getName(), otherAssigner.getName());
+    }
+
+    private Path writeBootstrapIndexFile(
+            Path indexDir, int numAssigners, int assignId, long snapshotId) throws IOException {
+        try (BootstrapIndexFile.Writer writer =
+                new BootstrapIndexFile(fileIO, indexDir, numAssigners, assignId)
+                        .newWriter(snapshotId, Collections.emptyList())) {
+            writer.finish();
+        }
+        String prefix = BOOTSTRAP_INDEX_PREFIX + numAssigners + "-" + assignId + "-" + snapshotId;
+        return Arrays.stream(fileIO.listStatus(indexDir))
+                .map(FileStatus::getPath)
+                .filter(path -> path.getName().startsWith(prefix))
+                .findFirst()
+                .get();
+    }
+
     private void writeData(
             SnapshotManager snapshotManager,
             List<List<TestPojo>> committedData,
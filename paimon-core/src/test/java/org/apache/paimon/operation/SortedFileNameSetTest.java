@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.operation;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Tests for {@link SortedFileNameSet}. */
+public class SortedFileNameSetTest {
+
+    @Test
+    public void testContains() {
+        Set<String> expected = new HashSet<>();
+        SortedFileNameSet.Builder builder = new SortedFileNameSet.Builder();
+        for (int i = 0; i < 100_000; i++) {
+            String name = "data-" + UUID.randomUUID() + "-" + i + ".parquet";
+            expected.add(name);
+            builder.add(name);
+            // duplicated names are kept once
+            if (i % 10 == 0) {
+                builder.add(name);
+            }
+        }
+        builder.add("manifest-list-0");
+
+        try (SortedFileNameSet set = builder.build()) {
+            assertThat(set.size()).isEqualTo(expected.size() + 1);
+            for (String name : expected) {
+                assertThat(set.contains(name)).isTrue();
+            }
+            assertThat(set.contains("manifest-list-0")).isTrue();
+            assertThat(set.contains("manifest-list-1")).isFalse();
+            for (int i = 0; i < 1000; i++) {
+                assertThat(set.contains("data-" + UUID.randomUUID() + "-" + i + ".parquet"))
+                        .isFalse();
+            }
+        }
+    }
+
+    @Test
+    public void testConcurrentAdd() throws Exception {
+        int numThreads = 4;
+        // not a multiple of the local batch size, so every thread leaves buffered names
+        int namesPerThread = 10_000;
+        SortedFileNameSet.Builder builder = new SortedFileNameSet.Builder();
+        ExecutorService executor = Executors.newFixedThreadPool(numThreads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < numThreads; t++) {
+                int thread = t;
+                futures.add(
+                        executor.submit(
+                                () -> {
+                                    for (int i = 0; i < namesPerThread; i++) {
+                                        builder.add("data-" + thread + "-" + i + ".orc");
+                                    }
+                                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        try (SortedFileNameSet set = builder.build()) {
+            assertThat(set.size()).isEqualTo(numThreads * namesPerThread);
+            for (int t = 0; t < numThreads; t++) {
+                for (int i = 0; i < namesPerThread; i++) {
+                    assertThat(set.contains("data-" + t + "-" + i + ".orc")).isTrue();
+                }
+            }
+            assertThat(set.contains("data-" + numThreads + "-0.orc")).isFalse();
+        }
+    }
+
+    @Test
+    public void testEmpty() {
+        try (SortedFileNameSet set = new SortedFileNameSet.Builder().build()) {
+            assertThat(set.size()).isEqualTo(0);
+            assertThat(set.contains("data-0.orc")).isFalse();
+        }
+    }
+
+    @Test
+    public void testCloseWithoutBuild() {
+        SortedFileNameSet.Builder builder = new SortedFileNameSet.Builder();
+        for (int i = 0; i < 10_000; i++) {
+            builder.add("data-" + i + ".orc");
+        }
+        builder.close();
+        builder.close();
+    }
+}
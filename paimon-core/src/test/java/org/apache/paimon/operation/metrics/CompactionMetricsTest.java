@@ -87,6 +87,11 @@ public class CompactionMetricsTest {
         assertThat(getMetric(metrics, CompactionMetrics.MAX_LEVEL0_FILE_COUNT)).isEqualTo(8L);
         assertThat(getMetric(metrics, CompactionMetrics.AVG_LEVEL0_FILE_COUNT)).isEqualTo(5.0);
 
+        reporters[0].reportCompactionDebt(0.5);
+        reporters[1].reportCompactionDebt(1.5);
+        assertThat(getMetric(metrics, CompactionMetrics.MAX_COMPACTION_DEBT)).isEqualTo(1.5);
+        assertThat(getMetric(metrics, CompactionMetrics.AVG_COMPACTION_DEBT)).isEqualTo(2.0 / 3);
+
         reporters[0].reportCompactionTime(300000);
         reporters[0].reportCompactionTime(250000);
         reporters[0].reportCompactionTime(270000);
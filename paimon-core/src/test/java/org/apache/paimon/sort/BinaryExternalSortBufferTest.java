@@ -225,6 +225,8 @@ public class BinaryExternalSortBufferTest {
         assertThat(sorter.size()).isEqualTo(size);
 
         MutableObjectIterator<BinaryRow> iterator = sorter.sortedIterator();
+        assertThat(ioManager.spillStats().spilledBytes()).isGreaterThan(0);
+        assertThat(ioManager.spillStats().lastMergeFanIn()).isBetween(2, 8);
 
         BinaryRow next = serializer.createInstance();
         for (int i = 0; i < size; i++) {
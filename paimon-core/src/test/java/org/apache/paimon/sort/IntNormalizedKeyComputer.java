@@ -84,4 +84,9 @@ public class IntNormalizedKeyComputer implements NormalizedKeyComputer {
     public boolean invertKey() {
         return false;
     }
+
+    @Override
+    public int[] keyByteOrder() {
+        return SortUtil.normalizedKeyByteOrder(5);
+    }
 }
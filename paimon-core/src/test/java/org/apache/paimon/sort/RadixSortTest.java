@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.sort;
+
+import org.apache.paimon.codegen.CodeGenUtils;
+import org.apache.paimon.codegen.RecordComparator;
+import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.data.BinaryString;
+import org.apache.paimon.data.GenericRow;
+import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.data.serializer.BinaryRowSerializer;
+import org.apache.paimon.data.serializer.InternalRowSerializer;
+import org.apache.paimon.memory.HeapMemorySegmentPool;
+import org.apache.paimon.memory.MemorySegmentPool;
+import org.apache.paimon.types.DataType;
+import org.apache.paimon.types.DataTypes;
+import org.apache.paimon.utils.MutableObjectIterator;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Test for {@link RadixSort}. */
+public class RadixSortTest {
+
+    private static final int MEMORY_SIZE = 1024 * 1024 * 32;
+
+    @Test
+    public void testSortIntKey() throws Exception {
+        Random random = new Random();
+        List<DataType> types = Arrays.asList(DataTypes.INT(), DataTypes.STRING());
+        int[] sortFields = new int[] {0};
+        RecordComparator comparator = CodeGenUtils.newRecordComparator(types, sortFields, true);
+        BinaryInMemorySortBuffer buffer =
+                BinaryInMemorySortBuffer.createBuffer(
+                        new IntNormalizedKeyComputer(),
+                        new InternalRowSerializer(types.toArray(new DataType[0])),
+                        new IntRecordComparator(),
+                        createPool());
+
+        List<InternalRow> rows = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            rows.add(
+                    GenericRow.of(random.nextInt(2_000) - 1_000, BinaryString.fromString("v" + i)));
+        }
+        assertSorted(buffer, rows, comparator, types.size());
+    }
+
+    @Test
+    public void testSortMultipleKeys() throws Exception {
+        Random random = new Random();
+        List<DataType> types =
+                Arrays.asList(DataTypes.BIGINT(), DataTypes.STRING(), DataTypes.INT());
+        int[] sortFields = new int[] {0, 1, 2};
+        RecordComparator comparator = CodeGenUtils.newRecordComparator(types);
+        BinaryInMemorySortBuffer buffer =
+                BinaryInMemorySortBuffer.createBuffer(
+                        CodeGenUtils.newNormalizedKeyComputer(types, sortFields),
+                        new InternalRowSerializer(types.toArray(new DataType[0])),
+                        comparator,
+                        createPool());
+
+        List<InternalRow> rows = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            // few distinct longs and strings with long common prefixes to produce ties
+            Long l = random.nextInt(10) == 0 ? null : (long) random.nextInt(100) - 50;
+            BinaryString s =
+                    random.nextInt(10) == 0
+                            ? null
+                            : BinaryString.fromString(
+                                    "common-prefix-" + random.nextInt(random.nextInt(20) + 1));
+            rows.add(GenericRow.of(l, s, random.nextInt()));
+        }
+        assertSorted(buffer, rows, comparator, types.size());
+    }
+
+    @Test
+    public void testSortAllSameKeys() throws Exception {
+        List<DataType> types = Arrays.asList(DataTypes.INT(), DataTypes.INT());
+        int[] sortFields = new int[] {0, 1};
+        RecordComparator comparator = CodeGenUtils.newRecordComparator(types);
+        BinaryInMemorySortBuffer buffer =
+                BinaryInMemorySortBuffer.createBuffer(
+                        CodeGenUtils.newNormalizedKeyComputer(types, sortFields),
+                        new InternalRowSerializer(types.toArray(new DataType[0])),
+                        comparator,
+                        createPool());
+
+        List<InternalRow> rows = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            rows.add(GenericRow.of(7, 1_000 - i));
+        }
+        assertSorted(buffer, rows, comparator, types.size());
+    }
+
+    private static MemorySegmentPool createPool() {
+        return new HeapMemorySegmentPool(MEMORY_SIZE, MemorySegmentPool.DEFAULT_PAGE_SIZE);
+    }
+
+    private static void assertSorted(
+            BinaryInMemorySortBuffer buffer,
+            List<InternalRow> rows,
+            RecordComparator comparator,
+            int arity)
+            throws Exception {
+        for (InternalRow row : rows) {
+            assertThat(buffer.write(row)).isTrue();
+        }
+
+        MutableObjectIterator<BinaryRow> iterator = buffer.sortedIterator();
+        BinaryRowSerializer serializer = new BinaryRowSerializer(arity);
+        List<BinaryRow> sorted = new ArrayList<>();
+        BinaryRow row;
+        while ((row = iterator.next(serializer.createInstance())) != null) {
+            sorted.add(row.copy());
+        }
+
+        assertThat(sorted).hasSize(rows.size());
+        for (int i = 1; i < sorted.size(); i++) {
+            assertThat(comparator.compare(sorted.get(i - 1), sorted.get(i))).isLessThanOrEqualTo(0);
+        }
+        buffer.clear();
+    }
+}
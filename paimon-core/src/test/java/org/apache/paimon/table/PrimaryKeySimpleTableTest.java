@@ -23,6 +23,7 @@ import org.apache.paimon.CoreOptions.ChangelogProducer;
 import org.apache.paimon.CoreOptions.LookupLocalFileType;
 import org.apache.paimon.KeyValue;
 import org.apache.paimon.Snapshot;
+import org.apache.paimon.data.BinaryRow;
 import org.apache.paimon.data.BinaryString;
 import org.apache.paimon.data.GenericRow;
 import org.apache.paimon.data.InternalRow;
@@ -35,8 +36,12 @@ import org.apache.paimon.io.DataFileMeta;
 import org.apache.paimon.manifest.FileKind;
 import org.apache.paimon.manifest.ManifestEntry;
 import org.apache.paimon.manifest.ManifestFileMeta;
+import org.apache.paimon.metrics.Counter;
+import org.apache.paimon.metrics.Metric;
+import org.apache.paimon.metrics.TestMetricRegistry;
 import org.apache.paimon.operation.AbstractFileStoreWrite;
 import org.apache.paimon.operation.FileStoreScan;
+import org.apache.paimon.operation.metrics.WriteRestoreMetrics;
 import org.apache.paimon.options.MemorySize;
 import org.apache.paimon.options.Options;
 import org.apache.paimon.postpone.PostponeBucketFileStoreWrite;
@@ -78,6 +83,7 @@ import org.apache.paimon.types.RowKind;
 import org.apache.paimon.types.RowType;
 import org.apache.paimon.utils.ChangelogManager;
 import org.apache.paimon.utils.Pair;
+import org.apache.paimon.utils.RecordWriter;
 
 import org.apache.paimon.shade.org.apache.parquet.hadoop.ParquetOutputFormat;
 
@@ -2140,6 +2146,81 @@ public class PrimaryKeySimpleTableTest extends SimpleTableTestBase {
         innerTestTableQuery(table);
     }
 
+    @Test
+    public void testTableQueryForLookupKeyBloomFilter() throws Exception {
+        FileStoreTable table =
+                createFileStoreTable(
+                        options -> {
+                            options.set(CHANGELOG_PRODUCER, LOOKUP);
+                            options.set(CoreOptions.LOOKUP_KEY_BLOOM_FILTER_ENABLED, true);
+                        });
+        innerTestTableQuery(table);
+    }
+
+    @Test
+    public void testTableQueryForLookupCachePersistDir() throws Exception {
+        String persistDir = tempDir.resolve("lookup-persist").toString();
+        FileStoreTable table =
+                createFileStoreTable(
+                        options -> {
+                            options.set(CHANGELOG_PRODUCER, LOOKUP);
+                            options.set(CoreOptions.LOOKUP_CACHE_PERSIST_DIR, persistDir);
+                        });
+        innerTestTableQuery(table);
+        assertThat(new File(persistDir, table.name())).isDirectory();
+    }
+
+    @Test
+    public void testPrepareRestore() throws Exception {
+        FileStoreTable table = createFileStoreTable(options -> options.set(BUCKET, 2));
+        StreamTableWrite write = table.newWrite(commitUser);
+        StreamTableCommit commit = table.newCommit(commitUser);
+        for (int i = 0; i < 20; i++) {
+            write.write(rowData(i % 4, i, (long) i));
+        }
+        commit.commit(0, write.prepareCommit(true, 0));
+        write.write(rowData(1, 100, 100L));
+        commit.commit(1, write.prepareCommit(true, 1));
+        write.close();
+        commit.close();
+
+        Map<BinaryRow, Map<Integer, Integer>> expected = new HashMap<>();
+        Map<BinaryRow, List<Integer>> partitionBuckets = new HashMap<>();
+        for (DataSplit split : table.newSnapshotReader().read().dataSplits()) {
+            expected.computeIfAbsent(split.partition(), k -> new HashMap<>())
+                    .put(split.bucket(), split.dataFiles().size());
+            partitionBuckets
+                    .computeIfAbsent(split.partition(), k -> new ArrayList<>())
+                    .add(split.bucket());
+        }
+        // a bucket without files
+        partitionBuckets.put(BinaryRow.singleColumn(9), Collections.singletonList(0));
+        expected.put(BinaryRow.singleColumn(9), Collections.singletonMap(0, 0));
+        int numBuckets = partitionBuckets.values().stream().mapToInt(List::size).sum();
+
+        TableWriteImpl<?> newWrite = table.newWrite(commitUser);
+        AbstractFileStoreWrite<?> fileStoreWrite = (AbstractFileStoreWrite<?>) newWrite.getWrite();
+        fileStoreWrite.withMetricRegistry(new TestMetricRegistry());
+        fileStoreWrite.prepareRestore(partitionBuckets);
+
+        for (Map.Entry<BinaryRow, List<Integer>> entry : partitionBuckets.entrySet()) {
+            for (int bucket : entry.getValue()) {
+                RecordWriter<?> writer =
+                        fileStoreWrite.createWriterContainer(entry.getKey(), bucket, false).writer;
+                assertThat(writer.dataFiles()).hasSize(expected.get(entry.getKey()).get(bucket));
+                writer.close();
+            }
+        }
+
+        // all writers are restored by the bulk restore
+        Map<String, Metric> metrics = fileStoreWrite.restoreMetrics().getMetricGroup().getMetrics();
+        assertThat(((Counter) metrics.get(WriteRestoreMetrics.RESTORED_BUCKETS)).getCount())
+                .isEqualTo(numBuckets);
+        assertThat(((Counter) metrics.get(WriteRestoreMetrics.BULK_RESTORED_BUCKETS)).getCount())
+                .isEqualTo(numBuckets);
+        newWrite.close();
+    }
+
     @Test
     public void testTableQueryForNormal() throws Exception {
         FileStoreTable table = createFileStoreTable();
@@ -0,0 +1,416 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.table.source.aggregate;
+
+import org.apache.paimon.CoreOptions;
+import org.apache.paimon.data.BinaryString;
+import org.apache.paimon.data.Decimal;
+import org.apache.paimon.data.GenericRow;
+import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.data.Timestamp;
+import org.apache.paimon.data.columnar.ColumnVector;
+import org.apache.paimon.data.columnar.Dictionary;
+import org.apache.paimon.data.columnar.VectorizedColumnBatch;
+import org.apache.paimon.data.columnar.heap.HeapBytesVector;
+import org.apache.paimon.data.columnar.heap.HeapIntVector;
+import org.apache.paimon.data.columnar.heap.HeapLongVector;
+import org.apache.paimon.disk.IOManager;
+import org.apache.paimon.disk.IOManagerImpl;
+import org.apache.paimon.reader.RecordReader;
+import org.apache.paimon.reader.VectorizedRecordIterator;
+import org.apache.paimon.schema.Schema;
+import org.apache.paimon.table.Table;
+import org.apache.paimon.table.TableTestBase;
+import org.apache.paimon.table.source.ReadBuilder;
+import org.apache.paimon.types.DataType;
+import org.apache.paimon.types.DataTypes;
+import org.apache.paimon.types.RowType;
+
+import org.junit.jupiter.api.Test;
+
+import javax.annotation.Nullable;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.apache.paimon.utils.InternalRowUtils.copyInternalRow;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+
+/** Tests for {@link PartialAggregation} and {@link PartialAggregateReader}. */
+public class PartialAggregationTest extends TableTestBase {
+
+    private static final List<AggregateCall> CALLS =
+            Arrays.asList(
+                    AggregateCall.countStar(),
+                    AggregateCall.count(2),
+                    AggregateCall.sum(2),
+                    AggregateCall.min(3),
+                    AggregateCall.max(3),
+                    AggregateCall.sum(4),
+                    AggregateCall.max(1));
+
+    private Schema.Builder schema(String... options) {
+        Schema.Builder builder =
+                Schema.newBuilder()
+                        .column("k", DataTypes.INT())
+                        .column("d", DataTypes.STRING())
+                        .column("v", DataTypes.BIGINT())
+                        .column("f", DataTypes.DOUBLE())
+                        .column("m", DataTypes.DECIMAL(10, 2));
+        for (int i = 0; i < options.length; i += 2) {
+            builder.option(options[i], options[i + 1]);
+        }
+        return builder;
+    }
+
+    private static GenericRow row(int k, String d, Long v, double f, String m) {
+        return GenericRow.of(
+                k,
+                BinaryString.fromString(d),
+                v,
+                f,
+                Decimal.fromBigDecimal(new BigDecimal(m), 10, 2));
+    }
+
+    @Test
+    public void testGlobalAggregation() throws Exception {
+        catalog.createTable(identifier(), schema().build(), true);
+        Table table = catalog.getTable(identifier());
+        write(table, row(1, "a", 10L, 1.5, "1.10"), row(2, "b", null, -2.5, "2.20"));
+        write(table, row(3, "a", 30L, 3.5, "3.30"));
+
+        List<InternalRow> result =
+                aggregate(table, new PartialAggregation(table.rowType(), new int[0], CALLS));
+        assertThat(result).hasSize(1);
+        assertThat(toString(result.get(0))).isEqualTo("3, 2, 40, -2.5, 3.5, 6.60, b");
+    }
+
+    @Test
+    public void testGlobalAggregationOnEmptyTable() throws Exception {
+        catalog.createTable(identifier(), schema().build(), true);
+        Table table = catalog.getTable(identifier());
+
+        List<InternalRow> result =
+                aggregate(table, new PartialAggregation(table.rowType(), new int[0], CALLS));
+        assertThat(result).hasSize(1);
+        assertThat(toString(result.get(0))).isEqualTo("0, 0, null, null, null, null, null");
+    }
+
+    @Test
+    public void testGroupByAggregation() throws Exception {
+        catalog.createTable(identifier(), schema().build(), true);
+        Table table = catalog.getTable(identifier());
+        write(table, row(1, "a", 10L, 1.5, "1.10"), row(2, "b", null, -2.5, "2.20"));
+        write(table, row(3, "a", 30L, 3.5, "3.30"), row(4, "b", 5L, 0.5, "0.01"));
+
+        List<AggregateCall> calls =
+                Arrays.asList(
+                        AggregateCall.countStar(), AggregateCall.sum(2), AggregateCall.max(3));
+        Map<String, String> expected = new HashMap<>();
+        expected.put("a", "a, 2, 40, 3.5");
+        expected.put("b", "b, 2, 5, 0.5");
+
+        List<InternalRow> result =
+                aggregate(table, new PartialAggregation(table.rowType(), new int[] {1}, calls));
+        assertThat(toMap(result)).isEqualTo(expected);
+
+        // groups are emitted early when the buffer is full, each group is still correct per emit
+        result = aggregate(table, new PartialAggregation(table.rowType(), new int[] {1}, calls, 1));
+        assertThat(result.size()).isGreaterThanOrEqualTo(2);
+        assertThat(toMap(result).keySet()).containsExactlyInAnyOrder("a", "b");
+    }
+
+    @Test
+    public void testGroupByAggregationOnBatches() throws Exception {
+        RowType inputType =
+                RowType.of(
+                        new DataType[] {DataTypes.STRING(), DataTypes.INT(), DataTypes.BIGINT()},
+                        new String[] {"d", "k", "v"});
+        List<AggregateCall> calls = Arrays.asList(AggregateCall.countStar(), AggregateCall.sum(2));
+        AtomicInteger decoded = new AtomicInteger();
+
+        // a single dictionary-encoded column only decodes the first row of each group
+        Map<String, String> expected = new HashMap<>();
+        expected.put("a", "a, 2, 40");
+        expected.put("b", "b, 4, 38");
+        expected.put("c", "c, 1, 8");
+        expected.put("null", "null, 1, null");
+        assertThat(
+                        toMap(
+                                aggregate(
+                                        new PartialAggregation(inputType, new int[] {0}, calls),
+                                        decoded)))
+                .isEqualTo(expected);
+        assertThat(decoded.get()).isEqualTo(4);
+
+        // emitted groups are not updated by the next batches
+        List<InternalRow> result =
+                aggregate(new PartialAggregation(inputType, new int[] {0}, calls, 1), decoded);
+        Map<String, Long> counts = new HashMap<>();
+        for (InternalRow row : result) {
+            counts.merge(String.valueOf(((GenericRow) row).getField(0)), row.getLong(1), Long::sum);
+        }
+        assertThat(counts)
+                .containsOnly(entry("a", 2L), entry("b", 4L), entry("c", 1L), entry("null", 1L));
+
+        // a single integral column
+        expected.clear();
+        expected.put("1", "1, 4, 51");
+        expected.put("2", "2, 3, 27");
+        expected.put("3", "3, 1, 8");
+        assertThat(
+                        toMap(
+                                aggregate(
+                                        new PartialAggregation(inputType, new int[] {1}, calls),
+                                        decoded)))
+                .isEqualTo(expected);
+
+        // several columns
+        expected.clear();
+        expected.put("a, 1", "a, 1, 2, 40");
+        expected.put("b, 1", "b, 1, 2, 11");
+        expected.put("b, 2", "b, 2, 2, 27");
+        expected.put("c, 3", "c, 3, 1, 8");
+        expected.put("null, 2", "null, 2, 1, null");
+        assertThat(
+                        toMap(
+                                aggregate(
+                                        new PartialAggregation(inputType, new int[] {0, 1}, calls),
+                                        decoded),
+                                2))
+                .isEqualTo(expected);
+    }
+
+    @Test
+    public void testDeletionVectorsTable() throws Exception {
+        catalog.createTable(
+                identifier(),
+                schema(
+                                CoreOptions.BUCKET.key(),
+                                "1",
+                                CoreOptions.DELETION_VECTORS_ENABLED.key(),
+                                "true")
+                        .primaryKey("k")
+                        .build(),
+                true);
+        Table table = catalog.getTable(identifier());
+        IOManager ioManager = new IOManagerImpl(tempPath.toString());
+        write(table, ioManager, row(1, "a", 10L, 1.5, "1.10"), row(2, "b", 20L, -2.5, "2.20"));
+        write(table, ioManager, row(1, "a", 100L, 1.5, "1.10"), row(3, "c", 30L, 3.5, "3.30"));
+
+        List<InternalRow> result =
+                aggregate(
+                        table,
+                        new PartialAggregation(
+                                table.rowType(),
+                                new int[0],
+                                Arrays.asList(AggregateCall.countStar(), AggregateCall.sum(2))));
+        assertThat(result).hasSize(1);
+        assertThat(toString(result.get(0))).isEqualTo("3, 150");
+    }
+
+    @Test
+    public void testUnsupportedCall() {
+        assertThatThrownBy(
+                        () ->
+                                new PartialAggregation(
+                                        schema().build().rowType(),
+                                        new int[0],
+                                        Arrays.asList(AggregateCall.sum(1))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("SUM($1)");
+    }
+
+    private List<InternalRow> aggregate(Table table, PartialAggregation aggregation)
+            throws Exception {
+        ReadBuilder readBuilder = table.newReadBuilder().withReadType(aggregation.inputType());
+        RecordReader<InternalRow> reader =
+                aggregation.createReader(
+                        readBuilder.newRead().createReader(readBuilder.newScan().plan()));
+        RowType resultType = aggregation.resultType();
+        List<InternalRow> rows = new ArrayList<>();
+        reader.forEachRemaining(row -> rows.add(copyInternalRow(row, resultType)));
+        return rows;
+    }
+
+    /**
+     * Aggregates batches with dictionary-encoded strings, the batches fail if their rows are
+     * iterated.
+     */
+    private List<InternalRow> aggregate(PartialAggregation aggregation, AtomicInteger decoded)
+            throws Exception {
+        decoded.set(0);
+        Dictionary first = new TestDictionary(decoded, "a", "b");
+        Dictionary second = new TestDictionary(decoded, "b", "c");
+        Iterator<VectorizedColumnBatch> batches =
+                Arrays.asList(
+                                batch(
+                                        first,
+                                        new Integer[] {0, 1, 0, null},
+                                        new int[] {1, 2, 1, 2},
+                                        new Long[] {10L, 20L, 30L, null}),
+                                batch(
+                                        first,
+                                        new Integer[] {1, 1},
+                                        new int[] {1, 1},
+                                        new Long[] {5L, 6L}),
+                                batch(
+                                        second,
+                                        new Integer[] {0, 1},
+                                        new int[] {2, 3},
+                                        new Long[] {7L, 8L}))
+                        .iterator();
+        RecordReader<InternalRow> input =
+                new RecordReader<InternalRow>() {
+                    @Nullable
+                    @Override
+                    public RecordIterator<InternalRow> readBatch() {
+                        if (!batches.hasNext()) {
+                            return null;
+                        }
+                        VectorizedColumnBatch batch = batches.next();
+                        return new VectorizedRecordIterator() {
+                            @Override
+                            public VectorizedColumnBatch batch() {
+                                return batch;
+                            }
+
+                            @Override
+                            public InternalRow next() {
+                                throw new UnsupportedOperationException();
+                            }
+
+                            @Override
+                            public void releaseBatch() {}
+                        };
+                    }
+
+                    @Override
+                    public void close() {}
+                };
+
+        RecordReader<InternalRow> reader = aggregation.createReader(input);
+        RowType resultType = aggregation.resultType();
+        List<InternalRow> rows = new ArrayList<>();
+        reader.forEachRemaining(row -> rows.add(copyInternalRow(row, resultType)));
+        return rows;
+    }
+
+    private static VectorizedColumnBatch batch(
+            Dictionary dictionary, Integer[] ids, int[] ints, Long[] longs) {
+        int numRows = ids.length;
+        HeapBytesVector strings = new HeapBytesVector(numRows);
+        HeapIntVector dictionaryIds = strings.reserveDictionaryIds(numRows);
+        strings.setDictionary(dictionary);
+        HeapIntVector intVector = new HeapIntVector(numRows);
+        HeapLongVector longVector = new HeapLongVector(numRows);
+        for (int i = 0; i < numRows; i++) {
+            if (ids[i] == null) {
+                strings.setNullAt(i);
+            } else {
+                dictionaryIds.setInt(i, ids[i]);
+            }
+            intVector.setInt(i, ints[i]);
+            if (longs[i] == null) {
+                longVector.setNullAt(i);
+            } else {
+                longVector.setLong(i, longs[i]);
+            }
+        }
+        VectorizedColumnBatch batch =
+                new VectorizedColumnBatch(new ColumnVector[] {strings, intVector, longVector});
+        batch.setNumRows(numRows);
+        return batch;
+    }
+
+    private Map<String, String> toMap(List<InternalRow> rows) {
+        return toMap(rows, 1);
+    }
+
+    /** Maps the results by their first group by fields. */
+    private Map<String, String> toMap(List<InternalRow> rows, int groupByFields) {
+        Map<String, String> map = new HashMap<>();
+        for (InternalRow row : rows) {
+            String string = toString(row);
+            map.put(
+                    String.join(", ", Arrays.asList(string.split(", ")).subList(0, groupByFields)),
+                    string);
+        }
+        return map;
+    }
+
+    private String toString(InternalRow row) {
+        List<String> fields = new ArrayList<>();
+        for (int i = 0; i < row.getFieldCount(); i++) {
+            fields.add(String.valueOf(((GenericRow) row).getField(i)));
+        }
+        return String.join(", ", fields);
+    }
+
+    private static class TestDictionary implements Dictionary {
+
+        private final AtomicInteger decoded;
+        private final String[] values;
+
+        private TestDictionary(AtomicInteger decoded, String... values) {
+            this.decoded = decoded;
+            this.values = values;
+        }
+
+        @Override
+        public byte[] decodeToBinary(int id) {
+            decoded.incrementAndGet();
+            return values[id].getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public int decodeToInt(int id) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public long decodeToLong(int id) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public float decodeToFloat(int id) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public double decodeToDouble(int id) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Timestamp decodeToTimestamp(int id) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -43,6 +43,7 @@ import org.apache.paimon.utils.KeyComparatorSupplier;
 import org.apache.paimon.utils.Preconditions;
 import org.apache.paimon.utils.UserDefinedSeqComparator;
 
+import org.apache.flink.metrics.Counter;
 import org.apache.flink.streaming.api.operators.AbstractStreamOperator;
 import org.apache.flink.streaming.api.operators.AbstractStreamOperatorFactory;
 import org.apache.flink.streaming.api.operators.BoundedOneInput;
@@ -69,6 +70,13 @@ public class LocalMergeOperator extends AbstractStreamOperator<InternalRow>
 
     private static final long serialVersionUID = 1L;
 
+    private static final String LOCAL_MERGE_INPUT_RECORDS = "localMergeInputRecords";
+    private static final String LOCAL_MERGE_OUTPUT_RECORDS = "localMergeOutputRecords";
+    private static final String LOCAL_MERGE_EVICTED_RECORDS = "localMergeEvictedRecords";
+
+    /** Ratio of input records merged away, records still in buffer are counted as merged. */
+    private static final String LOCAL_MERGE_RATIO = "localMergeRatio";
+
     private final TableSchema schema;
     private final boolean ignoreDelete;
 
@@ -81,6 +89,10 @@ public class LocalMergeOperator extends AbstractStreamOperator<InternalRow>
 
     private transient boolean endOfInput;
 
+    private transient Counter numInputRecords;
+    private transient Counter numOutputRecords;
+    private transient Counter numEvictedRecords;
+
     private LocalMergeOperator(
             StreamOperatorParameters<InternalRow> parameters, TableSchema schema) {
         Preconditions.checkArgument(
@@ -141,7 +153,12 @@ public class LocalMergeOperator extends AbstractStreamOperator<InternalRow>
         if (canHashMerger) {
             merger =
                     new HashMapLocalMerger(
-                            valueType, primaryKeys, pool, mergeFunction, udsComparator);
+                            valueType,
+                            primaryKeys,
+                            pool,
+                            mergeFunction,
+                            udsComparator,
+                            options.localMergeEvictColdKeys());
         } else {
             RowType keyType =
                     PrimaryKeyTableUtils.addKeyNamePrefix(schema.logicalPrimaryKeysType());
@@ -163,6 +180,19 @@ public class LocalMergeOperator extends AbstractStreamOperator<InternalRow>
 
         currentWatermark = Long.MIN_VALUE;
         endOfInput = false;
+
+        numInputRecords = getMetricGroup().counter(LOCAL_MERGE_INPUT_RECORDS);
+        numOutputRecords = getMetricGroup().counter(LOCAL_MERGE_OUTPUT_RECORDS);
+        numEvictedRecords = getMetricGroup().counter(LOCAL_MERGE_EVICTED_RECORDS);
+        getMetricGroup()
+                .gauge(
+                        LOCAL_MERGE_RATIO,
+                        () -> {
+                            long input = numInputRecords.getCount();
+                            return input == 0
+                                    ? 0.0
+                                    : 1 - (double) numOutputRecords.getCount() / input;
+                        });
     }
 
     @Override
@@ -177,12 +207,19 @@ public class LocalMergeOperator extends AbstractStreamOperator<InternalRow>
         // row kind must be INSERT when it is divided into key and value
         row.setRowKind(RowKind.INSERT);
 
+        numInputRecords.inc();
         BinaryRow key = keyProjection.apply(row);
         if (!merger.put(rowKind, key, row)) {
-            flushBuffer();
+            // hold watermark when there are records left in buffer
+            if (!merger.evict(this::emitEvicted)) {
+                flushBuffer();
+            } else if (merger.size() == 0) {
+                emitWatermark();
+            }
             if (!merger.put(rowKind, key, row)) {
                 // change row kind back
                 row.setRowKind(rowKind);
+                numOutputRecords.inc();
                 output.collect(record);
             }
         }
@@ -222,9 +259,13 @@ public class LocalMergeOperator extends AbstractStreamOperator<InternalRow>
             return;
         }
 
-        merger.forEach(row -> output.collect(new StreamRecord<>(row)));
+        merger.forEach(this::emit);
         merger.clear();
+        emitWatermark();
+    }
 
+    /** Emits the held watermark, must only be called when the buffer is empty. */
+    private void emitWatermark() throws Exception {
         if (currentWatermark != Long.MIN_VALUE) {
             super.processWatermark(new Watermark(currentWatermark));
             // each watermark should only be emitted once
@@ -232,6 +273,16 @@ public class LocalMergeOperator extends AbstractStreamOperator<InternalRow>
         }
     }
 
+    private void emitEvicted(InternalRow row) {
+        numEvictedRecords.inc();
+        emit(row);
+    }
+
+    private void emit(InternalRow row) {
+        numOutputRecords.inc();
+        output.collect(new StreamRecord<>(row));
+    }
+
     @VisibleForTesting
     LocalMerger merger() {
         return merger;
@@ -29,6 +29,7 @@ import org.apache.flink.runtime.io.disk.iomanager.IOManager;
 import javax.annotation.Nullable;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -66,6 +67,15 @@ public class LookupSinkWrite extends StoreSinkWriteImpl {
         List<StoreSinkWriteState.StateValue> activeBucketsStateValues =
                 state.get(tableName, ACTIVE_BUCKETS_STATE_NAME);
         if (activeBucketsStateValues != null) {
+            // restore the files of all active buckets with a few scans instead of one per bucket
+            Map<BinaryRow, List<Integer>> activeBuckets = new HashMap<>();
+            for (StoreSinkWriteState.StateValue stateValue : activeBucketsStateValues) {
+                activeBuckets
+                        .computeIfAbsent(stateValue.partition(), k -> new ArrayList<>())
+                        .add(stateValue.bucket());
+            }
+            write.getWrite().prepareRestore(activeBuckets);
+
             for (StoreSinkWriteState.StateValue stateValue : activeBucketsStateValues) {
                 try {
                     write.compact(stateValue.partition(), stateValue.bucket(), false);
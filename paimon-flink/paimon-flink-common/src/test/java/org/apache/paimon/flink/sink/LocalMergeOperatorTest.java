@@ -51,6 +51,7 @@ import java.util.Random;
 import java.util.function.Consumer;
 
 import static org.apache.paimon.CoreOptions.LOCAL_MERGE_BUFFER_SIZE;
+import static org.apache.paimon.CoreOptions.LOCAL_MERGE_EVICT_COLD_KEYS;
 import static org.apache.paimon.CoreOptions.SEQUENCE_FIELD;
 import static org.apache.paimon.data.BinaryString.fromString;
 import static org.apache.paimon.types.RowKind.DELETE;
@@ -134,6 +135,54 @@ class LocalMergeOperatorTest {
         result.clear();
     }
 
+    @Test
+    public void testHashEvictColdKeys() throws Exception {
+        Map<String, String> options = new HashMap<>();
+        options.put(LOCAL_MERGE_BUFFER_SIZE.key(), "2 m");
+        options.put(LOCAL_MERGE_EVICT_COLD_KEYS.key(), "true");
+        prepareHashOperator(options);
+        List<String> result = new ArrayList<>();
+        setOutput(result);
+
+        Map<String, String> expected = new HashMap<>();
+        for (int i = 0; i < 30_000; i++) {
+            String key = i + "";
+            expected.put(key, "+I:" + key + "->" + i);
+            processElement(key, i);
+            expected.put("hot", "+I:hot->" + i);
+            processElement("hot", i);
+        }
+
+        // cold keys are evicted when buffer is full, the hot key stays in buffer
+        assertThat(result).isNotEmpty().noneMatch(r -> r.startsWith("+I:hot"));
+
+        operator.prepareSnapshotPreBarrier(0);
+        assertThat(result).containsExactlyInAnyOrderElementsOf(expected.values());
+        result.clear();
+    }
+
+    @Test
+    public void testHashEvictColdKeysEmitsWatermark() throws Exception {
+        Map<String, String> options = new HashMap<>();
+        options.put(LOCAL_MERGE_BUFFER_SIZE.key(), "2 m");
+        options.put(LOCAL_MERGE_EVICT_COLD_KEYS.key(), "true");
+        prepareHashOperator(options);
+        List<String> result = new ArrayList<>();
+        List<Long> watermarks = new ArrayList<>();
+        setOutput(result, watermarks);
+
+        // no key is repeated, so nothing is kept and the full buffer is flushed with the watermark
+        processElement("0", 0);
+        operator.processWatermark(new Watermark(1));
+        assertThat(watermarks).isEmpty();
+        int i = 1;
+        while (result.isEmpty()) {
+            processElement(String.valueOf(i), i);
+            i++;
+        }
+        assertThat(watermarks).containsExactly(1L);
+    }
+
     private void prepareHashOperator() throws Exception {
         prepareHashOperator(new HashMap<>());
     }
@@ -174,8 +223,13 @@ class LocalMergeOperatorTest {
     }
 
     private void setOutput(List<String> result) {
+        setOutput(result, new ArrayList<>());
+    }
+
+    private void setOutput(List<String> result, List<Long> watermarks) {
         operator.setOutput(
                 new TestOutput(
+                        watermarks,
                         row ->
                                 result.add(
                                         row.getRowKind().shortString()
@@ -197,14 +251,18 @@ class LocalMergeOperatorTest {
 
     private static class TestOutput implements Output<StreamRecord<InternalRow>> {
 
+        private final List<Long> watermarks;
         private final Consumer<InternalRow> consumer;
 
-        private TestOutput(Consumer<InternalRow> consumer) {
+        private TestOutput(List<Long> watermarks, Consumer<InternalRow> consumer) {
+            this.watermarks = watermarks;
             this.consumer = consumer;
         }
 
         @Override
-        public void emitWatermark(Watermark mark) {}
+        public void emitWatermark(Watermark mark) {
+            watermarks.add(mark.getTimestamp());
+        }
 
         @Override
         public void emitWatermarkStatus(WatermarkStatus watermarkStatus) {}
@@ -20,8 +20,12 @@ package org.apache.paimon.format.orc.writer;
 
 import org.apache.paimon.annotation.VisibleForTesting;
 import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.data.columnar.VectorizedColumnBatch;
+import org.apache.paimon.format.BundleFormatWriter;
 import org.apache.paimon.format.FormatWriter;
 import org.apache.paimon.fs.PositionOutputStream;
+import org.apache.paimon.io.BundleRecords;
+import org.apache.paimon.io.ColumnarBundleRecords;
 
 import org.apache.hadoop.hive.ql.exec.vector.VectorizedRowBatch;
 import org.apache.orc.Writer;
@@ -31,7 +35,7 @@ import java.io.IOException;
 import static org.apache.paimon.utils.Preconditions.checkNotNull;
 
 /** A {@link FormatWriter} implementation that writes data in ORC format. */
-public class OrcBulkWriter implements FormatWriter {
+public class OrcBulkWriter implements BundleFormatWriter {
 
     private final Writer writer;
     private final Vectorizer<InternalRow> vectorizer;
@@ -58,6 +62,31 @@ public class OrcBulkWriter implements FormatWriter {
         }
     }
 
+    @Override
+    public void writeBundle(BundleRecords bundle) throws IOException {
+        if (!(bundle instanceof ColumnarBundleRecords)
+                || !(vectorizer instanceof RowDataVectorizer)) {
+            for (InternalRow row : bundle) {
+                addElement(row);
+            }
+            return;
+        }
+
+        // copy whole columns into the row batch, flushing each time it is full
+        RowDataVectorizer rowDataVectorizer = (RowDataVectorizer) vectorizer;
+        VectorizedColumnBatch batch = ((ColumnarBundleRecords) bundle).batch();
+        int rowCount = (int) bundle.rowCount();
+        int from = 0;
+        while (from < rowCount) {
+            int count = Math.min(rowCount - from, rowBatch.getMaxSize() - rowBatch.size);
+            rowDataVectorizer.vectorize(batch, from, count, rowBatch);
+            from += count;
+            if (rowBatch.size == rowBatch.getMaxSize()) {
+                flush();
+            }
+        }
+    }
+
     private void flush() throws IOException {
         if (rowBatch.size != 0) {
             writer.addRowBatch(rowBatch);
@@ -19,9 +19,20 @@
 package org.apache.paimon.format.orc.writer;
 
 import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.data.columnar.BooleanColumnVector;
+import org.apache.paimon.data.columnar.ByteColumnVector;
+import org.apache.paimon.data.columnar.BytesColumnVector.Bytes;
+import org.apache.paimon.data.columnar.ColumnarRow;
+import org.apache.paimon.data.columnar.FloatColumnVector;
+import org.apache.paimon.data.columnar.IntColumnVector;
+import org.apache.paimon.data.columnar.ShortColumnVector;
+import org.apache.paimon.data.columnar.VectorizedColumnBatch;
 import org.apache.paimon.types.DataType;
 
+import org.apache.hadoop.hive.ql.exec.vector.BytesColumnVector;
 import org.apache.hadoop.hive.ql.exec.vector.ColumnVector;
+import org.apache.hadoop.hive.ql.exec.vector.DoubleColumnVector;
+import org.apache.hadoop.hive.ql.exec.vector.LongColumnVector;
 import org.apache.hadoop.hive.ql.exec.vector.VectorizedRowBatch;
 import org.apache.orc.TypeDescription;
 
@@ -32,11 +43,13 @@ import java.util.stream.Collectors;
 /** A {@link Vectorizer} of {@link InternalRow} type element. */
 public class RowDataVectorizer extends Vectorizer<InternalRow> {
 
+    private final DataType[] fieldTypes;
     private final List<FieldWriter> fieldWriters;
 
     public RowDataVectorizer(
             TypeDescription schema, DataType[] fieldTypes, boolean legacyTimestampLtzType) {
         super(schema);
+        this.fieldTypes = fieldTypes;
         FieldWriterFactory fieldWriterFactory = new FieldWriterFactory(legacyTimestampLtzType);
         this.fieldWriters =
                 Arrays.stream(fieldTypes)
@@ -57,4 +70,176 @@ public class RowDataVectorizer extends Vectorizer<InternalRow> {
             }
         }
     }
+
+    /**
+     * Transforms the rows {@code [from, from + count)} of the columnar batch column by column and
+     * appends them to the {@link VectorizedRowBatch}, which must have room for {@code count} rows.
+     */
+    public void vectorize(
+            VectorizedColumnBatch columnarBatch, int from, int count, VectorizedRowBatch batch) {
+        int offset = batch.size;
+        ColumnarRow row = null;
+        for (int i = 0; i < fieldTypes.length; i++) {
+            org.apache.paimon.data.columnar.ColumnVector source = columnarBatch.columns[i];
+            ColumnVector target = batch.cols[i];
+            if (writeColumn(fieldTypes[i], source, from, count, target, offset)) {
+                continue;
+            }
+
+            // fall back to the row writers for other types
+            if (row == null) {
+                row = new ColumnarRow(columnarBatch);
+            }
+            FieldWriter fieldWriter = fieldWriters.get(i);
+            for (int j = 0; j < count; j++) {
+                if (source.isNullAt(from + j)) {
+                    setNull(target, offset + j);
+                } else {
+                    row.setRowId(from + j);
+                    fieldWriter.write(offset + j, target, row, i);
+                }
+            }
+        }
+        batch.size += count;
+    }
+
+    /** Writes a column with a typed loop, returns false if the type or vector is unsupported. */
+    private static boolean writeColumn(
+            DataType type,
+            org.apache.paimon.data.columnar.ColumnVector source,
+            int from,
+            int count,
+            ColumnVector target,
+            int offset) {
+        switch (type.getTypeRoot()) {
+            case BOOLEAN:
+                if (source instanceof BooleanColumnVector) {
+                    BooleanColumnVector vector = (BooleanColumnVector) source;
+                    long[] values = ((LongColumnVector) target).vector;
+                    for (int j = 0; j < count; j++) {
+                        if (vector.isNullAt(from + j)) {
+                            setNull(target, offset + j);
+                        } else {
+                            values[offset + j] = vector.getBoolean(from + j) ? 1 : 0;
+                        }
+                    }
+                    return true;
+                }
+                return false;
+            case TINYINT:
+                if (source instanceof ByteColumnVector) {
+                    ByteColumnVector vector = (ByteColumnVector) source;
+                    long[] values = ((LongColumnVector) target).vector;
+                    for (int j = 0; j < count; j++) {
+                        if (vector.isNullAt(from + j)) {
+                            setNull(target, offset + j);
+                        } else {
+                            values[offset + j] = vector.getByte(from + j);
+                        }
+                    }
+                    return true;
+                }
+                return false;
+            case SMALLINT:
+                if (source instanceof ShortColumnVector) {
+                    ShortColumnVector vector = (ShortColumnVector) source;
+                    long[] values = ((LongColumnVector) target).vector;
+                    for (int j = 0; j < count; j++) {
+                        if (vector.isNullAt(from + j)) {
+                            setNull(target, offset + j);
+                        } else {
+                            values[offset + j] = vector.getShort(from + j);
+                        }
+                    }
+                    return true;
+                }
+                return false;
+            case INTEGER:
+            case DATE:
+            case TIME_WITHOUT_TIME_ZONE:
+                if (source instanceof IntColumnVector) {
+                    IntColumnVector vector = (IntColumnVector) source;
+                    long[] values = ((LongColumnVector) target).vector;
+                    for (int j = 0; j < count; j++) {
+                        if (vector.isNullAt(from + j)) {
+                            setNull(target, offset + j);
+                        } else {
+                            values[offset + j] = vector.getInt(from + j);
+                        }
+                    }
+                    return true;
+                }
+                return false;
+            case BIGINT:
+                if (source instanceof org.apache.paimon.data.columnar.LongColumnVector) {
+                    org.apache.paimon.data.columnar.LongColumnVector vector =
+                            (org.apache.paimon.data.columnar.LongColumnVector) source;
+                    long[] values = ((LongColumnVector) target).vector;
+                    for (int j = 0; j < count; j++) {
+                        if (vector.isNullAt(from + j)) {
+                            setNull(target, offset + j);
+                        } else {
+                            values[offset + j] = vector.getLong(from + j);
+                        }
+                    }
+                    return true;
+                }
+                return false;
+            case FLOAT:
+                if (source instanceof FloatColumnVector) {
+                    FloatColumnVector vector = (FloatColumnVector) source;
+                    double[] values = ((DoubleColumnVector) target).vector;
+                    for (int j = 0; j < count; j++) {
+                        if (vector.isNullAt(from + j)) {
+                            setNull(target, offset + j);
+                        } else {
+                            values[offset + j] = vector.getFloat(from + j);
+                        }
+                    }
+                    return true;
+                }
+                return false;
+            case DOUBLE:
+                if (source instanceof org.apache.paimon.data.columnar.DoubleColumnVector) {
+                    org.apache.paimon.data.columnar.DoubleColumnVector vector =
+                            (org.apache.paimon.data.columnar.DoubleColumnVector) source;
+                    double[] values = ((DoubleColumnVector) target).vector;
+                    for (int j = 0; j < count; j++) {
+                        if (vector.isNullAt(from + j)) {
+                            setNull(target, offset + j);
+                        } else {
+                            values[offset + j] = vector.getDouble(from + j);
+                        }
+                    }
+                    return true;
+                }
+                return false;
+            case CHAR:
+            case VARCHAR:
+            case BINARY:
+            case VARBINARY:
+                if (source instanceof org.apache.paimon.data.columnar.BytesColumnVector) {
+                    org.apache.paimon.data.columnar.BytesColumnVector vector =
+                            (org.apache.paimon.data.columnar.BytesColumnVector) source;
+                    BytesColumnVector bytesVector = (BytesColumnVector) target;
+                    for (int j = 0; j < count; j++) {
+                        if (vector.isNullAt(from + j)) {
+                            setNull(target, offset + j);
+                        } else {
+                            Bytes bytes = vector.getBytes(from + j);
+                            bytesVector.setVal(offset + j, bytes.data, bytes.offset, bytes.len);
+                        }
+                    }
+                    return true;
+                }
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    private static void setNull(ColumnVector column, int rowId) {
+        column.noNulls = false;
+        column.isNull[rowId] = true;
+    }
 }
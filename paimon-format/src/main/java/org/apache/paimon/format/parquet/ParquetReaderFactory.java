@@ -21,6 +21,8 @@ package org.apache.paimon.format.parquet;
 import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.data.columnar.VectorizedColumnBatch;
 import org.apache.paimon.data.columnar.writable.WritableColumnVector;
+import org.apache.paimon.data.columnar.writable.WritableColumnVectorFactory;
+import org.apache.paimon.factories.FactoryUtil;
 import org.apache.paimon.format.FormatReaderFactory;
 import org.apache.paimon.format.parquet.reader.VectorizedParquetRecordReader;
 import org.apache.paimon.format.parquet.type.ParquetField;
@@ -49,6 +51,8 @@ import org.apache.parquet.schema.Types;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.Nullable;
+
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
@@ -70,10 +74,17 @@ public class ParquetReaderFactory implements FormatReaderFactory {
 
     private static final String ALLOCATION_SIZE = "parquet.read.allocation.size";
 
+    /**
+     * Identifier of the {@link WritableColumnVectorFactory} to decode top-level primitive columns
+     * into, for example 'arrow'. Heap vectors are used if not set.
+     */
+    private static final String VECTOR_FACTORY = "parquet.read.vector-factory";
+
     private final Options conf;
     private final DataField[] readFields;
     private final int batchSize;
     private final FilterCompat.Filter filter;
+    @Nullable private final WritableColumnVectorFactory vectorFactory;
 
     public ParquetReaderFactory(
             Options conf, RowType readType, int batchSize, FilterCompat.Filter filter) {
@@ -81,6 +92,14 @@ public class ParquetReaderFactory implements FormatReaderFactory {
         this.readFields = readType.getFields().toArray(new DataField[0]);
         this.batchSize = batchSize;
         this.filter = filter;
+        String vectorFactory = conf.getString(VECTOR_FACTORY, null);
+        this.vectorFactory =
+                vectorFactory == null
+                        ? null
+                        : FactoryUtil.discoverFactory(
+                                ParquetReaderFactory.class.getClassLoader(),
+                                WritableColumnVectorFactory.class,
+                                vectorFactory);
     }
 
     @Override
@@ -233,6 +252,12 @@ public class ParquetReaderFactory implements FormatReaderFactory {
         WritableColumnVector[] columns = new WritableColumnVector[readFields.length];
         List<Type> types = requestedSchema.getFields();
         for (int i = 0; i < readFields.length; i++) {
+            if (vectorFactory != null && types.get(i).isPrimitive()) {
+                columns[i] = vectorFactory.create(readFields[i].type(), batchSize);
+                if (columns[i] != null) {
+                    continue;
+                }
+            }
             columns[i] =
                     createWritableColumnVector(
                             batchSize,
@@ -32,11 +32,16 @@ import static org.apache.paimon.format.parquet.writer.ParquetRowDataWriter.NANOS
 import static org.apache.paimon.format.parquet.writer.ParquetRowDataWriter.NANOS_PER_SECOND;
 import static org.apache.paimon.utils.Preconditions.checkArgument;
 
-/** Parquet dictionary. */
+/**
+ * Parquet dictionary. Binary values are decoded lazily and cached per id, so that a dictionary
+ * shared by several batches decodes each distinct value only once.
+ */
 public final class ParquetDictionary implements Dictionary {
 
     private final org.apache.parquet.column.Dictionary dictionary;
 
+    private byte[][] binaries;
+
     public ParquetDictionary(org.apache.parquet.column.Dictionary dictionary) {
         this.dictionary = dictionary;
     }
@@ -63,7 +68,15 @@ public final class ParquetDictionary implements Dictionary {
 
     @Override
     public byte[] decodeToBinary(int id) {
-        return dictionary.decodeToBinary(id).getBytesUnsafe();
+        if (binaries == null) {
+            binaries = new byte[dictionary.getMaxId() + 1][];
+        }
+        byte[] binary = binaries[id];
+        if (binary == null) {
+            binary = dictionary.decodeToBinary(id).getBytesUnsafe();
+            binaries[id] = binary;
+        }
+        return binary;
     }
 
     @Override
@@ -56,6 +56,12 @@ public class VectorizedColumnReader {
     /** The dictionary, if this column has dictionary encoding. */
     private final Dictionary dictionary;
 
+    /**
+     * The dictionary handed to column vectors, shared by all batches of this column chunk so that
+     * values decoded from it and results cached on it are reused across batches.
+     */
+    private final ParquetDictionary parquetDictionary;
+
     /** If true, the current page is dictionary encoded. */
     private boolean isCurrentPageDictionaryEncoded;
 
@@ -108,6 +114,7 @@ public class VectorizedColumnReader {
             this.dictionary = null;
             this.isCurrentPageDictionaryEncoded = false;
         }
+        this.parquetDictionary = dictionary == null ? null : new ParquetDictionary(dictionary);
         if (pageReader.getTotalValueCount() == 0) {
             throw new IOException("totalValueCount == 0");
         }
@@ -204,7 +211,7 @@ public class VectorizedColumnReader {
                 if (column.hasDictionary()
                         || (startRowId == pageFirstRowIndex
                                 && isLazyDecodingSupported(typeName, column))) {
-                    column.setDictionary(new ParquetDictionary(dictionary));
+                    column.setDictionary(parquetDictionary);
                 } else {
                     updater.decodeDictionaryIds(
                             readState.valueOffset - startOffset,
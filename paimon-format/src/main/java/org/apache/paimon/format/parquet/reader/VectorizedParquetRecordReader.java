@@ -86,6 +86,8 @@ public class VectorizedParquetRecordReader implements FileRecordReader<InternalR
 
     private ColumnarBatch columnarBatch;
 
+    private final WritableColumnVector[] writableVectors;
+
     private final Path filePath;
     private final MessageType fileSchema;
     private final List<ParquetField> fields;
@@ -121,6 +123,7 @@ public class VectorizedParquetRecordReader implements FileRecordReader<InternalR
         // Check if all the required columns are present in the file.
         checkMissingColumns();
         // Initialize the columnarBatch and columnVectors,
+        this.writableVectors = vectors;
         initBatch(vectors);
     }
 
@@ -353,5 +356,15 @@ public class VectorizedParquetRecordReader implements FileRecordReader<InternalR
             reader.close();
             reader = null;
         }
+        // vectors from a WritableColumnVectorFactory may hold off-heap memory
+        for (WritableColumnVector vector : writableVectors) {
+            if (vector instanceof AutoCloseable) {
+                try {
+                    ((AutoCloseable) vector).close();
+                } catch (Exception e) {
+                    throw new IOException(e);
+                }
+            }
+        }
     }
 }
@@ -19,7 +19,19 @@
 package org.apache.paimon.format.orc.writer;
 
 import org.apache.paimon.CoreOptions;
+import org.apache.paimon.data.BinaryString;
+import org.apache.paimon.data.GenericRow;
+import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.data.Timestamp;
+import org.apache.paimon.data.columnar.ColumnVector;
+import org.apache.paimon.data.columnar.VectorizedColumnBatch;
+import org.apache.paimon.data.columnar.heap.HeapBytesVector;
+import org.apache.paimon.data.columnar.heap.HeapDoubleVector;
+import org.apache.paimon.data.columnar.heap.HeapIntVector;
+import org.apache.paimon.data.columnar.heap.HeapTimestampVector;
+import org.apache.paimon.data.serializer.InternalRowSerializer;
 import org.apache.paimon.format.FileFormat;
+import org.apache.paimon.format.FormatReaderContext;
 import org.apache.paimon.format.FormatWriter;
 import org.apache.paimon.format.FormatWriterFactory;
 import org.apache.paimon.format.orc.OrcFileFormat;
@@ -27,7 +39,9 @@ import org.apache.paimon.format.orc.OrcWriterFactory;
 import org.apache.paimon.fs.Path;
 import org.apache.paimon.fs.PositionOutputStream;
 import org.apache.paimon.fs.local.LocalFileIO;
+import org.apache.paimon.io.VectorizedBundleRecords;
 import org.apache.paimon.options.Options;
+import org.apache.paimon.reader.RecordReader;
 import org.apache.paimon.types.DataTypes;
 import org.apache.paimon.types.RowType;
 
@@ -36,6 +50,9 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 
 class OrcBulkWriterTest {
 
@@ -63,4 +80,71 @@ class OrcBulkWriterTest {
         OrcBulkWriter orcBulkWriter = (OrcBulkWriter) formatWriter;
         Assertions.assertThat(orcBulkWriter.getRowBatch().getMaxSize()).isEqualTo(1);
     }
+
+    @Test
+    void testWriteBundle(@TempDir java.nio.file.Path tempDir) throws IOException {
+        Options options = new Options();
+        options.set(CoreOptions.WRITE_BATCH_SIZE, 3);
+        FileFormat orc = FileFormat.fromIdentifier("orc", options);
+
+        RowType rowType =
+                RowType.builder()
+                        .field("a", DataTypes.INT())
+                        .field("b", DataTypes.STRING())
+                        .field("c", DataTypes.DOUBLE())
+                        .field("d", DataTypes.TIMESTAMP(3))
+                        .build();
+
+        int rowCount = 10;
+        HeapIntVector a = new HeapIntVector(rowCount);
+        HeapBytesVector b = new HeapBytesVector(rowCount);
+        HeapDoubleVector c = new HeapDoubleVector(rowCount);
+        HeapTimestampVector d = new HeapTimestampVector(rowCount);
+        List<InternalRow> expected = new ArrayList<>();
+        for (int i = 0; i < rowCount; i++) {
+            a.setInt(i, i);
+            if (i % 3 == 0) {
+                b.setNullAt(i);
+            } else {
+                byte[] bytes = ("v" + i).getBytes(StandardCharsets.UTF_8);
+                b.putByteArray(i, bytes, 0, bytes.length);
+            }
+            if (i % 4 == 0) {
+                c.setNullAt(i);
+            } else {
+                c.setDouble(i, i * 1.5);
+            }
+            d.setTimestamp(i, Timestamp.fromEpochMillis(i * 1000L));
+            expected.add(
+                    GenericRow.of(
+                            i,
+                            i % 3 == 0 ? null : BinaryString.fromString("v" + i),
+                            i % 4 == 0 ? null : i * 1.5,
+                            Timestamp.fromEpochMillis(i * 1000L)));
+        }
+        VectorizedColumnBatch batch = new VectorizedColumnBatch(new ColumnVector[] {a, b, c, d});
+        batch.setNumRows(rowCount);
+
+        LocalFileIO fileIO = LocalFileIO.create();
+        Path path = new Path(tempDir.toUri().toString(), "1.orc");
+        PositionOutputStream out = fileIO.newOutputStream(path, false);
+        FormatWriter formatWriter = orc.createWriterFactory(rowType).create(out, "zstd");
+        Assertions.assertThat(formatWriter).isInstanceOf(OrcBulkWriter.class);
+        OrcBulkWriter orcBulkWriter = (OrcBulkWriter) formatWriter;
+        orcBulkWriter.addElement(expected.get(0));
+        orcBulkWriter.writeBundle(new VectorizedBundleRecords(batch));
+        orcBulkWriter.close();
+        out.close();
+        expected.add(0, expected.get(0));
+
+        InternalRowSerializer serializer = new InternalRowSerializer(rowType);
+        List<InternalRow> result = new ArrayList<>();
+        try (RecordReader<InternalRow> reader =
+                orc.createReaderFactory(rowType)
+                        .createReader(
+                                new FormatReaderContext(fileIO, path, fileIO.getFileSize(path)))) {
+            reader.forEachRemaining(row -> result.add(serializer.copy(row)));
+        }
+        Assertions.assertThat(result).containsExactlyElementsOf(expected);
+    }
 }
@@ -91,4 +91,11 @@ public class SparkConnectorOptions {
                     .defaultValue(false)
                     .withDescription(
                             "Whether to read row in the form of changelog (add rowkind column in row to represent its change type).");
+
+    public static final ConfigOption<Boolean> READ_PARTIAL_AGGREGATE_PUSHDOWN_ENABLED =
+            key("read.partial-aggregate-pushdown.enabled")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "If true, aggregations (COUNT, SUM, MIN and MAX grouped by columns) which cannot be answered from statistics are partially evaluated inside the readers of append tables and deletion vectors tables, so that only pre-aggregated rows are sent to Spark.");
 }
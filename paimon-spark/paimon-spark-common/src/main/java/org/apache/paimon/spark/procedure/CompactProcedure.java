@@ -44,6 +44,7 @@ import org.apache.paimon.table.sink.BatchWriteBuilder;
 import org.apache.paimon.table.sink.CommitMessage;
 import org.apache.paimon.table.sink.CommitMessageSerializer;
 import org.apache.paimon.table.sink.TableCommitImpl;
+import org.apache.paimon.table.sink.TableWriteImpl;
 import org.apache.paimon.table.source.DataSplit;
 import org.apache.paimon.table.source.EndOfScanException;
 import org.apache.paimon.table.source.snapshot.SnapshotReader;
@@ -86,6 +87,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -327,14 +329,29 @@ public class CompactProcedure extends BaseProcedure {
                                             BatchTableWrite write = writeBuilder.newWrite();
                                             write.withIOManager(ioManager);
                                             try {
+                                                Map<BinaryRow, List<Integer>> buckets =
+                                                        new LinkedHashMap<>();
                                                 while (pairIterator.hasNext()) {
                                                     Pair<byte[], Integer> pair =
                                                             pairIterator.next();
-                                                    write.compact(
-                                                            SerializationUtils.deserializeBinaryRow(
-                                                                    pair.getLeft()),
-                                                            pair.getRight(),
-                                                            fullCompact);
+                                                    buckets.computeIfAbsent(
+                                                                    SerializationUtils
+                                                                            .deserializeBinaryRow(
+                                                                                    pair.getLeft()),
+                                                                    k -> new ArrayList<>())
+                                                            .add(pair.getRight());
+                                                }
+                                                ((TableWriteImpl<?>) write)
+                                                        .getWrite()
+                                                        .prepareRestore(buckets);
+                                                for (Map.Entry<BinaryRow, List<Integer>> entry :
+                                                        buckets.entrySet()) {
+                                                    for (int bucket : entry.getValue()) {
+                                                        write.compact(
+                                                                entry.getKey(),
+                                                                bucket,
+                                                                fullCompact);
+                                                    }
                                                 }
                                                 CommitMessageSerializer serializer =
                                                         new CommitMessageSerializer();
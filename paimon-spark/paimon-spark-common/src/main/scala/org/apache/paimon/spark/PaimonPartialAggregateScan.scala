@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.spark
+
+import org.apache.paimon.predicate.Predicate
+import org.apache.paimon.table.Table
+import org.apache.paimon.table.source.aggregate.PartialAggregation
+
+import org.apache.spark.sql.connector.read.Batch
+import org.apache.spark.sql.sources.Filter
+import org.apache.spark.sql.types.StructType
+
+/**
+ * A scan that evaluates a [[PartialAggregation]] inside the Paimon readers, Spark still runs the
+ * final aggregation over its output.
+ */
+case class PaimonPartialAggregateScan(
+    table: Table,
+    requiredSchema: StructType,
+    filters: Seq[Predicate],
+    reservedFilters: Seq[Filter],
+    partialAggregation: PartialAggregation)
+  extends PaimonBaseScan(table, requiredSchema, filters, reservedFilters, None) {
+
+  override def readSchema(): StructType = {
+    SparkTypeUtils.fromPaimonRowType(partialAggregation.resultType())
+  }
+
+  override def toBatch: Batch = {
+    PaimonBatch(lazyInputPartitions, readBuilder, Seq.empty, Some(partialAggregation))
+  }
+
+  override def description(): String = {
+    super.description() + s", PartialAggregation: [$partialAggregation]"
+  }
+}
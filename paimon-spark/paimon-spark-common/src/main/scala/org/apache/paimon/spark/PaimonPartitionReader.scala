@@ -24,6 +24,7 @@ import org.apache.paimon.spark.SparkUtils.createIOManager
 import org.apache.paimon.spark.data.SparkInternalRow
 import org.apache.paimon.spark.schema.PaimonMetadataColumn
 import org.apache.paimon.table.source.{DataSplit, ReadBuilder, Split}
+import org.apache.paimon.table.source.aggregate.PartialAggregation
 import org.apache.paimon.types.RowType
 
 import org.apache.spark.sql.catalyst.InternalRow
@@ -39,7 +40,8 @@ import scala.collection.JavaConverters._
 case class PaimonPartitionReader(
     readBuilder: ReadBuilder,
     partition: PaimonInputPartition,
-    metadataColumns: Seq[PaimonMetadataColumn]
+    metadataColumns: Seq[PaimonMetadataColumn],
+    partialAggregation: Option[PartialAggregation] = None
 ) extends PartitionReader[InternalRow] {
 
   private val splits: Iterator[Split] = partition.splits.toIterator
@@ -47,11 +49,14 @@ case class PaimonPartitionReader(
   private var advanced = false
   private var currentRow: PaimonInternalRow = _
   private val ioManager: IOManager = createIOManager()
-  private val sparkRow: SparkInternalRow = {
-    val dataFields = new JList(readBuilder.readType().getFields)
-    dataFields.addAll(metadataColumns.map(_.toPaimonDataField).asJava)
-    val rowType = new RowType(dataFields)
-    SparkInternalRow.create(rowType)
+  private val sparkRow: SparkInternalRow = partialAggregation match {
+    case Some(aggregation) =>
+      SparkInternalRow.create(aggregation.resultType())
+    case _ =>
+      val dataFields = new JList(readBuilder.readType().getFields)
+      dataFields.addAll(metadataColumns.map(_.toPaimonDataField).asJava)
+      val rowType = new RowType(dataFields)
+      SparkInternalRow.create(rowType)
   }
 
   private lazy val read = readBuilder.newRead().withIOManager(ioManager)
@@ -101,7 +106,11 @@ case class PaimonPartitionReader(
   private def readSplit(): PaimonRecordReaderIterator = {
     if (splits.hasNext) {
       val split = splits.next();
-      PaimonRecordReaderIterator(read.createReader(split), metadataColumns, split)
+      val reader = partialAggregation match {
+        case Some(aggregation) => aggregation.createReader(read.createReader(split))
+        case _ => read.createReader(split)
+      }
+      PaimonRecordReaderIterator(reader, metadataColumns, split)
     } else {
       null
     }
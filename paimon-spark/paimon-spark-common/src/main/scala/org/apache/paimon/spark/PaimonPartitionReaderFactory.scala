@@ -20,6 +20,7 @@ package org.apache.paimon.spark
 
 import org.apache.paimon.spark.schema.PaimonMetadataColumn
 import org.apache.paimon.table.source.ReadBuilder
+import org.apache.paimon.table.source.aggregate.PartialAggregation
 
 import org.apache.spark.sql.catalyst.InternalRow
 import org.apache.spark.sql.connector.read.{InputPartition, PartitionReader, PartitionReaderFactory}
@@ -28,13 +29,18 @@ import java.util.Objects
 
 case class PaimonPartitionReaderFactory(
     readBuilder: ReadBuilder,
-    metadataColumns: Seq[PaimonMetadataColumn] = Seq.empty)
+    metadataColumns: Seq[PaimonMetadataColumn] = Seq.empty,
+    partialAggregation: Option[PartialAggregation] = None)
   extends PartitionReaderFactory {
 
   override def createReader(partition: InputPartition): PartitionReader[InternalRow] = {
     partition match {
       case paimonInputPartition: PaimonInputPartition =>
-        PaimonPartitionReader(readBuilder, paimonInputPartition, metadataColumns)
+        PaimonPartitionReader(
+          readBuilder,
+          paimonInputPartition,
+          metadataColumns,
+          partialAggregation)
       case _ =>
         throw new RuntimeException(s"It's not a Paimon input partition, $partition")
     }
@@ -43,7 +49,9 @@ case class PaimonPartitionReaderFactory(
   override def equals(obj: Any): Boolean = {
     obj match {
       case other: PaimonPartitionReaderFactory =>
-        this.readBuilder.equals(other.readBuilder) && this.metadataColumns == other.metadataColumns
+        this.readBuilder.equals(other.readBuilder) &&
+        this.metadataColumns == other.metadataColumns &&
+        this.partialAggregation == other.partialAggregation
 
       case _ => false
     }
@@ -19,10 +19,12 @@
 package org.apache.paimon.spark
 
 import org.apache.paimon.CoreOptions.BucketFunctionType
+import org.apache.paimon.data.{InternalRow => PaimonInternalRow}
 import org.apache.paimon.predicate.Predicate
 import org.apache.paimon.spark.commands.BucketExpression.quote
 import org.apache.paimon.table.{BucketMode, FileStoreTable, Table}
 import org.apache.paimon.table.source.{DataSplit, Split}
+import org.apache.paimon.utils.KeyComparatorSupplier
 
 import org.apache.spark.sql.PaimonUtils.fieldReference
 import org.apache.spark.sql.connector.expressions._
@@ -32,6 +34,8 @@ import org.apache.spark.sql.connector.read.partitioning.{KeyGroupedPartitioning,
 import org.apache.spark.sql.sources.Filter
 import org.apache.spark.sql.types.StructType
 
+import java.util.Comparator
+
 import scala.collection.JavaConverters._
 
 case class PaimonScan(
@@ -134,16 +138,7 @@ case class PaimonScan(
     val allSplitsKeepOrdering = lazyInputPartitions.toSeq
       .map(_.asInstanceOf[PaimonBucketedInputPartition])
       .map(_.splits.asInstanceOf[Seq[DataSplit]])
-      .forall {
-        splits =>
-          // Only support report ordering if all matches:
-          // - one `Split` per InputPartition (TODO: Re-construct splits using minKey/maxKey)
-          // - `Split` is not rawConvertible so that the merge read can happen
-          // - `Split` only contains one data file so it always sorted even without merge read
-          splits.size < 2 && splits.forall {
-            split => !split.rawConvertible() || split.dataFiles().size() < 2
-          }
-      }
+      .forall(splitsKeepOrdering)
     if (!allSplitsKeepOrdering) {
       return Array.empty
     }
@@ -170,11 +165,89 @@ case class PaimonScan(
       .groupBy(_.bucket())
       .map {
         case (bucket, groupedSplits) =>
-          PaimonBucketedInputPartition(groupedSplits, bucket)
+          PaimonBucketedInputPartition(sortByMinKey(groupedSplits), bucket)
       }
       .toSeq
   }
 
+  /** The comparator of trimmed primary keys, only defined for primary key tables. */
+  @transient
+  private lazy val keyComparator: Option[Comparator[PaimonInternalRow]] = {
+    table match {
+      case fileStoreTable: FileStoreTable if !fileStoreTable.primaryKeys().isEmpty =>
+        Some(
+          new KeyComparatorSupplier(fileStoreTable.schema().logicalTrimmedPrimaryKeysType()).get())
+      case _ => None
+    }
+  }
+
+  /**
+   * Sort the splits of one bucket by their min key, so that the splits generated from the
+   * non-overlapping sections of a bucket are read one after another in key order.
+   */
+  private def sortByMinKey(splits: Array[DataSplit]): Seq[DataSplit] = {
+    keyComparator match {
+      case Some(comparator) if splits.length > 1 && splits.forall(_.dataFiles().size() > 0) =>
+        splits.sortWith((s1, s2) => comparator.compare(minKey(s1), minKey(s2)) < 0).toSeq
+      case _ => splits.toSeq
+    }
+  }
+
+  /**
+   * Only support report ordering if all matches:
+   *   - all `Split`s come from the same partition
+   *   - every `Split` is sorted by itself, see [[splitKeepOrdering]]
+   *   - the key ranges of the `Split`s do not overlap and they are in ascending order
+   */
+  private def splitsKeepOrdering(splits: Seq[DataSplit]): Boolean = {
+    if (splits.size < 2) {
+      return splits.forall(splitKeepOrdering)
+    }
+
+    keyComparator match {
+      case Some(comparator) =>
+        splits.map(_.partition()).distinct.size == 1 &&
+        splits.forall(s => s.dataFiles().size() > 0 && splitKeepOrdering(s)) &&
+        splits.sliding(2).forall {
+          case Seq(s1, s2) => comparator.compare(maxKey(s1), minKey(s2)) < 0
+        }
+      case _ => false
+    }
+  }
+
+  /**
+   * A `Split` keeps ordering if the merge read can happen (it is not rawConvertible), or it only
+   * contains one data file, or its data files do not overlap and are in ascending key order so that
+   * reading them one after another is still sorted.
+   */
+  private def splitKeepOrdering(split: DataSplit): Boolean = {
+    val files = split.dataFiles().asScala
+    if (!split.rawConvertible() || files.size < 2) {
+      return true
+    }
+
+    keyComparator.exists {
+      comparator =>
+        files.sliding(2).forall {
+          case Seq(f1, f2) => comparator.compare(f1.maxKey(), f2.minKey()) < 0
+        }
+    }
+  }
+
+  private def minKey(split: DataSplit): PaimonInternalRow = {
+    val comparator = keyComparator.get
+    split.dataFiles().asScala.map(_.minKey()).reduce {
+      (k1, k2) => if (comparator.compare(k1, k2) <= 0) k1 else k2
+    }
+  }
+
+  private def maxKey(split: DataSplit): PaimonInternalRow = {
+    val comparator = keyComparator.get
+    split.dataFiles().asScala.map(_.maxKey()).reduce {
+      (k1, k2) => if (comparator.compare(k1, k2) >= 0) k1 else k2
+    }
+  }
+
   // Since Spark 3.2
   override def filterAttributes(): Array[NamedReference] = {
     val requiredFields = readBuilder.readType().getFieldNames.asScala
@@ -18,10 +18,12 @@
 
 package org.apache.paimon.spark
 
+import org.apache.paimon.options.Options
 import org.apache.paimon.predicate.{PartitionPredicateVisitor, Predicate, PredicateBuilder}
 import org.apache.paimon.spark.aggregate.{AggregatePushDownUtils, LocalAggregator}
 import org.apache.paimon.table.{FileStoreTable, Table}
 import org.apache.paimon.table.source.DataSplit
+import org.apache.paimon.table.source.aggregate.PartialAggregation
 
 import org.apache.spark.sql.PaimonUtils
 import org.apache.spark.sql.connector.expressions.aggregate.Aggregation
@@ -40,6 +42,10 @@ class PaimonScanBuilder(table: Table)
 
   private var localScan: Option[Scan] = None
 
+  private var triedLocalAggregation: Option[Aggregation] = None
+
+  private var pushedPartialAggregation: Option[PartialAggregation] = None
+
   private var pushedSparkPredicates = Array.empty[SparkPredicate]
 
   /** Pushes down filters, and returns filters that need to be evaluated after scanning. */
@@ -91,16 +97,25 @@ class PaimonScanBuilder(table: Table)
   }
 
   override def supportCompletePushDown(aggregation: Aggregation): Boolean = {
-    // for now, we only support complete push down, so there is no difference with `pushAggregation`
-    pushAggregation(aggregation)
+    // only the aggregation answered from the statistics of splits can be completely pushed down
+    pushLocalAggregation(aggregation)
   }
 
   // Spark does not support push down aggregation for streaming scan.
   override def pushAggregation(aggregation: Aggregation): Boolean = {
+    pushLocalAggregation(aggregation) || pushPartialAggregation(aggregation)
+  }
+
+  private def pushLocalAggregation(aggregation: Aggregation): Boolean = {
     if (localScan.isDefined) {
       return true
     }
 
+    if (triedLocalAggregation.exists(_ eq aggregation)) {
+      return false
+    }
+    triedLocalAggregation = Some(aggregation)
+
     if (!table.isInstanceOf[FileStoreTable]) {
       return false
     }
@@ -137,9 +152,43 @@ class PaimonScanBuilder(table: Table)
     }
   }
 
+  /**
+   * Push down the aggregation to be partially evaluated inside the readers of an append table or
+   * deletion vectors table, Spark will merge the pre-aggregated rows by the final aggregation.
+   */
+  private def pushPartialAggregation(aggregation: Aggregation): Boolean = {
+    val enabled = Options
+      .fromMap(table.options())
+      .get(SparkConnectorOptions.READ_PARTIAL_AGGREGATE_PUSHDOWN_ENABLED)
+    if (!enabled || hasPostScanPredicates) {
+      return false
+    }
+
+    table match {
+      case fileStoreTable: FileStoreTable
+          if fileStoreTable.primaryKeys().isEmpty ||
+            fileStoreTable.coreOptions().deletionVectorsEnabled() =>
+        AggregatePushDownUtils.toPartialAggregation(fileStoreTable, aggregation) match {
+          case Some(partialAggregation) =>
+            requiredSchema = SparkTypeUtils.fromPaimonRowType(partialAggregation.inputType())
+            pushedPartialAggregation = Some(partialAggregation)
+            true
+          case _ => false
+        }
+      case _ => false
+    }
+  }
+
   override def build(): Scan = {
     if (localScan.isDefined) {
       localScan.get
+    } else if (pushedPartialAggregation.isDefined) {
+      PaimonPartialAggregateScan(
+        table,
+        requiredSchema,
+        pushedPaimonPredicates,
+        reservedFilters,
+        pushedPartialAggregation.get)
     } else {
       super.build()
     }
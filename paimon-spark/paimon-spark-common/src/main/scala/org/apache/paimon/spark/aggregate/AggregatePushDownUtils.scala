@@ -20,9 +20,10 @@ package org.apache.paimon.spark.aggregate
 
 import org.apache.paimon.table.Table
 import org.apache.paimon.table.source.DataSplit
+import org.apache.paimon.table.source.aggregate.{AggregateCall, PartialAggregation}
 import org.apache.paimon.types._
 
-import org.apache.spark.sql.connector.expressions.aggregate.{AggregateFunc, Aggregation, CountStar, Max, Min}
+import org.apache.spark.sql.connector.expressions.aggregate.{AggregateFunc, Aggregation, Count, CountStar, Max, Min, Sum}
 import org.apache.spark.sql.execution.datasources.v2.V2ColumnUtils
 
 import scala.collection.JavaConverters._
@@ -121,4 +122,57 @@ object AggregatePushDownUtils {
     hasMinMax
   }
 
+  /**
+   * Convert the aggregation to a [[PartialAggregation]] evaluated by the readers. Only
+   * COUNT(*)/COUNT/SUM/MIN/MAX without DISTINCT on top level columns grouped by top level columns
+   * are supported.
+   */
+  def toPartialAggregation(table: Table, aggregation: Aggregation): Option[PartialAggregation] = {
+    val rowType = table.rowType()
+
+    val groupByColumns = aggregation.groupByExpressions.map(V2ColumnUtils.extractV2Column)
+    if (groupByColumns.exists(c => c.isEmpty || !rowType.containsField(c.get))) {
+      return None
+    }
+
+    def column(agg: AggregateFunc): Option[String] = {
+      val col = agg match {
+        case count: Count if !count.isDistinct => V2ColumnUtils.extractV2Column(count.column)
+        case sum: Sum if !sum.isDistinct => V2ColumnUtils.extractV2Column(sum.column)
+        case min: Min => V2ColumnUtils.extractV2Column(min.column)
+        case max: Max => V2ColumnUtils.extractV2Column(max.column)
+        case _ => None
+      }
+      col.filter(rowType.containsField)
+    }
+
+    val aggColumns: Array[Option[String]] = aggregation.aggregateExpressions.map {
+      case _: CountStar => None
+      case agg =>
+        column(agg) match {
+          case Some(col) => Some(col)
+          case _ => return None
+        }
+    }
+
+    // keep the table order of the fields
+    val requiredColumns = (groupByColumns.toSeq.flatten ++ aggColumns.toSeq.flatten).toSet
+    val inputType =
+      rowType.project(rowType.getFieldNames.asScala.filter(requiredColumns.contains).asJava)
+
+    val calls = aggregation.aggregateExpressions.zip(aggColumns).map {
+      case (_: CountStar, _) => AggregateCall.countStar()
+      case (_: Count, Some(col)) => AggregateCall.count(inputType.getFieldIndex(col))
+      case (_: Sum, Some(col)) => AggregateCall.sum(inputType.getFieldIndex(col))
+      case (_: Min, Some(col)) => AggregateCall.min(inputType.getFieldIndex(col))
+      case (_: Max, Some(col)) => AggregateCall.max(inputType.getFieldIndex(col))
+      case _ => return None
+    }
+    if (!calls.forall(_.supports(inputType))) {
+      return None
+    }
+
+    val groupByFields = groupByColumns.map(c => inputType.getFieldIndex(c.get))
+    Some(new PartialAggregation(inputType, groupByFields, calls.toList.asJava))
+  }
 }
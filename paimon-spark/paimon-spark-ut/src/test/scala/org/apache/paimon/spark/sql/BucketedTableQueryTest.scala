@@ -234,4 +234,36 @@ class BucketedTableQueryTest extends PaimonSparkTestBase with AdaptiveSparkPlanH
       checkAnswerAndShuffleSorts("SELECT id, max(c) FROM t GROUP BY id", 0, 1)
     }
   }
+
+  test("Report scan output ordering - multiple splits in one bucket") {
+    assume(gteqSpark3_3)
+
+    withTable("t") {
+      spark.sql("""
+                  |CREATE TABLE t (id INT, c STRING) TBLPROPERTIES (
+                  |  'primary-key' = 'id',
+                  |  'bucket' = '1',
+                  |  'write-only' = 'true',
+                  |  'source.split.target-size' = '1b')
+                  |""".stripMargin)
+
+      // generate some level-0 files with non-overlapping key ranges
+      (0.until(5)).foreach {
+        i => spark.sql(s"INSERT INTO t VALUES (${i * 10 + 2}, 'x1'), (${i * 10 + 1}, 'x2')")
+      }
+      checkAnswerAndShuffleSorts("SELECT id, max(c) FROM t GROUP BY id", 0, 0)
+
+      // an overlapping file makes the splits be merged
+      spark.sql(s"INSERT INTO t VALUES (1, 'x3'), (41, 'x3')")
+      checkAnswerAndShuffleSorts("SELECT id, max(c) FROM t GROUP BY id", 0, 0)
+    }
+
+    withTable("t") {
+      spark.sql(
+        "CREATE TABLE t (id INT, c STRING, dt STRING) PARTITIONED BY (dt) TBLPROPERTIES ('primary-key' = 'id, dt', 'bucket' = '1')")
+      spark.sql("INSERT INTO t VALUES (1, 'x1', '2024'), (2, 'x2', '2025')")
+      // splits of different partitions in one bucket are not sorted
+      checkAnswerAndShuffleSorts("SELECT id, dt, max(c) FROM t GROUP BY id, dt", 0, 1)
+    }
+  }
 }
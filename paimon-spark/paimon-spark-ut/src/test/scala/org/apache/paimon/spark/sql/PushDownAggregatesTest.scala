@@ -18,13 +18,14 @@
 
 package org.apache.paimon.spark.sql
 
-import org.apache.paimon.spark.PaimonSparkTestBase
+import org.apache.paimon.spark.{PaimonPartialAggregateScan, PaimonSparkTestBase}
 
 import org.apache.spark.sql.Row
 import org.apache.spark.sql.catalyst.plans.logical.Aggregate
 import org.apache.spark.sql.execution.LocalTableScanExec
 import org.apache.spark.sql.execution.adaptive.AdaptiveSparkPlanHelper
 import org.apache.spark.sql.execution.aggregate.BaseAggregateExec
+import org.apache.spark.sql.execution.datasources.v2.BatchScanExec
 
 import java.sql.Date
 
@@ -265,4 +266,40 @@ class PushDownAggregatesTest extends PaimonSparkTestBase with AdaptiveSparkPlanH
           })
       })
   }
+
+  test("Push down partial aggregate - append table and deletion vectors table") {
+    def checkPartialAggregate(query: String, expectedRows: Seq[Row]): Unit = {
+      val df = spark.sql(query)
+      checkAnswer(df, expectedRows)
+      assert(collect(df.queryExecution.executedPlan) {
+        case scan: BatchScanExec if scan.scan.isInstanceOf[PaimonPartialAggregateScan] => scan
+      }.size == 1)
+    }
+
+    Seq(
+      "'bucket' = '-1'",
+      "'primary-key' = 'id', 'bucket' = '1', 'deletion-vectors.enabled' = 'true'").foreach {
+      tableProps =>
+        withTable("T") {
+          sql(s"""
+                 |CREATE TABLE T (id INT, c STRING, v BIGINT, d DECIMAL(10, 2))
+                 |TBLPROPERTIES ($tableProps, 'read.partial-aggregate-pushdown.enabled' = 'true')
+                 |""".stripMargin)
+          sql("INSERT INTO T VALUES (1, 'a', 10, 1.10), (2, 'b', null, 2.20), (3, 'a', 30, null)")
+          sql("INSERT INTO T VALUES (4, 'b', 40, 4.40), (5, 'c', 50, 5.50)")
+
+          checkPartialAggregate(
+            "SELECT c, COUNT(*), COUNT(v), SUM(v), MIN(id), MAX(d) FROM T GROUP BY c",
+            Row("a", 2, 2, 40, 1, BigDecimal("1.10")) ::
+              Row("b", 2, 1, 40, 2, BigDecimal("4.40")) ::
+              Row("c", 1, 1, 50, 5, BigDecimal("5.50")) :: Nil
+          )
+          checkPartialAggregate(
+            "SELECT SUM(d), AVG(v), MIN(c) FROM T",
+            Row(BigDecimal("13.20"), 32.5, "a") :: Nil)
+          // common data filters are evaluated after scan, so the aggregation is not pushed down
+          runAndCheckAggregate("SELECT SUM(v) FROM T WHERE id > 2", Row(120) :: Nil, 2)
+        }
+    }
+  }
 }